@@ -23,8 +23,12 @@ import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -50,6 +54,7 @@ import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
 import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IDisconnect;
 import org.eclipse.debug.core.model.IDropToFrame;
@@ -64,6 +69,7 @@ import org.eclipse.debug.core.model.RuntimeProcess;
 import org.eclipse.debug.internal.core.BreakpointManager;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 import org.eclipse.debug.internal.core.DebugOptions;
+import org.eclipse.debug.internal.core.EventDispatchStatistics;
 import org.eclipse.debug.internal.core.ExpressionManager;
 import org.eclipse.debug.internal.core.IConfigurationElementConstants;
 import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
@@ -71,8 +77,10 @@ import org.eclipse.debug.internal.core.LaunchManager;
 import org.eclipse.debug.internal.core.LogicalStructureManager;
 import org.eclipse.debug.internal.core.MemoryBlockManager;
 import org.eclipse.debug.internal.core.Preferences;
+import org.eclipse.debug.internal.core.ProcessThreadPool;
 import org.eclipse.debug.internal.core.StepFilterManager;
 import org.eclipse.debug.internal.core.commands.CommandAdapterFactory;
+import org.eclipse.debug.internal.core.commands.EnabledStateScheduler;
 import org.eclipse.debug.internal.core.groups.GroupMemberChangeListener;
 import org.eclipse.debug.internal.core.sourcelookup.SourceLookupUtils;
 import org.eclipse.osgi.service.environment.Constants;
@@ -437,7 +445,41 @@ public class DebugPlugin extends Plugin {
 	 *
 	 * @since 3.1
 	 */
-	private List<Object> fEventQueue = new ArrayList<>();
+	private final Queue<QueuedItem> fEventQueue = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Counters for the event queue.
+	 */
+	private final EventDispatchStatistics fEventStatistics = EventDispatchStatistics.getDefault();
+
+	/**
+	 * Whether superseded change events are coalesced, see
+	 * {@link IInternalDebugCoreConstants#PREF_COALESCE_DEBUG_EVENTS}
+	 */
+	private volatile boolean fCoalesceEvents;
+
+	/**
+	 * Keeps {@link #fCoalesceEvents} in sync with the preference.
+	 */
+	private final IPreferenceChangeListener fCoalesceEventsListener = event -> {
+		if (IInternalDebugCoreConstants.PREF_COALESCE_DEBUG_EVENTS.equals(event.getKey())) {
+			updateCoalesceEvents();
+		}
+	};
+
+	/**
+	 * Debug event set or runnable waiting in the event queue.
+	 */
+	private static final class QueuedItem {
+
+		final Object fItem;
+		final long fTime;
+
+		QueuedItem(Object item) {
+			fItem = item;
+			fTime = System.nanoTime();
+		}
+	}
 
 	/**
 	 * Job to fire events to listeners.
@@ -464,23 +506,76 @@ public class DebugPlugin extends Plugin {
 			setSystem(true);
 		}
 
+		/**
+		 * Maximum number of queued items taken from the queue in one drain
+		 * cycle.
+		 */
+		private static final int MAX_BATCH_SIZE = 1000;
+
+		private final List<QueuedItem> fBatch = new ArrayList<>();
+
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
-
 			while (!fEventQueue.isEmpty()) {
-				Object next = null;
-				synchronized (fEventQueue) {
-					if (!fEventQueue.isEmpty()) {
-						next = fEventQueue.remove(0);
+				QueuedItem queued;
+				while (fBatch.size() < MAX_BATCH_SIZE && (queued = fEventQueue.poll()) != null) {
+					fBatch.add(queued);
+				}
+				if (fCoalesceEvents) {
+					coalesce(fBatch);
+				}
+				for (QueuedItem item : fBatch) {
+					if (item == null) {
+						continue;
+					}
+					fEventStatistics.dequeued(item.fTime);
+					Object next = item.fItem;
+					if (next instanceof Runnable) {
+						fRunner.async((Runnable) next);
+					} else {
+						fNotifier.dispatch((DebugEvent[]) next);
 					}
 				}
+				fBatch.clear();
+			}
+			if (DebugOptions.DEBUG_EVENTS) {
+				DebugOptions.trace(fEventStatistics.toString());
+			}
+			return Status.OK_STATUS;
+		}
+
+		/**
+		 * Removes event sets from the batch which are superseded by a later
+		 * event set in the same batch. Only event sets consisting of a single
+		 * {@link DebugEvent#CHANGE} event without data are removed if a later
+		 * event set reports the same change for the same source and no other
+		 * event for that source is queued in between. Runnables act as a
+		 * barrier. Removed items are replaced with <code>null</code>.
+		 *
+		 * @param batch the queued items to coalesce
+		 */
+		private void coalesce(List<QueuedItem> batch) {
+			Map<Object, Set<Integer>> laterChanges = new HashMap<>();
+			for (int i = batch.size() - 1; i >= 0; i--) {
+				Object next = batch.get(i).fItem;
 				if (next instanceof Runnable) {
-					fRunner.async((Runnable) next);
-				} else if (next != null) {
-					fNotifier.dispatch((DebugEvent[]) next);
+					laterChanges.clear();
+					continue;
+				}
+				DebugEvent[] events = (DebugEvent[]) next;
+				if (events.length == 1 && events[0].getKind() == DebugEvent.CHANGE && events[0].getData() == null) {
+					Set<Integer> details = laterChanges.computeIfAbsent(events[0].getSource(), source -> new HashSet<>());
+					if (!details.add(events[0].getDetail())) {
+						fEventStatistics.dequeued(batch.get(i).fTime);
+						fEventStatistics.coalesced();
+						batch.set(i, null);
+					}
+				} else {
+					for (DebugEvent event : events) {
+						laterChanges.remove(event.getSource());
+					}
 				}
 			}
-			return Status.OK_STATUS;
 		}
 
 		@Override
@@ -559,12 +654,17 @@ public class DebugPlugin extends Plugin {
 	 * @since 2.0
 	 */
 	public void fireDebugEventSet(DebugEvent[] events) {
-		if (isShuttingDown() || events == null || fEventListeners.isEmpty()) {
+		if (isShuttingDown() || events == null) {
 			return;
 		}
-		synchronized (fEventQueue) {
-			fEventQueue.add(events);
+		// cached command states must not outlive the events, even before
+		// they are dispatched
+		EnabledStateScheduler.debugEventsFired(events);
+		if (fEventListeners.isEmpty()) {
+			return;
 		}
+		fEventQueue.add(new QueuedItem(events));
+		fEventStatistics.enqueued();
 		fEventDispatchJob.schedule();
 	}
 
@@ -578,9 +678,8 @@ public class DebugPlugin extends Plugin {
 	 * @since 2.1
 	 */
 	public void asyncExec(Runnable r) {
-		synchronized (fEventQueue) {
-			fEventQueue.add(r);
-		}
+		fEventQueue.add(new QueuedItem(r));
+		fEventStatistics.enqueued();
 		fEventDispatchJob.schedule();
 	}
 
@@ -702,8 +801,10 @@ public class DebugPlugin extends Plugin {
 
 			fEventListeners.clear();
 			fEventFilters.clear();
+			Preferences.removePreferenceListener(getUniqueIdentifier(), fCoalesceEventsListener);
 
 			SourceLookupUtils.shutdown();
+			ProcessThreadPool.shutdown();
 			Preferences.savePreferences(DebugPlugin.getUniqueIdentifier());
 			ResourcesPlugin.getWorkspace().removeSaveParticipant(getUniqueIdentifier());
 		} finally {
@@ -716,6 +817,8 @@ public class DebugPlugin extends Plugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		new DebugOptions(context);
+		Preferences.addPreferenceListener(getUniqueIdentifier(), fCoalesceEventsListener);
+		updateCoalesceEvents();
 		ResourcesPlugin.getWorkspace().addSaveParticipant(getUniqueIdentifier(),
 				new ISaveParticipant() {
 					@Override
@@ -744,6 +847,22 @@ public class DebugPlugin extends Plugin {
 		manager.registerAdapters(actionFactory, ILaunch.class);
 		manager.registerAdapters(actionFactory, IProcess.class);
 		manager.registerAdapters(actionFactory, IDebugElement.class);
+		if (Platform.getPreferencesService().getBoolean(getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_LAUNCH_CONFIGURATION_CACHE, false, null)) {
+			// load launch configurations in the background instead of on first access
+			Job job = new Job(DebugCoreMessages.LaunchManager_30) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					getLaunchManager();
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.schedule();
+		}
+	}
+
+	private void updateCoalesceEvents() {
+		fCoalesceEvents = Platform.getPreferencesService().getBoolean(getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_COALESCE_DEBUG_EVENTS, false, null);
 	}
 
 	/**
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.core;
+
+import java.nio.ByteBuffer;
+
+import org.eclipse.debug.core.model.IBinaryStreamMonitor;
+
+/**
+ * Extension to {@link IBinaryStreamListener} which is notified with a view of
+ * the appended data instead of a copy of it. Stream monitors may pass the same
+ * buffer to all such listeners without copying the data first.
+ * <p>
+ * Clients may implement this interface.
+ * </p>
+ *
+ * @see IBinaryStreamMonitor
+ * @since 3.20
+ */
+public interface IBinaryStreamListener2 extends IBinaryStreamListener {
+
+	/**
+	 * Notifies this listener that data has been appended to the given stream
+	 * monitor.
+	 * <p>
+	 * The appended data are the remaining bytes of the given read-only buffer.
+	 * The buffer is only valid for the duration of this call and may be reused
+	 * by the monitor afterwards. Listeners which need to retain the data must
+	 * copy it.
+	 * </p>
+	 *
+	 * @param data the content appended; not <code>null</code>
+	 * @param monitor the stream monitor to which content was appended
+	 */
+	void streamAppended(ByteBuffer data, IBinaryStreamMonitor monitor);
+
+	/**
+	 * Forwards the given data as read-only buffer to
+	 * {@link #streamAppended(ByteBuffer, IBinaryStreamMonitor)}.
+	 */
+	@Override
+	default void streamAppended(byte[] data, IBinaryStreamMonitor monitor) {
+		streamAppended(ByteBuffer.wrap(data).asReadOnlyBuffer(), monitor);
+	}
+}
@@ -15,6 +15,7 @@ package org.eclipse.debug.core;
 
 
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IBreakpointImportParticipant;
@@ -110,6 +111,19 @@ public interface IBreakpointManager {
 	 */
 	IBreakpoint[] getBreakpoints(String modelIdentifier);
 
+	/**
+	 * Returns a collection of all breakpoints registered for the given debug
+	 * model whose marker is on the given resource. Answers an empty array if
+	 * there are no such breakpoints. Unlike filtering the breakpoints of the
+	 * debug model, this does not visit the breakpoints on other resources.
+	 *
+	 * @param modelIdentifier identifier of a debug model plug-in
+	 * @param resource the resource of the breakpoint markers
+	 * @return an array of breakpoints
+	 * @since 3.20
+	 */
+	IBreakpoint[] getBreakpoints(String modelIdentifier, IResource resource);
+
 	/**
 	 * Returns whether the given breakpoint is currently
 	 * registered with this breakpoint manager.
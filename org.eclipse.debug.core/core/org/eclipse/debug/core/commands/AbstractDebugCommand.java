@@ -27,10 +27,13 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IRequest;
 import org.eclipse.debug.internal.core.DebugOptions;
+import org.eclipse.debug.internal.core.commands.EnabledStateScheduler;
 
 /**
  * Abstract implementation of a debug command handler. Handles {@link IDebugCommandRequest}
- * and {@link IEnabledStateRequest} updates asynchronously using jobs.
+ * and {@link IEnabledStateRequest} updates asynchronously using jobs. Enabled state
+ * updates of commands using the default scheduling rule are processed one after
+ * another by a job shared by all commands.
  * <p>
  * Clients may subclass this class.
  * </p>
@@ -39,7 +42,8 @@ import org.eclipse.debug.internal.core.DebugOptions;
 public abstract class AbstractDebugCommand implements IDebugCommandHandler {
 
 	/**
-	 * Job to update enabled state of action.
+	 * Job to update enabled state of action, used for commands with a custom
+	 * scheduling rule.
 	 */
 	private class UpdateJob extends Job implements IJobChangeListener {
 
@@ -57,65 +61,21 @@ public abstract class AbstractDebugCommand implements IDebugCommandHandler {
 		 * Creates a new job to update the specified request
 		 *
 		 * @param stateRequest the {@link IEnabledStateRequest}
+		 * @param rule the scheduling rule of the update
 		 */
-		UpdateJob(IEnabledStateRequest stateRequest) {
+		UpdateJob(IEnabledStateRequest stateRequest, ISchedulingRule rule) {
 			super(getEnabledStateTaskName());
 			request = stateRequest;
 			setSystem(true);
-			setRule(getEnabledStateSchedulingRule(request));
-			getJobManager().addJobChangeListener(this);
+			setRule(rule);
+			// only listen to this job
+			addJobChangeListener(this);
 		}
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
 			run = true;
-			if (DebugOptions.DEBUG_COMMANDS) {
-				DebugOptions.trace("can execute command: " + AbstractDebugCommand.this); //$NON-NLS-1$
-			}
-			if (monitor.isCanceled()) {
-				if (DebugOptions.DEBUG_COMMANDS) {
-					DebugOptions.trace(" >> *CANCELED* <<"); //$NON-NLS-1$
-				}
-				request.cancel();
-			}
-			Object[] elements = request.getElements();
-			Object[] targets = new Object[elements.length];
-			if (!request.isCanceled()) {
-				for (int i = 0; i < elements.length; i++) {
-					targets[i] = getTarget(elements[i]);
-					if (targets[i] == null) {
-						request.setEnabled(false);
-						request.cancel();
-						if (DebugOptions.DEBUG_COMMANDS) {
-							DebugOptions.trace(" >> false (no adapter)"); //$NON-NLS-1$
-						}
-					}
-				}
-				if (monitor.isCanceled()) {
-					request.cancel();
-				}
-			}
-			if (!request.isCanceled()) {
-				targets = coalesce(targets);
-				monitor.beginTask(getEnabledStateTaskName(), targets.length);
-				try {
-					boolean executable = isExecutable(targets, monitor, request);
-					if (DebugOptions.DEBUG_COMMANDS) {
-						DebugOptions.trace(" >> " + executable); //$NON-NLS-1$
-					}
-					request.setEnabled(executable);
-				} catch (CoreException e) {
-					request.setStatus(e.getStatus());
-					request.setEnabled(false);
-					if (DebugOptions.DEBUG_COMMANDS) {
-						DebugOptions.trace(" >> ABORTED"); //$NON-NLS-1$
-						DebugOptions.trace("\t" + e.getStatus().getMessage()); //$NON-NLS-1$
-					}
-				}
-			}
-			monitor.setCanceled(request.isCanceled());
-			request.done();
-			monitor.done();
+			updateEnabledState(request, monitor);
 			return Status.OK_STATUS;
 		}
 
@@ -138,16 +98,14 @@ public abstract class AbstractDebugCommand implements IDebugCommandHandler {
 
 		@Override
 		public void done(IJobChangeEvent event) {
-			if (event.getJob() == this) {
-				if (!run) {
-					request.cancel();
-					request.done();
-					if (DebugOptions.DEBUG_COMMANDS) {
-						DebugOptions.trace(" >> *CANCELED* <<" + AbstractDebugCommand.this); //$NON-NLS-1$
-					}
+			if (!run) {
+				request.cancel();
+				request.done();
+				if (DebugOptions.DEBUG_COMMANDS) {
+					DebugOptions.trace(" >> *CANCELED* <<" + AbstractDebugCommand.this); //$NON-NLS-1$
 				}
-				getJobManager().removeJobChangeListener(this);
 			}
+			removeJobChangeListener(this);
 		}
 
 		@Override
@@ -169,6 +127,30 @@ public abstract class AbstractDebugCommand implements IDebugCommandHandler {
 
 	}
 
+	/**
+	 * Update of the enabled state of this command processed by the shared
+	 * {@link EnabledStateScheduler}.
+	 */
+	private class EnabledStateUpdate extends EnabledStateScheduler.Update {
+
+		private final IEnabledStateRequest request;
+
+		EnabledStateUpdate(IEnabledStateRequest request) {
+			super(request, getEnabledStateJobFamily(request), AbstractDebugCommand.this, isEnabledStateCacheable());
+			this.request = request;
+		}
+
+		@Override
+		protected Boolean run(IProgressMonitor monitor) {
+			return updateEnabledState(request, monitor);
+		}
+
+		@Override
+		public String toString() {
+			return getEnabledStateTaskName() + " on " + request; //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Scheduling rule to serialize commands on an object
 	 */
@@ -251,8 +233,105 @@ public abstract class AbstractDebugCommand implements IDebugCommandHandler {
 
 	@Override
 	public void canExecute(final IEnabledStateRequest request) {
-		Job job = new UpdateJob(request);
-		job.schedule();
+		ISchedulingRule rule = getEnabledStateSchedulingRule(request);
+		if (rule == null || rule instanceof SerialPerObjectRule) {
+			// the shared scheduler evaluates all updates one after another
+			EnabledStateScheduler.getDefault().schedule(new EnabledStateUpdate(request));
+		} else {
+			Job job = new UpdateJob(request, rule);
+			job.schedule();
+		}
+	}
+
+	/**
+	 * Computes the enabled state of this command for the given request and
+	 * completes the request.
+	 *
+	 * @param request the request to update
+	 * @param monitor progress monitor
+	 * @return the enabled state or <code>null</code> if the request was
+	 *         canceled or failed
+	 */
+	private Boolean updateEnabledState(IEnabledStateRequest request, IProgressMonitor monitor) {
+		if (DebugOptions.DEBUG_COMMANDS) {
+			DebugOptions.trace("can execute command: " + AbstractDebugCommand.this); //$NON-NLS-1$
+		}
+		if (monitor.isCanceled()) {
+			if (DebugOptions.DEBUG_COMMANDS) {
+				DebugOptions.trace(" >> *CANCELED* <<"); //$NON-NLS-1$
+			}
+			request.cancel();
+		}
+		Object[] elements = request.getElements();
+		Object[] targets = new Object[elements.length];
+		if (!request.isCanceled()) {
+			for (int i = 0; i < elements.length; i++) {
+				targets[i] = getTarget(elements[i]);
+				if (targets[i] == null) {
+					request.setEnabled(false);
+					request.cancel();
+					if (DebugOptions.DEBUG_COMMANDS) {
+						DebugOptions.trace(" >> false (no adapter)"); //$NON-NLS-1$
+					}
+				}
+			}
+			if (monitor.isCanceled()) {
+				request.cancel();
+			}
+		}
+		Boolean enabled = null;
+		if (!request.isCanceled()) {
+			targets = coalesce(targets);
+			monitor.beginTask(getEnabledStateTaskName(), targets.length);
+			try {
+				boolean executable = isExecutable(targets, monitor, request);
+				if (DebugOptions.DEBUG_COMMANDS) {
+					DebugOptions.trace(" >> " + executable); //$NON-NLS-1$
+				}
+				request.setEnabled(executable);
+				enabled = Boolean.valueOf(executable);
+			} catch (CoreException e) {
+				request.setStatus(e.getStatus());
+				request.setEnabled(false);
+				if (DebugOptions.DEBUG_COMMANDS) {
+					DebugOptions.trace(" >> ABORTED"); //$NON-NLS-1$
+					DebugOptions.trace("\t" + e.getStatus().getMessage()); //$NON-NLS-1$
+				}
+			}
+		}
+		if (monitor.isCanceled()) {
+			// superseded while computed, the state must not be reported
+			request.cancel();
+		}
+		if (request.isCanceled()) {
+			enabled = null;
+		}
+		monitor.setCanceled(request.isCanceled());
+		request.done();
+		monitor.done();
+		return enabled;
+	}
+
+	/**
+	 * Returns whether the enabled state computed for the elements of a request
+	 * may be reused for later requests with the same elements, until a debug
+	 * event or a launch change is reported. Debug events of variables, values
+	 * and expressions do not invalidate the enabled state. The enabled state is
+	 * only cached for commands using the default
+	 * {@link #getEnabledStateSchedulingRule(IDebugCommandRequest) scheduling
+	 * rule}.
+	 * <p>
+	 * The default implementation returns <code>false</code>. Clients may
+	 * override this method when the enabled state of this command only depends
+	 * on the state of the debug model, which reports its changes with debug
+	 * events.
+	 * </p>
+	 *
+	 * @return whether the enabled state of this command may be cached
+	 * @since 3.20
+	 */
+	protected boolean isEnabledStateCacheable() {
+		return false;
 	}
 
 	/**
@@ -338,7 +417,9 @@ public abstract class AbstractDebugCommand implements IDebugCommandHandler {
 	/**
 	 * Returns a scheduling rule for this command's {@link IEnabledStateRequest} update job
 	 * or <code>null</code> if none. By default a rule is created to serialize
-	 * jobs on the first element in the request.
+	 * jobs on the first element in the request. Updates of commands using the
+	 * default rule or no rule are not run in a job of their own, but by a job
+	 * shared by all commands which processes the updates one after another.
 	 * <p>
 	 * Clients may override this method as required.
 	 * </p>
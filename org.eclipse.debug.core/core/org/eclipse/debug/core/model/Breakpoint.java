@@ -60,13 +60,84 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	private IMarker fMarker= null;
 
+	/**
+	 * Snapshot of the frequently read marker attributes, or <code>null</code>
+	 * if not read since the last change.
+	 */
+	private volatile Attributes fAttributes = null;
+
+	/**
+	 * Lock for reading and discarding {@link #fAttributes}.
+	 */
+	private final Object fAttributesLock = new Object();
+
+	/**
+	 * Immutable snapshot of the marker attributes that are read on hot paths,
+	 * like deciding whether to suspend or refreshing breakpoint labels.
+	 */
+	private static final class Attributes {
+		final boolean fExists;
+		final boolean fEnabled;
+		final boolean fRegistered;
+		final boolean fPersisted;
+		final boolean fTriggerPoint;
+
+		Attributes(IMarker marker) {
+			fExists = marker.exists();
+			fEnabled = marker.getAttribute(ENABLED, false);
+			fRegistered = marker.getAttribute(REGISTERED, true);
+			fPersisted = marker.getAttribute(PERSISTED, true);
+			fTriggerPoint = marker.getAttribute(TRIGGERPOINT, false);
+		}
+	}
+
 	/**
 	 * @see IBreakpoint#setMarker(IMarker)
 	 */
 	@Override
 	public void setMarker(IMarker marker) throws CoreException {
 		fMarker= marker;
+		clearAttributeCache();
+	}
 
+	/**
+	 * Returns the snapshot of the frequently read marker attributes, reading
+	 * them from the marker if they changed since the last call.
+	 *
+	 * @return attribute snapshot
+	 */
+	private Attributes getAttributes() {
+		Attributes attributes = fAttributes;
+		if (attributes == null) {
+			synchronized (fAttributesLock) {
+				attributes = fAttributes;
+				if (attributes == null) {
+					attributes = new Attributes(getMarker());
+					fAttributes = attributes;
+				}
+			}
+		}
+		return attributes;
+	}
+
+	/**
+	 * Discards the cached values of the enabled, registered, persisted and
+	 * trigger point attributes of this breakpoint's marker, so they are read
+	 * from the marker again on next access.
+	 * <p>
+	 * The cache is cleared when this breakpoint changes its marker through the
+	 * <code>setAttribute</code> methods of this class, and when the breakpoint
+	 * manager is notified of a change of the marker at the end of a workspace
+	 * operation. Clients changing these attributes of the marker directly may
+	 * call this method to make the change visible immediately.
+	 * </p>
+	 *
+	 * @since 3.20
+	 */
+	public void clearAttributeCache() {
+		synchronized (fAttributesLock) {
+			fAttributes = null;
+		}
 	}
 
 	/**
@@ -106,7 +177,7 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	@Override
 	public boolean isEnabled() throws CoreException {
-		return getMarker().getAttribute(ENABLED, false);
+		return getAttributes().fEnabled;
 	}
 
 	/**
@@ -114,8 +185,8 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	@Override
 	public boolean isRegistered() throws CoreException {
-			IMarker marker= getMarker();
-			return marker.exists() && marker.getAttribute(REGISTERED, true);
+		Attributes attributes = getAttributes();
+		return attributes.fExists && attributes.fRegistered;
 	}
 
 	/**
@@ -141,6 +212,7 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	public void delete() throws CoreException {
 		DebugPlugin.getDefault().getBreakpointManager().removeBreakpoint(this, false);
 		getMarker().delete();
+		clearAttributeCache();
 	}
 
 	/**
@@ -156,7 +228,7 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	@Override
 	public boolean isPersisted() throws CoreException {
-		return getMarker().getAttribute(PERSISTED, true);
+		return getAttributes().fPersisted;
 	}
 
 	/**
@@ -175,7 +247,7 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	@Override
 	public boolean isTriggerPoint() throws CoreException {
-		return getMarker().getAttribute(TRIGGERPOINT, false);
+		return getAttributes().fTriggerPoint;
 	}
 
 	/**
@@ -210,7 +282,11 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
 		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttribute(attributeName, value);
 
-		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		try {
+			workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		} finally {
+			clearAttributeCache();
+		}
 	}
 
 	/**
@@ -228,7 +304,11 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
 		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttribute(attributeName, value);
 
-		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		try {
+			workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		} finally {
+			clearAttributeCache();
+		}
 	}
 
 	/**
@@ -246,7 +326,11 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
 		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttribute(attributeName, value);
 
-		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		try {
+			workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		} finally {
+			clearAttributeCache();
+		}
 	}
 
 	/**
@@ -264,7 +348,11 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
 		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttributes(attributeNames, values);
 
-		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		try {
+			workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		} finally {
+			clearAttributeCache();
+		}
 	}
 
 	/**
@@ -281,7 +369,11 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
 		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttributes(attributes);
 
-		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		try {
+			workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		} finally {
+			clearAttributeCache();
+		}
 	}
 
 	/**
@@ -364,6 +456,8 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 			ResourcesPlugin.getWorkspace().run(wr, rule, IWorkspace.AVOID_UPDATE, null);
 		} catch (CoreException e) {
 			throw new DebugException(e.getStatus());
+		} finally {
+			clearAttributeCache();
 		}
 	}
 
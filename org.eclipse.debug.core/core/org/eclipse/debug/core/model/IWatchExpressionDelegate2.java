@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.core.model;
+
+/**
+ * Optional extension to {@link IWatchExpressionDelegate} which evaluates
+ * several watch expressions in the same context with one request. When the
+ * delegate contributed for a debug model implements this interface, all
+ * enabled watch expressions are evaluated in a single call when the
+ * expression context changes, instead of one call per expression.
+ * <p>
+ * Clients contributing a watch expression delegate may implement this
+ * interface.
+ * </p>
+ *
+ * @see IWatchExpressionDelegate
+ * @since 3.20
+ */
+public interface IWatchExpressionDelegate2 extends IWatchExpressionDelegate {
+
+	/**
+	 * Evaluates the given expressions in the given context asynchronously. The
+	 * listener is notified once for each expression as soon as its result is
+	 * available, so results may be reported before the whole batch completes
+	 * and in any order. Results are matched to expressions by their
+	 * {@link IWatchExpressionResult#getExpressionText() expression text}.
+	 *
+	 * @param expressions the expressions to evaluate
+	 * @param context the context for the evaluation
+	 * @param listener the listener to notify when the evaluation of each
+	 *            expression completes
+	 */
+	void evaluateExpressions(String[] expressions, IDebugElement context, IWatchExpressionListener listener);
+
+}
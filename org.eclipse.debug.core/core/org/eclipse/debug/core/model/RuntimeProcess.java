@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
@@ -36,6 +37,7 @@ import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 import org.eclipse.debug.internal.core.NullStreamsProxy;
+import org.eclipse.debug.internal.core.ProcessThreadPool;
 import org.eclipse.debug.internal.core.StreamsProxy;
 
 /**
@@ -73,10 +75,17 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 
 	/**
 	 * The monitor which listens for this runtime process' system process
-	 * to terminate.
+	 * to terminate. <code>null</code> if termination is observed through
+	 * {@link Process#onExit()} on the shared process thread pool.
 	 */
 	private final ProcessMonitorThread fMonitor;
 
+	/**
+	 * Whether {@link #terminated()} was already triggered if termination is
+	 * observed without {@link #fMonitor}.
+	 */
+	private final AtomicBoolean fTerminationNotified = new AtomicBoolean();
+
 	/**
 	 * The streams proxy for this process
 	 */
@@ -151,8 +160,13 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 		fThreadNameSuffix = getPidInfo(process, launch);
 
 		fStreamsProxy = createStreamsProxy();
-		fMonitor = new ProcessMonitorThread(fThreadNameSuffix);
-		fMonitor.start();
+		if (ProcessThreadPool.isEnabled()) {
+			fMonitor = null;
+			process.onExit().thenRunAsync(this::notifyTerminated, ProcessThreadPool.getExecutor());
+		} else {
+			fMonitor = new ProcessMonitorThread(fThreadNameSuffix);
+			fMonitor.start();
+		}
 		launch.addProcess(this);
 		fireCreationEvent();
 	}
@@ -273,7 +287,11 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 			}
 
 			// clean-up
-			fMonitor.killThread();
+			if (fMonitor != null) {
+				fMonitor.killThread();
+			} else {
+				ProcessThreadPool.getExecutor().execute(this::notifyTerminated);
+			}
 			IStatus status = new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.TARGET_REQUEST_FAILED, DebugCoreMessages.RuntimeProcess_terminate_failed, null);
 			throw new DebugException(status);
 		}
@@ -309,6 +327,16 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 		}
 	}
 
+	/**
+	 * Calls {@link #terminated()} once if termination is observed through
+	 * {@link Process#onExit()} instead of a {@link ProcessMonitorThread}.
+	 */
+	private void notifyTerminated() {
+		if (fTerminationNotified.compareAndSet(false, true)) {
+			terminated();
+		}
+	}
+
 	/**
 	 * Notification that the system process associated with this process
 	 * has terminated.
@@ -0,0 +1,400 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.core.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.debug.core.IStreamListener;
+
+/**
+ * A stream listener waiting for a line matching a regular expression to be
+ * appended to the stream monitors it is connected to.
+ * <p>
+ * The appended text is matched line by line. Text following the last line
+ * terminator of an append is carried over to the next append of the same
+ * stream monitor, so that lines split across appends are matched as a whole.
+ * The incomplete last line is matched as well, so that prompts which are not
+ * terminated are found, unless more text could turn the match into a mismatch,
+ * e.g. of an expression ending with <code>\d+$</code>.
+ * </p>
+ * <p>
+ * An optional literal, which every matching line must contain, is searched for
+ * before the regular expression is applied, so that most lines are rejected
+ * without running the regular expression. Once a line matched, further text is
+ * ignored.
+ * </p>
+ * <p>
+ * Clients may instantiate and subclass this class.
+ * </p>
+ *
+ * @see IStreamMonitor
+ * @since 3.20
+ */
+public class StreamLineMatcher implements IStreamListener {
+
+	/**
+	 * Maximum number of characters of an incomplete line carried over to the
+	 * next append. Longer lines are only matched with their last characters.
+	 */
+	private static final int MAX_LINE_LENGTH = 16 * 1024;
+
+	private final Pattern fPattern;
+	private final String fLiteral;
+	private Matcher fMatcher;
+
+	/**
+	 * Incomplete last line by stream monitor
+	 */
+	private final Map<IStreamMonitor, StringBuilder> fPartialLines = new HashMap<>();
+
+	private final CountDownLatch fMatched = new CountDownLatch(1);
+	private volatile String fMatchedLine;
+
+	/**
+	 * Creates a matcher for lines in which the given pattern is found.
+	 *
+	 * @param pattern the pattern to find in a line
+	 */
+	public StreamLineMatcher(Pattern pattern) {
+		this(pattern, null);
+	}
+
+	/**
+	 * Creates a matcher for lines in which the given pattern is found. Lines
+	 * not containing the given literal are not matched against the pattern.
+	 *
+	 * @param pattern the pattern to find in a line
+	 * @param literal text contained in every line the pattern is found in or
+	 *            <code>null</code>
+	 * @see #getRequiredLiteral(String)
+	 */
+	public StreamLineMatcher(Pattern pattern, String literal) {
+		fPattern = pattern;
+		fLiteral = literal != null && !literal.isEmpty() ? literal : null;
+	}
+
+	/**
+	 * Matches the current contents of the given stream monitor and starts
+	 * listening to text appended to it.
+	 *
+	 * @param monitor the stream monitor to match
+	 */
+	public void connect(IStreamMonitor monitor) {
+		// the monitor notifies its listeners while locked, so no text can
+		// be appended between reading its contents and adding the listener
+		synchronized (monitor) {
+			String contents = monitor.getContents();
+			if (contents != null && !contents.isEmpty()) {
+				streamAppended(contents, monitor);
+			}
+			monitor.addListener(this);
+		}
+	}
+
+	/**
+	 * Stops listening to the given stream monitor.
+	 *
+	 * @param monitor the stream monitor
+	 */
+	public void disconnect(IStreamMonitor monitor) {
+		monitor.removeListener(this);
+		synchronized (this) {
+			fPartialLines.remove(monitor);
+		}
+	}
+
+	@Override
+	public synchronized void streamAppended(String text, IStreamMonitor monitor) {
+		if (isMatched()) {
+			return;
+		}
+		StringBuilder partial = fPartialLines.computeIfAbsent(monitor, m -> new StringBuilder());
+		int length = text.length();
+		int start = 0;
+		if (fLiteral != null && partial.length() == 0 && text.indexOf(fLiteral) < 0) {
+			// no line of this text can match, only keep its incomplete last line
+			start = lastLineStart(text);
+		} else {
+			// position of the next occurrence of the literal in the text
+			int literal = fLiteral != null ? text.indexOf(fLiteral) : -1;
+			for (int i = 0; i < length; i++) {
+				char c = text.charAt(i);
+				if (c != '\n' && c != '\r') {
+					continue;
+				}
+				if (partial.length() > 0) {
+					partial.append(text, start, i);
+					String line = partial.toString();
+					partial.setLength(0);
+					if (find(line, 0, line.length(), true)) {
+						return;
+					}
+				} else if (i > start) {
+					if (fLiteral != null && literal >= 0 && literal < start) {
+						literal = text.indexOf(fLiteral, start);
+					}
+					if ((fLiteral == null || (literal >= 0 && literal + fLiteral.length() <= i)) && find(text, start, i, true)) {
+						return;
+					}
+				}
+				start = i + 1;
+			}
+		}
+		partial.append(text, start, length);
+		if (partial.length() > MAX_LINE_LENGTH) {
+			partial.delete(0, partial.length() - MAX_LINE_LENGTH);
+		}
+		if (partial.length() > 0) {
+			String line = partial.toString();
+			find(line, 0, line.length(), false);
+		}
+	}
+
+	/**
+	 * Returns whether the pattern is found in the given region and notifies
+	 * about the match. A match in an incomplete line only counts if more text
+	 * cannot make it fail, so that e.g. <code>.*started.*</code> matches an
+	 * unterminated prompt while <code>\d+$</code> waits for the line end.
+	 */
+	private boolean find(String text, int start, int end, boolean complete) {
+		if (fLiteral != null && text.indexOf(fLiteral, start) < 0) {
+			return false;
+		}
+		if (fMatcher == null) {
+			fMatcher = fPattern.matcher(text);
+		} else {
+			fMatcher.reset(text);
+		}
+		if (fMatcher.region(start, end).find() && (complete || !fMatcher.requireEnd())) {
+			fMatchedLine = text.substring(start, end);
+			fPartialLines.clear();
+			fMatched.countDown();
+			matched(fMatchedLine);
+			return true;
+		}
+		return false;
+	}
+
+	private static int lastLineStart(String text) {
+		for (int i = text.length() - 1; i >= 0; i--) {
+			char c = text.charAt(i);
+			if (c == '\n' || c == '\r') {
+				return i + 1;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Notifies this matcher that the given line matched. Called once, in the
+	 * thread appending the text, while the stream monitor may be locked.
+	 * Subclasses may override; the default implementation does nothing.
+	 *
+	 * @param line the matching line, without line terminator
+	 */
+	protected void matched(String line) {
+	}
+
+	/**
+	 * @return whether a line matched
+	 */
+	public boolean isMatched() {
+		return fMatchedLine != null;
+	}
+
+	/**
+	 * @return the matching line without line terminator or <code>null</code>
+	 *         if no line matched yet
+	 */
+	public String getMatchedLine() {
+		return fMatchedLine;
+	}
+
+	/**
+	 * Blocks until a line matches, the given timeout elapses or the given
+	 * progress monitor is canceled.
+	 *
+	 * @param timeout maximum time to wait in milliseconds or <code>0</code> to
+	 *            wait without limit
+	 * @param monitor progress monitor checked for cancellation or
+	 *            <code>null</code>
+	 * @return whether a line matched
+	 * @throws InterruptedException if the current thread is interrupted while
+	 *             waiting
+	 */
+	public boolean await(long timeout, IProgressMonitor monitor) throws InterruptedException {
+		long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : Long.MAX_VALUE;
+		while (!isMatched()) {
+			long remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0 || (monitor != null && monitor.isCanceled())) {
+				return false;
+			}
+			fMatched.await(monitor != null ? Math.min(remaining, 100) : remaining, TimeUnit.MILLISECONDS);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns text contained in every line the given regular expression is
+	 * found in, when compiled without flags, suitable as literal for
+	 * {@link #StreamLineMatcher(Pattern, String)}. Only simple expressions
+	 * without groups and alternatives are analyzed.
+	 *
+	 * @param regex a regular expression
+	 * @return the longest literal text every match contains or
+	 *         <code>null</code> if none is known
+	 */
+	public static String getRequiredLiteral(String regex) {
+		if (regex.indexOf('|') >= 0 || regex.indexOf('(') >= 0 || regex.contains("\\Q")) { //$NON-NLS-1$
+			// alternatives and groups can make any part optional
+			return null;
+		}
+		String longest = ""; //$NON-NLS-1$
+		StringBuilder current = new StringBuilder();
+		// nesting depth of character classes, e.g. [a[b]] or [a-z&&[^x]]
+		int classDepth = 0;
+		for (int i = 0; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			if (classDepth > 0) {
+				if (c == '\\') {
+					i = skipEscape(regex, i);
+				} else if (c == '[') {
+					classDepth++;
+					i = skipClassStart(regex, i);
+				} else if (c == ']') {
+					classDepth--;
+				}
+				continue;
+			}
+			switch (c) {
+				case '\\':
+					if (i + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(i + 1))) {
+						current.append(regex.charAt(++i));
+						continue;
+					}
+					// character class or escape sequence
+					i = skipEscape(regex, i);
+					break;
+				case '*':
+				case '?':
+				case '{':
+					// the preceding character is optional
+					if (current.length() > 0) {
+						current.setLength(current.length() - 1);
+					}
+					if (c == '{') {
+						int end = regex.indexOf('}', i);
+						i = end < 0 ? regex.length() : end;
+					}
+					break;
+				case '[':
+					classDepth = 1;
+					i = skipClassStart(regex, i);
+					break;
+				case '.':
+				case '^':
+				case '$':
+				case '+':
+					break;
+				default:
+					current.append(c);
+					continue;
+			}
+			if (current.length() > longest.length()) {
+				longest = current.toString();
+			}
+			current.setLength(0);
+		}
+		if (current.length() > longest.length()) {
+			longest = current.toString();
+		}
+		return longest.isEmpty() ? null : longest;
+	}
+
+	/**
+	 * Returns the index of the last character of the opening of the character
+	 * class starting with the bracket at the given index. A <code>]</code>
+	 * directly following <code>[</code> or <code>[^</code> is a literal and
+	 * does not close the class.
+	 */
+	private static int skipClassStart(String regex, int bracket) {
+		int i = bracket;
+		if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') {
+			i++;
+		}
+		if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the index of the last character of the escape sequence starting
+	 * with the backslash at the given index, e.g. of <code>\x41</code> or
+	 * <code>\p{Alpha}</code>.
+	 */
+	private static int skipEscape(String regex, int backslash) {
+		int i = backslash + 1;
+		if (i >= regex.length()) {
+			return i;
+		}
+		switch (regex.charAt(i)) {
+			case 'x':
+				if (i + 1 < regex.length() && regex.charAt(i + 1) == '{') {
+					return skipTo(regex, i + 1, '}');
+				}
+				return skipDigits(regex, i, 2, 16);
+			case 'u':
+				return skipDigits(regex, i, 4, 16);
+			case '0':
+				return skipDigits(regex, i, 3, 8);
+			case 'c':
+				return Math.min(i + 1, regex.length() - 1);
+			case 'p':
+			case 'P':
+			case 'N':
+				if (i + 1 < regex.length() && regex.charAt(i + 1) == '{') {
+					return skipTo(regex, i + 1, '}');
+				}
+				return Math.min(i + 1, regex.length() - 1);
+			case 'k':
+				return skipTo(regex, i + 1, '>');
+			default:
+				// back references consume all following digits
+				while (Character.isDigit(regex.charAt(i)) && i + 1 < regex.length() && Character.isDigit(regex.charAt(i + 1))) {
+					i++;
+				}
+				return i;
+		}
+	}
+
+	private static int skipTo(String regex, int start, char end) {
+		int index = regex.indexOf(end, start);
+		return index < 0 ? regex.length() - 1 : index;
+	}
+
+	private static int skipDigits(String regex, int start, int max, int radix) {
+		int i = start;
+		while (i - start < max && i + 1 < regex.length() && Character.digit(regex.charAt(i + 1), radix) >= 0) {
+			i++;
+		}
+		return i;
+	}
+}
@@ -17,7 +17,6 @@ import java.io.File;
 import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -30,6 +29,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.sourcelookup.ISourceContainerType;
+import org.eclipse.debug.internal.core.sourcelookup.ArchiveEntryIndex;
 import org.eclipse.debug.internal.core.sourcelookup.SourceLookupMessages;
 import org.eclipse.debug.internal.core.sourcelookup.SourceLookupUtils;
 
@@ -87,7 +87,23 @@ public class ExternalArchiveSourceContainer extends AbstractSourceContainer {
 		if (file == null) {
 			return EMPTY;
 		}
-		// NOTE: archive can be closed between get (above) and synchronized block (below)
+		try {
+			return findSourceElements(file, newname);
+		} finally {
+			SourceLookupUtils.releaseZipFile(file);
+		}
+	}
+
+	/**
+	 * Searches the given archive, which is in use by this container.
+	 *
+	 * @param file the archive to search in
+	 * @param newname the name to search for, using <code>/</code> as separator
+	 * @return the source elements found
+	 * @throws CoreException if the search fails
+	 */
+	private Object[] findSourceElements(ZipFile file, String newname) throws CoreException {
+		// the archive is in use, the cache does not close it before it is released
 		synchronized (file) {
 			boolean isQualfied = newname.indexOf('/') > 0;
 			if (fDetectRoots && isQualfied) {
@@ -109,31 +125,32 @@ public class ExternalArchiveSourceContainer extends AbstractSourceContainer {
 					// can't be any duplicates if there is an exact match
 					return new Object[]{new ZipEntryStorage(file, entry)};
 				}
-				// search
-				Enumeration<? extends ZipEntry> entries = file.entries();
+				// search the entry index
+				List<String> entryNames = getArchiveIndex(file).findEntries(newname, isQualfied);
+				if (entryNames.isEmpty()) {
+					return EMPTY;
+				}
 				List<ZipEntryStorage> matches = null;
 				try {
 					File zipFile = new File(fArchivePath);
 					String zipFileCanonical = zipFile.getCanonicalPath();
-					while (entries.hasMoreElements()) {
-						entry = entries.nextElement();
-						String entryName = entry.getName();
-						if (entryName.endsWith(newname)) {
-							String zipEntryCanonical = (new File(zipFile, entryName)).getCanonicalPath();
-							if (!zipEntryCanonical.startsWith(zipFileCanonical + File.separator)) {
-								throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), "Invalid path: " + zipEntryCanonical)); //$NON-NLS-1$
-							}
-							if (isQualfied || entryName.length() == newname.length() || entryName.charAt(entryName.length() - newname.length() - 1) == '/') {
-								if (isFindDuplicates()) {
-									if (matches == null) {
-										matches = new ArrayList<>();
-									}
-									matches.add(new ZipEntryStorage(file, entry));
-								} else {
-									return new Object[] {
-											new ZipEntryStorage(file, entry) };
-								}
+					for (String entryName : entryNames) {
+						String zipEntryCanonical = (new File(zipFile, entryName)).getCanonicalPath();
+						if (!zipEntryCanonical.startsWith(zipFileCanonical + File.separator)) {
+							throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), "Invalid path: " + zipEntryCanonical)); //$NON-NLS-1$
+						}
+						entry = file.getEntry(entryName);
+						if (entry == null) {
+							continue;
+						}
+						if (isFindDuplicates()) {
+							if (matches == null) {
+								matches = new ArrayList<>();
 							}
+							matches.add(new ZipEntryStorage(file, entry));
+						} else {
+							return new Object[] {
+									new ZipEntryStorage(file, entry) };
 						}
 					}
 				} catch (IOException e) {
@@ -162,33 +179,8 @@ public class ExternalArchiveSourceContainer extends AbstractSourceContainer {
 			return null;
 		}
 		if (fPotentialRoots == null) {
-			fPotentialRoots = new HashSet<>();
-			fPotentialRoots.add(""); //$NON-NLS-1$
 			// all potential roots are the directories
-			try {
-				Enumeration<? extends ZipEntry> entries = file.entries();
-				while (entries.hasMoreElements()) {
-					ZipEntry entry = entries.nextElement();
-					if (entry.isDirectory()) {
-						fPotentialRoots.add(entry.getName());
-					} else {
-						String entryName = entry.getName();
-						int index = entryName.lastIndexOf('/');
-						while (index > 0) {
-							if (fPotentialRoots.add(entryName.substring(0, index + 1))) {
-								entryName = entryName.substring(0, index);
-								index = entryName.lastIndexOf('/');
-							} else {
-								break;
-							}
-						}
-					}
-				}
-			} catch (IllegalStateException e) {
-				// archive was closed between retrieving and locking
-				throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(),
-					e.getMessage(), e));
-			}
+			fPotentialRoots = new HashSet<>(getArchiveIndex(file).getDirectories());
 		}
 		int i = 0;
 		while (i < fRoots.size()) {
@@ -225,7 +217,25 @@ public class ExternalArchiveSourceContainer extends AbstractSourceContainer {
 	}
 
 	/**
-	 * Returns the archive to search in.
+	 * Returns the shared entry index of the given archive.
+	 *
+	 * @param file the archive
+	 * @return the entry index of the archive
+	 * @throws CoreException if the archive was closed
+	 */
+	private ArchiveEntryIndex getArchiveIndex(ZipFile file) throws CoreException {
+		try {
+			return SourceLookupUtils.getArchiveIndex(fArchivePath, file);
+		} catch (IllegalStateException e) {
+			// archive was closed between retrieving and locking
+			throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(),
+				e.getMessage(), e));
+		}
+	}
+
+	/**
+	 * Returns the archive to search in. The archive is in use until it is
+	 * released with {@link SourceLookupUtils#releaseZipFile(ZipFile)}.
 	 * @return the {@link ZipFile} to search in
 	 *
 	 * @throws CoreException if unable to access the archive
@@ -235,7 +245,7 @@ public class ExternalArchiveSourceContainer extends AbstractSourceContainer {
 			return null;
 		}
 		try {
-			return SourceLookupUtils.getZipFile(fArchivePath);
+			return SourceLookupUtils.acquireZipFile(fArchivePath);
 		} catch (IOException e) {
 			File file = new File(fArchivePath);
 			if (file.exists()) {
@@ -14,6 +14,8 @@
 package org.eclipse.debug.core.sourcelookup.containers;
 
 
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.zip.ZipEntry;
@@ -28,6 +30,7 @@ import org.eclipse.core.runtime.PlatformObject;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.internal.core.sourcelookup.SourceLookupMessages;
+import org.eclipse.debug.internal.core.sourcelookup.SourceLookupUtils;
 
 /**
  * Storage implementation for zip entries.
@@ -44,7 +47,7 @@ public class ZipEntryStorage extends PlatformObject implements IStorage {
 	/**
 	 * Zip file associated with zip entry
 	 */
-	private ZipFile fArchive;
+	private volatile ZipFile fArchive;
 
 	/**
 	 * Zip entry
@@ -66,12 +69,66 @@ public class ZipEntryStorage extends PlatformObject implements IStorage {
 	@Override
 	public InputStream getContents() throws CoreException {
 		try {
-			return getArchive().getInputStream(getZipEntry());
+			ZipFile archive = getArchive();
+			if (SourceLookupUtils.acquireZipFile(archive)) {
+				// keep the shared archive open until the stream is closed
+				return releaseOnClose(archive, getZipEntry());
+			}
+			try {
+				return archive.getInputStream(getZipEntry());
+			} catch (IllegalStateException e) {
+				// the shared archive cache closed the zip file, reopen it
+				archive = SourceLookupUtils.acquireZipFile(archive.getName());
+				ZipEntry entry = archive.getEntry(getZipEntry().getName());
+				if (entry == null) {
+					SourceLookupUtils.releaseZipFile(archive);
+					throw new FileNotFoundException(getZipEntry().getName());
+				}
+				setArchive(archive);
+				return releaseOnClose(archive, entry);
+			}
 		} catch (IOException e) {
 			throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugPlugin.ERROR, SourceLookupMessages.ZipEntryStorage_0, e));
 		}
 	}
 
+	/**
+	 * Returns a stream of the given entry which releases the given acquired
+	 * shared archive when it is closed.
+	 *
+	 * @param archive a zip file acquired from the shared archive cache
+	 * @param entry entry of the zip file
+	 * @return input stream of the entry
+	 * @throws IOException if unable to read the entry, the archive has been
+	 *             released then
+	 */
+	private static InputStream releaseOnClose(ZipFile archive, ZipEntry entry) throws IOException {
+		InputStream stream;
+		try {
+			stream = archive.getInputStream(entry);
+		} catch (IOException | RuntimeException e) {
+			SourceLookupUtils.releaseZipFile(archive);
+			throw e;
+		}
+		return new FilterInputStream(stream) {
+			private boolean fReleased;
+
+			@Override
+			public void close() throws IOException {
+				try {
+					super.close();
+				} finally {
+					synchronized (this) {
+						if (!fReleased) {
+							fReleased = true;
+							SourceLookupUtils.releaseZipFile(archive);
+						}
+					}
+				}
+			}
+		};
+	}
+
 	@Override
 	public IPath getFullPath() {
 		return new Path(getArchive().getName()).append(getZipEntry().getName());
@@ -104,7 +161,10 @@ public class ZipEntryStorage extends PlatformObject implements IStorage {
 	}
 
 	/**
-	 * Returns the archive containing the zip entry.
+	 * Returns the archive containing the zip entry. The archive may have been
+	 * closed by the archive cache, it is reopened by {@link #getContents()}.
+	 * Streams returned by {@link #getContents()} keep a shared archive open
+	 * until they are closed.
 	 *
 	 * @return zip file
 	 */
@@ -133,7 +193,7 @@ public class ZipEntryStorage extends PlatformObject implements IStorage {
 	@Override
 	public boolean equals(Object object) {
 		return object instanceof ZipEntryStorage &&
-			 getArchive().equals(((ZipEntryStorage)object).getArchive()) &&
+			 getArchive().getName().equals(((ZipEntryStorage)object).getArchive().getName()) &&
 			 getZipEntry().getName().equals(((ZipEntryStorage)object).getZipEntry().getName());
 	}
 
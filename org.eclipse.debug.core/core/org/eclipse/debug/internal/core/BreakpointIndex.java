@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.debug.core.model.IBreakpoint;
+
+/**
+ * Index of the breakpoints registered with the breakpoint manager by debug
+ * model, resource and line number. Breakpoints are kept in registration order
+ * and the arrays returned for all breakpoints and the breakpoints of a debug
+ * model are cached until the breakpoints change.
+ * <p>
+ * The keys of a breakpoint are read from its marker when it is added and when
+ * it changes, so the index must be updated for every change notification.
+ * </p>
+ * <p>
+ * Thread safe.
+ * </p>
+ */
+class BreakpointIndex {
+
+	private static final IBreakpoint[] NO_BREAKPOINTS = new IBreakpoint[0];
+
+	/**
+	 * The keys a breakpoint is indexed with.
+	 */
+	private static final class Entry {
+		final String fModelIdentifier;
+		final IResource fResource;
+		final int fLineNumber;
+
+		Entry(IBreakpoint breakpoint) {
+			fModelIdentifier = breakpoint.getModelIdentifier();
+			IMarker marker = breakpoint.getMarker();
+			fResource = marker != null ? marker.getResource() : null;
+			fLineNumber = marker != null ? marker.getAttribute(IMarker.LINE_NUMBER, -1) : -1;
+		}
+
+		Line getLine() {
+			return new Line(fResource, fLineNumber);
+		}
+	}
+
+	/**
+	 * Key of the breakpoints on a line of a resource.
+	 */
+	private static final class Line {
+		final IResource fResource;
+		final int fLineNumber;
+
+		Line(IResource resource, int lineNumber) {
+			fResource = resource;
+			fLineNumber = lineNumber;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Line)) {
+				return false;
+			}
+			Line other = (Line) obj;
+			return fLineNumber == other.fLineNumber && Objects.equals(fResource, other.fResource);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(fResource) * 31 + fLineNumber;
+		}
+	}
+
+	private final Map<IBreakpoint, Entry> fEntries = new LinkedHashMap<>();
+	private final Map<String, Set<IBreakpoint>> fByModel = new HashMap<>();
+	private final Map<IResource, Set<IBreakpoint>> fByResource = new HashMap<>();
+	private final Map<Line, Set<IBreakpoint>> fByLine = new HashMap<>();
+
+	private IBreakpoint[] fSnapshot;
+	private final Map<String, IBreakpoint[]> fModelSnapshots = new HashMap<>();
+
+	/**
+	 * Adds the given breakpoint to this index.
+	 *
+	 * @param breakpoint the breakpoint
+	 */
+	synchronized void add(IBreakpoint breakpoint) {
+		if (fEntries.containsKey(breakpoint)) {
+			return;
+		}
+		Entry entry = new Entry(breakpoint);
+		fEntries.put(breakpoint, entry);
+		index(breakpoint, entry);
+		fSnapshot = null;
+	}
+
+	/**
+	 * Removes the given breakpoint from this index.
+	 *
+	 * @param breakpoint the breakpoint
+	 */
+	synchronized void remove(IBreakpoint breakpoint) {
+		Entry entry = fEntries.remove(breakpoint);
+		if (entry != null) {
+			unindex(breakpoint, entry);
+			fSnapshot = null;
+		}
+	}
+
+	/**
+	 * Reads the keys of the given breakpoints again after they changed.
+	 *
+	 * @param breakpoints the changed breakpoints
+	 */
+	synchronized void update(Collection<IBreakpoint> breakpoints) {
+		for (IBreakpoint breakpoint : breakpoints) {
+			Entry entry = fEntries.get(breakpoint);
+			if (entry != null) {
+				Entry updated = new Entry(breakpoint);
+				fEntries.put(breakpoint, updated);
+				// only move the breakpoint in the maps whose key changed to
+				// keep the registration order of the others
+				if (!Objects.equals(entry.fModelIdentifier, updated.fModelIdentifier)) {
+					remove(fByModel, entry.fModelIdentifier, breakpoint);
+					fModelSnapshots.remove(entry.fModelIdentifier);
+					fByModel.computeIfAbsent(updated.fModelIdentifier, id -> new LinkedHashSet<>()).add(breakpoint);
+					fModelSnapshots.remove(updated.fModelIdentifier);
+				}
+				if (!Objects.equals(entry.fResource, updated.fResource)) {
+					unindexLocation(breakpoint, entry);
+					indexLocation(breakpoint, updated);
+				} else if (entry.fLineNumber != updated.fLineNumber && entry.fResource != null) {
+					remove(fByLine, entry.getLine(), breakpoint);
+					fByLine.computeIfAbsent(updated.getLine(), line -> new LinkedHashSet<>()).add(breakpoint);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes all breakpoints from this index.
+	 */
+	synchronized void clear() {
+		fEntries.clear();
+		fByModel.clear();
+		fByResource.clear();
+		fByLine.clear();
+		fModelSnapshots.clear();
+		fSnapshot = null;
+	}
+
+	/**
+	 * @param breakpoint the breakpoint
+	 * @return whether the given breakpoint is in this index
+	 */
+	synchronized boolean contains(IBreakpoint breakpoint) {
+		return fEntries.containsKey(breakpoint);
+	}
+
+	/**
+	 * @return whether this index is empty
+	 */
+	synchronized boolean isEmpty() {
+		return fEntries.isEmpty();
+	}
+
+	/**
+	 * @return all breakpoints in registration order
+	 */
+	synchronized IBreakpoint[] getBreakpoints() {
+		if (fSnapshot == null) {
+			fSnapshot = fEntries.keySet().toArray(new IBreakpoint[fEntries.size()]);
+		}
+		return fSnapshot.clone();
+	}
+
+	/**
+	 * @param modelIdentifier identifier of a debug model
+	 * @return the breakpoints of the given debug model in registration order
+	 */
+	synchronized IBreakpoint[] getBreakpoints(String modelIdentifier) {
+		IBreakpoint[] snapshot = fModelSnapshots.get(modelIdentifier);
+		if (snapshot == null) {
+			Set<IBreakpoint> breakpoints = fByModel.get(modelIdentifier);
+			if (breakpoints == null) {
+				return NO_BREAKPOINTS;
+			}
+			snapshot = breakpoints.toArray(new IBreakpoint[breakpoints.size()]);
+			fModelSnapshots.put(modelIdentifier, snapshot);
+		}
+		return snapshot.clone();
+	}
+
+	/**
+	 * @param modelIdentifier identifier of a debug model
+	 * @param resource a resource
+	 * @return the breakpoints of the given debug model whose marker is on the
+	 *         given resource, in registration order
+	 */
+	synchronized IBreakpoint[] getBreakpoints(String modelIdentifier, IResource resource) {
+		Set<IBreakpoint> breakpoints = fByResource.get(resource);
+		if (breakpoints == null) {
+			return NO_BREAKPOINTS;
+		}
+		List<IBreakpoint> matching = new ArrayList<>(breakpoints.size());
+		for (IBreakpoint breakpoint : breakpoints) {
+			if (Objects.equals(modelIdentifier, fEntries.get(breakpoint).fModelIdentifier)) {
+				matching.add(breakpoint);
+			}
+		}
+		return matching.toArray(new IBreakpoint[matching.size()]);
+	}
+
+	/**
+	 * @param resource a resource
+	 * @param lineNumber a line number or <code>-1</code> for breakpoints
+	 *            without line number
+	 * @return the breakpoints of any debug model on the given line of the
+	 *         given resource, in registration order
+	 */
+	synchronized IBreakpoint[] getBreakpoints(IResource resource, int lineNumber) {
+		Set<IBreakpoint> breakpoints = fByLine.get(new Line(resource, lineNumber));
+		if (breakpoints == null) {
+			return NO_BREAKPOINTS;
+		}
+		return breakpoints.toArray(new IBreakpoint[breakpoints.size()]);
+	}
+
+	private void index(IBreakpoint breakpoint, Entry entry) {
+		fByModel.computeIfAbsent(entry.fModelIdentifier, id -> new LinkedHashSet<>()).add(breakpoint);
+		fModelSnapshots.remove(entry.fModelIdentifier);
+		indexLocation(breakpoint, entry);
+	}
+
+	private void unindex(IBreakpoint breakpoint, Entry entry) {
+		remove(fByModel, entry.fModelIdentifier, breakpoint);
+		fModelSnapshots.remove(entry.fModelIdentifier);
+		unindexLocation(breakpoint, entry);
+	}
+
+	private void indexLocation(IBreakpoint breakpoint, Entry entry) {
+		if (entry.fResource != null) {
+			fByResource.computeIfAbsent(entry.fResource, resource -> new LinkedHashSet<>()).add(breakpoint);
+			fByLine.computeIfAbsent(entry.getLine(), line -> new LinkedHashSet<>()).add(breakpoint);
+		}
+	}
+
+	private void unindexLocation(IBreakpoint breakpoint, Entry entry) {
+		if (entry.fResource != null) {
+			remove(fByResource, entry.fResource, breakpoint);
+			remove(fByLine, entry.getLine(), breakpoint);
+		}
+	}
+
+	private static <K> void remove(Map<K, Set<IBreakpoint>> map, K key, IBreakpoint breakpoint) {
+		Set<IBreakpoint> breakpoints = map.get(key);
+		if (breakpoints != null && breakpoints.remove(breakpoint) && breakpoints.isEmpty()) {
+			map.remove(key);
+		}
+	}
+}
@@ -52,6 +52,7 @@ import org.eclipse.debug.core.IBreakpointListener;
 import org.eclipse.debug.core.IBreakpointManager;
 import org.eclipse.debug.core.IBreakpointManagerListener;
 import org.eclipse.debug.core.IBreakpointsListener;
+import org.eclipse.debug.core.model.Breakpoint;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IBreakpointImportParticipant;
 import org.eclipse.debug.core.model.ITriggerPoint;
@@ -132,6 +133,12 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	private final HashMap<IMarker, IBreakpoint> fMarkersToBreakpoints;
 
+	/**
+	 * Index of the registered breakpoints by debug model, resource and line
+	 * number, updated together with {@link #fBreakpoints}
+	 */
+	private final BreakpointIndex fIndex = new BreakpointIndex();
+
 	/**
 	 * Collection of breakpoint listeners.
 	 */
@@ -218,6 +225,19 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		public void verify(IBreakpoint breakpoint) throws CoreException {}
 	}
 
+	/**
+	 * Discards the cached marker attributes of the breakpoint associated with
+	 * the given marker, if any.
+	 *
+	 * @param marker a changed or removed breakpoint marker
+	 */
+	private void clearAttributeCache(IMarker marker) {
+		IBreakpoint breakpoint = fMarkersToBreakpoints.get(marker);
+		if (breakpoint instanceof Breakpoint) {
+			((Breakpoint) breakpoint).clearAttributeCache();
+		}
+	}
+
 	/**
 	 * The listener
 	 */
@@ -236,9 +256,11 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 						case IResourceDelta.ADDED :
 							break;
 						case IResourceDelta.REMOVED :
+							clearAttributeCache(markerDelta.getMarker());
 							break;
 						case IResourceDelta.CHANGED :
 							IMarker marker = markerDelta.getMarker();
+							clearAttributeCache(marker);
 							synchronized (fPostChangMarkersChanged) {
 								if (!fPostBuildMarkersAdded.contains(marker)) {
 									fPostChangMarkersChanged.add(marker);
@@ -359,6 +381,7 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 			fBreakpoints.clear();
 			fBreakpoints = null;
 		}
+		fIndex.clear();
 		if(fMarkersToBreakpoints != null) {
 			fMarkersToBreakpoints.clear();
 		}
@@ -403,13 +426,8 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 
 	@Override
 	public IBreakpoint[] getBreakpoints() {
-		IBreakpoint[] temp = new IBreakpoint[0];
-		Vector<IBreakpoint> breakpoints = getBreakpoints0();
-		synchronized (breakpoints) {
-			temp = new IBreakpoint[breakpoints.size()];
-			breakpoints.copyInto(temp);
-		}
-		return temp;
+		getBreakpoints0();
+		return fIndex.getBreakpoints();
 	}
 
 	/**
@@ -441,17 +459,20 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 
 	@Override
 	public IBreakpoint[] getBreakpoints(String modelIdentifier) {
-		Vector<IBreakpoint> allBreakpoints = getBreakpoints0();
-		synchronized (allBreakpoints) {
-			ArrayList<IBreakpoint> temp = new ArrayList<>(allBreakpoints.size());
-			for (IBreakpoint breakpoint : allBreakpoints) {
-				String id= breakpoint.getModelIdentifier();
-				if (id != null && id.equals(modelIdentifier)) {
-					temp.add(breakpoint);
-				}
-			}
-			return temp.toArray(new IBreakpoint[temp.size()]);
+		if (modelIdentifier == null) {
+			return new IBreakpoint[0];
+		}
+		getBreakpoints0();
+		return fIndex.getBreakpoints(modelIdentifier);
+	}
+
+	@Override
+	public IBreakpoint[] getBreakpoints(String modelIdentifier, IResource resource) {
+		if (modelIdentifier == null) {
+			return new IBreakpoint[0];
 		}
+		getBreakpoints0();
+		return fIndex.getBreakpoints(modelIdentifier, resource);
 	}
 
 	/**
@@ -475,7 +496,8 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	@Override
 	public boolean isRegistered(IBreakpoint breakpoint) {
-		return getBreakpoints0().contains(breakpoint);
+		getBreakpoints0();
+		return fIndex.contains(breakpoint);
 	}
 
 
@@ -495,13 +517,14 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		final List<IBreakpoint> remove = new ArrayList<>(breakpoints.length);
 		List<IBreakpoint> bps = getBreakpoints0();
 		for (IBreakpoint breakpoint : breakpoints) {
-			if (bps.contains(breakpoint)) {
+			if (fIndex.contains(breakpoint)) {
 				remove.add(breakpoint);
 			}
 		}
 		if (!remove.isEmpty()) {
 			for (IBreakpoint breakpoint : remove) {
 				bps.remove(breakpoint);
+				fIndex.remove(breakpoint);
 				fMarkersToBreakpoints.remove(breakpoint.getMarker());
 				// If the breakpoint is a trigger point, remove else do nothing.
 				removeTriggerPoint(breakpoint);
@@ -597,12 +620,13 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		List<IBreakpoint> added = new ArrayList<>(breakpoints.length);
 		final List<IBreakpoint> update = new ArrayList<>();
 		for (IBreakpoint breakpoint : breakpoints) {
-			if (!getBreakpoints0().contains(breakpoint)) {
+			if (!isRegistered(breakpoint)) {
 				verifyBreakpoint(breakpoint);
 				if (breakpoint.isRegistered()) {
 					// If notify == false, the breakpoints are just being added at startup
 					added.add(breakpoint);
 					getBreakpoints0().add(breakpoint);
+					fIndex.add(breakpoint);
 					fMarkersToBreakpoints.put(breakpoint.getMarker(), breakpoint);
 					if (breakpoint instanceof ITriggerPoint && ((ITriggerPoint) breakpoint).isTriggerPoint()) {
 						addTriggerPoint(breakpoint);
@@ -622,6 +646,7 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 				List<IBreakpoint> bps = getBreakpoints0();
 				for (IBreakpoint breakpoint : update) {
 					bps.add(breakpoint);
+					fIndex.add(breakpoint);
 					breakpoint.setRegistered(true);
 					fMarkersToBreakpoints.put(breakpoint.getMarker(), breakpoint);
 				}
@@ -653,7 +678,7 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	@Override
 	public void fireBreakpointChanged(IBreakpoint breakpoint) {
-		if (getBreakpoints0().contains(breakpoint)) {
+		if (isRegistered(breakpoint)) {
 			List<IBreakpoint> changed = new ArrayList<>();
 			changed.add(breakpoint);
 			fireUpdate(changed, null, CHANGED);
@@ -862,9 +887,11 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		private IBreakpoint findMatchingBreakpoint(IMarker marker) {
 			try {
 				Integer line = (Integer) marker.getAttribute(IMarker.LINE_NUMBER);
-				for (IBreakpoint breakpoint : getBreakpoints0()) {
+				int lineNumber = line == null ? -1 : line.intValue();
+				getBreakpoints0();
+				for (IBreakpoint breakpoint : fIndex.getBreakpoints(marker.getResource(), lineNumber)) {
 					IMarker bpMarker = breakpoint.getMarker();
-					if (bpMarker != null && marker.getResource().equals(bpMarker.getResource()) && bpMarker.getAttribute(IMarker.LINE_NUMBER, -1) == (line == null ? -1 : line.intValue())) {
+					if (bpMarker != null && bpMarker.getAttribute(IMarker.LINE_NUMBER, -1) == lineNumber) {
 						return breakpoint;
 					}
 				}
@@ -953,6 +980,10 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		if (breakpoints.isEmpty()) {
 			return;
 		}
+		if (update == CHANGED) {
+			// the line number or resource of the breakpoints may have changed
+			fIndex.update(breakpoints);
+		}
 		IBreakpoint[] bpArray = breakpoints.toArray(new IBreakpoint[breakpoints.size()]);
 		IMarkerDelta[] deltaArray = new IMarkerDelta[bpArray.length];
 		if (deltas != null) {
@@ -967,6 +998,10 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 
 	protected void setBreakpoints(Vector<IBreakpoint> breakpoints) {
 		fBreakpoints = breakpoints;
+		fIndex.clear();
+		for (IBreakpoint breakpoint : breakpoints) {
+			fIndex.add(breakpoint);
+		}
 	}
 
 	/**
@@ -974,7 +1009,8 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	@Override
 	public boolean hasBreakpoints() {
-		return !getBreakpoints0().isEmpty();
+		getBreakpoints0();
+		return !fIndex.isEmpty();
 	}
 
 	/**
@@ -36,6 +36,7 @@ public class DebugCoreMessages extends NLS {
 	public static String DebugPlugin_8;
 	public static String DebugPlugin_Eclipse_runtime_does_not_support_working_directory_2;
 	public static String EnvironmentVariableResolver_0;
+	public static String ForEachCommand_failed;
 	public static String GroupLaunchConfigurationDelegate_waiting;
 	public static String GroupLaunchConfigurationDelegate_Delay;
 	public static String GroupLaunchConfigurationDelegate_Delaying;
@@ -83,6 +84,7 @@ public class DebugCoreMessages extends NLS {
 	public static String LaunchManager_27;
 	public static String LaunchManager_28;
 	public static String LaunchManager_29;
+	public static String LaunchManager_30;
 	public static String LaunchManager_31;
 	public static String LaunchMode_1;
 	public static String LogicalStructureProvider_0;
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.debug.core.DebugPlugin;
+
+/**
+ * Counters describing the debug event dispatch queue of {@link DebugPlugin}.
+ * <p>
+ * All counters are updated without locking and may be read at any time.
+ * </p>
+ */
+public final class EventDispatchStatistics {
+
+	private static final EventDispatchStatistics fgDefault = new EventDispatchStatistics();
+
+	private final AtomicInteger fQueueDepth = new AtomicInteger();
+	private final AtomicInteger fMaxQueueDepth = new AtomicInteger();
+	private final AtomicLong fDispatched = new AtomicLong();
+	private final AtomicLong fCoalesced = new AtomicLong();
+	private final AtomicLong fTotalLatency = new AtomicLong();
+	private final AtomicLong fMaxLatency = new AtomicLong();
+
+	private EventDispatchStatistics() {
+	}
+
+	/**
+	 * Returns the statistics of the debug event dispatch queue.
+	 *
+	 * @return the shared statistics instance
+	 */
+	public static EventDispatchStatistics getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Records that an event set or runnable was added to the queue.
+	 */
+	public void enqueued() {
+		int depth = fQueueDepth.incrementAndGet();
+		fMaxQueueDepth.accumulateAndGet(depth, Math::max);
+	}
+
+	/**
+	 * Records that a queued item was taken from the queue.
+	 *
+	 * @param enqueueTime the {@link System#nanoTime()} the item was queued
+	 */
+	public void dequeued(long enqueueTime) {
+		fQueueDepth.decrementAndGet();
+		long latency = System.nanoTime() - enqueueTime;
+		fTotalLatency.addAndGet(latency);
+		fMaxLatency.accumulateAndGet(latency, Math::max);
+		fDispatched.incrementAndGet();
+	}
+
+	/**
+	 * Records that a queued event set was dropped because a later event set
+	 * in the same drain cycle supersedes it.
+	 */
+	public void coalesced() {
+		fCoalesced.incrementAndGet();
+	}
+
+	/**
+	 * @return the number of items currently waiting in the queue
+	 */
+	public int getQueueDepth() {
+		return fQueueDepth.get();
+	}
+
+	/**
+	 * @return the maximum number of items waiting in the queue since last
+	 *         {@link #reset()}
+	 */
+	public int getMaxQueueDepth() {
+		return fMaxQueueDepth.get();
+	}
+
+	/**
+	 * @return the number of items taken from the queue since last
+	 *         {@link #reset()}, including coalesced event sets
+	 */
+	public long getDispatchedCount() {
+		return fDispatched.get();
+	}
+
+	/**
+	 * @return the number of event sets dropped by coalescing since last
+	 *         {@link #reset()}
+	 */
+	public long getCoalescedCount() {
+		return fCoalesced.get();
+	}
+
+	/**
+	 * @return the average time in nanoseconds an item waited in the queue
+	 */
+	public long getAverageLatency() {
+		long count = fDispatched.get();
+		return count == 0 ? 0 : fTotalLatency.get() / count;
+	}
+
+	/**
+	 * @return the maximum time in nanoseconds an item waited in the queue
+	 *         since last {@link #reset()}
+	 */
+	public long getMaxLatency() {
+		return fMaxLatency.get();
+	}
+
+	/**
+	 * Resets all counters except the current queue depth.
+	 */
+	public void reset() {
+		fMaxQueueDepth.set(fQueueDepth.get());
+		fDispatched.set(0);
+		fCoalesced.set(0);
+		fTotalLatency.set(0);
+		fMaxLatency.set(0);
+	}
+
+	@Override
+	public String toString() {
+		return "EventDispatchStatistics [depth=" + getQueueDepth() + ", maxDepth=" + getMaxQueueDepth() //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", dispatched=" + getDispatchedCount() + ", coalesced=" + getCoalescedCount() //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", avgLatency=" + getAverageLatency() + "ns, maxLatency=" + getMaxLatency() + "ns]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
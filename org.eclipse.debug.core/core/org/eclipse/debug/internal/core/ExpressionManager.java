@@ -14,11 +14,14 @@
 package org.eclipse.debug.internal.core;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Vector;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -34,13 +37,18 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.PlatformObject;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IExpressionListener;
 import org.eclipse.debug.core.IExpressionManager;
 import org.eclipse.debug.core.IExpressionsListener;
+import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IExpression;
 import org.eclipse.debug.core.model.IWatchExpression;
 import org.eclipse.debug.core.model.IWatchExpressionDelegate;
+import org.eclipse.debug.core.model.IWatchExpressionDelegate2;
+import org.eclipse.debug.core.model.IWatchExpressionListener;
+import org.eclipse.debug.core.model.IWatchExpressionResult;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
@@ -76,6 +84,24 @@ public class ExpressionManager extends PlatformObject implements IExpressionMana
 	 */
 	private Map<String, IConfigurationElement> fWatchExpressionDelegates = new HashMap<>();
 
+	/**
+	 * The object that triggered the last context change of the watch
+	 * expressions, see {@link #setWatchExpressionContext(IWatchExpression, IDebugElement, Object)}
+	 */
+	private WeakReference<Object> fContextTrigger = null;
+
+	/**
+	 * Watch expressions whose context was set for the last trigger
+	 */
+	private Set<IWatchExpression> fContextExpressions = new HashSet<>();
+
+	/**
+	 * Data of the change events fired for watch expressions evaluated in a
+	 * batch. The events of a batch are fired in one event set, so viewers can
+	 * update all changed expressions at once.
+	 */
+	public static final String BATCH_EVALUATION = "batchEvaluation"; //$NON-NLS-1$
+
 	// Constants for add/remove/change/insert/move notification
 	private static final int ADDED = 1;
 	private static final int CHANGED = 2;
@@ -137,6 +163,98 @@ public class ExpressionManager extends PlatformObject implements IExpressionMana
 		return element != null;
 	}
 
+	/**
+	 * Sets the context of the given watch expression in response to the given
+	 * trigger, for example a debug context event. The first request for a
+	 * trigger sets the context of all watch expressions in this manager and
+	 * evaluates them together, later requests for the same trigger only
+	 * evaluate expressions not covered yet.
+	 *
+	 * @param expression the watch expression
+	 * @param context the new context, possibly <code>null</code>
+	 * @param trigger the object identifying the context change, for example
+	 *            the debug context event, or <code>null</code> to only update
+	 *            the given expression. A new trigger must be used for every
+	 *            change, also when the same context is activated again.
+	 */
+	public void setWatchExpressionContext(IWatchExpression expression, IDebugElement context, Object trigger) {
+		List<IWatchExpression> expressions = new ArrayList<>();
+		synchronized (this) {
+			Object lastTrigger = fContextTrigger != null ? fContextTrigger.get() : null;
+			if (trigger == null || trigger != lastTrigger) {
+				fContextTrigger = trigger != null ? new WeakReference<>(trigger) : null;
+				fContextExpressions.clear();
+				if (trigger != null && fExpressions != null) {
+					for (IExpression managed : fExpressions) {
+						if (managed instanceof IWatchExpression && fContextExpressions.add((IWatchExpression) managed)) {
+							expressions.add((IWatchExpression) managed);
+						}
+					}
+				}
+			}
+			if (fContextExpressions.add(expression)) {
+				expressions.add(expression);
+			}
+		}
+		if (!expressions.isEmpty()) {
+			setWatchExpressionsContext(expressions.toArray(new IWatchExpression[expressions.size()]), context);
+		}
+	}
+
+	/**
+	 * Sets the context of the given watch expressions and evaluates the
+	 * enabled ones. When the watch expression delegate of the context supports
+	 * it, the expressions are evaluated with one request and the resulting
+	 * change events are fired in batches.
+	 *
+	 * @param expressions the watch expressions
+	 * @param context the new context, possibly <code>null</code>
+	 * @see IWatchExpressionDelegate2
+	 */
+	public void setWatchExpressionsContext(IWatchExpression[] expressions, IDebugElement context) {
+		List<WatchExpression> evaluate = new ArrayList<>(expressions.length);
+		List<DebugEvent> cleared = new ArrayList<>();
+		for (IWatchExpression expression : expressions) {
+			if (expression instanceof WatchExpression) {
+				WatchExpression watchExpression = (WatchExpression) expression;
+				watchExpression.setContext(context);
+				if (context == null) {
+					cleared.add(watchExpression.updateResult(null));
+				} else if (watchExpression.isEnabled()) {
+					evaluate.add(watchExpression);
+				}
+			} else {
+				expression.setExpressionContext(context);
+			}
+		}
+		if (!cleared.isEmpty()) {
+			fireBatchEvents(cleared);
+		}
+		if (evaluate.isEmpty()) {
+			return;
+		}
+		IWatchExpressionDelegate delegate = newWatchExpressionDelegate(context.getModelIdentifier());
+		if (delegate instanceof IWatchExpressionDelegate2) {
+			new WatchExpressionBatch(context, evaluate).evaluate((IWatchExpressionDelegate2) delegate);
+		} else {
+			for (WatchExpression expression : evaluate) {
+				expression.evaluate();
+			}
+		}
+	}
+
+	/**
+	 * Fires the given change events of a batch evaluation as one event set.
+	 *
+	 * @param events the events to fire
+	 */
+	private static void fireBatchEvents(List<DebugEvent> events) {
+		for (DebugEvent event : events) {
+			event.setData(BATCH_EVALUATION);
+		}
+		DebugPlugin.getDefault().fireDebugEventSet(events.toArray(new DebugEvent[events.size()]));
+	}
+
 	/**
 	 * Loads any persisted watch expressions from the preferences.
 	 * NOTE: It's important that no setter methods are called on
@@ -570,6 +688,90 @@ public class ExpressionManager extends PlatformObject implements IExpressionMana
 		}
 	}
 
+	/**
+	 * Evaluates watch expressions in one context with a single request to an
+	 * {@link IWatchExpressionDelegate2}. Results reported while the request is
+	 * made are fired in one event set, results reported later are fired as
+	 * they arrive, together with any other results pending at that time.
+	 */
+	static class WatchExpressionBatch implements IWatchExpressionListener {
+
+		private final IDebugElement fContext;
+		private final Map<String, List<WatchExpression>> fPending = new HashMap<>();
+		private final List<DebugEvent> fEvents = new ArrayList<>();
+		private boolean fDeferred = true;
+
+		WatchExpressionBatch(IDebugElement context, List<WatchExpression> expressions) {
+			fContext = context;
+			for (WatchExpression expression : expressions) {
+				fPending.computeIfAbsent(expression.getExpressionText(), text -> new ArrayList<>(1)).add(expression);
+			}
+		}
+
+		/**
+		 * Evaluates the expressions of this batch with the given delegate.
+		 *
+		 * @param delegate the delegate to evaluate with
+		 */
+		void evaluate(IWatchExpressionDelegate2 delegate) {
+			List<DebugEvent> pending = new ArrayList<>();
+			String[] texts;
+			synchronized (this) {
+				for (List<WatchExpression> expressions : fPending.values()) {
+					for (WatchExpression expression : expressions) {
+						pending.add(expression.markPending());
+					}
+				}
+				texts = fPending.keySet().toArray(new String[fPending.size()]);
+			}
+			fireBatchEvents(pending);
+			try {
+				delegate.evaluateExpressions(texts, fContext, this);
+			} finally {
+				synchronized (this) {
+					fDeferred = false;
+				}
+				flush();
+			}
+		}
+
+		@Override
+		public void watchEvaluationFinished(IWatchExpressionResult result) {
+			boolean deferred;
+			synchronized (this) {
+				List<WatchExpression> expressions = fPending.remove(result.getExpressionText());
+				if (expressions == null) {
+					return;
+				}
+				for (WatchExpression expression : expressions) {
+					// ignore results for expressions moved to another context
+					if (expression.getContext() == fContext) {
+						fEvents.add(expression.updateResult(result));
+					}
+				}
+				deferred = fDeferred;
+			}
+			if (!deferred) {
+				flush();
+			}
+		}
+
+		/**
+		 * Fires the change events collected so far.
+		 */
+		private void flush() {
+			List<DebugEvent> events;
+			synchronized (this) {
+				if (fEvents.isEmpty()) {
+					return;
+				}
+				events = new ArrayList<>(fEvents);
+				fEvents.clear();
+			}
+			fireBatchEvents(events);
+		}
+	}
+
 	/**
 	 * Returns the expressions notifier
 	 * @return the expressions notifier
@@ -44,4 +44,39 @@ public interface IInternalDebugCoreConstants {
 	 */
 	String PREF_BREAKPOINT_MANAGER_ENABLED_STATE =  DebugPlugin.getUniqueIdentifier() + ".PREF_BREAKPOINT_MANAGER_ENABLED_STATE"; //$NON-NLS-1$
 
+	/**
+	 * Long preference for the maximum number of bytes a process output stream
+	 * monitor retains in memory. Default value is <code>0</code> which means
+	 * all output is retained.
+	 */
+	String PREF_OUTPUT_RETENTION_LIMIT = DebugPlugin.getUniqueIdentifier() + ".PREF_OUTPUT_RETENTION_LIMIT"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether process output exceeding
+	 * {@link #PREF_OUTPUT_RETENTION_LIMIT} is written to a temporary file
+	 * instead of being discarded. Default value is <code>false</code>.
+	 */
+	String PREF_OUTPUT_RETENTION_SPILL = DebugPlugin.getUniqueIdentifier() + ".PREF_OUTPUT_RETENTION_SPILL"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether launched processes pump their
+	 * streams and await termination using a shared thread pool instead of
+	 * dedicated threads per process. Default value is <code>false</code>.
+	 */
+	String PREF_SHARED_PROCESS_THREADS = DebugPlugin.getUniqueIdentifier() + ".PREF_SHARED_PROCESS_THREADS"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether redundant debug change events
+	 * queued for the same source are coalesced before they are dispatched.
+	 * Default value is <code>false</code>.
+	 */
+	String PREF_COALESCE_DEBUG_EVENTS = DebugPlugin.getUniqueIdentifier() + ".PREF_COALESCE_DEBUG_EVENTS"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether the attributes of launch
+	 * configurations are cached on disk between sessions and loaded in a
+	 * background job on startup. Default value is <code>false</code>.
+	 */
+	String PREF_LAUNCH_CONFIGURATION_CACHE = DebugPlugin.getUniqueIdentifier() + ".PREF_LAUNCH_CONFIGURATION_CACHE"; //$NON-NLS-1$
+
 }
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.Vector;
+import java.util.concurrent.Executor;
 
 import org.eclipse.debug.core.DebugPlugin;
 
@@ -45,6 +46,26 @@ public class InputStreamMonitor {
 	 */
 	private Thread fThread;
 
+	/**
+	 * The executor used to write queued data if monitoring was started on an
+	 * executor. In this mode no thread is occupied while the queue is empty.
+	 *
+	 * @see #startMonitoring(String, Executor)
+	 */
+	private Executor fExecutor;
+
+	/**
+	 * Name of the executing thread while queued data is written on
+	 * {@link #fExecutor}.
+	 */
+	private String fTaskName;
+
+	/**
+	 * Whether a write task is scheduled on {@link #fExecutor}. Guarded by
+	 * {@link #fLock}.
+	 */
+	private boolean fWriting;
+
 	/**
 	 * A lock for ensuring that writes to the queue are contiguous
 	 */
@@ -107,6 +128,7 @@ public class InputStreamMonitor {
 		synchronized (fLock) {
 			fQueue.add(fCharset == null ? text.getBytes() : text.getBytes(fCharset));
 			fLock.notifyAll();
+			scheduleWrite();
 		}
 	}
 
@@ -124,6 +146,7 @@ public class InputStreamMonitor {
 			System.arraycopy(data, offset, copy, 0, length);
 			fQueue.add(copy);
 			fLock.notifyAll();
+			scheduleWrite();
 		}
 	}
 
@@ -146,6 +169,67 @@ public class InputStreamMonitor {
 		}
 	}
 
+	/**
+	 * Starts writing the stream in tasks of the given executor instead of a
+	 * dedicated thread. A task is only scheduled while there is queued data to
+	 * write.
+	 *
+	 * @param threadName name of the executing thread while a task runs
+	 * @param executor the executor to run write tasks
+	 * @see ProcessThreadPool
+	 */
+	public void startMonitoring(String threadName, Executor executor) {
+		synchronized (this) {
+			if (fThread == null) {
+				synchronized (fLock) {
+					if (fExecutor == null) {
+						fTaskName = threadName;
+						fExecutor = executor;
+						scheduleWrite();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Schedules a task writing the queued data if monitoring runs on an
+	 * executor and no such task is pending. Must be called while holding
+	 * {@link #fLock}.
+	 */
+	private void scheduleWrite() {
+		if (fExecutor != null && !fWriting && !fQueue.isEmpty()) {
+			fWriting = true;
+			fExecutor.execute(ProcessThreadPool.named(fTaskName, this::writeQueued));
+		}
+	}
+
+	/**
+	 * Writes queued data until the queue is empty. Used if monitoring runs on
+	 * an executor.
+	 */
+	private void writeQueued() {
+		while (true) {
+			byte[] data;
+			synchronized (fLock) {
+				if (fQueue.isEmpty() || fClosed) {
+					fWriting = false;
+					if (fExecutor == null) {
+						closeStream();
+					}
+					return;
+				}
+				data = fQueue.remove(0);
+			}
+			try {
+				fStream.write(data);
+				fStream.flush();
+			} catch (IOException e) {
+				DebugPlugin.log(e);
+			}
+		}
+	}
+
 	/**
 	 * Close all communications between this
 	 * monitor and the underlying stream.
@@ -159,6 +243,14 @@ public class InputStreamMonitor {
 		if (thread != null) {
 			thread.interrupt();
 		}
+		synchronized (fLock) {
+			if (fExecutor != null) {
+				fExecutor = null;
+				if (!fWriting) {
+					closeStream();
+				}
+			}
+		}
 	}
 
 	/**
@@ -168,6 +260,14 @@ public class InputStreamMonitor {
 		while (fThread != null) {
 			writeNext();
 		}
+		closeStream();
+	}
+
+	/**
+	 * Closes the underlying stream unless it was already closed through
+	 * {@link #closeInputStream()}.
+	 */
+	private void closeStream() {
 		if (!fClosed) {
 			try {
 				fStream.close();
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+/**
+ * Secondary index of the launch configurations known to the
+ * {@link LaunchManager}. Configurations are indexed by name, by type, by the
+ * project they are stored in and by their mapped resources.
+ * <p>
+ * The index is updated incrementally whenever the launch manager adds,
+ * changes or removes a configuration. It is not thread safe, the launch
+ * manager guards all access with its own lock.
+ * </p>
+ */
+class LaunchConfigurationIndex {
+
+	/**
+	 * Indexed properties of a launch configuration, kept to remove the
+	 * configuration from the index even if its file has already changed.
+	 */
+	private static class Entry {
+		String fName;
+		String fTypeId;
+		IProject fStorageProject;
+		IResource[] fMappedResources;
+	}
+
+	private final Map<ILaunchConfiguration, Entry> fEntries = new HashMap<>();
+	private final Map<String, Set<ILaunchConfiguration>> fByName = new HashMap<>();
+	private final Map<String, Set<ILaunchConfiguration>> fByType = new HashMap<>();
+	private final Map<IProject, Set<ILaunchConfiguration>> fByStorageProject = new HashMap<>();
+	private final Map<IResource, Set<ILaunchConfiguration>> fByMappedResource = new HashMap<>();
+
+	/**
+	 * Configurations mapped to a file, indexed by the project containing the
+	 * file. Required since a configuration mapped to a file is considered to
+	 * be mapped to the file's project too.
+	 */
+	private final Map<IProject, Set<ILaunchConfiguration>> fByMappedFileProject = new HashMap<>();
+
+	/**
+	 * @param config a launch configuration
+	 * @return whether the given configuration is indexed
+	 */
+	boolean contains(ILaunchConfiguration config) {
+		return fEntries.containsKey(config);
+	}
+
+	/**
+	 * Adds the given configuration to the index. If the configuration is
+	 * already indexed it is re-indexed.
+	 *
+	 * @param config the configuration to add
+	 */
+	void add(ILaunchConfiguration config) {
+		remove(config);
+		Entry entry = new Entry();
+		entry.fName = config.getName();
+		try {
+			entry.fTypeId = config.getType().getIdentifier();
+		} catch (CoreException e) {
+			// invalid configurations are not returned for any type
+		}
+		IFile file = config.getFile();
+		if (file != null) {
+			entry.fStorageProject = file.getProject();
+		}
+		try {
+			entry.fMappedResources = config.getMappedResources();
+		} catch (CoreException e) {
+			DebugPlugin.log(e);
+		}
+		fEntries.put(config, entry);
+		put(fByName, entry.fName, config);
+		put(fByType, entry.fTypeId, config);
+		put(fByStorageProject, entry.fStorageProject, config);
+		if (entry.fMappedResources != null) {
+			for (IResource resource : entry.fMappedResources) {
+				put(fByMappedResource, resource, config);
+				if (resource.getType() == IResource.FILE) {
+					put(fByMappedFileProject, resource.getProject(), config);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Re-indexes the given configuration if it is indexed.
+	 *
+	 * @param config the configuration which has changed
+	 */
+	void update(ILaunchConfiguration config) {
+		if (contains(config)) {
+			add(config);
+		}
+	}
+
+	/**
+	 * Removes the given configuration from the index.
+	 *
+	 * @param config the configuration to remove
+	 */
+	void remove(ILaunchConfiguration config) {
+		Entry entry = fEntries.remove(config);
+		if (entry == null) {
+			return;
+		}
+		remove(fByName, entry.fName, config);
+		remove(fByType, entry.fTypeId, config);
+		remove(fByStorageProject, entry.fStorageProject, config);
+		if (entry.fMappedResources != null) {
+			for (IResource resource : entry.fMappedResources) {
+				remove(fByMappedResource, resource, config);
+				if (resource.getType() == IResource.FILE) {
+					remove(fByMappedFileProject, resource.getProject(), config);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes all configurations from the index.
+	 */
+	void clear() {
+		fEntries.clear();
+		fByName.clear();
+		fByType.clear();
+		fByStorageProject.clear();
+		fByMappedResource.clear();
+		fByMappedFileProject.clear();
+	}
+
+	/**
+	 * @param name a configuration name
+	 * @return the indexed configurations with the given name
+	 */
+	Collection<ILaunchConfiguration> getByName(String name) {
+		return get(fByName, name);
+	}
+
+	/**
+	 * @param typeId a launch configuration type identifier
+	 * @return the indexed configurations of the given type
+	 */
+	Collection<ILaunchConfiguration> getByType(String typeId) {
+		return get(fByType, typeId);
+	}
+
+	/**
+	 * @param project a project
+	 * @return the indexed configurations stored in the given project
+	 */
+	Collection<ILaunchConfiguration> getStoredIn(IProject project) {
+		return get(fByStorageProject, project);
+	}
+
+	/**
+	 * Returns the configurations mapped to the given resource. If the resource
+	 * is a project, configurations mapped to a file in this project are
+	 * included.
+	 *
+	 * @param resource a resource
+	 * @return the indexed configurations mapped to the given resource
+	 */
+	Collection<ILaunchConfiguration> getMappedTo(IResource resource) {
+		Set<ILaunchConfiguration> mapped = fByMappedResource.get(resource);
+		if (resource.getType() != IResource.PROJECT) {
+			return mapped == null ? Collections.emptySet() : mapped;
+		}
+		Set<ILaunchConfiguration> files = fByMappedFileProject.get(resource);
+		if (files == null) {
+			return mapped == null ? Collections.emptySet() : mapped;
+		}
+		if (mapped == null) {
+			return files;
+		}
+		Set<ILaunchConfiguration> result = new LinkedHashSet<>(mapped);
+		result.addAll(files);
+		return result;
+	}
+
+	private static <K> void put(Map<K, Set<ILaunchConfiguration>> map, K key, ILaunchConfiguration config) {
+		if (key != null) {
+			map.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(config);
+		}
+	}
+
+	private static <K> void remove(Map<K, Set<ILaunchConfiguration>> map, K key, ILaunchConfiguration config) {
+		if (key == null) {
+			return;
+		}
+		Set<ILaunchConfiguration> configs = map.get(key);
+		if (configs != null) {
+			configs.remove(config);
+			if (configs.isEmpty()) {
+				map.remove(key);
+			}
+		}
+	}
+
+	private static <K> Collection<ILaunchConfiguration> get(Map<K, Set<ILaunchConfiguration>> map, K key) {
+		Set<ILaunchConfiguration> configs = map.get(key);
+		return configs == null ? Collections.emptySet() : configs;
+	}
+}
@@ -17,6 +17,8 @@ package org.eclipse.debug.internal.core;
 
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -26,12 +28,14 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.TransformerException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -40,7 +44,6 @@ import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationType;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -65,9 +68,9 @@ public class LaunchConfigurationInfo {
 	private static final String BOOLEAN_ATTRIBUTE = "booleanAttribute"; //$NON-NLS-1$
 	private static final String INT_ATTRIBUTE = "intAttribute"; //$NON-NLS-1$
 	private static final String STRING_ATTRIBUTE = "stringAttribute"; //$NON-NLS-1$
-	private static final String TYPE = "type"; //$NON-NLS-1$
-	private static final String PROTOTYPE = "prototype"; //$NON-NLS-1$
-	private static final String VISIBLE_ATTRIBUTES = "visibleAttributes"; //$NON-NLS-1$
+	static final String TYPE = "type"; //$NON-NLS-1$
+	static final String PROTOTYPE = "prototype"; //$NON-NLS-1$
+	static final String VISIBLE_ATTRIBUTES = "visibleAttributes"; //$NON-NLS-1$
 
 	/**
 	 * This configurations attribute table. Keys are <code>String</code>s and
@@ -78,6 +81,13 @@ public class LaunchConfigurationInfo {
 	 */
 	private TreeMap<String, Object> fAttributes;
 
+	/**
+	 * Whether the attribute table is shared with a copy of this info or with
+	 * a map returned by {@link #getAttributes()}. A shared table is never
+	 * modified, it is copied on the first write.
+	 */
+	private boolean fAttributesShared;
+
 	/**
 	 * This launch configuration's type
 	 */
@@ -99,9 +109,11 @@ public class LaunchConfigurationInfo {
 	private Set<String> fVisibleAttributes;
 
 	/**
-	 * Static access to the launch manager.
+	 * Static access to the launch manager. Initialized on first use rather
+	 * than in a static initializer, since attributes are read in parallel
+	 * while the launch manager is being initialized.
 	 */
-	private static LaunchManager fgLaunchManager = (LaunchManager)DebugPlugin.getDefault().getLaunchManager();
+	private static volatile LaunchManager fgLaunchManager;
 
 	/**
 	 * Whether running on Sun 1.4 VM - see bug 110215
@@ -142,6 +154,33 @@ public class LaunchConfigurationInfo {
 	 */
 	private void setAttributeTable(TreeMap<String, Object> table) {
 		fAttributes = table;
+		fAttributesShared = false;
+	}
+
+	/**
+	 * Returns this configuration's attribute table for modification, copying
+	 * it first if it is shared.
+	 *
+	 * @return attribute table that may be modified
+	 */
+	private TreeMap<String, Object> getWritableAttributeTable() {
+		if (fAttributesShared) {
+			fAttributes = new TreeMap<>(fAttributes);
+			fAttributesShared = false;
+		}
+		return fAttributes;
+	}
+
+	/**
+	 * Returns this configuration's attribute table to be shared with another
+	 * owner. Neither this info nor the other owner modifies the table
+	 * afterwards.
+	 *
+	 * @return shared attribute table
+	 */
+	private TreeMap<String, Object> shareAttributeTable() {
+		fAttributesShared = true;
+		return fAttributes;
 	}
 
 	/**
@@ -154,6 +193,11 @@ public class LaunchConfigurationInfo {
 			setAttributeTable(new TreeMap<>());
 			return;
 		}
+		if (map instanceof AttributeMap) {
+			fAttributes = ((AttributeMap) map).share();
+			fAttributesShared = true;
+			return;
+		}
 		setAttributeTable(new TreeMap<>(map));
 	}
 
@@ -380,14 +424,16 @@ public class LaunchConfigurationInfo {
 	}
 
 	/**
-	 * Returns a copy of this info object
+	 * Returns a copy of this info object. The copy shares the attribute table
+	 * with this info until either of them is modified.
 	 *
 	 * @return copy of this info
 	 */
 	protected LaunchConfigurationInfo getCopy() {
 		LaunchConfigurationInfo copy = new LaunchConfigurationInfo();
 		copy.setType(getType());
-		copy.setAttributeTable(getAttributes());
+		copy.fAttributes = shareAttributeTable();
+		copy.fAttributesShared = true;
 		copy.setIsPrototype(isPrototype());
 		copy.setPrototype(getPrototype());
 		copy.setVisibleAttributes(getVisibleAttributes());
@@ -395,12 +441,13 @@ public class LaunchConfigurationInfo {
 	}
 
 	/**
-	 * Returns a copy of this info's attribute map.
+	 * Returns a copy of this info's attribute map. The map shares the
+	 * attribute table with this info until either of them is modified.
 	 *
 	 * @return a copy of this info's attribute map
 	 */
-	protected TreeMap<String, Object> getAttributes() {
-		return new TreeMap<>(getAttributeTable());
+	protected Map<String, Object> getAttributes() {
+		return new AttributeMap(shareAttributeTable());
 	}
 
 	/**
@@ -414,10 +461,12 @@ public class LaunchConfigurationInfo {
 	 */
 	protected void setAttribute(String key, Object value) {
 		if (value == null) {
-			getAttributeTable().remove(key);
+			if (getAttributeTable().containsKey(key)) {
+				getWritableAttributeTable().remove(key);
+			}
 			setAttributeVisibility(key, false);
 		} else {
-			Object attribute = getAttributeTable().put(key, value);
+			Object attribute = getWritableAttributeTable().put(key, value);
 			// If attribute is new in the table and the configuration is a
 			// prototype, then add it to the visible attributes
 			if (attribute == null && fIsPrototype) {
@@ -427,34 +476,34 @@ public class LaunchConfigurationInfo {
 	}
 
 	/**
-	 * Returns the content of this info as XML
+	 * Returns the content of this info as XML. The XML is written directly
+	 * without building a DOM, the result is identical to serializing the
+	 * equivalent document with {@link LaunchManager#serializeDocument(org.w3c.dom.Document)}.
 	 *
 	 * @return the content of this info as XML
 	 * @throws CoreException
-	 *             if a attribute has been set with a null key
+	 *             if a attribute has been set with a null key or an
+	 *             unsupported value
 	 * @throws IOException
 	 *             if an exception occurs creating the XML
-	 * @throws ParserConfigurationException
-	 *             if an exception occurs creating the XML
-	 * @throws TransformerException
-	 *             if an exception occurs creating the XML
 	 */
 	@SuppressWarnings("unchecked")
-	protected String getAsXML() throws CoreException, IOException, ParserConfigurationException, TransformerException {
-		Document doc = LaunchManager.getDocument();
-		Element configRootElement = doc.createElement(LAUNCH_CONFIGURATION);
-		doc.appendChild(configRootElement);
-
-		configRootElement.setAttribute(TYPE, getType().getIdentifier());
+	protected String getAsXML() throws CoreException, IOException {
+		LaunchConfigurationXMLWriter writer = new LaunchConfigurationXMLWriter();
+		writer.startElement(LAUNCH_CONFIGURATION);
 
+		// attributes are written in alphabetical order
 		ILaunchConfiguration prototype = getPrototype();
 		if (prototype != null) {
-			configRootElement.setAttribute(PROTOTYPE, prototype.getName());
-		} else if (isPrototype()) {
-			configRootElement.setAttribute(VISIBLE_ATTRIBUTES, getVisibleAttributes().stream().collect(Collectors.joining(", "))); //$NON-NLS-1$
+			writer.attribute(PROTOTYPE, prototype.getName());
+		}
+		writer.attribute(TYPE, getType().getIdentifier());
+		if (prototype == null && isPrototype()) {
+			writer.attribute(VISIBLE_ATTRIBUTES, getVisibleAttributes().stream().collect(Collectors.joining(", "))); //$NON-NLS-1$
 		}
 
-		for (String key : getAttributeTable().keySet()) {
+		for (Entry<String, Object> entry : getAttributeTable().entrySet()) {
+			String key = entry.getKey();
 			if (key == null) {
 				throw new DebugException(
 					new Status(
@@ -463,122 +512,112 @@ public class LaunchConfigurationInfo {
 					)
 				);
 			}
-			Object value = getAttributeTable().get(key);
+			Object value = entry.getValue();
 			if (value == null) {
 				continue;
 			}
-			Element element = null;
-			String valueString = null;
 			if (value instanceof String) {
-				valueString = (String)value;
-				element = createKeyValueElement(doc, STRING_ATTRIBUTE, key, valueString);
+				writeKeyValueElement(writer, STRING_ATTRIBUTE, key, (String) value);
 			} else if (value instanceof Integer) {
-				valueString = ((Integer)value).toString();
-				element = createKeyValueElement(doc, INT_ATTRIBUTE, key, valueString);
+				writeKeyValueElement(writer, INT_ATTRIBUTE, key, ((Integer) value).toString());
 			} else if (value instanceof Boolean) {
-				valueString = ((Boolean)value).toString();
-				element = createKeyValueElement(doc, BOOLEAN_ATTRIBUTE, key, valueString);
+				writeKeyValueElement(writer, BOOLEAN_ATTRIBUTE, key, ((Boolean) value).toString());
 			} else if (value instanceof List) {
-				element = createListElement(doc, LIST_ATTRIBUTE, key, (List<String>) value);
+				writeListElement(writer, LIST_ATTRIBUTE, key, (List<String>) value);
 			} else if (value instanceof Map) {
-				element = createMapElement(doc, MAP_ATTRIBUTE, key, (Map<String, String>) value);
-			} else if(value instanceof Set) {
-				element = createSetElement(doc, SET_ATTRIBUTE, key, (Set<String>) value);
+				writeMapElement(writer, MAP_ATTRIBUTE, key, (Map<String, String>) value);
+			} else if (value instanceof Set) {
+				writeSetElement(writer, SET_ATTRIBUTE, key, (Set<String>) value);
+			} else {
+				throw getInvalidFormatDebugException();
 			}
-			configRootElement.appendChild(element);
 		}
-		return LaunchManager.serializeDocument(doc);
+		writer.endElement(LAUNCH_CONFIGURATION);
+		return writer.getContents();
 	}
 
 	/**
-	 * Helper method that creates a 'key value' element of the specified type
+	 * Helper method that writes a 'key value' element of the specified type
 	 * with the specified attribute values.
-	 * @param doc the {@link Document}
-	 * @param elementType the {@link Element} type to create
-	 * @param key the {@link Element} key
-	 * @param value the {@link Element} value
-	 * @return the new {@link Element}
-	 */
-	protected Element createKeyValueElement(Document doc, String elementType, String key, String value) {
-		Element element = doc.createElement(elementType);
-		element.setAttribute(KEY, key);
-		element.setAttribute(VALUE, value);
-		return element;
+	 *
+	 * @param writer the writer
+	 * @param elementType the type of the element
+	 * @param key the element key
+	 * @param value the element value
+	 * @throws IOException if the value cannot be written
+	 */
+	private void writeKeyValueElement(LaunchConfigurationXMLWriter writer, String elementType, String key, String value) throws IOException {
+		writer.startElement(elementType);
+		writer.attribute(KEY, key);
+		writer.attribute(VALUE, value);
+		writer.endElement(elementType);
 	}
 
 	/**
-	 * Creates a new <code>Element</code> for the specified
-	 * <code>java.util.List</code>
+	 * Writes an element for the specified <code>java.util.List</code>
 	 *
-	 * @param doc the doc to add the element to
+	 * @param writer the writer
 	 * @param elementType the type of the element
 	 * @param listKey the key for the element
 	 * @param list the list to fill the new element with
-	 * @return the new element
+	 * @throws IOException if a value cannot be written
 	 */
-	protected Element createListElement(Document doc, String elementType, String listKey, List<String> list) {
-		Element listElement = doc.createElement(elementType);
-		listElement.setAttribute(KEY, listKey);
+	private void writeListElement(LaunchConfigurationXMLWriter writer, String elementType, String listKey, List<String> list) throws IOException {
+		writer.startElement(elementType);
+		writer.attribute(KEY, listKey);
 		for (String value : list) {
-			Element element = doc.createElement(LIST_ENTRY);
-			element.setAttribute(VALUE, value);
-			listElement.appendChild(element);
+			writer.startElement(LIST_ENTRY);
+			writer.attribute(VALUE, value);
+			writer.endElement(LIST_ENTRY);
 		}
-		return listElement;
+		writer.endElement(elementType);
 	}
 
 	/**
-	 * Creates a new <code>Element</code> for the specified
-	 * <code>java.util.Set</code>
+	 * Writes an element for the specified <code>java.util.Set</code>
 	 *
-	 * @param doc the doc to add the element to
+	 * @param writer the writer
 	 * @param elementType the type of the element
 	 * @param setKey the key for the element
 	 * @param set the set to fill the new element with
-	 * @return the new element
-	 *
-	 * @since 3.3
+	 * @throws IOException if a value cannot be written
 	 */
-	protected Element createSetElement(Document doc, String elementType, String setKey, Set<String> set) {
-		Element setElement = doc.createElement(elementType);
-		setElement.setAttribute(KEY, setKey);
+	private void writeSetElement(LaunchConfigurationXMLWriter writer, String elementType, String setKey, Set<String> set) throws IOException {
+		writer.startElement(elementType);
+		writer.attribute(KEY, setKey);
 		// persist in sorted order
 		List<String> list = new ArrayList<>(set);
 		Collections.sort(list);
-		Element element = null;
 		for (String str : list) {
-			element = doc.createElement(SET_ENTRY);
-			element.setAttribute(VALUE, str);
-			setElement.appendChild(element);
+			writer.startElement(SET_ENTRY);
+			writer.attribute(VALUE, str);
+			writer.endElement(SET_ENTRY);
 		}
-		return setElement;
+		writer.endElement(elementType);
 	}
 
 	/**
-	 * Creates a new <code>Element</code> for the specified
-	 * <code>java.util.Map</code>
+	 * Writes an element for the specified <code>java.util.Map</code>
 	 *
-	 * @param doc the doc to add the element to
+	 * @param writer the writer
 	 * @param elementType the type of the element
 	 * @param mapKey the key for the element
 	 * @param map the map to fill the new element with
-	 * @return the new element
-	 *
+	 * @throws IOException if a value cannot be written
 	 */
-	protected Element createMapElement(Document doc, String elementType, String mapKey, Map<String, String> map) {
-		Element mapElement = doc.createElement(elementType);
-		mapElement.setAttribute(KEY, mapKey);
+	private void writeMapElement(LaunchConfigurationXMLWriter writer, String elementType, String mapKey, Map<String, String> map) throws IOException {
+		writer.startElement(elementType);
+		writer.attribute(KEY, mapKey);
 		// persist in sorted order based on keys
 		List<String> keys = new ArrayList<>(map.keySet());
 		Collections.sort(keys);
 		for (String key : keys) {
-			String value = map.get(key);
-			Element element = doc.createElement(MAP_ENTRY);
-			element.setAttribute(KEY, key);
-			element.setAttribute(VALUE, value);
-			mapElement.appendChild(element);
+			writer.startElement(MAP_ENTRY);
+			writer.attribute(KEY, key);
+			writer.attribute(VALUE, map.get(key));
+			writer.endElement(MAP_ENTRY);
 		}
-		return mapElement;
+		writer.endElement(elementType);
 	}
 
 	/**
@@ -600,6 +639,43 @@ public class LaunchConfigurationInfo {
 	 * @since 3.12
 	 */
 	protected void initializeFromXML(Element root, boolean isPrototype) throws CoreException {
+		setType(getLaunchConfigurationType(getTypeIdentifier(root)));
+		initializeAttributesFromXML(root);
+		initializePrototype(isPrototype, root.getAttribute(VISIBLE_ATTRIBUTES), root.getAttribute(PROTOTYPE));
+	}
+
+	/**
+	 * Initializes this info from attributes read by
+	 * {@link #initializeAttributesFromXML(Element)} earlier.
+	 *
+	 * @param typeId the identifier of the launch configuration type
+	 * @param attributes the attributes of the configuration
+	 * @param isPrototype if the configuration is a prototype
+	 * @param visibleAttributes the value of the visible attributes XML
+	 *            attribute or <code>null</code>
+	 * @param prototype the value of the prototype XML attribute or
+	 *            <code>null</code>
+	 * @throws CoreException if the type does not exist
+	 *
+	 * @since 3.20
+	 */
+	protected void initializeFromAttributes(String typeId, Map<String, Object> attributes, boolean isPrototype, String visibleAttributes, String prototype) throws CoreException {
+		setType(getLaunchConfigurationType(typeId));
+		setAttributes(attributes);
+		initializePrototype(isPrototype, visibleAttributes, prototype);
+	}
+
+	/**
+	 * Returns the launch configuration type identifier of the given XML
+	 * root node.
+	 *
+	 * @param root the root node from the XML document
+	 * @return the type identifier
+	 * @throws CoreException if the root node is not a launch configuration
+	 *
+	 * @since 3.20
+	 */
+	protected String getTypeIdentifier(Element root) throws CoreException {
 		if (!root.getNodeName().equalsIgnoreCase(LAUNCH_CONFIGURATION)) {
 			throw getInvalidFormatDebugException();
 		}
@@ -609,7 +685,19 @@ public class LaunchConfigurationInfo {
 		if (id == null) {
 			throw getInvalidFormatDebugException();
 		}
+		return id;
+	}
 
+	private static LaunchManager getLaunchManager() {
+		LaunchManager manager = fgLaunchManager;
+		if (manager == null) {
+			manager = (LaunchManager) DebugPlugin.getDefault().getLaunchManager();
+			fgLaunchManager = manager;
+		}
+		return manager;
+	}
+
+	private ILaunchConfigurationType getLaunchConfigurationType(String id) throws CoreException {
 		ILaunchConfigurationType type = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurationType(id);
 		if (type == null) {
 			String message = MessageFormat.format(DebugCoreMessages.LaunchConfigurationInfo_missing_type, id);
@@ -619,8 +707,21 @@ public class LaunchConfigurationInfo {
 					 DebugException.MISSING_LAUNCH_CONFIGURATION_TYPE, message, null)
 				);
 		}
-		setType(type);
+		return type;
+	}
 
+	/**
+	 * Loads the attributes from the children of the given XML root node into
+	 * the local attribute mapping. Neither the type nor the prototype of the
+	 * configuration are resolved, so this method does not access the launch
+	 * manager.
+	 *
+	 * @param root the root node from the XML document
+	 * @throws CoreException if an attribute has an invalid format
+	 *
+	 * @since 3.20
+	 */
+	protected void initializeAttributesFromXML(Element root) throws CoreException {
 		NodeList list = root.getChildNodes();
 		Node node = null;
 		Element element = null;
@@ -646,17 +747,154 @@ public class LaunchConfigurationInfo {
 				}
 			}
 		}
+	}
+
+	/**
+	 * Streaming counterpart of {@link #getTypeIdentifier(Element)} and
+	 * {@link #initializeAttributesFromXML(Element)}. Loads the attributes read
+	 * from the given reader into the local attribute mapping without building
+	 * a DOM. Neither the type nor the prototype of the configuration are
+	 * resolved, so this method does not access the launch manager.
+	 *
+	 * @param reader a reader positioned before the root element
+	 * @return the attributes of the root element keyed by name
+	 * @throws CoreException if the XML is not a valid launch configuration
+	 * @throws XMLStreamException if the XML is malformed
+	 *
+	 * @since 3.20
+	 */
+	protected Map<String, String> initializeAttributesFromStream(XMLStreamReader reader) throws CoreException, XMLStreamException {
+		while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+			if (reader.getEventType() == XMLStreamConstants.END_DOCUMENT) {
+				throw getInvalidFormatDebugException();
+			}
+		}
+		if (!getElementName(reader).equalsIgnoreCase(LAUNCH_CONFIGURATION)) {
+			throw getInvalidFormatDebugException();
+		}
+		Map<String, String> rootAttributes = new HashMap<>();
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			rootAttributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+		}
+		int event;
+		while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				readAttributeElement(reader);
+			}
+		}
+		return rootAttributes;
+	}
+
+	/**
+	 * Reads the attribute element the given reader is positioned at and
+	 * leaves the reader at its end.
+	 */
+	private void readAttributeElement(XMLStreamReader reader) throws CoreException, XMLStreamException {
+		String nodeName = getElementName(reader);
+		if (nodeName.equalsIgnoreCase(STRING_ATTRIBUTE)) {
+			setAttribute(getAttributeValue(reader, KEY), getAttributeValue(reader, VALUE));
+		} else if (nodeName.equalsIgnoreCase(INT_ATTRIBUTE)) {
+			setAttribute(getAttributeValue(reader, KEY), Integer.valueOf(getAttributeValue(reader, VALUE)));
+		} else if (nodeName.equalsIgnoreCase(BOOLEAN_ATTRIBUTE)) {
+			setAttribute(getAttributeValue(reader, KEY), Boolean.valueOf(getAttributeValue(reader, VALUE)));
+		} else if (nodeName.equalsIgnoreCase(LIST_ATTRIBUTE)) {
+			String listKey = getAttributeValue(reader, KEY);
+			List<String> list = new ArrayList<>();
+			while (nextEntry(reader, LIST_ENTRY)) {
+				list.add(getAttributeValue(reader, VALUE));
+				skipElement(reader);
+			}
+			setAttribute(listKey, list);
+			return;
+		} else if (nodeName.equalsIgnoreCase(MAP_ATTRIBUTE)) {
+			String mapKey = getAttributeValue(reader, KEY);
+			Map<String, String> map = new HashMap<>();
+			while (nextEntry(reader, MAP_ENTRY)) {
+				map.put(getAttributeValue(reader, KEY), getAttributeValue(reader, VALUE));
+				skipElement(reader);
+			}
+			setAttribute(mapKey, map);
+			return;
+		} else if (nodeName.equalsIgnoreCase(SET_ATTRIBUTE)) {
+			String setKey = getAttributeValue(reader, KEY);
+			Set<String> set = new HashSet<>();
+			while (nextEntry(reader, SET_ENTRY)) {
+				set.add(getAttributeValue(reader, VALUE));
+				skipElement(reader);
+			}
+			setAttribute(setKey, set);
+			return;
+		}
+		skipElement(reader);
+	}
+
+	/**
+	 * Advances the reader to the next child element of the current element.
+	 *
+	 * @return <code>true</code> if the reader is positioned at a child element
+	 *         with the given name, <code>false</code> if the end of the
+	 *         current element was reached
+	 * @throws CoreException if the child element has another name
+	 */
+	private boolean nextEntry(XMLStreamReader reader, String entryName) throws CoreException, XMLStreamException {
+		int event;
+		while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				if (!getElementName(reader).equalsIgnoreCase(entryName)) {
+					throw getInvalidFormatDebugException();
+				}
+				return true;
+			}
+		}
+		return false;
+	}
 
+	/**
+	 * Advances the reader to the end of the current element.
+	 */
+	private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	/**
+	 * Returns the qualified name of the current element, like
+	 * {@link Element#getNodeName()}.
+	 */
+	private static String getElementName(XMLStreamReader reader) {
+		String prefix = reader.getPrefix();
+		if (prefix == null || prefix.isEmpty()) {
+			return reader.getLocalName();
+		}
+		return prefix + ':' + reader.getLocalName();
+	}
+
+	/**
+	 * Returns the value of an attribute of the current element or an empty
+	 * string if the attribute is not present, like
+	 * {@link Element#getAttribute(String)}.
+	 */
+	private static String getAttributeValue(XMLStreamReader reader, String name) {
+		String value = reader.getAttributeValue(null, name);
+		return value == null ? IInternalDebugCoreConstants.EMPTY_STRING : value;
+	}
+
+	private void initializePrototype(boolean isPrototype, String visibleAttributes, String prototype) throws CoreException {
 		if (isPrototype) {
 			setIsPrototype(true);
-			String visibleAttributes = root.getAttribute(VISIBLE_ATTRIBUTES);
 			if (visibleAttributes != null && visibleAttributes.length() > 0) {
 				String[] split = visibleAttributes.split(", "); //$NON-NLS-1$
 				setVisibleAttributes(new HashSet<>(Arrays.asList(split)));
 			}
 		} else {
 			setIsPrototype(false);
-			String prototype = root.getAttribute(PROTOTYPE);
 			if (prototype != null && prototype.length() > 0) {
 				ILaunchConfiguration[] launchConfigurations = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurations(ILaunchConfiguration.PROTOTYPE);
 				for (ILaunchConfiguration iLaunchConfiguration : launchConfigurations) {
@@ -849,8 +1087,12 @@ public class LaunchConfigurationInfo {
 			return false;
 		}
 
-		// Make sure the attributes are the same
-		return compareAttributes(fAttributes, other.getAttributeTable());
+		// Make sure the attributes are the same, a shared table is equal
+		TreeMap<String, Object> attributes = other.getAttributeTable();
+		if (fAttributes == attributes) {
+			return true;
+		}
+		return compareAttributes(fAttributes, attributes);
 	}
 
 	/**
@@ -891,7 +1133,7 @@ public class LaunchConfigurationInfo {
 		if (attr2 == null) {
 			return false;
 		}
-		Comparator<Object> comp = fgLaunchManager.getComparator(key);
+		Comparator<Object> comp = getLaunchManager().getComparator(key);
 		if (comp == null) {
 			String strAttr1 = null;
 			String strAttr2 = null;
@@ -948,8 +1190,8 @@ public class LaunchConfigurationInfo {
 	 * @since 3.4.0
 	 */
 	protected Object removeAttribute(String attributeName) {
-		if(attributeName != null) {
-			return fAttributes.remove(attributeName);
+		if (attributeName != null && fAttributes.containsKey(attributeName)) {
+			return getWritableAttributeTable().remove(attributeName);
 		}
 		return null;
 	}
@@ -1037,5 +1279,127 @@ public class LaunchConfigurationInfo {
 			}
 		}
 	}
-}
 
+	/**
+	 * Attribute map returned to clients. The map shares an attribute table
+	 * with its info and copies it on the first modification, so modifying the
+	 * map does not affect the info and vice versa.
+	 */
+	private static final class AttributeMap extends AbstractMap<String, Object> {
+
+		private TreeMap<String, Object> fTable;
+
+		/**
+		 * Whether the table is shared and must be copied before it is modified
+		 */
+		private boolean fShared = true;
+
+		AttributeMap(TreeMap<String, Object> table) {
+			fTable = table;
+		}
+
+		/**
+		 * Returns this map's table to be shared with an info.
+		 *
+		 * @return shared attribute table
+		 */
+		TreeMap<String, Object> share() {
+			fShared = true;
+			return fTable;
+		}
+
+		private TreeMap<String, Object> getWritableTable() {
+			if (fShared) {
+				fTable = new TreeMap<>(fTable);
+				fShared = false;
+			}
+			return fTable;
+		}
+
+		@Override
+		public int size() {
+			return fTable.size();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return fTable.containsKey(key);
+		}
+
+		@Override
+		public Object get(Object key) {
+			return fTable.get(key);
+		}
+
+		@Override
+		public Object put(String key, Object value) {
+			return getWritableTable().put(key, value);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			if (fTable.containsKey(key)) {
+				return getWritableTable().remove(key);
+			}
+			return null;
+		}
+
+		@Override
+		public void clear() {
+			fTable = new TreeMap<>();
+			fShared = false;
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return new AbstractSet<Entry<String, Object>>() {
+				@Override
+				public int size() {
+					return fTable.size();
+				}
+
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					if (!fShared) {
+						return fTable.entrySet().iterator();
+					}
+					// iterate the shared table, which is never modified, and
+					// apply modifications to this map
+					Iterator<Entry<String, Object>> entries = fTable.entrySet().iterator();
+					return new Iterator<Entry<String, Object>>() {
+						private String fLastKey;
+
+						@Override
+						public boolean hasNext() {
+							return entries.hasNext();
+						}
+
+						@Override
+						public Entry<String, Object> next() {
+							Entry<String, Object> entry = entries.next();
+							fLastKey = entry.getKey();
+							return new SimpleEntry<String, Object>(entry) {
+								private static final long serialVersionUID = 1L;
+
+								@Override
+								public Object setValue(Object value) {
+									super.setValue(value);
+									return AttributeMap.this.put(getKey(), value);
+								}
+							};
+						}
+
+						@Override
+						public void remove() {
+							if (fLastKey == null) {
+								throw new IllegalStateException();
+							}
+							AttributeMap.this.remove(fLastKey);
+							fLastKey = null;
+						}
+					};
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,512 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.core.filesystem.EFS;
+import org.eclipse.core.filesystem.IFileStore;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.IPreferencesService;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+/**
+ * Cache of the attributes read from launch configuration files, keyed by the
+ * location of the file and validated against a digest of its contents. The
+ * modification stamp of a file is not reliable, a file can be changed without
+ * changing its size within the resolution of the stamp.
+ * <p>
+ * Reading attributes does not access the launch manager, which allows
+ * {@link #prefetch(Collection)} to parse many files in parallel while the
+ * launch manager is initializing. If
+ * {@link IInternalDebugCoreConstants#PREF_LAUNCH_CONFIGURATION_CACHE} is
+ * enabled the cache is persisted in the state location of the debug core
+ * plug-in, so configurations which did not change since the last session are
+ * not parsed again. Otherwise entries are discarded once they were used to
+ * create a {@link LaunchConfigurationInfo}.
+ * </p>
+ * <p>
+ * A persisted cache which cannot be read, because it is truncated or corrupt,
+ * is discarded as a whole.
+ * </p>
+ */
+public class LaunchConfigurationInfoCache {
+
+	/**
+	 * Version of the persisted format.
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * Algorithm of the digest of the configuration files.
+	 */
+	private static final String DIGEST_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+	/**
+	 * Name of the file the cache is persisted to.
+	 */
+	private static final String CACHE_FILE = ".launchConfigurationCache"; //$NON-NLS-1$
+
+	private static final byte STRING = 0;
+	private static final byte INTEGER = 1;
+	private static final byte BOOLEAN = 2;
+	private static final byte LIST = 3;
+	private static final byte SET = 4;
+	private static final byte MAP = 5;
+
+	/**
+	 * Factories are not guaranteed to be thread safe, keep one per thread.
+	 */
+	private static final ThreadLocal<XMLInputFactory> fgInputFactory = ThreadLocal.withInitial(XMLInputFactory::newInstance);
+
+	private static final ThreadLocal<MessageDigest> fgDigest = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	});
+
+	/**
+	 * The attributes read from a launch configuration file.
+	 */
+	public static class CacheEntry {
+		final byte[] fDigest;
+		final String fTypeId;
+		final String fVisibleAttributes;
+		final String fPrototype;
+		final Map<String, Object> fAttributes;
+
+		/**
+		 * Whether this entry was accessed in the current session. Entries
+		 * which were only restored from disk are not persisted again.
+		 */
+		volatile boolean fUsed;
+
+		CacheEntry(byte[] digest, String typeId, String visibleAttributes, String prototype, Map<String, Object> attributes) {
+			fDigest = digest;
+			fTypeId = typeId;
+			fVisibleAttributes = visibleAttributes;
+			fPrototype = prototype;
+			fAttributes = attributes;
+		}
+
+		/**
+		 * Creates a new info from this entry. Resolves the type and the
+		 * prototype of the configuration.
+		 *
+		 * @param isPrototype whether the configuration is a prototype
+		 * @return a new info
+		 * @throws CoreException if the type of the configuration does not exist
+		 */
+		LaunchConfigurationInfo createInfo(boolean isPrototype) throws CoreException {
+			LaunchConfigurationInfo info = new LaunchConfigurationInfo();
+			info.initializeFromAttributes(fTypeId, fAttributes, isPrototype, fVisibleAttributes, fPrototype);
+			return info;
+		}
+
+		/**
+		 * @return the attributes read from the configuration file
+		 */
+		public Map<String, Object> getAttributes() {
+			return fAttributes;
+		}
+	}
+
+	private final Map<String, CacheEntry> fEntries = new ConcurrentHashMap<>();
+
+	/**
+	 * File the cache is persisted to or <code>null</code> if persistence is
+	 * disabled.
+	 */
+	private final File fFile;
+
+	private volatile boolean fLoaded;
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param file the file the cache is persisted to or <code>null</code> to
+	 *            keep entries in memory only
+	 */
+	public LaunchConfigurationInfoCache(File file) {
+		fFile = file;
+	}
+
+	/**
+	 * Creates a cache which is persisted if
+	 * {@link IInternalDebugCoreConstants#PREF_LAUNCH_CONFIGURATION_CACHE} is
+	 * enabled.
+	 *
+	 * @return a new cache
+	 */
+	static LaunchConfigurationInfoCache create() {
+		File file = null;
+		if (isEnabled()) {
+			file = DebugPlugin.getDefault().getStateLocation().append(CACHE_FILE).toFile();
+		}
+		return new LaunchConfigurationInfoCache(file);
+	}
+
+	/**
+	 * Returns whether launch configuration attributes should be persisted
+	 * between sessions and loaded in the background on startup.
+	 *
+	 * @return <code>true</code> if the persistent cache is enabled
+	 */
+	static boolean isEnabled() {
+		IPreferencesService service = Platform.getPreferencesService();
+		if (service == null) {
+			return false;
+		}
+		return service.getBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_LAUNCH_CONFIGURATION_CACHE, false, null);
+	}
+
+	/**
+	 * Returns the attributes of the launch configuration stored in the given
+	 * file, reading the file if there is no up to date entry.
+	 *
+	 * @param store the launch configuration file
+	 * @return the attributes of the file
+	 * @throws CoreException if the file is not a valid launch configuration
+	 * @throws IOException if the file cannot be read
+	 * @throws XMLStreamException if the file contains malformed XML
+	 */
+	public CacheEntry getEntry(IFileStore store) throws CoreException, IOException, XMLStreamException {
+		load();
+		String key = store.toURI().toString();
+		byte[] contents = readContents(store);
+		byte[] digest = fgDigest.get().digest(contents);
+		CacheEntry entry = fFile == null ? fEntries.remove(key) : fEntries.get(key);
+		if (entry == null || !Arrays.equals(entry.fDigest, digest)) {
+			entry = parse(contents, digest);
+			if (fFile != null) {
+				fEntries.put(key, entry);
+			}
+		}
+		entry.fUsed = true;
+		return entry;
+	}
+
+	/**
+	 * Reads the files of the given launch configurations in parallel. Does
+	 * not access the launch manager, so it is safe to call while holding its
+	 * lock.
+	 *
+	 * @param configs the configurations to read
+	 */
+	public void prefetch(Collection<ILaunchConfiguration> configs) {
+		load();
+		configs.parallelStream().forEach(config -> {
+			try {
+				IFileStore store = ((LaunchConfiguration) config).getFileStore();
+				if (store == null) {
+					return;
+				}
+				if (!store.fetchInfo().exists()) {
+					return;
+				}
+				String key = store.toURI().toString();
+				byte[] contents = readContents(store);
+				byte[] digest = fgDigest.get().digest(contents);
+				CacheEntry entry = fEntries.get(key);
+				if (entry == null || !Arrays.equals(entry.fDigest, digest)) {
+					fEntries.put(key, parse(contents, digest));
+				}
+			} catch (CoreException | IOException | XMLStreamException e) {
+				// reported when the configuration is accessed
+			}
+		});
+	}
+
+	/**
+	 * Removes the entry of the given configuration, called when the
+	 * configuration was changed or deleted.
+	 *
+	 * @param config the configuration
+	 */
+	void remove(ILaunchConfiguration config) {
+		try {
+			IFileStore store = ((LaunchConfiguration) config).getFileStore();
+			if (store != null) {
+				fEntries.remove(store.toURI().toString());
+			}
+		} catch (CoreException e) {
+			// no entry for a configuration without a store
+		}
+	}
+
+	private static byte[] readContents(IFileStore store) throws CoreException, IOException {
+		try (InputStream stream = store.openInputStream(EFS.NONE, null)) {
+			return stream.readAllBytes();
+		}
+	}
+
+	/**
+	 * Parses the contents of a launch configuration file.
+	 *
+	 * @param contents the contents of the file
+	 * @param digest the digest of the contents
+	 * @return the attributes of the file
+	 * @throws CoreException if the file is not a valid launch configuration
+	 * @throws XMLStreamException if the file contains malformed XML
+	 */
+	protected CacheEntry parse(byte[] contents, byte[] digest) throws CoreException, XMLStreamException {
+		XMLStreamReader reader = fgInputFactory.get().createXMLStreamReader(new ByteArrayInputStream(contents));
+		try {
+			LaunchConfigurationInfo info = new LaunchConfigurationInfo();
+			Map<String, String> root = info.initializeAttributesFromStream(reader);
+			return new CacheEntry(digest, getAttribute(root, LaunchConfigurationInfo.TYPE), getAttribute(root, LaunchConfigurationInfo.VISIBLE_ATTRIBUTES), getAttribute(root, LaunchConfigurationInfo.PROTOTYPE), info.getAttributes());
+		} finally {
+			reader.close();
+		}
+	}
+
+	private static String getAttribute(Map<String, String> attributes, String name) {
+		return attributes.getOrDefault(name, IInternalDebugCoreConstants.EMPTY_STRING);
+	}
+
+	/**
+	 * Restores the entries persisted in the last session.
+	 */
+	private void load() {
+		if (fLoaded) {
+			return;
+		}
+		synchronized (this) {
+			if (fLoaded) {
+				return;
+			}
+			if (fFile != null && fFile.isFile()) {
+				Map<String, CacheEntry> entries = new HashMap<>();
+				try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)))) {
+					if (in.readInt() == VERSION) {
+						int count = readSize(in);
+						for (int i = 0; i < count; i++) {
+							String key = readString(in);
+							byte[] digest = readBytes(in);
+							String typeId = readString(in);
+							String visibleAttributes = readNullableString(in);
+							String prototype = readNullableString(in);
+							TreeMap<String, Object> attributes = new TreeMap<>();
+							int attributeCount = readSize(in);
+							for (int j = 0; j < attributeCount; j++) {
+								String name = readString(in);
+								attributes.put(name, readValue(in));
+							}
+							entries.put(key, new CacheEntry(digest, typeId, visibleAttributes, prototype, attributes));
+						}
+						if (in.read() != -1) {
+							throw new IOException("Unexpected data after the last entry"); //$NON-NLS-1$
+						}
+					}
+					entries.forEach(fEntries::putIfAbsent);
+				} catch (IOException e) {
+					// truncated or corrupt, the cache is written again on shutdown
+				}
+			}
+			fLoaded = true;
+		}
+	}
+
+	/**
+	 * Persists the entries used in this session if persistence is enabled.
+	 */
+	public synchronized void save() {
+		if (fFile == null) {
+			return;
+		}
+		List<Entry<String, CacheEntry>> entries = new ArrayList<>();
+		for (Entry<String, CacheEntry> entry : fEntries.entrySet()) {
+			if (entry.getValue().fUsed && isPersistable(entry.getValue())) {
+				entries.add(entry);
+			}
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fFile)))) {
+			out.writeInt(VERSION);
+			out.writeInt(entries.size());
+			for (Entry<String, CacheEntry> e : entries) {
+				CacheEntry entry = e.getValue();
+				writeString(out, e.getKey());
+				writeBytes(out, entry.fDigest);
+				writeString(out, entry.fTypeId);
+				writeNullableString(out, entry.fVisibleAttributes);
+				writeNullableString(out, entry.fPrototype);
+				out.writeInt(entry.fAttributes.size());
+				for (Entry<String, Object> attribute : entry.fAttributes.entrySet()) {
+					writeString(out, attribute.getKey());
+					writeValue(out, attribute.getValue());
+				}
+			}
+		} catch (IOException e) {
+			DebugPlugin.log(e);
+			if (!fFile.delete()) {
+				fFile.deleteOnExit();
+			}
+		}
+	}
+
+	private static boolean isPersistable(CacheEntry entry) {
+		for (Object value : entry.fAttributes.values()) {
+			if (!(value instanceof String || value instanceof Integer || value instanceof Boolean || value instanceof List || value instanceof Set || value instanceof Map)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		if (value instanceof String) {
+			out.writeByte(STRING);
+			writeString(out, (String) value);
+		} else if (value instanceof Integer) {
+			out.writeByte(INTEGER);
+			out.writeInt((Integer) value);
+		} else if (value instanceof Boolean) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		} else if (value instanceof Map) {
+			out.writeByte(MAP);
+			Map<String, String> map = (Map<String, String>) value;
+			out.writeInt(map.size());
+			for (Entry<String, String> entry : map.entrySet()) {
+				writeString(out, entry.getKey());
+				writeString(out, entry.getValue());
+			}
+		} else {
+			out.writeByte(value instanceof Set ? SET : LIST);
+			Collection<String> collection = (Collection<String>) value;
+			out.writeInt(collection.size());
+			for (String element : collection) {
+				writeString(out, element);
+			}
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		byte type = in.readByte();
+		switch (type) {
+			case STRING:
+				return readString(in);
+			case INTEGER:
+				return Integer.valueOf(in.readInt());
+			case BOOLEAN:
+				return Boolean.valueOf(in.readBoolean());
+			case LIST: {
+				int size = readSize(in);
+				List<String> list = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) {
+					list.add(readString(in));
+				}
+				return list;
+			}
+			case SET: {
+				int size = readSize(in);
+				Set<String> set = new HashSet<>(size);
+				for (int i = 0; i < size; i++) {
+					set.add(readString(in));
+				}
+				return set;
+			}
+			case MAP: {
+				int size = readSize(in);
+				Map<String, String> map = new HashMap<>(size);
+				for (int i = 0; i < size; i++) {
+					map.put(readString(in), readString(in));
+				}
+				return map;
+			}
+			default:
+				throw new IOException("Invalid attribute type " + type); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Writes a string of arbitrary length, {@link DataOutputStream#writeUTF}
+	 * is limited to 64 KB.
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return new String(readBytes(in), StandardCharsets.UTF_8);
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static byte[] readBytes(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readSize(in)];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Reads a length or element count. Every byte or element takes at least
+	 * one byte of the remaining input, so a corrupt size is detected before
+	 * anything is allocated for it.
+	 */
+	private static int readSize(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		if (size < 0 || size > in.available()) {
+			throw new IOException("Invalid size " + size); //$NON-NLS-1$
+		}
+		return size;
+	}
+
+	private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			writeString(out, value);
+		}
+	}
+
+	private static String readNullableString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? readString(in) : null;
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.io.IOException;
+
+/**
+ * Writes launch configuration XML directly to a buffer without building a
+ * DOM.
+ * <p>
+ * The output is identical to serializing the equivalent document with
+ * {@link LaunchManager#serializeDocument(org.w3c.dom.Document)}: nested
+ * elements are indented by four spaces, elements without children are
+ * written as empty elements and attribute values are escaped the same way.
+ * Callers must write the attributes of an element in alphabetical order, as
+ * the DOM does.
+ * </p>
+ */
+final class LaunchConfigurationXMLWriter {
+
+	private static final String INDENT = "    "; //$NON-NLS-1$
+
+	private final StringBuilder fBuffer = new StringBuilder(1024);
+	private final String fLineSeparator = System.lineSeparator();
+
+	/**
+	 * Nesting level of the next element.
+	 */
+	private int fDepth;
+
+	/**
+	 * Whether the start tag of the current element is not yet closed.
+	 */
+	private boolean fStartTagOpen;
+
+	LaunchConfigurationXMLWriter() {
+		fBuffer.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>"); //$NON-NLS-1$
+		fBuffer.append(fLineSeparator);
+	}
+
+	/**
+	 * Starts a new element nested in the current element.
+	 *
+	 * @param name the element name
+	 */
+	void startElement(String name) {
+		closeStartTag();
+		indent();
+		fBuffer.append('<').append(name);
+		fStartTagOpen = true;
+		fDepth++;
+	}
+
+	/**
+	 * Adds an attribute to the element just started.
+	 *
+	 * @param name the attribute name
+	 * @param value the attribute value, <code>null</code> is written as an
+	 *            empty value
+	 * @throws IOException if the value contains an unpaired surrogate
+	 */
+	void attribute(String name, String value) throws IOException {
+		fBuffer.append(' ').append(name).append("=\""); //$NON-NLS-1$
+		if (value != null) {
+			escape(value);
+		}
+		fBuffer.append('"');
+	}
+
+	/**
+	 * Ends the current element.
+	 *
+	 * @param name the element name
+	 */
+	void endElement(String name) {
+		fDepth--;
+		if (fStartTagOpen) {
+			fBuffer.append("/>"); //$NON-NLS-1$
+			fStartTagOpen = false;
+		} else {
+			indent();
+			fBuffer.append("</").append(name).append('>'); //$NON-NLS-1$
+		}
+		fBuffer.append(fLineSeparator);
+	}
+
+	/**
+	 * @return the XML written so far
+	 */
+	String getContents() {
+		return fBuffer.toString();
+	}
+
+	private void closeStartTag() {
+		if (fStartTagOpen) {
+			fBuffer.append('>').append(fLineSeparator);
+			fStartTagOpen = false;
+		}
+	}
+
+	private void indent() {
+		for (int i = 0; i < fDepth; i++) {
+			fBuffer.append(INDENT);
+		}
+	}
+
+	private void escape(String value) throws IOException {
+		int length = value.length();
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '&':
+					fBuffer.append("&amp;"); //$NON-NLS-1$
+					break;
+				case '<':
+					fBuffer.append("&lt;"); //$NON-NLS-1$
+					break;
+				case '>':
+					fBuffer.append("&gt;"); //$NON-NLS-1$
+					break;
+				case '"':
+					fBuffer.append("&quot;"); //$NON-NLS-1$
+					break;
+				default:
+					if (c < 0x20) {
+						fBuffer.append("&#").append((int) c).append(';'); //$NON-NLS-1$
+					} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+						fBuffer.append("&#").append(Character.toCodePoint(c, value.charAt(++i))).append(';'); //$NON-NLS-1$
+					} else if (Character.isSurrogate(c)) {
+						throw new IOException("Invalid UTF-16 surrogate detected: " + Integer.toHexString(c)); //$NON-NLS-1$
+					} else {
+						fBuffer.append(c);
+					}
+					break;
+			}
+		}
+	}
+}
@@ -47,10 +47,12 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.function.Function;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -58,7 +60,6 @@ import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
-import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -570,6 +571,19 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 */
 	private List<ILaunchConfiguration> fLaunchConfigurationIndex = null;
 
+	/**
+	 * Lookup index of the configurations in {@link #fLaunchConfigurationIndex}
+	 * by name, type, storage project and mapped resources. Only valid once the
+	 * collection of all launch configurations has been initialized.
+	 */
+	private final LaunchConfigurationIndex fConfigurationLookup = new LaunchConfigurationIndex();
+
+	/**
+	 * Attributes read from launch configuration files, used to create the
+	 * info objects in {@link #fLaunchConfigurations}.
+	 */
+	private final LaunchConfigurationInfoCache fInfoCache = LaunchConfigurationInfoCache.create();
+
 	/**
 	 * Launch configuration comparator extensions,
 	 * keyed by attribute name.
@@ -845,6 +859,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		if (fLaunchConfigurationIndex != null) {
 			fLaunchConfigurationIndex.clear();
 		}
+		fConfigurationLookup.clear();
 	}
 
 	@Override
@@ -973,9 +988,13 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 */
 	public ILaunchConfiguration findLaunchConfiguration(String name) {
 		if(name != null) {
-			for (ILaunchConfiguration config : getLaunchConfigurations()) {
-				if(name.equals(config.getName())) {
-					return config;
+			for (ILaunchConfiguration config : getIndexedConfigurations(index -> index.getByName(name))) {
+				try {
+					if ((config.getKind() & ILaunchConfiguration.CONFIGURATION) > 0) {
+						return config;
+					}
+				} catch (CoreException e) {
+					DebugPlugin.log(e);
 				}
 			}
 		}
@@ -1122,10 +1141,19 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		if (fLaunchConfigurationIndex == null) {
 			try {
 				fLaunchConfigurationIndex = new ArrayList<>(20);
-				List<ILaunchConfiguration> configs = findLocalLaunchConfigurations();
-				verifyConfigurations(configs, fLaunchConfigurationIndex);
-				configs = findLaunchConfigurations(ResourcesPlugin.getWorkspace().getRoot());
-				verifyConfigurations(configs, fLaunchConfigurationIndex);
+				List<ILaunchConfiguration> local = findLocalLaunchConfigurations();
+				List<ILaunchConfiguration> shared = findLaunchConfigurations(ResourcesPlugin.getWorkspace().getRoot());
+				List<ILaunchConfiguration> all = new ArrayList<>(local.size() + shared.size());
+				all.addAll(local);
+				all.addAll(shared);
+				// read all files in parallel before they are verified one by one
+				fInfoCache.prefetch(all);
+				verifyConfigurations(local, fLaunchConfigurationIndex);
+				verifyConfigurations(shared, fLaunchConfigurationIndex);
+				fConfigurationLookup.clear();
+				for (ILaunchConfiguration config : fLaunchConfigurationIndex) {
+					fConfigurationLookup.add(config);
+				}
 			} finally {
 				hookResourceChangeListener();
 			}
@@ -1133,6 +1161,18 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		return fLaunchConfigurationIndex;
 	}
 
+	/**
+	 * Queries the lookup index of all launch configurations, initializing the
+	 * collection of all launch configurations if required.
+	 *
+	 * @param query the index query
+	 * @return a copy of the query result
+	 */
+	private synchronized List<ILaunchConfiguration> getIndexedConfigurations(Function<LaunchConfigurationIndex, Collection<ILaunchConfiguration>> query) {
+		getAllLaunchConfigurations();
+		return new ArrayList<>(query.apply(fConfigurationLookup));
+	}
+
 	/**
 	 * Return a sorted array of the names of all <code>ILaunchConfiguration</code>s in
 	 * the workspace.  These are cached, and cache is cleared when a new config is added,
@@ -1339,29 +1379,17 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		if (info == null) {
 			IFileStore store = config.getFileStore();
 			if (config.exists()) {
-				BufferedInputStream stream = null;
 				try {
-					stream = new BufferedInputStream(store.openInputStream(EFS.NONE, null));
-					info = createInfoFromXML(stream, isPrototype(store));
+					info = fInfoCache.getEntry(store).createInfo(isPrototype(store));
 					synchronized (this) {
 						fLaunchConfigurations.put(config, info);
 					}
 				} catch (FileNotFoundException e) {
 					throwException(config, e);
-				} catch (SAXException e) {
-					throwException(config, e);
-				} catch (ParserConfigurationException e) {
+				} catch (XMLStreamException e) {
 					throwException(config, e);
 				} catch (IOException e) {
 					throwException(config, e);
-				} finally {
-					if (stream != null) {
-						try {
-							stream.close();
-						} catch (IOException e) {
-							throwException(config, e);
-						}
-					}
 				}
 
 			} else if (store != null){
@@ -1454,8 +1482,8 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	@Override
 	public synchronized ILaunchConfiguration[] getLaunchConfigurations(ILaunchConfigurationType type, int kinds) throws CoreException {
 		List<ILaunchConfiguration> configs = new ArrayList<>();
-		for (ILaunchConfiguration config : getAllLaunchConfigurations()) {
-			if (config.getType().equals(type) && ((config.getKind() & kinds) > 0)) {
+		for (ILaunchConfiguration config : getIndexedConfigurations(index -> index.getByType(type.getIdentifier()))) {
+			if ((config.getKind() & kinds) > 0) {
 				configs.add(config);
 			}
 		}
@@ -1471,14 +1499,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 *  in the given project
 	 */
 	protected synchronized List<ILaunchConfiguration> getLaunchConfigurations(IProject project) {
-		List<ILaunchConfiguration> configs = new ArrayList<>();
-		for (ILaunchConfiguration config : getAllLaunchConfigurations()) {
-			IFile file = config.getFile();
-			if (file != null && file.getProject().equals(project)) {
-				configs.add(config);
-			}
-		}
-		return configs;
+		return getIndexedConfigurations(index -> index.getStoredIn(project));
 	}
 
 	@Override
@@ -1736,27 +1757,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @since 3.2
 	 */
 	public ILaunchConfiguration[] getMappedConfigurations(IResource resource) {
-		List<ILaunchConfiguration> configurations = new ArrayList<>();
-		for (ILaunchConfiguration config : getAllLaunchConfigurations()) {
-			try {
-				IResource[] resources = config.getMappedResources();
-				if(resources != null) {
-					for (IResource res : resources) {
-						if(res.equals(resource)) {
-							configurations.add(config);
-							break;
-						} else if (resource.getType() == IResource.PROJECT && res.getType() == IResource.FILE){
-							if (res.getProject().equals(resource)) {
-								configurations.add(config);
-								break;
-							}
-						}
-					}
-				}
-			} catch (CoreException ce) {
-				DebugPlugin.log(ce);
-			}
-		}
+		List<ILaunchConfiguration> configurations = getIndexedConfigurations(index -> index.getMappedTo(resource));
 		return configurations.toArray(new ILaunchConfiguration[configurations.size()]);
 	}
 
@@ -2092,8 +2093,9 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 			boolean added = false;
 			synchronized (this) {
 				List<ILaunchConfiguration> allConfigs = getAllLaunchConfigurations();
-				if (!allConfigs.contains(config)) {
+				if (!fConfigurationLookup.contains(config)) {
 					allConfigs.add(config);
+					fConfigurationLookup.add(config);
 					added = true;
 				}
 			}
@@ -2119,12 +2121,16 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		synchronized(this) {
 			fLaunchConfigurations.remove(config);
 		}
+		fInfoCache.remove(config);
 		clearConfigNameCache();
 		if (isValid(config)) {
 			// in case the config has been refreshed and it was removed from the
 			// index due to 'out of synch with local file system' (see bug 36147),
 			// add it back (will only add if required)
 			launchConfigurationAdded(config);
+			synchronized (this) {
+				fConfigurationLookup.update(config);
+			}
 			getConfigurationNotifier().notify(config, CHANGED);
 		} else {
 			launchConfigurationDeleted(config);
@@ -2145,7 +2151,9 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 			Object key = fLaunchConfigurations.remove(config);
 			removed = key != null;
 			getAllLaunchConfigurations().remove(config);
+			fConfigurationLookup.remove(config);
 		}
+		fInfoCache.remove(config);
 		if (removed) {
 			getConfigurationNotifier().notify(config, REMOVED);
 			clearConfigNameCache();
@@ -2333,6 +2341,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		}
 
 		persistPreferredLaunchDelegates();
+		fInfoCache.save();
 		clearAllLaunchConfigurations();
 		fStepFilterManager = null;
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
@@ -2432,9 +2441,11 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @param valid the list to place valid configurations in
 	 */
 	protected void verifyConfigurations(List<ILaunchConfiguration> verify, List<ILaunchConfiguration> valid) {
+		Set<ILaunchConfiguration> known = new HashSet<>(valid);
 		for (ILaunchConfiguration config : verify) {
-			if (!valid.contains(config) && isValid(config)) {
+			if (!known.contains(config) && isValid(config)) {
 				valid.add(config);
+				known.add(config);
 			}
 		}
 	}
@@ -0,0 +1,417 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+import org.eclipse.debug.core.DebugPlugin;
+
+/**
+ * Retains the content read by an {@link OutputStreamMonitor}.
+ * <p>
+ * Content is stored in a sequence of chunks. If a retention limit is set the
+ * oldest content is trimmed from the head once the retained size exceeds the
+ * limit. Trimmed content is either discarded or, if spilling is enabled,
+ * appended to a temporary file so it is still available through
+ * {@link #getData()}. The temporary file is deleted when the buffer is reset
+ * or no longer reachable.
+ * </p>
+ * <p>
+ * The filled region of a chunk is never modified after it was written, which
+ * allows {@link #getView()} to return read-only views of the content without
+ * copying it.
+ * </p>
+ * <p>
+ * This class is not thread safe. Clients must synchronize access.
+ * </p>
+ */
+public class OutputStreamBuffer {
+
+	/**
+	 * Maximum number of bytes returned by {@link #getData()}, the largest
+	 * array size supported by all VMs.
+	 */
+	static final int MAX_DATA_SIZE = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Size of the first chunk allocated.
+	 */
+	private static final int MIN_CHUNK_SIZE = 1024;
+
+	/**
+	 * Upper bound for the size of newly allocated chunks.
+	 */
+	private static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * Deletes the spill files of buffers which are no longer reachable.
+	 */
+	private static final Cleaner SPILL_CLEANER = Cleaner.create();
+
+	/**
+	 * The chunks holding the content retained in memory.
+	 */
+	private final ArrayDeque<byte[]> fChunks = new ArrayDeque<>();
+
+	/**
+	 * Offset of the first valid byte in the head chunk.
+	 */
+	private int fHeadOffset;
+
+	/**
+	 * Number of bytes used in the tail chunk.
+	 */
+	private int fTailLength;
+
+	/**
+	 * Number of bytes retained in memory.
+	 */
+	private long fSize;
+
+	/**
+	 * Maximum number of bytes retained in memory. A value <code>&lt;= 0</code>
+	 * means unlimited.
+	 */
+	private long fLimit;
+
+	/**
+	 * Whether trimmed content is written to a temporary file.
+	 */
+	private boolean fSpill;
+
+	private SpillFile fSpillFile;
+	private Cleaner.Cleanable fSpillCleanup;
+
+	/**
+	 * Number of bytes written to the spill file.
+	 */
+	private long fSpilledSize;
+
+	/**
+	 * Number of bytes trimmed from the head and not retained anywhere.
+	 */
+	private long fDiscardedSize;
+
+	/**
+	 * Sets the retention policy of this buffer. If the new limit is smaller
+	 * than the current content the buffer is trimmed immediately.
+	 *
+	 * @param limit maximum number of bytes to retain in memory or a value
+	 *            <code>&lt;= 0</code> for unlimited
+	 * @param spill <code>true</code> if trimmed content should be written to a
+	 *            temporary file instead of being discarded
+	 */
+	public void setRetentionPolicy(long limit, boolean spill) {
+		fLimit = limit;
+		fSpill = spill;
+		trim();
+	}
+
+	/**
+	 * Appends content to this buffer.
+	 *
+	 * @param data the content to append
+	 * @param offset start of valid data
+	 * @param length number of valid bytes
+	 */
+	public void append(byte[] data, int offset, int length) {
+		while (length > 0) {
+			byte[] tail = fChunks.peekLast();
+			if (tail == null || fTailLength == tail.length) {
+				int capacity = (int) Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, fSize));
+				tail = new byte[capacity];
+				fChunks.addLast(tail);
+				fTailLength = 0;
+			}
+			int n = Math.min(length, tail.length - fTailLength);
+			System.arraycopy(data, offset, tail, fTailLength, n);
+			fTailLength += n;
+			fSize += n;
+			offset += n;
+			length -= n;
+		}
+		trim();
+	}
+
+	/**
+	 * Trims content from the head until the retained size fits the limit.
+	 */
+	private void trim() {
+		if (fLimit <= 0) {
+			return;
+		}
+		while (fSize > fLimit) {
+			byte[] head = fChunks.getFirst();
+			int end = fChunks.size() == 1 ? fTailLength : head.length;
+			int available = end - fHeadOffset;
+			long excess = fSize - fLimit;
+			if (available <= excess) {
+				drop(head, fHeadOffset, available);
+				fChunks.removeFirst();
+				fHeadOffset = 0;
+				if (fChunks.isEmpty()) {
+					fTailLength = 0;
+				}
+				fSize -= available;
+			} else {
+				drop(head, fHeadOffset, (int) excess);
+				fHeadOffset += excess;
+				fSize -= excess;
+			}
+		}
+	}
+
+	/**
+	 * Handles content trimmed from the head.
+	 */
+	private void drop(byte[] data, int offset, int length) {
+		if (fSpill) {
+			try {
+				if (fSpillFile == null) {
+					fSpillFile = new SpillFile();
+					fSpillCleanup = SPILL_CLEANER.register(this, fSpillFile);
+				}
+				fSpillFile.getStream().write(data, offset, length);
+				fSpilledSize += length;
+				return;
+			} catch (IOException e) {
+				DebugPlugin.log(e);
+				fSpill = false;
+			}
+		}
+		fDiscardedSize += length;
+	}
+
+	/**
+	 * Returns the number of bytes available through {@link #getData()}.
+	 *
+	 * @return size of the retained content including spilled content
+	 */
+	public long getSize() {
+		return fSpilledSize + fSize;
+	}
+
+	/**
+	 * Returns the number of bytes which were trimmed because of the retention
+	 * limit and are no longer available.
+	 *
+	 * @return number of discarded bytes since last {@link #reset()}
+	 */
+	public long getDiscardedSize() {
+		return fDiscardedSize;
+	}
+
+	/**
+	 * Returns a copy of the whole retained content including content spilled
+	 * to disk. If more than {@link #MAX_DATA_SIZE} bytes are retained only the
+	 * last {@link #MAX_DATA_SIZE} bytes are returned.
+	 *
+	 * @return the retained content; not <code>null</code>
+	 */
+	public byte[] getData() {
+		return getTail(MAX_DATA_SIZE);
+	}
+
+	/**
+	 * Returns a copy of the last <code>maxLength</code> bytes of the retained
+	 * content.
+	 *
+	 * @param maxLength maximum number of bytes to return
+	 * @return the tail of the retained content; not <code>null</code>
+	 */
+	public byte[] getTail(int maxLength) {
+		while (true) {
+			long size = getSize();
+			int length = (int) Math.min(size, Math.max(0, maxLength));
+			byte[] data = new byte[length];
+			try {
+				copy(size - length, data, 0, length);
+				return data;
+			} catch (IOException e) {
+				// no longer able to read the spilled content, retry with the
+				// content still available in memory
+				DebugPlugin.log(e);
+				discardSpilled();
+			}
+		}
+	}
+
+	/**
+	 * Returns read-only views of the content retained in memory. The views
+	 * stay valid and unchanged even if content is appended or trimmed later.
+	 * Content spilled to disk is not included.
+	 *
+	 * @return read-only views of the in-memory content in stream order
+	 */
+	public ByteBuffer[] getView() {
+		ByteBuffer[] view = new ByteBuffer[fChunks.size()];
+		int i = 0;
+		for (Iterator<byte[]> iter = fChunks.iterator(); iter.hasNext(); i++) {
+			byte[] chunk = iter.next();
+			int start = i == 0 ? fHeadOffset : 0;
+			int end = iter.hasNext() ? chunk.length : fTailLength;
+			view[i] = ByteBuffer.wrap(chunk, start, end - start).slice().asReadOnlyBuffer();
+		}
+		return view;
+	}
+
+	/**
+	 * Copies retained content into the given array.
+	 *
+	 * @param position position in the retained content (including spilled
+	 *            content) to start copying from
+	 * @param dest the destination array
+	 * @param destOffset start offset in destination
+	 * @param length number of bytes to copy
+	 * @throws IOException if unable to read spilled content
+	 */
+	private void copy(long position, byte[] dest, int destOffset, int length) throws IOException {
+		if (position < fSpilledSize) {
+			int n = (int) Math.min(length, fSpilledSize - position);
+			fSpillFile.read(position, dest, destOffset, n);
+			position += n;
+			destOffset += n;
+			length -= n;
+		}
+		long skip = position - fSpilledSize;
+		int i = 0;
+		for (Iterator<byte[]> iter = fChunks.iterator(); iter.hasNext() && length > 0; i++) {
+			byte[] chunk = iter.next();
+			int start = i == 0 ? fHeadOffset : 0;
+			int end = iter.hasNext() ? chunk.length : fTailLength;
+			int available = end - start;
+			if (skip >= available) {
+				skip -= available;
+				continue;
+			}
+			start += skip;
+			skip = 0;
+			int n = Math.min(length, end - start);
+			System.arraycopy(chunk, start, dest, destOffset, n);
+			destOffset += n;
+			length -= n;
+		}
+	}
+
+	/**
+	 * Discards the spilled content and disables spilling, content trimmed
+	 * later is discarded too.
+	 */
+	private void discardSpilled() {
+		fDiscardedSize += fSpilledSize;
+		fSpilledSize = 0;
+		fSpill = false;
+		deleteSpillFile();
+	}
+
+	private void deleteSpillFile() {
+		if (fSpillCleanup != null) {
+			fSpillCleanup.clean();
+			fSpillCleanup = null;
+			fSpillFile = null;
+		}
+	}
+
+	/**
+	 * Closes the spill file for writing once no more content is appended.
+	 * Spilled content stays available, the file is reopened if content is
+	 * trimmed later.
+	 */
+	public void close() {
+		if (fSpillFile != null) {
+			fSpillFile.closeStream();
+		}
+	}
+
+	/**
+	 * Removes all content from this buffer and deletes the spill file if any.
+	 * The retention policy is kept.
+	 */
+	public void reset() {
+		fChunks.clear();
+		fHeadOffset = 0;
+		fTailLength = 0;
+		fSize = 0;
+		fSpilledSize = 0;
+		fDiscardedSize = 0;
+		deleteSpillFile();
+	}
+
+	/**
+	 * Temporary file holding the spilled content. It does not refer to the
+	 * buffer, so it can be deleted once the buffer is no longer reachable.
+	 */
+	private static final class SpillFile implements Runnable {
+
+		private final File fFile;
+		private OutputStream fStream;
+
+		SpillFile() throws IOException {
+			fFile = File.createTempFile("debugOutput", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+			fFile.deleteOnExit();
+		}
+
+		/**
+		 * @return stream appending to the file, opened if required
+		 * @throws IOException if unable to open the file
+		 */
+		OutputStream getStream() throws IOException {
+			if (fStream == null) {
+				fStream = new BufferedOutputStream(new FileOutputStream(fFile, true));
+			}
+			return fStream;
+		}
+
+		void read(long position, byte[] dest, int destOffset, int length) throws IOException {
+			if (fStream != null) {
+				fStream.flush();
+			}
+			try (RandomAccessFile file = new RandomAccessFile(fFile, "r")) { //$NON-NLS-1$
+				file.seek(position);
+				file.readFully(dest, destOffset, length);
+			}
+		}
+
+		void closeStream() {
+			if (fStream != null) {
+				try {
+					fStream.close();
+				} catch (IOException e) {
+					DebugPlugin.log(e);
+				}
+				fStream = null;
+			}
+		}
+
+		/**
+		 * Closes and deletes the file.
+		 */
+		@Override
+		public void run() {
+			closeStream();
+			if (!fFile.delete()) {
+				fFile.deleteOnExit();
+			}
+		}
+	}
+}
@@ -16,10 +16,15 @@
 package org.eclipse.debug.internal.core;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.ISafeRunnable;
@@ -27,6 +32,7 @@ import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBinaryStreamListener;
+import org.eclipse.debug.core.IBinaryStreamListener2;
 import org.eclipse.debug.core.IStreamListener;
 import org.eclipse.debug.core.model.IBinaryStreamMonitor;
 
@@ -38,9 +44,11 @@ import org.eclipse.debug.core.model.IBinaryStreamMonitor;
  */
 public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	/**
-	 * The size of the read buffer.
+	 * The size of the read buffer. If more data is available after a read it
+	 * is coalesced into the buffer up to this size before listeners are
+	 * notified.
 	 */
-	private static final int BUFFER_SIZE = 8192;
+	private static final int BUFFER_SIZE = 65536;
 
 	/**
 	 * The stream being monitored (connected system out or err).
@@ -63,7 +71,21 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	 *
 	 * @see #isBuffered()
 	 */
-	private ByteArrayOutputStream fContents;
+	private OutputStreamBuffer fContents;
+
+	/**
+	 * Maximum number of bytes retained in memory while buffering. A value
+	 * <code>&lt;= 0</code> means unlimited.
+	 *
+	 * @see #setRetentionPolicy(long, boolean)
+	 */
+	private long fRetentionLimit;
+
+	/**
+	 * Whether content trimmed because of {@link #fRetentionLimit} is spilled to
+	 * a temporary file.
+	 */
+	private boolean fSpill;
 
 	/**
 	 * Decoder used for the buffered content. This is required to keep the state
@@ -77,6 +99,14 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	 */
 	private Thread fThread;
 
+	/**
+	 * The task which reads from the stream if monitoring was started on an
+	 * executor.
+	 *
+	 * @see #startMonitoring(String, Executor)
+	 */
+	private CompletableFuture<Void> fTask;
+
 	/**
 	 * Whether or not this monitor has been killed. When the monitor is killed,
 	 * it stops reading from the stream immediately.
@@ -89,6 +119,11 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 
 	private final AtomicBoolean fDone;
 
+	/**
+	 * Notifier reused for all listener notifications.
+	 */
+	private final StreamNotifier fNotifier = new StreamNotifier();
+
 	/**
 	 * Creates an output stream monitor on the given stream (connected to system
 	 * out or err).
@@ -136,10 +171,13 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	 */
 	protected void close() {
 		Thread thread = null;
+		CompletableFuture<Void> task = null;
 
 		synchronized (this) {
 			thread = fThread;
 			fThread = null;
+			task = fTask;
+			fTask = null;
 		}
 
 		if (thread != null) {
@@ -147,7 +185,13 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 				thread.join();
 			} catch (InterruptedException ie) {
 			}
-
+		} else if (task != null) {
+			try {
+				task.join();
+			} catch (CompletionException | CancellationException e) {
+			}
+		}
+		if (thread != null || task != null) {
 			fListeners.clear();
 			fBinaryListeners.clear();
 		}
@@ -162,46 +206,17 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	 * @param length number of valid bytes
 	 */
 	private void fireStreamAppended(final byte[] data, int offset, int length) {
-		if (!fListeners.isEmpty()) {
-			String text = fDecoder.decode(data, offset, length);
-			for (final IStreamListener listener : fListeners) {
-				SafeRunner.run(new ISafeRunnable() {
-					@Override
-					public void run() throws Exception {
-						listener.streamAppended(text, OutputStreamMonitor.this);
-					}
-
-					@Override
-					public void handleException(Throwable exception) {
-						DebugPlugin.log(exception);
-					}
-				});
-			}
-		}
-		if (!fBinaryListeners.isEmpty()) {
-			final byte[] validData;
-			if (offset > 0 || length < data.length) {
-				validData = new byte[length];
-				System.arraycopy(data, offset, validData, 0, length);
-			} else {
-				validData = data;
-			}
-			for (final IBinaryStreamListener listener : fBinaryListeners) {
-				SafeRunner.run(new ISafeRunnable() {
-					@Override
-					public void run() throws Exception {
-						listener.streamAppended(validData, OutputStreamMonitor.this);
-					}
-
-					@Override
-					public void handleException(Throwable exception) {
-						DebugPlugin.log(exception);
-					}
-				});
-			}
-		}
+		fNotifier.notifyAppended(data, offset, length);
 	}
 
+	/**
+	 * Returns the buffered contents of the stream. The contents may be trimmed
+	 * at the start: by the retention limit, see
+	 * {@link #setRetentionPolicy(long, boolean)}, and to the last 2GB if more
+	 * content was spilled to disk.
+	 *
+	 * @return the buffered contents or an empty string if buffering is disabled
+	 */
 	@Override
 	public synchronized String getContents() {
 		if (!isBuffered()) {
@@ -215,9 +230,86 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 		return fCachedDecodedContents;
 	}
 
+	/**
+	 * Returns the buffered binary contents of the stream, trimmed like
+	 * {@link #getContents()}.
+	 *
+	 * @return the buffered contents or an empty array if buffering is disabled
+	 */
 	@Override
 	public synchronized byte[] getData() {
-		return isBuffered() ? fContents.toByteArray() : new byte[0];
+		return isBuffered() ? fContents.getData() : new byte[0];
+	}
+
+	/**
+	 * Returns the last bytes of the buffered content. Unlike
+	 * {@link #getData()} this does not copy the whole buffer.
+	 *
+	 * @param maxLength maximum number of bytes to return
+	 * @return the tail of the buffered content or an empty array if buffering
+	 *         is disabled
+	 */
+	public synchronized byte[] getTailData(int maxLength) {
+		return isBuffered() ? fContents.getTail(maxLength) : new byte[0];
+	}
+
+	/**
+	 * Returns the last bytes of the buffered content decoded to text. The tail
+	 * is decoded independent of the content before it. If the tail starts
+	 * inside a multi-byte character the partial character is replaced.
+	 *
+	 * @param maxLength maximum number of bytes to decode
+	 * @return the decoded tail of the buffered content or an empty string if
+	 *         buffering is disabled
+	 */
+	public synchronized String getTailContents(int maxLength) {
+		byte[] data = getTailData(maxLength);
+		StreamDecoder decoder = new StreamDecoder(fCharset == null ? Charset.defaultCharset() : fCharset);
+		return decoder.decode(data, 0, data.length) + decoder.finish();
+	}
+
+	/**
+	 * Returns read-only views of the buffered content retained in memory.
+	 * The views are not copied and stay unchanged if more content is read.
+	 * Content spilled to disk is not included.
+	 *
+	 * @return read-only views of the buffered content in stream order or an
+	 *         empty array if buffering is disabled
+	 * @see #setRetentionPolicy(long, boolean)
+	 */
+	public synchronized ByteBuffer[] getDataView() {
+		return isBuffered() ? fContents.getView() : new ByteBuffer[0];
+	}
+
+	/**
+	 * Returns the number of buffered bytes which were dropped because of the
+	 * retention limit.
+	 *
+	 * @return number of dropped bytes since last {@link #flushContents()}
+	 * @see #setRetentionPolicy(long, boolean)
+	 */
+	public synchronized long getDiscardedLength() {
+		return isBuffered() ? fContents.getDiscardedSize() : 0;
+	}
+
+	/**
+	 * Sets the policy used to retain buffered content. By default all content
+	 * is retained until {@link #flushContents()} is called.
+	 *
+	 * @param limit maximum number of bytes to retain in memory or a value
+	 *            <code>&lt;= 0</code> to retain all content. If the limit is
+	 *            exceeded the oldest content is dropped.
+	 * @param spillToFile if <code>true</code> content dropped because of the
+	 *            limit is written to a temporary file and remains available
+	 *            through {@link #getData()} and {@link #getContents()}
+	 */
+	public synchronized void setRetentionPolicy(long limit, boolean spillToFile) {
+		fRetentionLimit = limit;
+		fSpill = spillToFile;
+		if (isBuffered()) {
+			fCachedDecodedContents = null;
+			fContents.setRetentionPolicy(limit, spillToFile);
+		}
 	}
 
 	private void read() {
@@ -248,12 +340,22 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 					}
 					read = fStream.read(buffer);
 					if (read > 0) {
+						// coalesce data which is already available to reduce
+						// the number of notifications under load
+						int length = read;
+						while (length < buffer.length && fStream.available() > 0) {
+							int more = fStream.read(buffer, length, buffer.length - length);
+							if (more <= 0) {
+								break;
+							}
+							length += more;
+						}
 						synchronized (this) {
 							if (isBuffered()) {
 								fCachedDecodedContents = null;
-								fContents.write(buffer, 0, read);
+								fContents.append(buffer, 0, length);
 							}
-							fireStreamAppended(buffer, 0, read);
+							fireStreamAppended(buffer, 0, length);
 						}
 					}
 				} catch (IOException ioe) {
@@ -264,7 +366,7 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 				} catch (NullPointerException e) {
 					// killing the stream monitor while reading can cause an NPE
 					// when reading from the stream
-					if (!fKilled && fThread != null) {
+					if (!fKilled && (fThread != null || fTask != null)) {
 						DebugPlugin.log(e);
 					}
 					return;
@@ -283,6 +385,11 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 			} catch (IOException e) {
 				DebugPlugin.log(e);
 			}
+			synchronized (this) {
+				if (isBuffered()) {
+					fContents.close();
+				}
+			}
 		}
 	}
 
@@ -317,14 +424,33 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 		}
 	}
 
+	/**
+	 * Starts reading from the stream in a task of the given executor instead
+	 * of a dedicated thread.
+	 *
+	 * @param name name of the executing thread while the task runs
+	 * @param executor the executor to run the read task
+	 * @see ProcessThreadPool
+	 */
+	protected void startMonitoring(String name, Executor executor) {
+		synchronized (this) {
+			if (fThread == null && fTask == null) {
+				fDone.set(false);
+				fTask = CompletableFuture.runAsync(ProcessThreadPool.named(name, this::read), executor);
+			}
+		}
+	}
+
 	@Override
 	public synchronized void setBuffered(boolean buffer) {
 		if (isBuffered() != buffer) {
 			fCachedDecodedContents = null;
 			if (buffer) {
-				fContents = new ByteArrayOutputStream();
+				fContents = new OutputStreamBuffer();
+				fContents.setRetentionPolicy(fRetentionLimit, fSpill);
 				fBufferedDecoder = new StreamDecoder(fCharset == null ? Charset.defaultCharset() : fCharset);
 			} else {
+				fContents.reset();
 				fContents = null;
 				fBufferedDecoder = null;
 			}
@@ -344,6 +470,86 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 		return fContents != null;
 	}
 
+	/**
+	 * Notifies listeners about appended content. Notifications are only fired
+	 * from the reading thread while holding the monitor's lock, so a single
+	 * instance is reused for all listeners and all notifications.
+	 */
+	private class StreamNotifier implements ISafeRunnable {
+
+		private IStreamListener fListener;
+		private IBinaryStreamListener fBinaryListener;
+		private String fText;
+		private byte[] fData;
+		/** Read-only view of {@link #fViewArray} passed to buffer listeners. */
+		private ByteBuffer fView;
+		private byte[] fViewArray;
+
+		@Override
+		public void handleException(Throwable exception) {
+			DebugPlugin.log(exception);
+		}
+
+		@Override
+		public void run() throws Exception {
+			if (fBinaryListener instanceof IBinaryStreamListener2) {
+				((IBinaryStreamListener2) fBinaryListener).streamAppended(fView, OutputStreamMonitor.this);
+			} else if (fBinaryListener != null) {
+				fBinaryListener.streamAppended(fData, OutputStreamMonitor.this);
+			} else {
+				fListener.streamAppended(fText, OutputStreamMonitor.this);
+			}
+		}
+
+		/**
+		 * Notifies text and binary listeners. Text is only decoded if a text
+		 * listener is registered.
+		 * <p>
+		 * {@link IBinaryStreamListener2}s get a read-only view of the read
+		 * buffer which is reset before each listener. Plain
+		 * {@link IBinaryStreamListener}s get a <code>byte[]</code> they may
+		 * retain while the read buffer is reused for the next read, so they
+		 * have to share one copy of the data, created only if such a listener
+		 * is registered.
+		 * </p>
+		 *
+		 * @param data that has been appended; not <code>null</code>
+		 * @param offset start of valid data
+		 * @param length number of valid bytes
+		 */
+		void notifyAppended(byte[] data, int offset, int length) {
+			try {
+				if (!fListeners.isEmpty()) {
+					fText = fDecoder.decode(data, offset, length);
+					for (IStreamListener listener : fListeners) {
+						fListener = listener;
+						SafeRunner.run(this);
+					}
+				}
+				for (IBinaryStreamListener listener : fBinaryListeners) {
+					if (listener instanceof IBinaryStreamListener2) {
+						if (fViewArray != data) {
+							fView = ByteBuffer.wrap(data).asReadOnlyBuffer();
+							fViewArray = data;
+						}
+						fView.clear();
+						fView.limit(offset + length);
+						fView.position(offset);
+					} else if (fData == null) {
+						fData = Arrays.copyOfRange(data, offset, offset + length);
+					}
+					fBinaryListener = listener;
+					SafeRunner.run(this);
+				}
+			} finally {
+				fListener = null;
+				fBinaryListener = null;
+				fText = null;
+				fData = null;
+			}
+		}
+	}
+
 	/**
 	 * @return {@code true} if reading the underlying stream is done.
 	 *         {@code false} if reading the stream has not started or is not
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.IPreferencesService;
+import org.eclipse.debug.core.DebugPlugin;
+
+/**
+ * Shared pool of threads used to pump the streams of system processes and to
+ * handle their termination if
+ * {@link IInternalDebugCoreConstants#PREF_SHARED_PROCESS_THREADS} is enabled.
+ * <p>
+ * Threads are created on demand and reused by following tasks. Stream
+ * monitors only occupy a thread while they are actually reading or writing
+ * and process termination is handled through {@link Process#onExit()}, so
+ * launching many processes does not create a dedicated set of threads for
+ * each of them.
+ * </p>
+ */
+public final class ProcessThreadPool {
+
+	/**
+	 * Time in seconds an idle thread is kept for reuse.
+	 */
+	private static final long KEEP_ALIVE = 30;
+
+	private static ExecutorService fgExecutor;
+
+	private ProcessThreadPool() {
+		// no instantiation
+	}
+
+	/**
+	 * Returns whether processes should use the shared pool instead of
+	 * dedicated threads.
+	 *
+	 * @return <code>true</code> if the shared pool is enabled
+	 */
+	public static boolean isEnabled() {
+		IPreferencesService service = Platform.getPreferencesService();
+		if (service == null) {
+			return false;
+		}
+		return service.getBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_SHARED_PROCESS_THREADS, false, null);
+	}
+
+	/**
+	 * Returns the shared executor. The executor is created on first access.
+	 *
+	 * @return the shared executor
+	 */
+	public static synchronized ExecutorService getExecutor() {
+		if (fgExecutor == null) {
+			AtomicInteger count = new AtomicInteger();
+			ThreadFactory factory = r -> {
+				Thread thread = new Thread(r, "Process Thread Pool Worker-" + count.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			};
+			fgExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE, TimeUnit.SECONDS, new SynchronousQueue<>(), factory);
+		}
+		return fgExecutor;
+	}
+
+	/**
+	 * Wraps the given task so the executing thread carries the given name while
+	 * the task runs. This keeps pooled threads distinguishable in thread dumps.
+	 *
+	 * @param name the thread name to use while running
+	 * @param task the task to wrap
+	 * @return the wrapped task
+	 */
+	public static Runnable named(String name, Runnable task) {
+		return () -> {
+			Thread thread = Thread.currentThread();
+			String poolName = thread.getName();
+			thread.setName(name);
+			try {
+				task.run();
+			} finally {
+				thread.setName(poolName);
+			}
+		};
+	}
+
+	/**
+	 * Stops accepting new tasks. Running tasks are not interrupted.
+	 */
+	public static synchronized void shutdown() {
+		if (fgExecutor != null) {
+			fgExecutor.shutdown();
+			fgExecutor = null;
+		}
+	}
+}
@@ -16,7 +16,11 @@ package org.eclipse.debug.internal.core;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.concurrent.Executor;
 
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.IPreferencesService;
+import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.model.IBinaryStreamMonitor;
 import org.eclipse.debug.core.model.IBinaryStreamsProxy;
 import org.eclipse.debug.core.model.IStreamMonitor;
@@ -65,9 +69,36 @@ public class StreamsProxy implements IBinaryStreamsProxy {
 		fOutputMonitor = new OutputStreamMonitor(process.getInputStream(), charset);
 		fErrorMonitor = new OutputStreamMonitor(process.getErrorStream(), charset);
 		fInputMonitor = new InputStreamMonitor(process.getOutputStream(), charset);
-		fOutputMonitor.startMonitoring("Output Stream Monitor" + suffix); //$NON-NLS-1$
-		fErrorMonitor.startMonitoring("Error Stream Monitor" + suffix); //$NON-NLS-1$
-		fInputMonitor.startMonitoring("Input Stream Monitor" + suffix); //$NON-NLS-1$
+		applyRetentionPolicy(fOutputMonitor);
+		applyRetentionPolicy(fErrorMonitor);
+		if (ProcessThreadPool.isEnabled()) {
+			Executor executor = ProcessThreadPool.getExecutor();
+			fOutputMonitor.startMonitoring("Output Stream Monitor" + suffix, executor); //$NON-NLS-1$
+			fErrorMonitor.startMonitoring("Error Stream Monitor" + suffix, executor); //$NON-NLS-1$
+			fInputMonitor.startMonitoring("Input Stream Monitor" + suffix, executor); //$NON-NLS-1$
+		} else {
+			fOutputMonitor.startMonitoring("Output Stream Monitor" + suffix); //$NON-NLS-1$
+			fErrorMonitor.startMonitoring("Error Stream Monitor" + suffix); //$NON-NLS-1$
+			fInputMonitor.startMonitoring("Input Stream Monitor" + suffix); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Configures the retention of buffered output according to the debug core
+	 * preferences.
+	 *
+	 * @param monitor the monitor to configure
+	 */
+	private static void applyRetentionPolicy(OutputStreamMonitor monitor) {
+		IPreferencesService service = Platform.getPreferencesService();
+		if (service == null) {
+			return;
+		}
+		long limit = service.getLong(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_OUTPUT_RETENTION_LIMIT, 0, null);
+		boolean spill = service.getBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_OUTPUT_RETENTION_SPILL, false, null);
+		if (limit > 0) {
+			monitor.setRetentionPolicy(limit, spill);
+		}
 	}
 
 	/**
@@ -134,6 +134,49 @@ public class WatchExpression implements IWatchExpression {
 		fireEvent(new DebugEvent(this, DebugEvent.CHANGE, DebugEvent.CONTENT)); // value change
 	}
 
+	/**
+	 * Sets the context of this expression without evaluating it. Used by the
+	 * expression manager to evaluate several expressions in one request.
+	 *
+	 * @param context the new context, possibly <code>null</code>
+	 */
+	synchronized void setContext(IDebugElement context) {
+		fCurrentContext = context;
+	}
+
+	/**
+	 * @return the current context of this expression or <code>null</code>
+	 */
+	synchronized IDebugElement getContext() {
+		return fCurrentContext;
+	}
+
+	/**
+	 * Flags this expression as pending without firing notification.
+	 *
+	 * @return the event to fire for the state change
+	 */
+	DebugEvent markPending() {
+		synchronized (this) {
+			fPending = true;
+		}
+		return new DebugEvent(this, DebugEvent.CHANGE, DebugEvent.STATE);
+	}
+
+	/**
+	 * Sets the result of this expression without firing notification.
+	 *
+	 * @param result result of a watch expression
+	 * @return the event to fire for the state and value change
+	 */
+	DebugEvent updateResult(IWatchExpressionResult result) {
+		synchronized (this) {
+			fResult = result;
+			fPending = false;
+		}
+		return new DebugEvent(this, DebugEvent.CHANGE, DebugEvent.STATE | DebugEvent.CONTENT);
+	}
+
 	/**
 	 * Fires the given debug event
 	 * @param event the {@link DebugEvent}
@@ -44,4 +44,9 @@ public class DisconnectCommand extends ForEachCommand implements IDisconnectHand
 	protected Object getEnabledStateJobFamily(IDebugCommandRequest request) {
 		return IDisconnectHandler.class;
 	}
+
+	@Override
+	protected int getMaxParallelExecutions() {
+		return PARALLEL_EXECUTIONS;
+	}
 }
@@ -0,0 +1,439 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core.commands;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchesListener;
+import org.eclipse.debug.core.commands.IEnabledStateRequest;
+import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IExpression;
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.core.model.IValue;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.debug.internal.core.DebugOptions;
+
+/**
+ * Processes the enabled state updates of debug commands in system jobs, one
+ * job per launch.
+ * <p>
+ * The updates posted for a new debug context, typically one per command type,
+ * are queued by the launch of their elements and evaluated one after another
+ * in a single pass. Updates of elements of different launches are evaluated in
+ * parallel, so that a debug model which is slow to answer does not delay the
+ * updates of other debug sessions. Elements not belonging to a launch share one
+ * queue. Superseded updates are canceled with {@link #cancel(Object)} by their
+ * job family.
+ * </p>
+ * <p>
+ * Updates of the same command are never evaluated in parallel, even for
+ * different launches, since those could race with each other: one update
+ * enabling the command and another one disabling it, the enabled state
+ * depending on which finishes last, see bug 560274. Superseded updates are
+ * not always canceled, e.g. not with several workbench windows, see bug
+ * 560348. The updates of a command are evaluated in the order they were
+ * scheduled, an update waits until the preceding updates of its command in
+ * other lanes are completed, while the other updates of its lane proceed.
+ * </p>
+ * <p>
+ * The enabled state computed for cacheable updates is reused for the same
+ * command and elements until a debug event or launch change invalidates it.
+ * The cache is invalidated when the event is fired, not when it is dispatched,
+ * so that no update is answered from a state which was already outdated when
+ * it was posted. Events of variables, values and expressions do not invalidate
+ * the cached state.
+ * </p>
+ */
+public class EnabledStateScheduler implements ILaunchesListener {
+
+	/**
+	 * An enabled state update of a command.
+	 */
+	public abstract static class Update {
+
+		private final IEnabledStateRequest fRequest;
+		private final Object fFamily;
+		private final Object fLaneKey;
+		private final Object fCommand;
+		private final Object fCacheKey;
+		private volatile boolean fCanceled;
+
+		/**
+		 * Creates an update.
+		 *
+		 * @param request the request to update
+		 * @param family job family of the update or <code>null</code>
+		 * @param command the command to update
+		 * @param cacheable whether the enabled state of the command may be
+		 *            cached
+		 */
+		protected Update(IEnabledStateRequest request, Object family, Object command, boolean cacheable) {
+			fRequest = request;
+			fFamily = family;
+			fLaneKey = getLaneKey(request.getElements());
+			fCommand = command;
+			fCacheKey = cacheable ? Arrays.asList(command, Arrays.asList(request.getElements())) : null;
+		}
+
+		/**
+		 * Computes the enabled state and completes the request.
+		 *
+		 * @param monitor progress monitor
+		 * @return the computed enabled state or <code>null</code> if the request
+		 *         was canceled or failed
+		 */
+		protected abstract Boolean run(IProgressMonitor monitor);
+
+		/**
+		 * Cancels and completes the request of this update without running it.
+		 */
+		void abort() {
+			fRequest.cancel();
+			fRequest.done();
+			if (DebugOptions.DEBUG_COMMANDS) {
+				DebugOptions.trace(" >> *CANCELED* <<" + this); //$NON-NLS-1$
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "Update " + fRequest; //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Queue of the updates of one launch, processed by a job of its own.
+	 */
+	private final class Lane extends Job {
+
+		private final Object fKey;
+		private final Deque<Update> fQueue = new ArrayDeque<>();
+
+		/**
+		 * The update currently evaluated or <code>null</code>
+		 */
+		private Update fRunning;
+
+		Lane(Object key) {
+			super("Check Debug Commands"); //$NON-NLS-1$
+			fKey = key;
+			setSystem(true);
+			addJobChangeListener(new JobChangeAdapter() {
+				@Override
+				public void done(IJobChangeEvent event) {
+					if (event.getResult().getSeverity() == IStatus.CANCEL) {
+						// canceled before it ran
+						List<Update> aborted;
+						List<Lane> resumed;
+						synchronized (EnabledStateScheduler.this) {
+							aborted = new ArrayList<>(fQueue);
+							fQueue.clear();
+							if (fLanes.get(fKey) == Lane.this) {
+								fLanes.remove(fKey);
+							}
+							aborted.forEach(EnabledStateScheduler.this::dequeue);
+							resumed = getIdleLanes(Lane.this);
+						}
+						for (Update update : aborted) {
+							update.abort();
+						}
+						resumed.forEach(Job::schedule);
+					}
+				}
+			});
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			Update update;
+			while ((update = next()) != null) {
+				if (monitor.isCanceled()) {
+					update.abort();
+					continue;
+				}
+				runUpdate(update, monitor);
+			}
+			return Status.OK_STATUS;
+		}
+
+		/**
+		 * Completes the current update and returns the next queued update
+		 * which is the oldest pending update of its command. The lane is
+		 * discarded once its queue is empty, updates scheduled later create a
+		 * new lane. A lane whose updates all wait for other lanes is resumed
+		 * when one of those completes an update.
+		 */
+		private Update next() {
+			List<Lane> resumed = Collections.emptyList();
+			Update next = null;
+			synchronized (EnabledStateScheduler.this) {
+				if (fRunning != null) {
+					dequeue(fRunning);
+					fRunning = null;
+					resumed = getIdleLanes(this);
+				}
+				for (Iterator<Update> iterator = fQueue.iterator(); iterator.hasNext();) {
+					Update update = iterator.next();
+					if (fCommandQueues.get(update.fCommand).peek() == update) {
+						iterator.remove();
+						next = update;
+						break;
+					}
+				}
+				if (next == null && fQueue.isEmpty() && fLanes.get(fKey) == this) {
+					fLanes.remove(fKey);
+				}
+				fRunning = next;
+			}
+			resumed.forEach(Job::schedule);
+			return next;
+		}
+	}
+
+	/**
+	 * Lane of the updates of elements not belonging to a launch
+	 */
+	private static final Object DEFAULT_LANE = new Object();
+
+	private static volatile EnabledStateScheduler fgDefault;
+
+	/**
+	 * Returns the shared scheduler.
+	 *
+	 * @return the shared scheduler
+	 */
+	public static synchronized EnabledStateScheduler getDefault() {
+		if (fgDefault == null) {
+			EnabledStateScheduler scheduler = new EnabledStateScheduler();
+			DebugPlugin.getDefault().getLaunchManager().addLaunchListener(scheduler);
+			fgDefault = scheduler;
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Invalidates the enabled states cached by the shared scheduler, if any,
+	 * for the given debug events. Called in the thread firing the events.
+	 *
+	 * @param events the fired debug events
+	 */
+	public static void debugEventsFired(DebugEvent[] events) {
+		EnabledStateScheduler scheduler = fgDefault;
+		if (scheduler != null) {
+			scheduler.handleDebugEvents(events);
+		}
+	}
+
+	/**
+	 * Returns the key of the lane processing updates of the given elements,
+	 * the launch of the first element belonging to a launch.
+	 */
+	static Object getLaneKey(Object[] elements) {
+		for (Object element : elements) {
+			ILaunch launch = null;
+			if (element instanceof ILaunch) {
+				launch = (ILaunch) element;
+			} else if (element instanceof IDebugElement) {
+				launch = ((IDebugElement) element).getLaunch();
+			} else if (element instanceof IProcess) {
+				launch = ((IProcess) element).getLaunch();
+			}
+			if (launch != null) {
+				return launch;
+			}
+		}
+		return DEFAULT_LANE;
+	}
+
+	/**
+	 * Lanes by launch, guarded by this scheduler
+	 */
+	private final Map<Object, Lane> fLanes = new HashMap<>();
+
+	/**
+	 * Pending updates by command in the order they were scheduled, guarded by
+	 * this scheduler. An update is only evaluated once it is the first one of
+	 * its command.
+	 */
+	private final Map<Object, Deque<Update>> fCommandQueues = new IdentityHashMap<>();
+
+	/**
+	 * Enabled state by command and elements
+	 */
+	private final Map<Object, Boolean> fCache = new HashMap<>();
+
+	/**
+	 * Incremented whenever the cache is invalidated, so that states computed
+	 * before are not cached.
+	 */
+	private long fGeneration;
+
+	EnabledStateScheduler() {
+	}
+
+	/**
+	 * Queues the given update.
+	 *
+	 * @param update the update
+	 */
+	public void schedule(Update update) {
+		Lane lane;
+		synchronized (this) {
+			lane = fLanes.computeIfAbsent(update.fLaneKey, key -> new Lane(key));
+			lane.fQueue.add(update);
+			fCommandQueues.computeIfAbsent(update.fCommand, command -> new ArrayDeque<>()).add(update);
+		}
+		lane.schedule();
+	}
+
+	/**
+	 * Cancels the queued and running updates of the given job family.
+	 *
+	 * @param family job family
+	 */
+	public void cancel(Object family) {
+		List<Update> canceled = new ArrayList<>();
+		List<Lane> resumed;
+		synchronized (this) {
+			for (Lane lane : fLanes.values()) {
+				for (Iterator<Update> iterator = lane.fQueue.iterator(); iterator.hasNext();) {
+					Update update = iterator.next();
+					if (Objects.equals(family, update.fFamily)) {
+						iterator.remove();
+						canceled.add(update);
+					}
+				}
+				if (lane.fRunning != null && Objects.equals(family, lane.fRunning.fFamily)) {
+					lane.fRunning.fCanceled = true;
+				}
+			}
+			canceled.forEach(this::dequeue);
+			resumed = canceled.isEmpty() ? Collections.emptyList() : getIdleLanes(null);
+		}
+		for (Update update : canceled) {
+			update.abort();
+		}
+		resumed.forEach(Job::schedule);
+	}
+
+	/**
+	 * Removes a completed or canceled update from the pending updates of its
+	 * command. Must be called while holding the lock of this scheduler.
+	 */
+	private void dequeue(Update update) {
+		Deque<Update> queue = fCommandQueues.get(update.fCommand);
+		if (queue != null) {
+			queue.remove(update);
+			if (queue.isEmpty()) {
+				fCommandQueues.remove(update.fCommand);
+			}
+		}
+	}
+
+	/**
+	 * Returns the lanes other than the given one which wait for updates of
+	 * other lanes to complete. Must be called while holding the lock of this
+	 * scheduler.
+	 */
+	private List<Lane> getIdleLanes(Lane except) {
+		List<Lane> lanes = new ArrayList<>();
+		for (Lane lane : fLanes.values()) {
+			if (lane != except && lane.fRunning == null && !lane.fQueue.isEmpty()) {
+				lanes.add(lane);
+			}
+		}
+		return lanes;
+	}
+
+	private void runUpdate(Update update, IProgressMonitor monitor) {
+		long generation;
+		synchronized (this) {
+			if (update.fCacheKey != null) {
+				Boolean enabled = fCache.get(update.fCacheKey);
+				if (enabled != null) {
+					if (DebugOptions.DEBUG_COMMANDS) {
+						DebugOptions.trace("cached enabled state: " + update + " >> " + enabled); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					update.fRequest.setEnabled(enabled.booleanValue());
+					update.fRequest.done();
+					return;
+				}
+			}
+			generation = fGeneration;
+		}
+		Boolean enabled = update.run(new ProgressMonitorWrapper(monitor) {
+			@Override
+			public boolean isCanceled() {
+				return update.fCanceled || super.isCanceled();
+			}
+		});
+		if (enabled != null && update.fCacheKey != null) {
+			synchronized (this) {
+				if (generation == fGeneration) {
+					fCache.put(update.fCacheKey, enabled);
+				}
+			}
+		}
+	}
+
+	private synchronized void invalidate() {
+		fGeneration++;
+		fCache.clear();
+	}
+
+	private void handleDebugEvents(DebugEvent[] events) {
+		for (DebugEvent event : events) {
+			Object source = event.getSource();
+			if (!(source instanceof IVariable || source instanceof IValue || source instanceof IExpression)) {
+				invalidate();
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void launchesRemoved(ILaunch[] launches) {
+		invalidate();
+	}
+
+	@Override
+	public void launchesAdded(ILaunch[] launches) {
+		invalidate();
+	}
+
+	@Override
+	public void launchesChanged(ILaunch[] launches) {
+		invalidate();
+	}
+}
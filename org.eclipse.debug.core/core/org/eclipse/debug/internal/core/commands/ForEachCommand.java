@@ -13,13 +13,23 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.commands;
 
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IRequest;
 import org.eclipse.debug.core.commands.AbstractDebugCommand;
-import org.eclipse.debug.core.commands.IDebugCommandRequest;
 import org.eclipse.debug.core.commands.IEnabledStateRequest;
+import org.eclipse.debug.internal.core.DebugCoreMessages;
 
 /**
  * A command that operates on each element individually.
@@ -28,16 +38,93 @@ import org.eclipse.debug.core.commands.IEnabledStateRequest;
  */
 public abstract class ForEachCommand extends AbstractDebugCommand {
 
-	private final ExclusiveRule exclusiveRule = new ExclusiveRule();
+	/**
+	 * Number of targets commands which execute on independent targets execute
+	 * on in parallel.
+	 */
+	static final int PARALLEL_EXECUTIONS = 8;
 
 	@Override
 	protected void doExecute(Object[] targets, IProgressMonitor monitor, IRequest request) throws CoreException {
+		int parallelExecutions = Math.min(getMaxParallelExecutions(), targets.length);
+		if (parallelExecutions > 1) {
+			executeInParallel(targets, parallelExecutions, monitor);
+			return;
+		}
 		for (Object target : targets) {
 			execute(target);
 			monitor.worked(1);
 		}
 	}
 
+	/**
+	 * Returns the maximum number of targets this command is executed on at the
+	 * same time. By default the command is executed on one target after
+	 * another and stops at the first failure. Commands whose execution on a
+	 * target does not depend on the other targets may return a higher number.
+	 * The command is then executed on all targets and fails with the statuses
+	 * of all failed executions.
+	 *
+	 * @return maximum number of parallel executions
+	 */
+	protected int getMaxParallelExecutions() {
+		return 1;
+	}
+
+	private void executeInParallel(Object[] targets, int parallelExecutions, IProgressMonitor monitor) throws CoreException {
+		JobGroup group = new JobGroup(getExecuteTaskName(), parallelExecutions, targets.length);
+		BlockingQueue<IStatus> results = new LinkedBlockingQueue<>();
+		for (Object target : targets) {
+			Job job = Job.create(getExecuteTaskName(), jobMonitor -> {
+				IStatus status = Status.OK_STATUS;
+				try {
+					execute(target);
+				} catch (CoreException e) {
+					status = e.getStatus();
+				} catch (Throwable e) {
+					// errors must fail the command as well, the job would only log them
+					String message = e.getMessage() != null ? e.getMessage() : e.toString();
+					status = new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED, message, e);
+				} finally {
+					results.add(status);
+				}
+				return Status.OK_STATUS;
+			});
+			job.setSystem(true);
+			job.setJobGroup(group);
+			job.schedule();
+		}
+		MultiStatus status = new MultiStatus(DebugPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED, DebugCoreMessages.ForEachCommand_failed, null);
+		try {
+			int done = 0;
+			while (done < targets.length) {
+				IStatus result = results.poll(100, TimeUnit.MILLISECONDS);
+				if (result != null) {
+					done++;
+					if (!result.isOK()) {
+						status.add(result);
+					}
+					monitor.worked(1);
+				} else if (monitor.isCanceled()) {
+					// executions already started still complete
+					group.cancel();
+					break;
+				}
+			}
+		} catch (InterruptedException e) {
+			group.cancel();
+			Thread.currentThread().interrupt();
+		}
+		if (status.isOK()) {
+			return;
+		}
+		IStatus[] children = status.getChildren();
+		if (children.length == 1) {
+			throw new CoreException(children[0]);
+		}
+		throw new CoreException(status);
+	}
+
 	protected abstract void execute(Object target) throws CoreException;
 
 	@Override
@@ -54,27 +141,16 @@ public abstract class ForEachCommand extends AbstractDebugCommand {
 	protected abstract boolean isExecutable(Object target);
 
 	/*
-	 * Do not allow parallel update requests for the same command, since those
-	 * can result in race conditions, where one selected element enables a
-	 * command and another selected element disables the command. Depending on
-	 * which request is processed first, the debug command could end up with the
-	 * wrong enabled state. See bug 560274.
+	 * The enabled state only depends on the state of the targets, which debug
+	 * models report with debug events.
+	 *
+	 * The exclusive scheduling rule which prevented parallel updates of the
+	 * same command (bug 560274) is replaced by the shared
+	 * EnabledStateScheduler, which never evaluates updates of the same command
+	 * in parallel, not even for different launches.
 	 */
 	@Override
-	protected ISchedulingRule getEnabledStateSchedulingRule(IDebugCommandRequest request) {
-		return exclusiveRule;
-	}
-
-	static class ExclusiveRule implements ISchedulingRule {
-
-		@Override
-		public boolean contains(ISchedulingRule rule) {
-			return rule == this;
-		}
-
-		@Override
-		public boolean isConflicting(ISchedulingRule rule) {
-			return contains(rule);
-		}
+	protected boolean isEnabledStateCacheable() {
+		return true;
 	}
 }
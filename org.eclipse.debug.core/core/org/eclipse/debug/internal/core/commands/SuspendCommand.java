@@ -44,4 +44,9 @@ public class SuspendCommand extends ForEachCommand implements ISuspendHandler {
 	protected Object getEnabledStateJobFamily(IDebugCommandRequest request) {
 		return ISuspendHandler.class;
 	}
+
+	@Override
+	protected int getMaxParallelExecutions() {
+		return PARALLEL_EXECUTIONS;
+	}
 }
@@ -44,4 +44,9 @@ public class TerminateCommand extends ForEachCommand implements ITerminateHandle
 	protected Object getEnabledStateJobFamily(IDebugCommandRequest request) {
 		return ITerminateHandler.class;
 	}
+
+	@Override
+	protected int getMaxParallelExecutions() {
+		return PARALLEL_EXECUTIONS;
+	}
 }
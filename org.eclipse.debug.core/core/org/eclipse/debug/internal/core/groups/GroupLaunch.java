@@ -17,6 +17,7 @@ package org.eclipse.debug.internal.core.groups;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.core.runtime.IStatus;
@@ -54,6 +55,12 @@ public class GroupLaunch extends Launch implements ILaunchesListener2 {
 	 */
 	private Map<ILaunch, IProcess[]> subLaunches = new HashMap<>();
 
+	/**
+	 * Startup time in milliseconds by element name, in the order the elements
+	 * became ready.
+	 */
+	private final Map<String, Long> fStartupTimes = new LinkedHashMap<>();
+
 	public GroupLaunch(ILaunchConfiguration launchConfiguration, String mode) {
 		super(launchConfiguration, mode, null);
 		getLaunchManager().addLaunchListener((ILaunchesListener2) this);
@@ -74,6 +81,33 @@ public class GroupLaunch extends Launch implements ILaunchesListener2 {
 		}
 	}
 
+	/**
+	 * Records the time an element of this group took from being launched
+	 * until its post launch action completed.
+	 *
+	 * @param name name of the element
+	 * @param millis startup time in milliseconds
+	 */
+	public void setStartupTime(String name, long millis) {
+		synchronized (fStartupTimes) {
+			fStartupTimes.put(name, Long.valueOf(millis));
+		}
+	}
+
+	/**
+	 * Returns the startup times of the elements launched by this group so
+	 * far, i.e. the time each element took from being launched until its post
+	 * launch action completed. Adopted elements are not included.
+	 *
+	 * @return startup time in milliseconds by element name, in the order the
+	 *         elements became ready
+	 */
+	public Map<String, Long> getStartupTimes() {
+		synchronized (fStartupTimes) {
+			return new LinkedHashMap<>(fStartupTimes);
+		}
+	}
+
 	private boolean isChild(ILaunch launch) {
 		synchronized (subLaunches) {
 			for (ILaunch subLaunch : subLaunches.keySet()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2009, 2019 QNX Software Systems and others.
+ *  Copyright (c) 2009, 2026 QNX Software Systems and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -18,14 +18,19 @@ package org.eclipse.debug.internal.core.groups;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
@@ -33,6 +38,8 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
@@ -45,6 +52,7 @@ import org.eclipse.debug.core.model.LaunchConfigurationDelegate;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
 import org.eclipse.debug.internal.core.groups.GroupLaunchElement.GroupElementPostLaunchAction;
+import org.eclipse.debug.internal.core.groups.observer.LaunchObserver;
 import org.eclipse.debug.internal.core.groups.observer.ProcessObserver;
 import org.eclipse.debug.internal.core.groups.observer.StreamObserver;
 import org.eclipse.osgi.util.NLS;
@@ -66,8 +74,23 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 	private static final String MODE_PROP = "mode"; //$NON-NLS-1$
 	private static final String ACTION_PROP = "action"; //$NON-NLS-1$
 	private static final String ACTION_PARAM_PROP = "actionParam"; //$NON-NLS-1$
+	private static final String DEPENDENCIES_PROP = "dependencies"; //$NON-NLS-1$
 	private static final String MULTI_LAUNCH_CONSTANTS_PREFIX = "org.eclipse.debug.core.launchGroup"; //$NON-NLS-1$
 
+	/**
+	 * Boolean attribute of a group launch configuration specifying whether the
+	 * elements are launched in parallel as soon as the elements they depend on
+	 * are ready, instead of one after another. Default <code>false</code>.
+	 *
+	 * @see GroupLaunchElement#dependencies
+	 */
+	public static final String ATTR_PARALLEL = "org.eclipse.debug.core.groupLaunchParallel"; //$NON-NLS-1$
+
+	/**
+	 * Milliseconds after which waiting element launches check for cancellation
+	 */
+	private static final long CHECK_INTERVAL = 500;
+
 	private static final String DEBUG_CORE = "org.eclipse.debug.core"; //$NON-NLS-1$
 
 	private static final Status UNSUPPORTED_MODE = new Status(IStatus.ERROR, DEBUG_CORE, 230, IInternalDebugCoreConstants.EMPTY_STRING, null);
@@ -95,61 +118,287 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 			SubMonitor progress = SubMonitor.convert(monitor, NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Launching, groupConfig.getName()), 1000);
 
 			List<GroupLaunchElement> launches = createLaunchElements(groupConfig);
-			for (int i = 0; i < launches.size(); ++i) {
-				GroupLaunchElement le = launches.get(i);
+			if (groupConfig.getAttribute(ATTR_PARALLEL, false)) {
+				launchParallel(progress, groupConfig, group, launches, mode);
+			} else {
+				launchSequential(progress, groupConfig, group, launches, mode);
+			}
 
-				if (!le.enabled) {
-					continue;
+			if (!group.hasChildren()) {
+				DebugPlugin.getDefault().getLaunchManager().removeLaunch(group);
+			}
+		} finally {
+			// safety net - launching is finished also in case of a problem.
+			group.markLaunched();
+			groupStateHandler.handleStatus(GROUP_LAUNCH_DONE, group);
+			monitor.done();
+		}
+	}
+
+	private void launchSequential(SubMonitor progress, ILaunchConfiguration groupConfig, GroupLaunch group, List<GroupLaunchElement> launches, String mode) throws CoreException {
+		for (int i = 0; i < launches.size(); ++i) {
+			GroupLaunchElement le = launches.get(i);
+			String localMode = getLocalMode(le, mode);
+			ILaunchConfiguration conf = findChild(groupConfig, le, localMode);
+			if (conf == null) {
+				continue;
+			}
+			if (!launchChild(progress.newChild(1000 / launches.size()), group, le, conf, localMode, (i == launches.size() - 1) ? group::markLaunched : null)) {
+				break;
+			}
+
+			// in case the group has been terminated while waiting in the
+			// post launch action.
+			if (group.isTerminated()) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Launches the elements of the group as soon as the elements they depend on
+	 * are ready, i.e. have been launched and completed their post launch
+	 * action. Independent elements are launched in parallel, each in its own
+	 * job. Elements depending on an element which did not get ready are not
+	 * launched.
+	 */
+	private void launchParallel(SubMonitor progress, ILaunchConfiguration groupConfig, GroupLaunch group, List<GroupLaunchElement> launches, String mode) throws CoreException {
+		Map<GroupLaunchElement, ILaunchConfiguration> children = new LinkedHashMap<>();
+		Map<GroupLaunchElement, String> modes = new HashMap<>();
+		for (GroupLaunchElement le : launches) {
+			String localMode = getLocalMode(le, mode);
+			ILaunchConfiguration conf = findChild(groupConfig, le, localMode);
+			if (conf != null) {
+				children.put(le, conf);
+				modes.put(le, localMode);
+			}
+		}
+		// the elements each element still waits for
+		Map<GroupLaunchElement, Set<GroupLaunchElement>> pending = new HashMap<>();
+		for (GroupLaunchElement le : children.keySet()) {
+			Set<GroupLaunchElement> dependencies = new HashSet<>();
+			for (GroupLaunchElement other : children.keySet()) {
+				if (other != le && le.dependencies.contains(other.name)) {
+					dependencies.add(other);
 				}
+			}
+			pending.put(le, dependencies);
+		}
+		if (removeCycles(children.keySet(), pending)) {
+			IStatusHandler cycleHandler = DebugPlugin.getDefault().getStatusHandler(GROUP_CYCLE);
+			cycleHandler.handleStatus(GROUP_CYCLE, groupConfig.getName());
+		}
 
-				// find launch; if not found, skip (error?)
-				final ILaunchConfiguration conf = findLaunchConfiguration(le.name);
-				if (conf == null) {
+		int ticks = 1000 / Math.max(1, children.size());
+		JobGroup jobs = new JobGroup(groupConfig.getName(), 0, children.size());
+		BlockingQueue<LaunchResult> results = new LinkedBlockingQueue<>();
+		Set<GroupLaunchElement> waiting = new LinkedHashSet<>(children.keySet());
+		PendingLaunches unlaunched = new PendingLaunches(group, children.size());
+		CoreException failure = null;
+		int running = 0;
+		try {
+			while (true) {
+				for (Iterator<GroupLaunchElement> iterator = waiting.iterator(); iterator.hasNext();) {
+					GroupLaunchElement le = iterator.next();
+					if (pending.get(le).isEmpty()) {
+						iterator.remove();
+						ILaunchConfiguration conf = children.get(le);
+						Job job = Job.create(NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Launching, conf.getName()), monitor -> {
+							LaunchResult result = new LaunchResult(le);
+							try {
+								result.ready = launchChild(SubMonitor.convert(monitor), group, le, conf, modes.get(le), () -> {
+									result.launched = true;
+									unlaunched.done(1);
+								});
+							} catch (CoreException e) {
+								result.exception = e;
+							} finally {
+								if (!result.launched) {
+									unlaunched.done(1);
+								}
+								results.add(result);
+							}
+							return Status.OK_STATUS;
+						});
+						job.setSystem(true);
+						job.setJobGroup(jobs);
+						job.schedule();
+						running++;
+					}
+				}
+				if (running == 0) {
+					break;
+				}
+				LaunchResult result = results.poll(CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+				if (result == null) {
+					if (progress.isCanceled() || group.isTerminated()) {
+						break;
+					}
 					continue;
 				}
-
-				// determine mode for each launch
-				final String localMode;
-				if (!le.mode.equals(GroupLaunchElement.MODE_INHERIT)) {
-					localMode = le.mode;
+				running--;
+				progress.worked(ticks);
+				if (result.exception != null) {
+					failure = result.exception;
+					break;
+				}
+				if (result.ready) {
+					for (Set<GroupLaunchElement> dependencies : pending.values()) {
+						dependencies.remove(result.element);
+					}
 				} else {
-					localMode = mode;
+					unlaunched.done(removeDependents(result.element, waiting, pending));
 				}
-				if (!conf.supportsMode(localMode)) {
-					IStatusHandler handler = DebugPlugin.getDefault().getStatusHandler(UNSUPPORTED_MODE);
-					handler.handleStatus(UNSUPPORTED_MODE, new String[] {
-							conf.getName(), localMode });
-					continue;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			if (running > 0) {
+				// launches in progress notice the cancellation in their post
+				// launch action, jobs not started yet never run
+				jobs.cancel();
+				try {
+					jobs.join(0, null);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
 				}
+			}
+			// no more elements are launched
+			group.markLaunched();
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
 
-				if (groupConfig.getName().equals(conf.getName())) {
-					// loop detected. report as appropriate and die.
-					IStatusHandler cycleHandler = DebugPlugin.getDefault().getStatusHandler(GROUP_CYCLE);
-					cycleHandler.handleStatus(GROUP_CYCLE, conf.getName());
-				} else if (!launchChild(progress.newChild(1000 / launches.size()), group, le, conf, localMode, (i == launches.size() - 1))) {
-					break;
+	/**
+	 * Removes the waiting elements which depend, directly or through other
+	 * waiting elements, on the given element which did not get ready.
+	 *
+	 * @return the number of removed elements
+	 */
+	private static int removeDependents(GroupLaunchElement element, Set<GroupLaunchElement> waiting, Map<GroupLaunchElement, Set<GroupLaunchElement>> dependencies) {
+		Set<GroupLaunchElement> skipped = new HashSet<>();
+		skipped.add(element);
+		int removed = 0;
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (Iterator<GroupLaunchElement> iterator = waiting.iterator(); iterator.hasNext();) {
+				GroupLaunchElement le = iterator.next();
+				if (!Collections.disjoint(dependencies.get(le), skipped)) {
+					iterator.remove();
+					skipped.add(le);
+					removed++;
+					changed = true;
 				}
+			}
+		}
+		return removed;
+	}
 
-				// in case the group has been terminated while waiting in the
-				// post launch action.
-				if (group.isTerminated()) {
-					break;
+	/**
+	 * Removes the elements which depend on themselves, directly or through
+	 * other elements, and the elements depending on those.
+	 *
+	 * @return whether elements have been removed
+	 */
+	private static boolean removeCycles(Set<GroupLaunchElement> elements, Map<GroupLaunchElement, Set<GroupLaunchElement>> dependencies) {
+		Set<GroupLaunchElement> resolved = new HashSet<>();
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (GroupLaunchElement le : elements) {
+				if (!resolved.contains(le) && resolved.containsAll(dependencies.get(le))) {
+					resolved.add(le);
+					changed = true;
 				}
 			}
+		}
+		return elements.retainAll(resolved);
+	}
 
+	/**
+	 * The outcome of launching an element of a group in parallel.
+	 */
+	private static final class LaunchResult {
+		final GroupLaunchElement element;
+		boolean launched;
+		boolean ready;
+		CoreException exception;
+
+		LaunchResult(GroupLaunchElement element) {
+			this.element = element;
+		}
+	}
 
-			if (!group.hasChildren()) {
-				DebugPlugin.getDefault().getLaunchManager().removeLaunch(group);
+	/**
+	 * Counts the elements of a group launched in parallel which may still be
+	 * launched. Once there are none left, the group is marked as launched, so
+	 * that from then on the last terminating child also terminates the group.
+	 */
+	private static final class PendingLaunches {
+		private final GroupLaunch group;
+		private int count;
+
+		PendingLaunches(GroupLaunch group, int count) {
+			this.group = group;
+			this.count = count;
+		}
+
+		/**
+		 * @param elements number of elements launched or skipped
+		 */
+		synchronized void done(int elements) {
+			if (count > 0 && elements > 0) {
+				count = Math.max(0, count - elements);
+				if (count == 0) {
+					group.markLaunched();
+				}
 			}
-		} finally {
-			// safety net - launching is finished also in case of a problem.
-			group.markLaunched();
-			groupStateHandler.handleStatus(GROUP_LAUNCH_DONE, group);
-			monitor.done();
 		}
 	}
 
-	private boolean launchChild(SubMonitor monitor, final GroupLaunch group, GroupLaunchElement le, final ILaunchConfiguration child, final String localMode, boolean lastConfig) throws CoreException {
+	private static String getLocalMode(GroupLaunchElement le, String mode) {
+		if (!le.mode.equals(GroupLaunchElement.MODE_INHERIT)) {
+			return le.mode;
+		}
+		return mode;
+	}
+
+	/**
+	 * Returns the configuration to launch for the given element or
+	 * <code>null</code> if the element must be skipped.
+	 */
+	private static ILaunchConfiguration findChild(ILaunchConfiguration groupConfig, GroupLaunchElement le, String localMode) throws CoreException {
+		if (!le.enabled) {
+			return null;
+		}
+
+		// find launch; if not found, skip (error?)
+		final ILaunchConfiguration conf = findLaunchConfiguration(le.name);
+		if (conf == null) {
+			return null;
+		}
+
+		if (!conf.supportsMode(localMode)) {
+			IStatusHandler handler = DebugPlugin.getDefault().getStatusHandler(UNSUPPORTED_MODE);
+			handler.handleStatus(UNSUPPORTED_MODE, new String[] {
+					conf.getName(), localMode });
+			return null;
+		}
+
+		if (groupConfig.getName().equals(conf.getName())) {
+			// loop detected. report as appropriate and die.
+			IStatusHandler cycleHandler = DebugPlugin.getDefault().getStatusHandler(GROUP_CYCLE);
+			cycleHandler.handleStatus(GROUP_CYCLE, conf.getName());
+			return null;
+		}
+		return conf;
+	}
+
+	private boolean launchChild(SubMonitor monitor, final GroupLaunch group, GroupLaunchElement le, final ILaunchConfiguration child, final String localMode, Runnable onLaunched) throws CoreException {
+		final long start = System.currentTimeMillis();
 		final Set<ILaunch> running = le.adoptIfRunning ? findRunningLaunch(le.name) : Collections.emptySet();
 		ILaunch subLaunch = running.stream().findFirst().orElse(null);
 		boolean launched = false;
@@ -187,14 +436,18 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 		// if this is the last child, mark the group as "launching finished", so
 		// that from now on the last terminating child will also terminate the
 		// group.
-		if (lastConfig) {
-			group.markLaunched();
+		if (onLaunched != null) {
+			onLaunched.run();
 		}
 
 		// in case we adopted the launch, and did not launch outselves, don't
 		// execute the post launch action!
 		if (launched) {
-			return postLaunchAction(subLaunch, le, monitor);
+			boolean ready = postLaunchAction(subLaunch, le, monitor);
+			if (ready) {
+				group.setStartupTime(le.name, System.currentTimeMillis() - start);
+			}
+			return ready;
 		} else {
 			return true;
 		}
@@ -206,12 +459,13 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 				return true;
 			case WAIT_FOR_TERMINATION:
 				monitor.subTask(NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Waiting_for_termination, subLaunch.getLaunchConfiguration().getName()));
-				while (!subLaunch.isTerminated() && !monitor.isCanceled()) {
-					try {
-						Thread.sleep(1000);
-					} catch (InterruptedException e) {
-						break;
-					}
+				CountDownLatch terminated = new CountDownLatch(1);
+				LaunchObserver observer = new LaunchObserver(subLaunch, terminated);
+				observer.start();
+				try {
+					await(terminated, subLaunch::isTerminated, monitor, 0);
+				} finally {
+					observer.dispose();
 				}
 				monitor.subTask(""); //$NON-NLS-1$
 				break;
@@ -219,11 +473,7 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 				Integer waitSecs = (Integer) le.actionParam;
 				if (waitSecs != null) {
 					monitor.subTask(NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Delaying, waitSecs.toString()));
-					try {
-						Thread.sleep(waitSecs * 1000); // param is milliseconds
-					} catch (InterruptedException e) {
-						// ok
-					}
+					await(new CountDownLatch(1), () -> false, monitor, waitSecs * 1000L);
 				}
 				break;
 
@@ -247,25 +497,57 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 
 	// blocks until a specific string is in the log output
 	private boolean waitForOutputMatching(ILaunch launch, IProgressMonitor m, String regexp) {
-		int processCount = launch.getProcesses().length;
-		final ExecutorService executor = Executors.newCachedThreadPool();
-		final CountDownLatch countDownLatch = new CountDownLatch(processCount);
-		Future<Integer> process = null;
-		for (IProcess p : launch.getProcesses()) {
-			process = executor.submit(new ProcessObserver(m, p, countDownLatch));
-			executor.submit(new StreamObserver(m, p, regexp, countDownLatch));
+		IProcess[] processes = launch.getProcesses();
+		if (processes.length == 0) {
+			return false;
 		}
+		final CountDownLatch countDownLatch = new CountDownLatch(1);
+		List<StreamObserver> streamObservers = new ArrayList<>(processes.length);
+		for (IProcess p : processes) {
+			StreamObserver streamObserver = new StreamObserver(p, regexp, countDownLatch);
+			streamObserver.start();
+			streamObservers.add(streamObserver);
+		}
+		ProcessObserver observer = new ProcessObserver(processes, countDownLatch);
+		observer.start();
 		try {
-			countDownLatch.await();
-		} catch (InterruptedException e) {
-			// should not happen at all!
+			await(countDownLatch, () -> false, m, 0);
+		} finally {
+			observer.dispose();
+			streamObservers.forEach(StreamObserver::dispose);
 		}
-		executor.shutdown();
-		// process terminated before condition
-		if (process == null || process.isDone()) {
+		// false if the processes terminated before the condition
+		return streamObservers.stream().anyMatch(StreamObserver::isMatched);
+	}
+
+	/**
+	 * Blocks until the given latch is released or the given condition is met.
+	 * The condition is checked again every {@link #CHECK_INTERVAL}
+	 * milliseconds, so that cancellation is noticed and targets not notifying
+	 * about their changes are not waited for forever.
+	 *
+	 * @param latch latch released by the observers of the awaited event
+	 * @param condition whether the awaited event already happened
+	 * @param monitor progress monitor to check for cancellation
+	 * @param timeout maximum time to wait in milliseconds or <code>0</code> to
+	 *            wait without limit
+	 * @return <code>true</code> if the latch was released or the condition is
+	 *         met, <code>false</code> if canceled or timed out
+	 */
+	private static boolean await(CountDownLatch latch, BooleanSupplier condition, IProgressMonitor monitor, long timeout) {
+		long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : Long.MAX_VALUE;
+		try {
+			while (latch.getCount() > 0 && !condition.getAsBoolean()) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (monitor.isCanceled() || remaining <= 0) {
+					return false;
+				}
+				latch.await(Math.min(remaining, CHECK_INTERVAL), TimeUnit.MILLISECONDS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			return false;
 		}
-		// condition matched
 		return true;
 	}
 
@@ -357,6 +639,12 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 							if (attrs.containsKey(getProp(index, ADOPT_PROP))) {
 								el.adoptIfRunning = (Boolean) attrs.get(getProp(index, ADOPT_PROP));
 							}
+							Object dependencies = attrs.get(getProp(index, DEPENDENCIES_PROP));
+							if (dependencies instanceof List<?>) {
+								for (Object dependency : (List<?>) dependencies) {
+									el.dependencies.add((String) dependency);
+								}
+							}
 							el.mode = (String) attrs.get(getProp(index, MODE_PROP));
 							el.enabled = (Boolean) attrs.get(getProp(index, ENABLED_PROP));
 							try {
@@ -397,6 +685,9 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 			configuration.setAttribute(getProp(i, ACTION_PARAM_PROP), el.actionParam != null ? el.actionParam.toString() : null);
 			configuration.setAttribute(getProp(i, MODE_PROP), el.mode);
 			configuration.setAttribute(getProp(i, ENABLED_PROP), el.enabled);
+			if (!el.dependencies.isEmpty()) {
+				configuration.setAttribute(getProp(i, DEPENDENCIES_PROP), el.dependencies);
+			}
 			i++;
 		}
 	}
@@ -15,6 +15,9 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.groups;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 
@@ -68,4 +71,12 @@ public class GroupLaunchElement {
 	public Object actionParam;
 	public String name;
 	public ILaunchConfiguration data;
+
+	/**
+	 * Names of the elements which must be launched and have completed their
+	 * post launch action before this element is launched. Dependencies on
+	 * elements which are not launched are ignored. Only used by groups
+	 * launching their elements in parallel.
+	 */
+	public List<String> dependencies = new ArrayList<>();
 }
\ No newline at end of file
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.groups;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
@@ -52,6 +53,9 @@ public class GroupMemberChangeListener implements ILaunchConfigurationListener {
 							updated = true;
 							e.name = configuration.getName();
 						}
+						if (Collections.replaceAll(e.dependencies, original.getName(), configuration.getName())) {
+							updated = true;
+						}
 					}
 
 					if (updated) {
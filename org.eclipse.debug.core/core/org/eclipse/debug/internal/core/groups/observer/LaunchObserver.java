@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core.groups.observer;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchesListener2;
+
+/**
+ * The {@code LaunchObserver} observes a given {@linkplain ILaunch launch} and
+ * notifies a {@linkplain CountDownLatch synchronization object} when the launch
+ * terminates.
+ */
+public final class LaunchObserver implements ILaunchesListener2 {
+	private final ILaunch launch;
+	private final CountDownLatch countDownLatch;
+
+	public LaunchObserver(ILaunch launch, CountDownLatch countDownLatch) {
+		this.launch = launch;
+		this.countDownLatch = countDownLatch;
+	}
+
+	/**
+	 * Starts observing the launch.
+	 */
+	public void start() {
+		DebugPlugin.getDefault().getLaunchManager().addLaunchListener(this);
+		// it may have terminated before we started listening
+		if (launch.isTerminated()) {
+			countDownLatch.countDown();
+		}
+	}
+
+	/**
+	 * Stops observing the launch.
+	 */
+	public void dispose() {
+		DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(this);
+	}
+
+	@Override
+	public void launchesTerminated(ILaunch[] launches) {
+		for (ILaunch l : launches) {
+			if (l == launch) {
+				countDownLatch.countDown();
+			}
+		}
+	}
+
+	@Override
+	public void launchesRemoved(ILaunch[] launches) {
+	}
+
+	@Override
+	public void launchesAdded(ILaunch[] launches) {
+	}
+
+	@Override
+	public void launchesChanged(ILaunch[] launches) {
+	}
+}
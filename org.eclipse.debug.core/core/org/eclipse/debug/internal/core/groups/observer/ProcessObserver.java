@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2016 SSI Schaefer and others.
+ *  Copyright (c) 2012, 2026 SSI Schaefer and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,44 +13,68 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.groups.observer;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
 
-import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IProcess;
 
 /**
- * The {@code ProcessObserver} observes a given {@linkplain IProcess process} instance and notifies
- * a {@linkplain CountDownLatch synchronization object} when the process terminates.
+ * The {@code ProcessObserver} observes the given {@linkplain IProcess
+ * processes} and notifies a {@linkplain CountDownLatch synchronization object}
+ * when all of them have terminated. Termination is detected from the
+ * {@link DebugEvent#TERMINATE} events of the processes.
  */
-public final class ProcessObserver implements Callable<Integer> {
-	private final IProcess p;
-	private final IProgressMonitor pMonitor;
+public final class ProcessObserver implements IDebugEventSetListener {
+	private final IProcess[] processes;
 	private final CountDownLatch countDownLatch;
 
-	public ProcessObserver(IProgressMonitor monitor, IProcess p, CountDownLatch countDownLatch) {
-		this.p = p;
-		this.pMonitor = monitor;
+	public ProcessObserver(IProcess[] processes, CountDownLatch countDownLatch) {
+		this.processes = processes;
 		this.countDownLatch = countDownLatch;
 	}
 
-	@Override
-	public Integer call() throws Exception {
-		try {
-			while (!p.isTerminated() && !pMonitor.isCanceled()) {
-				TimeUnit.MILLISECONDS.sleep(250);
-
-				if (countDownLatch.getCount() == 0) {
-					break;
-				}
+	/**
+	 * Starts observing the processes.
+	 */
+	public void start() {
+		DebugPlugin.getDefault().addDebugEventListener(this);
+		// they may have terminated before we started listening
+		checkTerminated();
+	}
+
+	/**
+	 * Stops observing the processes.
+	 */
+	public void dispose() {
+		DebugPlugin.getDefault().removeDebugEventListener(this);
+	}
+
+	/**
+	 * @return whether all observed processes have terminated
+	 */
+	public boolean isTerminated() {
+		for (IProcess p : processes) {
+			if (!p.isTerminated()) {
+				return false;
 			}
-			// check if terminated or timeout
-			if (p.isTerminated()) {
-				return p.getExitValue();
+		}
+		return true;
+	}
+
+	@Override
+	public void handleDebugEvents(DebugEvent[] events) {
+		for (DebugEvent event : events) {
+			if (event.getKind() == DebugEvent.TERMINATE && event.getSource() instanceof IProcess) {
+				checkTerminated();
+				return;
 			}
-			return 0;
-		} finally {
+		}
+	}
+
+	private void checkTerminated() {
+		if (isTerminated()) {
 			countDownLatch.countDown();
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2016 SSI Schaefer and others.
+ *  Copyright (c) 2012, 2026 SSI Schaefer and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,63 +14,63 @@
 package org.eclipse.debug.internal.core.groups.observer;
 
 import java.util.concurrent.CountDownLatch;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.debug.core.IStreamListener;
 import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.core.model.IStreamMonitor;
 import org.eclipse.debug.core.model.IStreamsProxy;
+import org.eclipse.debug.core.model.StreamLineMatcher;
 
 /**
  * The {@code StreamObserver} observes a given {@linkplain IStreamsProxy output stream} instance and
- * notifies a {@linkplain CountDownLatch synchronization object} when a given string appears in the
- * output.
+ * notifies a {@linkplain CountDownLatch synchronization object} when a line matching a given
+ * pattern appears in the output.
  */
-public class StreamObserver implements Runnable {
+public class StreamObserver {
 	private final String stringPattern;
 	private final IProcess process;
 	private final CountDownLatch countDownLatch;
-	private final IProgressMonitor pMonitor;
+	private IStreamMonitor outputStreamMonitor;
+	private StreamLineMatcher matcher;
 
-	public StreamObserver(IProgressMonitor monitor, IProcess process, String pattern,
-			CountDownLatch countDownLatch) {
+	public StreamObserver(IProcess process, String pattern, CountDownLatch countDownLatch) {
 		this.process = process;
-		this.pMonitor = monitor;
 		this.stringPattern = pattern;
 		this.countDownLatch = countDownLatch;
 	}
 
-	@Override
-	public void run() {
-		// append wild card if not provided
-		StringBuilder patternBuilder = new StringBuilder();
-		if (!stringPattern.startsWith(".*")) { //$NON-NLS-1$
-			patternBuilder.append(".*"); //$NON-NLS-1$
+	/**
+	 * Starts observing the output, including the output produced so far.
+	 */
+	public void start() {
+		IStreamsProxy streamsProxy = process.getStreamsProxy();
+		if (streamsProxy == null) {
+			return;
 		}
-		patternBuilder.append(stringPattern);
-		if (!stringPattern.endsWith(".*")) { //$NON-NLS-1$
-			patternBuilder.append(".*"); //$NON-NLS-1$
-		}
-		// create pattern and start listening to the output
-		final Pattern pattern = Pattern.compile(patternBuilder.toString(), Pattern.MULTILINE);
-		final IStreamMonitor outputStreamMonitor = process.getStreamsProxy()
-				.getOutputStreamMonitor();
-		outputStreamMonitor.addListener(new IStreamListener() {
+		matcher = new StreamLineMatcher(Pattern.compile(stringPattern), StreamLineMatcher.getRequiredLiteral(stringPattern)) {
 			@Override
-			public void streamAppended(String text, IStreamMonitor monitor) {
-				if (countDownLatch.getCount() == 0) {
-					outputStreamMonitor.removeListener(this);
-					return;
-				}
-
-				Matcher matcher = pattern.matcher(text);
-				if (!matcher.find() && !pMonitor.isCanceled()) {
-					return;
-				}
+			protected void matched(String line) {
 				countDownLatch.countDown();
 			}
-		});
+		};
+		// also match the output produced before we started listening
+		outputStreamMonitor = streamsProxy.getOutputStreamMonitor();
+		matcher.connect(outputStreamMonitor);
+	}
+
+	/**
+	 * @return whether a line matching the pattern appeared in the output
+	 */
+	public boolean isMatched() {
+		return matcher != null && matcher.isMatched();
+	}
+
+	/**
+	 * Stops observing the output.
+	 */
+	public void dispose() {
+		if (outputStreamMonitor != null) {
+			matcher.disconnect(outputStreamMonitor);
+		}
 	}
 }
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core.sourcelookup;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Index of the entry names of an archive, used to find entries by suffix
+ * without enumerating the archive. Entries are indexed by their last path
+ * segment, as an entry name ending with a file name ends with the file
+ * name's last segment.
+ * <p>
+ * An index is immutable and only refers to entry names, it remains valid
+ * after the archive has been closed as long as the archive file has not
+ * changed. Indexes are shared through {@link SourceLookupUtils}.
+ * </p>
+ */
+public final class ArchiveEntryIndex {
+
+	private final long fLastModified;
+	private final long fLength;
+
+	/**
+	 * Entry names keyed by their last segment, in archive order
+	 */
+	private final Map<String, List<String>> fEntriesBySegment = new HashMap<>();
+
+	/**
+	 * Potential root paths of the archive, the directories
+	 */
+	private final Set<String> fDirectories = new HashSet<>();
+
+	/**
+	 * Creates the index of the given archive.
+	 *
+	 * @param zip the archive
+	 * @param file the archive file, used to detect changes
+	 * @throws IllegalStateException if the archive has been closed
+	 */
+	ArchiveEntryIndex(ZipFile zip, File file) {
+		fLastModified = file.lastModified();
+		fLength = file.length();
+		fDirectories.add(""); //$NON-NLS-1$
+		Enumeration<? extends ZipEntry> entries = zip.entries();
+		while (entries.hasMoreElements()) {
+			ZipEntry entry = entries.nextElement();
+			String entryName = entry.getName();
+			String segment = entryName.substring(entryName.lastIndexOf('/') + 1);
+			fEntriesBySegment.computeIfAbsent(segment, s -> new ArrayList<>(1)).add(entryName);
+			if (entry.isDirectory()) {
+				fDirectories.add(entryName);
+			} else {
+				int index = entryName.lastIndexOf('/');
+				while (index > 0) {
+					if (fDirectories.add(entryName.substring(0, index + 1))) {
+						entryName = entryName.substring(0, index);
+						index = entryName.lastIndexOf('/');
+					} else {
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether this index still describes the given archive file.
+	 *
+	 * @param file the archive file
+	 * @return whether the file has not changed since it was indexed
+	 */
+	boolean isCurrent(File file) {
+		return file.lastModified() == fLastModified && file.length() == fLength;
+	}
+
+	/**
+	 * Returns the names of the entries ending with the given name, in archive
+	 * order. Unless the name is qualified, only entries whose last segment
+	 * matches the whole name are returned.
+	 *
+	 * @param name the name to search for, using <code>/</code> as separator
+	 * @param qualified whether any suffix match is acceptable
+	 * @return names of the matching entries, possibly empty
+	 */
+	public List<String> findEntries(String name, boolean qualified) {
+		List<String> candidates = fEntriesBySegment.get(name.substring(name.lastIndexOf('/') + 1));
+		if (candidates == null) {
+			return Collections.emptyList();
+		}
+		List<String> matches = new ArrayList<>(candidates.size());
+		for (String entryName : candidates) {
+			if (entryName.endsWith(name)) {
+				if (qualified || entryName.length() == name.length() || entryName.charAt(entryName.length() - name.length() - 1) == '/') {
+					matches.add(entryName);
+				}
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Returns the potential root paths of the archive: the empty path and the
+	 * directories of the archive, each ending with <code>/</code>.
+	 *
+	 * @return unmodifiable set of potential root paths
+	 */
+	public Set<String> getDirectories() {
+		return Collections.unmodifiableSet(fDirectories);
+	}
+}
@@ -13,8 +13,15 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.sourcelookup;
 
+import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.zip.ZipFile;
 
 import org.eclipse.core.resources.IResourceChangeEvent;
@@ -35,58 +42,407 @@ import org.eclipse.debug.core.ILaunchesListener2;
 public class SourceLookupUtils {
 
 	/**
-	 * Cache of shared zip files. Zip files are closed
-	 * when this class's plug-in is shutdown, when a project
-	 * is about to be closed or deleted, when a launch is
-	 * removed, and when a debug target or process terminates.
+	 * Maximum number of archives kept open by the cache
 	 */
-	private static HashMap<String, ZipFile> fgZipFileCache = new HashMap<>(5);
-	private static ArchiveCleaner fgCleaner = null;
+	private static final int MAX_OPEN_ARCHIVES = 64;
 
 	/**
-	 * Returns a zip file with the given name
+	 * Maximum number of entries of all archives kept open by the cache. The
+	 * memory used by an open archive is dominated by its central directory,
+	 * which grows with the number of entries.
+	 */
+	private static final long MAX_OPEN_ENTRIES = 1_000_000;
+
+	/**
+	 * Cache of shared zip files keyed by name. Zip files are closed when
+	 * this class's plug-in is shutdown, when a project is about to be closed
+	 * or deleted, when the last running launch terminates or is removed, and
+	 * when the cache exceeds its limits, least recently used first. Zip files
+	 * in use by a lookup are closed once the lookup releases them. Zip files
+	 * returned by {@link #getZipFile(String)} are never released, they are not
+	 * closed to stay within the limits.
+	 * {@link org.eclipse.debug.core.sourcelookup.containers.ZipEntryStorage}
+	 * reopens a zip file closed by the cache when its contents are read.
+	 */
+	private static final Map<String, ArchiveHandle> fgZipFileCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Handles of the open zip files, including closed handles whose zip file
+	 * is still in use
+	 */
+	private static final Map<ZipFile, ArchiveHandle> fgOpenArchives = new ConcurrentHashMap<>();
+
+	private static final Object fgEvictionLock = new Object();
+	private static final AtomicLong fgClock = new AtomicLong();
+	private static final AtomicLong fgOpenEntries = new AtomicLong();
+	private static final LongAdder fgHits = new LongAdder();
+	private static final LongAdder fgMisses = new LongAdder();
+	private static final LongAdder fgEvictions = new LongAdder();
+
+	private static volatile ArchiveCleaner fgCleaner = null;
+
+	/**
+	 * Cache of archive entry indexes keyed by archive name. Indexes do not
+	 * refer to the zip files and survive closing them, they are rebuilt when
+	 * the archive file changes.
+	 */
+	private static final Map<String, ArchiveEntryIndex> fgIndexCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Statistics of the shared zip file cache.
+	 *
+	 * @since 3.20
+	 */
+	public static final class ArchiveCacheStatistics {
+
+		private final long fHits;
+		private final long fMisses;
+		private final long fEvictions;
+		private final int fOpenArchives;
+
+		ArchiveCacheStatistics(long hits, long misses, long evictions, int openArchives) {
+			fHits = hits;
+			fMisses = misses;
+			fEvictions = evictions;
+			fOpenArchives = openArchives;
+		}
+
+		/**
+		 * @return number of requests answered with an open zip file
+		 */
+		public long getHits() {
+			return fHits;
+		}
+
+		/**
+		 * @return number of requests which opened a zip file
+		 */
+		public long getMisses() {
+			return fMisses;
+		}
+
+		/**
+		 * @return number of zip files closed to stay within the cache limits
+		 */
+		public long getEvictions() {
+			return fEvictions;
+		}
+
+		/**
+		 * @return number of zip files currently open
+		 */
+		public int getOpenArchives() {
+			return fOpenArchives;
+		}
+
+		@Override
+		public String toString() {
+			return "hits=" + fHits + ", misses=" + fMisses + ", evictions=" + fEvictions + ", open=" + fOpenArchives; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+	}
+
+	/**
+	 * A cached zip file. Each handle has its own lock, so opening an archive
+	 * never blocks lookups in other archives.
+	 */
+	private static final class ArchiveHandle {
+
+		private final String fName;
+		private ZipFile fZip;
+		private int fEntries;
+		private int fReferences;
+		private boolean fClosed;
+
+		/**
+		 * Whether the zip file has been returned without adding a reference,
+		 * such zip files are never evicted
+		 */
+		private boolean fPinned;
+		private volatile long fLastAccess;
+
+		/**
+		 * Snapshot of {@link #fLastAccess} taken while evicting, guarded by
+		 * the eviction lock
+		 */
+		private long fEvictionOrder;
+
+		ArchiveHandle(String name) {
+			fName = name;
+		}
+
+		/**
+		 * Returns the zip file of this handle, opening it if required.
+		 *
+		 * @param acquire whether to add a reference to the zip file
+		 * @return the zip file or <code>null</code> if this handle has been
+		 *         closed
+		 * @throws IOException if unable to open the zip file
+		 */
+		synchronized ZipFile open(boolean acquire) throws IOException {
+			if (fClosed) {
+				return null;
+			}
+			if (fZip == null) {
+				try {
+					fZip = new ZipFile(fName);
+				} catch (IOException e) {
+					fClosed = true;
+					fgZipFileCache.remove(fName, this);
+					throw e;
+				}
+				fEntries = fZip.size();
+				fgOpenEntries.addAndGet(fEntries);
+				fgOpenArchives.put(fZip, this);
+				fgMisses.increment();
+			} else {
+				fgHits.increment();
+			}
+			fLastAccess = fgClock.incrementAndGet();
+			if (acquire) {
+				fReferences++;
+			} else {
+				fPinned = true;
+			}
+			return fZip;
+		}
+
+		/**
+		 * Adds a reference to the given zip file if it is the open zip file of
+		 * this handle.
+		 *
+		 * @param zip the zip file to acquire
+		 * @return whether a reference has been added
+		 */
+		synchronized boolean acquire(ZipFile zip) {
+			if (fClosed || fZip != zip) {
+				return false;
+			}
+			fLastAccess = fgClock.incrementAndGet();
+			fReferences++;
+			return true;
+		}
+
+		/**
+		 * Removes a reference to the zip file, closing it if this handle has
+		 * been closed while the zip file was in use.
+		 */
+		synchronized void release() {
+			if (fReferences > 0) {
+				fReferences--;
+			}
+			if (fClosed && fReferences == 0) {
+				closeZip();
+			}
+		}
+
+		/**
+		 * Closes this handle. The zip file is closed once it is no longer in
+		 * use.
+		 */
+		synchronized void close() {
+			fClosed = true;
+			if (fReferences == 0) {
+				closeZip();
+			}
+		}
+
+		/**
+		 * Closes this handle if its zip file is not in use and has not been
+		 * pinned.
+		 *
+		 * @return whether the handle has been closed
+		 */
+		synchronized boolean evict() {
+			if (fReferences > 0 || fPinned || fClosed || fZip == null) {
+				return false;
+			}
+			close();
+			return true;
+		}
+
+		private void closeZip() {
+			ZipFile zip = fZip;
+			if (zip == null) {
+				return;
+			}
+			fZip = null;
+			fgOpenEntries.addAndGet(-fEntries);
+			fgOpenArchives.remove(zip);
+			synchronized (zip) {
+				try {
+					zip.close();
+				} catch (IOException e) {
+					DebugPlugin.log(e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a zip file with the given name. The zip file is not closed to
+	 * stay within the cache limits, it is only closed when all archives are
+	 * closed.
 	 *
 	 * @param name zip file name
 	 * @return The zip file with the given name
 	 * @exception IOException if unable to create the specified zip
 	 * 	file
 	 */
-	@SuppressWarnings("resource")
 	public static ZipFile getZipFile(String name) throws IOException {
-		synchronized (fgZipFileCache) {
-			if (fgCleaner == null) {
-				fgCleaner = new ArchiveCleaner();
-				DebugPlugin.getDefault().getLaunchManager().addLaunchListener(fgCleaner);
-				ResourcesPlugin.getWorkspace().addResourceChangeListener(fgCleaner, IResourceChangeEvent.PRE_DELETE | IResourceChangeEvent.PRE_CLOSE);
+		return getZipFile(name, false);
+	}
+
+	/**
+	 * Returns a zip file with the given name and marks it as in use. The zip
+	 * file is not closed before it is released with
+	 * {@link #releaseZipFile(ZipFile)}.
+	 *
+	 * @param name zip file name
+	 * @return The zip file with the given name
+	 * @exception IOException if unable to create the specified zip file
+	 * @since 3.20
+	 */
+	public static ZipFile acquireZipFile(String name) throws IOException {
+		return getZipFile(name, true);
+	}
+
+	/**
+	 * Marks the given zip file as in use if it is a zip file of this cache
+	 * which is still open. A zip file acquired by this method must be
+	 * released with {@link #releaseZipFile(ZipFile)}.
+	 *
+	 * @param zip the zip file to acquire
+	 * @return whether the zip file has been acquired, <code>false</code> if
+	 *         it has not been opened by this cache or has been closed
+	 * @since 3.20
+	 */
+	public static boolean acquireZipFile(ZipFile zip) {
+		ArchiveHandle handle = fgOpenArchives.get(zip);
+		return handle != null && handle.acquire(zip);
+	}
+
+	/**
+	 * Releases a zip file acquired with {@link #acquireZipFile(String)} or
+	 * {@link #acquireZipFile(ZipFile)}.
+	 *
+	 * @param zip the zip file to release
+	 * @since 3.20
+	 */
+	public static void releaseZipFile(ZipFile zip) {
+		ArchiveHandle handle = fgOpenArchives.get(zip);
+		if (handle != null) {
+			handle.release();
+		}
+	}
+
+	private static ZipFile getZipFile(String name, boolean acquire) throws IOException {
+		if (fgCleaner == null) {
+			synchronized (fgZipFileCache) {
+				if (fgCleaner == null) {
+					ArchiveCleaner cleaner = new ArchiveCleaner();
+					DebugPlugin.getDefault().getLaunchManager().addLaunchListener(cleaner);
+					ResourcesPlugin.getWorkspace().addResourceChangeListener(cleaner, IResourceChangeEvent.PRE_DELETE | IResourceChangeEvent.PRE_CLOSE);
+					fgCleaner = cleaner;
+				}
 			}
-			ZipFile zip = fgZipFileCache.get(name);
-			if (zip == null) {
-				zip = new ZipFile(name);
-				fgZipFileCache.put(name, zip);
+		}
+		while (true) {
+			ArchiveHandle handle = fgZipFileCache.computeIfAbsent(name, ArchiveHandle::new);
+			ZipFile zip = handle.open(acquire);
+			if (zip != null) {
+				if (fgOpenArchives.size() > MAX_OPEN_ARCHIVES || fgOpenEntries.get() > MAX_OPEN_ENTRIES) {
+					evictArchives(handle);
+				}
+				return zip;
 			}
-			return zip;
+			// the handle was closed concurrently
+			fgZipFileCache.remove(name, handle);
 		}
 	}
 
+	/**
+	 * Closes the least recently used zip files that are neither in use nor
+	 * pinned until the cache is within its limits.
+	 *
+	 * @param keep handle of the zip file just returned, never closed
+	 */
+	private static void evictArchives(ArchiveHandle keep) {
+		synchronized (fgEvictionLock) {
+			// order by a snapshot of the access times, which change concurrently
+			List<ArchiveHandle> handles = new ArrayList<>(fgZipFileCache.values());
+			for (ArchiveHandle handle : handles) {
+				handle.fEvictionOrder = handle.fLastAccess;
+			}
+			handles.sort(Comparator.comparingLong(handle -> handle.fEvictionOrder));
+			for (ArchiveHandle handle : handles) {
+				if (fgOpenArchives.size() <= MAX_OPEN_ARCHIVES && fgOpenEntries.get() <= MAX_OPEN_ENTRIES) {
+					return;
+				}
+				if (handle != keep && handle.evict()) {
+					fgZipFileCache.remove(handle.fName, handle);
+					fgEvictions.increment();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the statistics of the shared zip file cache.
+	 *
+	 * @return statistics of the zip file cache
+	 * @since 3.20
+	 */
+	public static ArchiveCacheStatistics getArchiveCacheStatistics() {
+		return new ArchiveCacheStatistics(fgHits.sum(), fgMisses.sum(), fgEvictions.sum(), fgOpenArchives.size());
+	}
+
+	/**
+	 * Returns the entry index of the given zip file, building it if the zip
+	 * file has not been indexed yet or has changed since it was indexed.
+	 *
+	 * @param name zip file name
+	 * @param zip the zip file with the given name
+	 * @return the entry index of the zip file
+	 * @exception IllegalStateException if the zip file has been closed
+	 * @since 3.20
+	 */
+	public static ArchiveEntryIndex getArchiveIndex(String name, ZipFile zip) {
+		File file = new File(name);
+		ArchiveEntryIndex index = fgIndexCache.get(name);
+		if (index != null && index.isCurrent(file)) {
+			return index;
+		}
+		// build outside of the map, concurrent lookups of the same archive
+		// may build it twice but never block lookups of other archives
+		index = new ArchiveEntryIndex(zip, file);
+		fgIndexCache.put(name, index);
+		return index;
+	}
+
 	/**
 	 * Closes all zip files that have been opened,
 	 * and removes them from the zip file cache.
+	 * Zip files in use are closed once they are released.
 	 * This method is only to be called by the debug
 	 * plug-in.
 	 */
 	public static void closeArchives() {
-		synchronized (fgZipFileCache) {
-			for (ZipFile file : fgZipFileCache.values()) {
-				synchronized (file) {
-					try {
-						file.close();
-					} catch (IOException e) {
-						DebugPlugin.log(e);
-					}
-				}
+		for (ArchiveHandle handle : fgZipFileCache.values()) {
+			fgZipFileCache.remove(handle.fName, handle);
+			handle.close();
+		}
+	}
+
+	/**
+	 * Closes all zip files unless a launch is still running.
+	 */
+	static void closeArchivesIfIdle() {
+		for (ILaunch launch : DebugPlugin.getDefault().getLaunchManager().getLaunches()) {
+			if (!launch.isTerminated()) {
+				return;
 			}
-			fgZipFileCache.clear();
 		}
+		closeArchives();
 	}
 
 	/**
@@ -94,6 +450,7 @@ public class SourceLookupUtils {
 	 */
 	public static void shutdown() {
 		closeArchives();
+		fgIndexCache.clear();
 		if (fgCleaner != null) {
 			DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(fgCleaner);
 			ResourcesPlugin.getWorkspace().removeResourceChangeListener(fgCleaner);
@@ -101,8 +458,10 @@ public class SourceLookupUtils {
 	}
 
 	/**
-	 * Clears the cache of open zip files when a launch terminates,
-	 * is removed, or when a project is about to be deleted or closed.
+	 * Clears the cache of open zip files when the last running launch
+	 * terminates or is removed, or when a project is about to be deleted or
+	 * closed. Archives remain open while other launches are running, as
+	 * their lookups would reopen them.
 	 */
 	static class ArchiveCleaner implements IResourceChangeListener, ILaunchesListener2 {
 
@@ -110,7 +469,7 @@ public class SourceLookupUtils {
 		public void launchesRemoved(ILaunch[] launches) {
 			for (ILaunch launch : launches) {
 				if (!launch.isTerminated()) {
-					SourceLookupUtils.closeArchives();
+					SourceLookupUtils.closeArchivesIfIdle();
 					return;
 				}
 			}
@@ -131,7 +490,7 @@ public class SourceLookupUtils {
 
 		@Override
 		public void launchesTerminated(ILaunch[] launches) {
-			SourceLookupUtils.closeArchives();
+			SourceLookupUtils.closeArchivesIfIdle();
 		}
 
 	}
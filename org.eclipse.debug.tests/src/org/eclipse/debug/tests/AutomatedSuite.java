@@ -18,6 +18,8 @@ package org.eclipse.debug.tests;
 import org.eclipse.debug.tests.breakpoint.BreakpointOrderingTests;
 import org.eclipse.debug.tests.breakpoint.BreakpointTests;
 import org.eclipse.debug.tests.breakpoint.SerialExecutorTest;
+import org.eclipse.debug.tests.commands.EnabledStateSchedulerTests;
+import org.eclipse.debug.tests.commands.ForEachCommandTests;
 import org.eclipse.debug.tests.console.ConsoleDocumentAdapterTests;
 import org.eclipse.debug.tests.console.ConsoleManagerTests;
 import org.eclipse.debug.tests.console.ConsoleTests;
@@ -29,10 +31,13 @@ import org.eclipse.debug.tests.console.OutputStreamMonitorTests;
 import org.eclipse.debug.tests.console.ProcessConsoleManagerTests;
 import org.eclipse.debug.tests.console.ProcessConsoleTests;
 import org.eclipse.debug.tests.console.RuntimeProcessTests;
+import org.eclipse.debug.tests.console.StreamLineMatcherTests;
 import org.eclipse.debug.tests.console.StreamsProxyTests;
 import org.eclipse.debug.tests.console.TextConsoleViewerTest;
+import org.eclipse.debug.tests.events.EventDispatchTests;
 import org.eclipse.debug.tests.launching.AcceleratorSubstitutionTests;
 import org.eclipse.debug.tests.launching.ArgumentParsingTests;
+import org.eclipse.debug.tests.launching.LaunchConfigurationInfoCacheTests;
 import org.eclipse.debug.tests.launching.LaunchConfigurationTests;
 import org.eclipse.debug.tests.launching.LaunchFavoriteTests;
 import org.eclipse.debug.tests.launching.LaunchGroupTests;
@@ -41,13 +46,16 @@ import org.eclipse.debug.tests.launching.LaunchManagerTests;
 import org.eclipse.debug.tests.launching.LaunchTests;
 import org.eclipse.debug.tests.launching.RefreshTabTests;
 import org.eclipse.debug.tests.logicalstructure.LogicalStructureCacheTest;
+import org.eclipse.debug.tests.sourcelookup.ExternalArchiveSourceContainerTests;
 import org.eclipse.debug.tests.sourcelookup.SourceLookupFacilityTests;
 import org.eclipse.debug.tests.statushandlers.StatusHandlerTests;
 import org.eclipse.debug.tests.stepfilters.StepFiltersTests;
 import org.eclipse.debug.tests.ui.VariableValueEditorManagerTests;
 import org.eclipse.debug.tests.view.memory.MemoryRenderingTests;
 import org.eclipse.debug.tests.view.memory.TableRenderingTests;
+import org.eclipse.debug.tests.view.variables.VariableContentProviderTests;
 import org.eclipse.debug.tests.viewer.model.ChildrenUpdateTests;
+import org.eclipse.debug.tests.viewer.model.EventHandlerModelProxyTests;
 import org.eclipse.debug.tests.viewer.model.FilterTransformTests;
 import org.eclipse.debug.tests.viewer.model.PresentationContextTests;
 import org.eclipse.debug.tests.viewer.model.VirtualViewerContentTests;
@@ -69,6 +77,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 		// Source lookup tests
 		SourceLookupFacilityTests.class,
+		ExternalArchiveSourceContainerTests.class,
 		// BP tests
 		BreakpointOrderingTests.class,
 		BreakpointTests.class,
@@ -90,14 +99,19 @@ import org.junit.runners.Suite;
 		FilterTransformTests.class,
 		ChildrenUpdateTests.class,
 		PresentationContextTests.class,
+		EventHandlerModelProxyTests.class,
 		VariableValueEditorManagerTests.class,
 
+		// Variables view
+		VariableContentProviderTests.class,
+
 		// Memory view
 		MemoryRenderingTests.class,
 		TableRenderingTests.class,
 
 		// Launch framework
 		LaunchConfigurationTests.class,
+		LaunchConfigurationInfoCacheTests.class,
 		AcceleratorSubstitutionTests.class,
 		LaunchHistoryTests.class,
 		LaunchFavoriteTests.class,
@@ -112,6 +126,13 @@ import org.junit.runners.Suite;
 		// Step filters
 		StepFiltersTests.class,
 
+		// Debug events
+		EventDispatchTests.class,
+
+		// Debug commands
+		EnabledStateSchedulerTests.class,
+		ForEachCommandTests.class,
+
 		// Console view
 		ConsoleDocumentAdapterTests.class,
 		ConsoleManagerTests.class,
@@ -124,6 +145,7 @@ import org.junit.runners.Suite;
 		TextConsoleViewerTest.class,
 		RuntimeProcessTests.class,
 		OutputStreamMonitorTests.class,
+		StreamLineMatcherTests.class,
 		InputStreamMonitorTests.class,
 		FileLinkTests.class,
 
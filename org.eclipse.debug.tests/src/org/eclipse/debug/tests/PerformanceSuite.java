@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.debug.tests;
 
+import org.eclipse.debug.tests.breakpoint.BreakpointPerformanceTests;
+import org.eclipse.debug.tests.console.IOConsolePerformanceTests;
+import org.eclipse.debug.tests.console.OutputStreamMonitorPerformanceTests;
+import org.eclipse.debug.tests.launching.LaunchConfigurationPerformanceTests;
 import org.eclipse.debug.tests.viewer.model.JFaceViewerPerformanceTests;
 import org.eclipse.debug.tests.viewer.model.VirtualViewerPerformanceTests;
 import org.junit.runner.RunWith;
@@ -26,6 +30,10 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 		JFaceViewerPerformanceTests.class,
-		VirtualViewerPerformanceTests.class })
+		VirtualViewerPerformanceTests.class,
+		LaunchConfigurationPerformanceTests.class,
+		IOConsolePerformanceTests.class,
+		OutputStreamMonitorPerformanceTests.class,
+		BreakpointPerformanceTests.class })
 public class PerformanceSuite {
 }
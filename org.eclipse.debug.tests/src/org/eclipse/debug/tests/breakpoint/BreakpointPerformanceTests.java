@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.breakpoint;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IBreakpointManager;
+import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.internal.ui.DebugUIPlugin;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdate;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdateListener;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.TreeModelViewer;
+import org.eclipse.debug.internal.ui.views.breakpoints.BreakpointsView;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.debug.ui.IDebugUIConstants;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.eclipse.ui.IWorkbenchPage;
+import org.junit.Test;
+
+/**
+ * Measures the refresh of the Breakpoints view with many breakpoints, which
+ * reads the enabled and registered state of every breakpoint.
+ */
+public class BreakpointPerformanceTests extends AbstractDebugTest {
+
+	/** Number of breakpoints shown in the view. */
+	private static final int BREAKPOINT_COUNT = 10_000;
+
+	private final IBreakpointManager bpm = DebugPlugin.getDefault().getBreakpointManager();
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Refreshes the Breakpoints view showing 10k breakpoints and measures the
+	 * time until all viewer updates are complete.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBreakpointsViewRefresh() throws Exception {
+		IBreakpoint[] breakpoints = new IBreakpoint[BREAKPOINT_COUNT];
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			for (int i = 0; i < breakpoints.length; i++) {
+				breakpoints[i] = new TestBreakpoint("Breakpoint " + i); //$NON-NLS-1$
+			}
+		}, null);
+		bpm.addBreakpoints(breakpoints);
+
+		IWorkbenchPage page = DebugUIPlugin.getActiveWorkbenchWindow().getActivePage();
+		boolean viewVisible = page.findView(IDebugUIConstants.ID_BREAKPOINT_VIEW) != null;
+		BreakpointsView view = (BreakpointsView) page.showView(IDebugUIConstants.ID_BREAKPOINT_VIEW);
+		assertNotNull("Failed to obtain breakpoint view.", view); //$NON-NLS-1$
+		TreeModelViewer viewer = view.getTreeModelViewer();
+		AtomicBoolean complete = new AtomicBoolean();
+		IViewerUpdateListener listener = new IViewerUpdateListener() {
+			@Override
+			public void viewerUpdatesBegin() {
+			}
+
+			@Override
+			public void viewerUpdatesComplete() {
+				complete.set(true);
+			}
+
+			@Override
+			public void updateStarted(IViewerUpdate update) {
+			}
+
+			@Override
+			public void updateComplete(IViewerUpdate update) {
+			}
+		};
+		viewer.addViewerUpdateListener(listener);
+
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			// warm up, the view shows the new breakpoints
+			TestUtil.waitForJobs(name.getMethodName(), 100, 30_000);
+			for (int i = 0; i < 10; i++) {
+				complete.set(false);
+				meter.start();
+				viewer.refresh();
+				boolean timedOut = TestUtil.waitWhile(() -> !complete.get(), 60_000);
+				meter.stop();
+				assertFalse("Breakpoints view not refreshed in time", timedOut); //$NON-NLS-1$
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+			viewer.removeViewerUpdateListener(listener);
+			if (!viewVisible) {
+				page.hideView(view);
+			}
+			bpm.removeBreakpoints(breakpoints, true);
+		}
+	}
+}
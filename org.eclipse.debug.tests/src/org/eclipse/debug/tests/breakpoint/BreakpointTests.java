@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.debug.tests.breakpoint;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -22,6 +23,8 @@ import java.util.List;
 
 import org.eclipse.core.commands.operations.IOperationHistory;
 import org.eclipse.core.commands.operations.IUndoContext;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBreakpointManager;
 import org.eclipse.debug.core.model.IBreakpoint;
@@ -131,4 +134,61 @@ public class BreakpointTests extends AbstractDebugTest {
 			}
 		}
 	}
+
+	/**
+	 * Tests the lookup of breakpoints by debug model and resource.
+	 */
+	@Test
+	public void testGetBreakpointsByResource() throws Exception {
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		TestBreakpoint bp1 = new TestBreakpoint("1");
+		TestBreakpoint bp2 = new TestBreakpoint("2");
+		TestBreakpoint bp3 = new TestBreakpoint("3");
+		bpm.addBreakpoints(new IBreakpoint[] { bp1, bp2 });
+		bpm.addBreakpoint(bp3);
+
+		IBreakpoint[] expected = new IBreakpoint[] { bp1, bp2, bp3 };
+		assertArrayEquals(expected, bpm.getBreakpoints(TestBreakpoint.MODEL));
+		assertArrayEquals(expected, bpm.getBreakpoints(TestBreakpoint.MODEL, root));
+		assertEquals(0, bpm.getBreakpoints("unknown.model", root).length);
+		assertEquals(0, bpm.getBreakpoints(TestBreakpoint.MODEL, root.getProject("unknown")).length);
+
+		// the returned arrays are copies
+		bpm.getBreakpoints(TestBreakpoint.MODEL)[0] = null;
+		assertArrayEquals(expected, bpm.getBreakpoints(TestBreakpoint.MODEL));
+
+		bpm.removeBreakpoint(bp2, true);
+		expected = new IBreakpoint[] { bp1, bp3 };
+		assertArrayEquals(expected, bpm.getBreakpoints(TestBreakpoint.MODEL));
+		assertArrayEquals(expected, bpm.getBreakpoints(TestBreakpoint.MODEL, root));
+		assertFalse(bpm.isRegistered(bp2));
+		assertTrue(bpm.isRegistered(bp3));
+	}
+
+	/**
+	 * Tests that the cached marker attributes of a breakpoint follow changes.
+	 */
+	@Test
+	public void testCachedAttributes() throws Exception {
+		TestBreakpoint bp = new TestBreakpoint("cached");
+		bpm.addBreakpoint(bp);
+		assertTrue(bp.isRegistered());
+		assertTrue(bp.isPersisted());
+		assertFalse(bp.isTriggerPoint());
+
+		bp.setEnabled(true);
+		assertTrue(bp.isEnabled());
+		bp.setEnabled(false);
+		assertFalse(bp.isEnabled());
+		bp.setPersisted(false);
+		assertFalse(bp.isPersisted());
+
+		// direct marker changes are visible after clearing the cache
+		bp.getMarker().setAttribute(IBreakpoint.ENABLED, true);
+		bp.clearAttributeCache();
+		assertTrue(bp.isEnabled());
+
+		bp.delete();
+		assertFalse(bp.isRegistered());
+	}
 }
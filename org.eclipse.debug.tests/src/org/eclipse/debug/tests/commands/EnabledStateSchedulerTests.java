@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+import org.eclipse.debug.core.commands.IDebugCommandRequest;
+import org.eclipse.debug.core.commands.IEnabledStateRequest;
+import org.eclipse.debug.internal.core.commands.DebugCommandRequest;
+import org.eclipse.debug.internal.core.commands.EnabledStateScheduler;
+import org.eclipse.debug.internal.core.commands.ForEachCommand;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.junit.Test;
+
+/**
+ * Tests the shared processing of debug command enabled state updates.
+ */
+public class EnabledStateSchedulerTests extends AbstractDebugTest {
+
+	private static final long TIMEOUT = 10_000;
+
+	/**
+	 * Command counting its enabled state computations, which can be blocked
+	 * until released.
+	 */
+	static class TestCommand extends ForEachCommand {
+
+		final AtomicInteger fComputations = new AtomicInteger();
+		final Object fFamily;
+		volatile CountDownLatch fStarted = new CountDownLatch(0);
+		volatile CountDownLatch fRelease = new CountDownLatch(0);
+
+		TestCommand(Object family) {
+			fFamily = family;
+		}
+
+		@Override
+		protected void execute(Object target) throws CoreException {
+		}
+
+		@Override
+		protected boolean isExecutable(Object target) {
+			fComputations.incrementAndGet();
+			fStarted.countDown();
+			try {
+				fRelease.await(TIMEOUT, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return true;
+		}
+
+		@Override
+		protected Object getTarget(Object element) {
+			return element;
+		}
+
+		@Override
+		protected Object getEnabledStateJobFamily(IDebugCommandRequest request) {
+			return fFamily;
+		}
+	}
+
+	static class TestRequest extends DebugCommandRequest implements IEnabledStateRequest {
+
+		final CountDownLatch fDone = new CountDownLatch(1);
+		volatile boolean fEnabled;
+
+		TestRequest(Object element) {
+			super(new Object[] { element });
+		}
+
+		@Override
+		public void setEnabled(boolean result) {
+			fEnabled = result;
+		}
+
+		@Override
+		public void done() {
+			fDone.countDown();
+		}
+
+		void await() throws InterruptedException {
+			assertTrue("Request not done", fDone.await(TIMEOUT, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Tests that the enabled state is reused until a debug event is reported.
+	 */
+	@Test
+	public void testCachedEnabledState() throws Exception {
+		TestCommand command = new TestCommand(null);
+		Object element = new Object();
+
+		TestRequest request = new TestRequest(element);
+		command.canExecute(request);
+		request.await();
+		assertTrue("Command should be enabled", request.fEnabled); //$NON-NLS-1$
+
+		request = new TestRequest(element);
+		command.canExecute(request);
+		request.await();
+		assertTrue("Command should be enabled", request.fEnabled); //$NON-NLS-1$
+		assertEquals("Enabled state should be cached", 1, command.fComputations.get()); //$NON-NLS-1$
+
+		request = new TestRequest(new Object());
+		command.canExecute(request);
+		request.await();
+		assertEquals("Enabled state is cached per element", 2, command.fComputations.get()); //$NON-NLS-1$
+
+		// the event invalidates the state before it is dispatched
+		DebugPlugin.getDefault().fireDebugEventSet(new DebugEvent[] { new DebugEvent(element, DebugEvent.CHANGE) });
+		request = new TestRequest(element);
+		command.canExecute(request);
+		request.await();
+		assertEquals("Debug event should invalidate the enabled state", 3, command.fComputations.get()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that queued updates of a job family are canceled.
+	 */
+	@Test
+	public void testCancel() throws Exception {
+		TestCommand blocking = new TestCommand(null);
+		blocking.fStarted = new CountDownLatch(1);
+		blocking.fRelease = new CountDownLatch(1);
+		TestCommand command = new TestCommand(TestCommand.class);
+		try {
+			TestRequest blockingRequest = new TestRequest(new Object());
+			blocking.canExecute(blockingRequest);
+			assertTrue("Update not started", blocking.fStarted.await(TIMEOUT, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+
+			TestRequest request = new TestRequest(new Object());
+			command.canExecute(request);
+			EnabledStateScheduler.getDefault().cancel(TestCommand.class);
+			request.await();
+			assertTrue("Request should be canceled", request.isCanceled()); //$NON-NLS-1$
+			assertFalse("Request should not be enabled", request.fEnabled); //$NON-NLS-1$
+			assertEquals("Canceled update must not be computed", 0, command.fComputations.get()); //$NON-NLS-1$
+
+			blocking.fRelease.countDown();
+			blockingRequest.await();
+			assertFalse("Other updates must not be canceled", blockingRequest.isCanceled()); //$NON-NLS-1$
+		} finally {
+			blocking.fRelease.countDown();
+		}
+	}
+
+	/**
+	 * Tests that an update blocked in one launch does not delay the updates of
+	 * another launch.
+	 */
+	@Test
+	public void testLaunchesUpdatedInParallel() throws Exception {
+		ILaunch blockedLaunch = new Launch(null, ILaunchManager.RUN_MODE, null);
+		ILaunch launch = new Launch(null, ILaunchManager.RUN_MODE, null);
+		TestCommand blocking = new TestCommand(null);
+		blocking.fStarted = new CountDownLatch(1);
+		blocking.fRelease = new CountDownLatch(1);
+		TestCommand command = new TestCommand(null);
+		try {
+			TestRequest blockingRequest = new TestRequest(blockedLaunch);
+			blocking.canExecute(blockingRequest);
+			assertTrue("Update not started", blocking.fStarted.await(TIMEOUT, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+
+			TestRequest request = new TestRequest(launch);
+			command.canExecute(request);
+			request.await();
+			assertTrue("Command should be enabled", request.fEnabled); //$NON-NLS-1$
+			assertEquals("Blocked update should still run", 1, blocking.fComputations.get()); //$NON-NLS-1$
+			assertFalse("Blocked update should not be done", blockingRequest.fDone.getCount() == 0); //$NON-NLS-1$
+
+			blocking.fRelease.countDown();
+			blockingRequest.await();
+			assertTrue("Command should be enabled", blockingRequest.fEnabled); //$NON-NLS-1$
+		} finally {
+			blocking.fRelease.countDown();
+		}
+	}
+
+	/**
+	 * Tests that updates of the same command for different launches are
+	 * evaluated one after another, in the order they were scheduled.
+	 */
+	@Test
+	public void testSameCommandNotUpdatedInParallel() throws Exception {
+		ILaunch blockedLaunch = new Launch(null, ILaunchManager.RUN_MODE, null);
+		ILaunch launch = new Launch(null, ILaunchManager.RUN_MODE, null);
+		TestCommand command = new TestCommand(null);
+		command.fStarted = new CountDownLatch(1);
+		command.fRelease = new CountDownLatch(1);
+		TestCommand other = new TestCommand(null);
+		try {
+			TestRequest blockedRequest = new TestRequest(blockedLaunch);
+			command.canExecute(blockedRequest);
+			assertTrue("Update not started", command.fStarted.await(TIMEOUT, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+
+			TestRequest request = new TestRequest(launch);
+			command.canExecute(request);
+			TestRequest otherRequest = new TestRequest(launch);
+			other.canExecute(otherRequest);
+			otherRequest.await();
+			assertEquals("Other command should be updated", 1, other.fComputations.get()); //$NON-NLS-1$
+			assertEquals("Same command must not be updated in parallel", 1, command.fComputations.get()); //$NON-NLS-1$
+			assertFalse("Later update completed first", request.fDone.getCount() == 0); //$NON-NLS-1$
+
+			command.fRelease.countDown();
+			blockedRequest.await();
+			request.await();
+			assertEquals("Both updates should be computed", 2, command.fComputations.get()); //$NON-NLS-1$
+		} finally {
+			command.fRelease.countDown();
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.commands.IDebugCommandRequest;
+import org.eclipse.debug.core.model.RuntimeProcess;
+import org.eclipse.debug.internal.core.commands.DebugCommandRequest;
+import org.eclipse.debug.internal.core.commands.ForEachCommand;
+import org.eclipse.debug.internal.core.commands.TerminateCommand;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestsPlugin;
+import org.eclipse.debug.tests.console.MockProcess;
+import org.junit.Test;
+
+/**
+ * Tests the execution of commands on many targets.
+ */
+public class ForEachCommandTests extends AbstractDebugTest {
+
+	private static final long TIMEOUT = 10_000;
+
+	static class TestRequest extends DebugCommandRequest {
+
+		final CountDownLatch fDone = new CountDownLatch(1);
+
+		TestRequest(Object[] elements) {
+			super(elements);
+		}
+
+		@Override
+		public void done() {
+			fDone.countDown();
+		}
+
+		void await() throws InterruptedException {
+			assertTrue("Request not done", fDone.await(TIMEOUT, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Command failing for every second target.
+	 */
+	static class FailingCommand extends ForEachCommand {
+
+		final Set<Object> fExecuted = ConcurrentHashMap.newKeySet();
+
+		@Override
+		protected void execute(Object target) throws CoreException {
+			fExecuted.add(target);
+			if (((Integer) target).intValue() % 2 == 1) {
+				throw new CoreException(new Status(IStatus.ERROR, TestsPlugin.PLUGIN_ID, "Failed " + target)); //$NON-NLS-1$
+			}
+		}
+
+		@Override
+		protected boolean isExecutable(Object target) {
+			return true;
+		}
+
+		@Override
+		protected Object getTarget(Object element) {
+			return element;
+		}
+
+		@Override
+		protected Object getEnabledStateJobFamily(IDebugCommandRequest request) {
+			return FailingCommand.class;
+		}
+
+		@Override
+		protected int getMaxParallelExecutions() {
+			return 4;
+		}
+	}
+
+	/**
+	 * Tests that processes which take a while to terminate are terminated in
+	 * parallel.
+	 */
+	@Test
+	public void testTerminateInParallel() throws Exception {
+		final int delay = 500;
+		RuntimeProcess[] processes = new RuntimeProcess[8];
+		for (int i = 0; i < processes.length; i++) {
+			MockProcess process = new MockProcess(MockProcess.RUN_FOREVER);
+			process.setTerminationDelay(delay);
+			processes[i] = process.toRuntimeProcess("Process " + i); //$NON-NLS-1$
+		}
+		TestRequest request = new TestRequest(processes);
+		long start = System.currentTimeMillis();
+		new TerminateCommand().execute(request);
+		request.await();
+		long duration = System.currentTimeMillis() - start;
+		assertTrue("Terminate failed: " + request.getStatus(), request.getStatus() == null || request.getStatus().isOK()); //$NON-NLS-1$
+		for (RuntimeProcess process : processes) {
+			assertTrue("Process not terminated", process.isTerminated()); //$NON-NLS-1$
+		}
+		assertTrue("Processes not terminated in parallel, took " + duration + "ms", duration < processes.length * delay / 2); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that a parallel command is executed on all targets and reports all
+	 * failures.
+	 */
+	@Test
+	public void testParallelFailures() throws Exception {
+		Object[] targets = new Object[10];
+		for (int i = 0; i < targets.length; i++) {
+			targets[i] = Integer.valueOf(i);
+		}
+		FailingCommand command = new FailingCommand();
+		TestRequest request = new TestRequest(targets);
+		command.execute(request);
+		request.await();
+		assertEquals("Command not executed on all targets", targets.length, command.fExecuted.size()); //$NON-NLS-1$
+		IStatus status = request.getStatus();
+		assertNotNull("Missing failure", status); //$NON-NLS-1$
+		assertTrue("Failures should be reported together", status.isMultiStatus()); //$NON-NLS-1$
+		assertEquals("Wrong number of failures", targets.length / 2, status.getChildren().length); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that runtime exceptions and errors thrown by a parallel command are
+	 * reported as failures.
+	 */
+	@Test
+	public void testParallelErrors() throws Exception {
+		FailingCommand command = new FailingCommand() {
+			@Override
+			protected void execute(Object target) throws CoreException {
+				fExecuted.add(target);
+				switch (((Integer) target).intValue()) {
+					case 1:
+						throw new IllegalStateException();
+					case 2:
+						throw new LinkageError("Broken " + target); //$NON-NLS-1$
+					default:
+						break;
+				}
+			}
+		};
+		TestRequest request = new TestRequest(new Object[] { Integer.valueOf(0), Integer.valueOf(1), Integer.valueOf(2) });
+		command.execute(request);
+		request.await();
+		assertEquals("Command not executed on all targets", 3, command.fExecuted.size()); //$NON-NLS-1$
+		IStatus status = request.getStatus();
+		assertNotNull("Missing failure", status); //$NON-NLS-1$
+		assertEquals("Wrong number of failures", 2, status.getChildren().length); //$NON-NLS-1$
+		for (IStatus child : status.getChildren()) {
+			assertEquals("Failure not reported as error", IStatus.ERROR, child.getSeverity()); //$NON-NLS-1$
+			assertNotNull("Missing failure message", child.getMessage()); //$NON-NLS-1$
+			assertNotNull("Missing exception", child.getException()); //$NON-NLS-1$
+		}
+	}
+}
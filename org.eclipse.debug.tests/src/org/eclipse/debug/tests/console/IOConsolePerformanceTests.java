@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.eclipse.ui.console.ConsolePlugin;
+import org.eclipse.ui.console.IConsole;
+import org.eclipse.ui.console.IConsoleManager;
+import org.eclipse.ui.console.IOConsole;
+import org.eclipse.ui.console.IOConsoleOutputStream;
+import org.junit.Test;
+
+/**
+ * Measures the output throughput of an {@link IOConsole} with a limited
+ * buffer, which trims the console continuously.
+ */
+public class IOConsolePerformanceTests extends AbstractDebugTest {
+
+	/** Amount of output written per measured iteration, 50 MB. */
+	private static final int OUTPUT_SIZE = 50 * 1024 * 1024;
+
+	/** Console buffer limit, 1 MB. */
+	private static final int BUFFER_SIZE = 1024 * 1024;
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Writes 50 MB of output to a console limited to 1 MB and measures the
+	 * time until all output is appended to the document.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testTrimmedOutputThroughput() throws Exception {
+		IOConsole console = new IOConsole("Throughput", null); //$NON-NLS-1$
+		console.setWaterMarks(BUFFER_SIZE - 80 * 1024, BUFFER_SIZE);
+		IConsoleManager consoleManager = ConsolePlugin.getDefault().getConsoleManager();
+		consoleManager.addConsoles(new IConsole[] { console });
+		StringBuilder block = new StringBuilder();
+		while (block.length() < 64 * 1024) {
+			block.append("[INFO] Sustained console output line with some payload ").append(block.length()).append('\n'); //$NON-NLS-1$
+		}
+		byte[] bytes = block.toString().getBytes(StandardCharsets.UTF_8);
+
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try (IOConsoleOutputStream out = console.newOutputStream()) {
+			for (int i = 0; i < 5; i++) {
+				String marker = "end of iteration " + i + '\n'; //$NON-NLS-1$
+				AtomicReference<IOException> error = new AtomicReference<>();
+				// write in background, the output stream blocks while the UI
+				// thread is behind
+				Thread writer = new Thread(() -> {
+					try {
+						for (int written = 0; written < OUTPUT_SIZE; written += bytes.length) {
+							out.write(bytes);
+						}
+						out.write(marker);
+					} catch (IOException e) {
+						error.set(e);
+					}
+				}, "Console writer"); //$NON-NLS-1$
+				meter.start();
+				writer.start();
+				IDocument document = console.getDocument();
+				boolean timedOut = TestUtil.waitWhile(() -> writer.isAlive() || !endsWith(document, marker), 120_000);
+				meter.stop();
+				assertFalse("Output not appended in time", timedOut); //$NON-NLS-1$
+				if (error.get() != null) {
+					throw error.get();
+				}
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+			consoleManager.removeConsoles(new IConsole[] { console });
+		}
+	}
+
+	private static boolean endsWith(IDocument document, String suffix) {
+		int length = document.getLength();
+		try {
+			return length >= suffix.length() && document.get(length - suffix.length(), suffix.length()).equals(suffix);
+		} catch (BadLocationException e) {
+			return false;
+		}
+	}
+}
@@ -16,6 +16,7 @@ package org.eclipse.debug.tests.console;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.BufferedReader;
@@ -41,6 +42,9 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.tests.AbstractDebugTest;
 import org.eclipse.debug.tests.TestUtil;
 import org.eclipse.debug.tests.TestsPlugin;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.swt.custom.StyleRange;
 import org.eclipse.swt.custom.StyledText;
@@ -54,8 +58,12 @@ import org.eclipse.ui.console.IConsoleConstants;
 import org.eclipse.ui.console.IConsoleDocumentPartitioner;
 import org.eclipse.ui.console.IConsoleDocumentPartitionerExtension;
 import org.eclipse.ui.console.IConsoleManager;
+import org.eclipse.ui.console.IHyperlink;
 import org.eclipse.ui.console.IOConsole;
 import org.eclipse.ui.console.IOConsoleOutputStream;
+import org.eclipse.ui.console.IPatternMatchListener;
+import org.eclipse.ui.console.PatternMatchEvent;
+import org.eclipse.ui.console.TextConsole;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -707,6 +715,150 @@ public class IOConsoleTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Test partitions stay valid while the console is trimmed repeatedly.
+	 */
+	@Test
+	public void testRepeatedTrim() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test repeated trim");
+		c.getConsole().setWaterMarks(10000, 12000);
+		try (IOConsoleOutputStream defaultOut = c.getDefaultOutputStream()) {
+			try (IOConsoleOutputStream otherOut = c.getConsole().newOutputStream()) {
+				for (int i = 0; i < 2000; i++) {
+					c.writeFast("line " + i + " " + "0123456789".repeat(i % 7) + "\n", (i & 1) == 0 ? defaultOut : otherOut);
+					if (i % 200 == 199) {
+						c.flush();
+						assertTrue("Document not trimmed.", c.getContentLength() <= 12000);
+						c.verifyContentByLine("line " + i + " " + "0123456789".repeat(i % 7), -2);
+						c.verifyPartitions(2);
+					}
+				}
+			}
+			closeConsole(c);
+		}
+	}
+
+	/**
+	 * Test output queued from several streams keeps its order and partitions.
+	 */
+	@Test
+	public void testQueuedOutput() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test queued output");
+		@SuppressWarnings("restriction")
+		final org.eclipse.ui.internal.console.IOConsolePartitioner.OutputStatistics statistics = ((org.eclipse.ui.internal.console.IOConsolePartitioner) c.getPartitioner()).getOutputStatistics();
+		final long batches = statistics.getBatchCount();
+		final StringBuilder expected = new StringBuilder();
+		try (IOConsoleOutputStream otherOut = c.getConsole().newOutputStream()) {
+			for (int i = 0; i < 1000; i++) {
+				final String s = "line " + i + "\n";
+				c.writeFast(s, i < 500 || (i & 1) == 0 ? c.getDefaultOutputStream() : otherOut);
+				expected.append(s);
+			}
+			c.flush();
+			c.verifyContent(expected.toString());
+			c.verifyPartitions(2);
+			assertTrue("Output not appended in batches.", statistics.getBatchCount() - batches < 10);
+		}
+		closeConsole(c);
+	}
+
+	/**
+	 * Test output exceeding the output queue is discarded if enabled.
+	 */
+	@Test
+	public void testDiscardOutputOnOverflow() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test discard output");
+		@SuppressWarnings("restriction")
+		final org.eclipse.ui.internal.console.IOConsolePartitioner.OutputStatistics statistics = ((org.eclipse.ui.internal.console.IOConsolePartitioner) c.getPartitioner()).getOutputStatistics();
+		c.getConsole().setDiscardOutputOnOverflow(true);
+		assertTrue(c.getConsole().isDiscardOutputOnOverflow());
+		// the UI thread cannot process output while writing
+		final String chunk = String.join("", Collections.nCopies(100_000, "0123456789"));
+		for (int i = 0; i < 10; i++) {
+			c.writeFast(chunk);
+		}
+		c.flush();
+		assertTrue("Output not discarded.", statistics.getDiscardedLength() > 0);
+		assertEquals(10L * chunk.length(), c.getContentLength() + statistics.getDiscardedLength());
+		closeConsole(c);
+	}
+
+	/**
+	 * Test hyperlinks move with the console content and are removed once
+	 * their text is trimmed.
+	 */
+	@Test
+	public void testHyperlinks() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test hyperlinks");
+		final List<IHyperlink> links = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			c.write("line " + i + "\n");
+			final IHyperlink link = new NullHyperlink();
+			c.getConsole().addHyperlink(link, c.getContentLength() - 1 - Integer.toString(i).length(), Integer.toString(i).length());
+			links.add(link);
+		}
+		assertEquals(links, Arrays.asList(c.getConsole().getHyperlinks()));
+		assertEquals(links.get(3), c.getConsole().getHyperlink(c.getDocument().getLineOffset(3) + 5));
+		assertNull(c.getConsole().getHyperlink(c.getDocument().getLineOffset(3) + 4));
+
+		c.getConsole().setWaterMarks(200, 400);
+		c.waitForScheduledJobs();
+		final IHyperlink[] remaining = c.getConsole().getHyperlinks();
+		assertTrue("Hyperlinks not trimmed.", remaining.length < links.size());
+		assertEquals(links.subList(links.size() - remaining.length, links.size()), Arrays.asList(remaining));
+		for (int i = 0; i < remaining.length; i++) {
+			final IRegion region = c.getConsole().getRegion(remaining[i]);
+			assertEquals(Integer.toString(links.size() - remaining.length + i), c.getDocument().get(region.getOffset(), region.getLength()));
+			assertEquals(remaining[i], c.getConsole().getHyperlink(region.getOffset()));
+		}
+
+		closeConsole(c);
+	}
+
+	/**
+	 * Test hyperlinks added as positions to the document's hyperlink category
+	 * are found next to the hyperlinks added to the console.
+	 */
+	@Test
+	@SuppressWarnings("restriction")
+	public void testHyperlinkCategoryPositions() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test hyperlink positions");
+		c.write("added position\n");
+		final IHyperlink added = new NullHyperlink();
+		c.getConsole().addHyperlink(added, 0, 5);
+		final IHyperlink position = new NullHyperlink();
+		c.getDocument().addPosition(org.eclipse.ui.internal.console.ConsoleHyperlinkPosition.HYPER_LINK_CATEGORY, new org.eclipse.ui.internal.console.ConsoleHyperlinkPosition(position, 6, 8));
+		assertEquals(Arrays.asList(added, position), Arrays.asList(c.getConsole().getHyperlinks()));
+		assertEquals(added, c.getConsole().getHyperlink(2));
+		assertEquals(position, c.getConsole().getHyperlink(7));
+		assertNull(c.getConsole().getHyperlink(5));
+		assertEquals(new Region(6, 8), c.getConsole().getRegion(position));
+		closeConsole(c);
+	}
+
+	/**
+	 * Test pattern match listeners with literal and regular expression line
+	 * qualifiers find matches written in several chunks.
+	 */
+	@Test
+	public void testPatternMatchListeners() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test pattern match");
+		final MatchCollector literal = new MatchCollector("(ERROR|WARN) \\d+", "ERROR|WARN");
+		final MatchCollector regex = new MatchCollector("#\\d+", "#\\d");
+		final MatchCollector unqualified = new MatchCollector("ERROR \\d+", null);
+		c.getConsole().addPatternMatchListener(literal);
+		c.getConsole().addPatternMatchListener(regex);
+		c.getConsole().addPatternMatchListener(unqualified);
+		c.write("INFO 1 #1\nERROR 2 WARN 3\n").waitForScheduledJobs();
+		c.write("ERR").waitForScheduledJobs();
+		c.write("OR 4 #2\r\nWARN 5").waitForScheduledJobs();
+		c.write("\n").waitForScheduledJobs();
+		closeConsole(c);
+		assertEquals(Arrays.asList("ERROR 2", "WARN 3", "ERROR 4", "WARN 5"), literal.getMatches(c));
+		assertEquals(Arrays.asList("#1", "#2"), regex.getMatches(c));
+		assertEquals(Arrays.asList("ERROR 2", "ERROR 4"), unqualified.getMatches(c));
+	}
+
 	/**
 	 * Some extra tests for IOConsolePartitioner.
 	 */
@@ -934,4 +1086,73 @@ public class IOConsoleTests extends AbstractDebugTest {
 			lastEnd = s.start + s.length;
 		}
 	}
+
+	/**
+	 * Hyperlink doing nothing.
+	 */
+	private static class NullHyperlink implements IHyperlink {
+		@Override
+		public void linkEntered() {
+		}
+
+		@Override
+		public void linkExited() {
+		}
+
+		@Override
+		public void linkActivated() {
+		}
+	}
+
+	/**
+	 * Pattern match listener remembering the regions of all matches.
+	 */
+	private static class MatchCollector implements IPatternMatchListener {
+		private final String pattern;
+		private final String qualifier;
+		private final List<IRegion> matches = Collections.synchronizedList(new ArrayList<>());
+
+		MatchCollector(String pattern, String qualifier) {
+			this.pattern = pattern;
+			this.qualifier = qualifier;
+		}
+
+		@Override
+		public void connect(TextConsole console) {
+		}
+
+		@Override
+		public void disconnect() {
+		}
+
+		@Override
+		public void matchFound(PatternMatchEvent event) {
+			matches.add(new Region(event.getOffset(), event.getLength()));
+		}
+
+		@Override
+		public String getPattern() {
+			return pattern;
+		}
+
+		@Override
+		public int getCompilerFlags() {
+			return 0;
+		}
+
+		@Override
+		public String getLineQualifier() {
+			return qualifier;
+		}
+
+		List<String> getMatches(IOConsoleTestUtil c) throws BadLocationException {
+			List<String> text = new ArrayList<>();
+			synchronized (matches) {
+				for (IRegion match : matches) {
+					text.add(c.getDocument().get(match.getOffset(), match.getLength()));
+				}
+			}
+			return text;
+		}
+	}
 }
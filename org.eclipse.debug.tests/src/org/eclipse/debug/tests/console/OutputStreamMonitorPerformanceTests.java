@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.debug.core.IBinaryStreamListener;
+import org.eclipse.debug.core.IBinaryStreamListener2;
+import org.eclipse.debug.core.model.IBinaryStreamMonitor;
+import org.eclipse.debug.core.model.IFlushableStreamMonitor;
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.core.model.IStreamMonitor;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.debug.ui.IDebugUIConstants;
+import org.eclipse.debug.ui.console.ConsoleColorProvider;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.eclipse.ui.console.ConsolePlugin;
+import org.eclipse.ui.console.IConsole;
+import org.eclipse.ui.console.IConsoleConstants;
+import org.eclipse.ui.console.IConsoleManager;
+import org.junit.Test;
+
+/**
+ * Measures the throughput of process output through the stream monitor of a
+ * {@link org.eclipse.debug.core.model.RuntimeProcess RuntimeProcess}, with
+ * plain stream listeners and with a process console redirecting the output to
+ * a file.
+ */
+public class OutputStreamMonitorPerformanceTests extends AbstractDebugTest {
+
+	/** Amount of output written per measured iteration, 50 MB. */
+	private static final int OUTPUT_SIZE = 50 * 1024 * 1024;
+
+	/** Amount of output written per measured process console iteration, 10 MB. */
+	private static final int CONSOLE_OUTPUT_SIZE = 10 * 1024 * 1024;
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Writes 50 MB of process output to a stream monitor with a text, a binary
+	 * and a buffer listener attached and measures the time until all output is
+	 * received by the listeners.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testListenerThroughput() throws Exception {
+		byte[] bytes = createOutputBlock();
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int i = 0; i < 5; i++) {
+				PipedOutputStream procOut = new PipedOutputStream();
+				MockProcess mockProcess = new MockProcess(new PipedInputStream(procOut, 64 * 1024), null, MockProcess.RUN_FOREVER);
+				IProcess process = mockProcess.toRuntimeProcess("Throughput"); //$NON-NLS-1$
+				try {
+					IStreamMonitor monitor = process.getStreamsProxy().getOutputStreamMonitor();
+					((IFlushableStreamMonitor) monitor).setBuffered(false);
+					AtomicLong chars = new AtomicLong();
+					AtomicLong copied = new AtomicLong();
+					AtomicLong viewed = new AtomicLong();
+					monitor.addListener((text, m) -> chars.addAndGet(text.length()));
+					((IBinaryStreamMonitor) monitor).addBinaryListener((IBinaryStreamListener) (data, m) -> copied.addAndGet(data.length));
+					((IBinaryStreamMonitor) monitor).addBinaryListener(new IBinaryStreamListener2() {
+						@Override
+						public void streamAppended(ByteBuffer data, IBinaryStreamMonitor m) {
+							viewed.addAndGet(data.remaining());
+						}
+					});
+					Thread writer = createWriter(procOut, bytes, OUTPUT_SIZE);
+					meter.start();
+					writer.start();
+					boolean timedOut = TestUtil.waitWhile(() -> viewed.get() < OUTPUT_SIZE || copied.get() < OUTPUT_SIZE || chars.get() < OUTPUT_SIZE, 120_000);
+					meter.stop();
+					assertFalse("Output not received in time", timedOut); //$NON-NLS-1$
+					assertEquals("Wrong amount of decoded output", OUTPUT_SIZE, chars.get()); //$NON-NLS-1$
+				} finally {
+					mockProcess.destroy();
+				}
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	/**
+	 * Writes 10 MB of process output to a process console which shows the
+	 * output and redirects it to a file and measures the time until the
+	 * console has processed all output.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testProcessConsoleThroughput() throws Exception {
+		byte[] bytes = createOutputBlock();
+		File outFile = File.createTempFile("throughput", ".out"); //$NON-NLS-1$ //$NON-NLS-2$
+		Map<String, Object> launchConfigAttributes = new HashMap<>();
+		launchConfigAttributes.put(IDebugUIConstants.ATTR_CAPTURE_IN_FILE, outFile.getCanonicalPath());
+		launchConfigAttributes.put(IDebugUIConstants.ATTR_CAPTURE_IN_CONSOLE, true);
+		IConsoleManager consoleManager = ConsolePlugin.getDefault().getConsoleManager();
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int i = 0; i < 5; i++) {
+				PipedOutputStream procOut = new PipedOutputStream();
+				MockProcess mockProcess = new MockProcess(new PipedInputStream(procOut, 64 * 1024), null, MockProcess.RUN_FOREVER);
+				IProcess process = mockProcess.toRuntimeProcess("Throughput", launchConfigAttributes); //$NON-NLS-1$
+				@SuppressWarnings("restriction")
+				org.eclipse.debug.internal.ui.views.console.ProcessConsole console = new org.eclipse.debug.internal.ui.views.console.ProcessConsole(process, new ConsoleColorProvider());
+				AtomicBoolean consoleFinished = new AtomicBoolean();
+				console.addPropertyChangeListener(event -> {
+					if (event.getSource() == console && IConsoleConstants.P_CONSOLE_OUTPUT_COMPLETE.equals(event.getProperty())) {
+						consoleFinished.set(true);
+					}
+				});
+				try {
+					consoleManager.addConsoles(new IConsole[] { console });
+					Thread writer = createWriter(procOut, bytes, CONSOLE_OUTPUT_SIZE);
+					meter.start();
+					writer.start();
+					writer.join();
+					mockProcess.destroy();
+					boolean timedOut = TestUtil.waitWhile(() -> !consoleFinished.get(), 120_000);
+					meter.stop();
+					assertFalse("Console did not finish in time", timedOut); //$NON-NLS-1$
+					assertEquals("Wrong amount of output redirected to file", CONSOLE_OUTPUT_SIZE, outFile.length()); //$NON-NLS-1$
+				} finally {
+					mockProcess.destroy();
+					consoleManager.removeConsoles(new IConsole[] { console });
+				}
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+			outFile.delete();
+		}
+	}
+
+	private static byte[] createOutputBlock() {
+		StringBuilder block = new StringBuilder();
+		while (block.length() < 64 * 1024) {
+			block.append("[INFO] Sustained process output line with some payload ").append(block.length()).append('\n'); //$NON-NLS-1$
+		}
+		block.setLength(64 * 1024);
+		return block.toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Creates a thread which writes the given block repeatedly to the given
+	 * process output until <code>size</code> bytes are written and closes it.
+	 */
+	private static Thread createWriter(PipedOutputStream procOut, byte[] block, int size) {
+		return new Thread(() -> {
+			try (PipedOutputStream out = procOut) {
+				for (int written = 0; written < size; written += block.length) {
+					out.write(block);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, "Process output writer"); //$NON-NLS-1$
+	}
+}
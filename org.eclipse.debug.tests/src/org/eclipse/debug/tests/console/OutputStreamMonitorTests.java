@@ -15,6 +15,7 @@ package org.eclipse.debug.tests.console;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -22,6 +23,7 @@ import java.io.InputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -157,6 +159,84 @@ public class OutputStreamMonitorTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Test the bounded retention of buffered content.
+	 */
+	@Test
+	public void testRetentionLimit() throws Exception {
+		byte[] byteInput = "0123456789".getBytes(StandardCharsets.US_ASCII);
+		try {
+			monitor.addBinaryListener(fBinaryListener);
+			monitor.setRetentionPolicy(4, false);
+			monitor.startMonitoring();
+			sysout.write(byteInput);
+			sysout.flush();
+			TestUtil.waitWhile(() -> notifiedBytes.size() < byteInput.length, 1000);
+			assertArrayEquals("Wrong binary content through listener.", byteInput, notifiedBytes.toByteArray());
+			assertEquals("Wrong retained content.", "6789", monitor.getContents());
+			assertEquals("Wrong number of dropped bytes.", 6, monitor.getDiscardedLength());
+			assertEquals("Wrong tail content.", "89", monitor.getTailContents(2));
+			int viewLength = 0;
+			for (ByteBuffer view : monitor.getDataView()) {
+				assertTrue("View must be read-only.", view.isReadOnly());
+				viewLength += view.remaining();
+			}
+			assertEquals("Wrong view length.", 4, viewLength);
+		} finally {
+			sysout.close();
+			monitor.close();
+		}
+	}
+
+	/**
+	 * Test that content dropped due to the retention limit can be spilled to
+	 * disk.
+	 */
+	@Test
+	public void testRetentionSpill() throws Exception {
+		byte[] byteInput = "0123456789".getBytes(StandardCharsets.US_ASCII);
+		try {
+			monitor.addBinaryListener(fBinaryListener);
+			monitor.setRetentionPolicy(4, true);
+			monitor.startMonitoring();
+			sysout.write(byteInput);
+			sysout.flush();
+			TestUtil.waitWhile(() -> notifiedBytes.size() < byteInput.length, 1000);
+			assertArrayEquals("Spilled content not retained.", byteInput, monitor.getData());
+			assertEquals("Wrong number of dropped bytes.", 0, monitor.getDiscardedLength());
+			assertArrayEquals("Wrong tail data.", "56789".getBytes(StandardCharsets.US_ASCII), monitor.getTailData(5));
+			monitor.flushContents();
+			assertEquals("Content not flushed.", 0, monitor.getData().length);
+		} finally {
+			sysout.close();
+			monitor.close();
+		}
+	}
+
+	/**
+	 * Test that spilled content stays available after the monitor finished
+	 * reading and closed the spill file and that content trimmed afterwards
+	 * is still spilled.
+	 */
+	@Test
+	public void testRetentionSpillAfterClose() throws Exception {
+		byte[] byteInput = "0123456789".getBytes(StandardCharsets.US_ASCII);
+		try {
+			monitor.setRetentionPolicy(4, true);
+			monitor.startMonitoring();
+			sysout.write(byteInput);
+			sysout.close();
+			TestUtil.waitWhile(() -> !monitor.isReadingDone(), 1000);
+			assertTrue("Monitor did not finish reading.", monitor.isReadingDone());
+			assertArrayEquals("Spilled content not retained.", byteInput, monitor.getData());
+			monitor.setRetentionPolicy(2, true);
+			assertArrayEquals("Content trimmed after close not spilled.", byteInput, monitor.getData());
+			assertEquals("Wrong number of dropped bytes.", 0, monitor.getDiscardedLength());
+		} finally {
+			monitor.close();
+		}
+	}
+
 	/**
 	 * Test that passing <code>null</code> as charset does not raise exceptions.
 	 */
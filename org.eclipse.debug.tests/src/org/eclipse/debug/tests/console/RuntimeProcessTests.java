@@ -28,12 +28,15 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.core.model.RuntimeProcess;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
+import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+import org.eclipse.debug.internal.core.Preferences;
 import org.eclipse.debug.tests.AbstractDebugTest;
 import org.eclipse.debug.tests.TestUtil;
 import org.eclipse.debug.tests.sourcelookup.TestLaunch;
@@ -72,6 +75,41 @@ public class RuntimeProcessTests extends AbstractDebugTest {
 		assertEquals("RuntimeProcess reported wrong exit code.", 1, runtimeProcess.getExitValue());
 	}
 
+	/**
+	 * Test behavior of {@link RuntimeProcess} if the wrapped process
+	 * terminates while processes use the shared thread pool.
+	 */
+	@Test
+	public void testProcessTerminatedSharedThreads() throws Exception {
+		AtomicInteger processTerminateEvents = new AtomicInteger();
+		DebugPlugin.getDefault().addDebugEventListener(events -> {
+			for (DebugEvent event : events) {
+				if (event.getKind() == DebugEvent.TERMINATE) {
+					processTerminateEvents.incrementAndGet();
+				}
+			}
+		});
+
+		Preferences.setBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_SHARED_PROCESS_THREADS, true, InstanceScope.INSTANCE);
+		try {
+			MockProcess mockProcess = new MockProcess(MockProcess.RUN_FOREVER);
+			RuntimeProcess runtimeProcess = mockProcess.toRuntimeProcess();
+
+			assertFalse("RuntimeProcess already terminated.", runtimeProcess.isTerminated());
+			assertTrue(runtimeProcess.canTerminate());
+
+			mockProcess.setExitValue(1);
+			mockProcess.destroy();
+
+			TestUtil.waitWhile(p -> !p.isTerminated(), runtimeProcess, 1000, p -> "RuntimePocess not terminated.");
+			TestUtil.waitForJobs(name.getMethodName(), 25, 500);
+			assertEquals("Wrong number of terminate events.", 1, processTerminateEvents.get());
+			assertEquals("RuntimeProcess reported wrong exit code.", 1, runtimeProcess.getExitValue());
+		} finally {
+			Preferences.setBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_SHARED_PROCESS_THREADS, false, InstanceScope.INSTANCE);
+		}
+	}
+
 	/** Test {@link RuntimeProcess} terminating the wrapped process. */
 	@Test
 	public void testTerminateProcess() throws Exception {
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.debug.core.IStreamListener;
+import org.eclipse.debug.core.model.IStreamMonitor;
+import org.eclipse.debug.core.model.StreamLineMatcher;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.junit.Test;
+
+/**
+ * Tests the {@link StreamLineMatcher}.
+ */
+public class StreamLineMatcherTests extends AbstractDebugTest {
+
+	/**
+	 * Stream monitor with fixed contents notifying its listeners of written
+	 * text.
+	 */
+	private static final class TestStreamMonitor implements IStreamMonitor {
+
+		private final List<IStreamListener> fListeners = new ArrayList<>();
+		private final StringBuilder fContents = new StringBuilder();
+
+		@Override
+		public synchronized void addListener(IStreamListener listener) {
+			fListeners.add(listener);
+		}
+
+		@Override
+		public synchronized String getContents() {
+			return fContents.toString();
+		}
+
+		@Override
+		public synchronized void removeListener(IStreamListener listener) {
+			fListeners.remove(listener);
+		}
+
+		synchronized void write(String text) {
+			fContents.append(text);
+			for (IStreamListener listener : fListeners) {
+				listener.streamAppended(text, this);
+			}
+		}
+	}
+
+	private static StreamLineMatcher createMatcher(String regex) {
+		return new StreamLineMatcher(Pattern.compile(regex), StreamLineMatcher.getRequiredLiteral(regex));
+	}
+
+	/**
+	 * Tests that lines split across appends are matched as a whole.
+	 */
+	@Test
+	public void testSplitLine() {
+		TestStreamMonitor monitor = new TestStreamMonitor();
+		StreamLineMatcher matcher = createMatcher("^Server started on port \\d+$"); //$NON-NLS-1$
+		matcher.connect(monitor);
+		monitor.write("Starting\nServer sta"); //$NON-NLS-1$
+		assertFalse("Incomplete line matched", matcher.isMatched()); //$NON-NLS-1$
+		monitor.write("rted on port 80"); //$NON-NLS-1$
+		monitor.write("80\r\nmore output\n"); //$NON-NLS-1$
+		assertTrue("Split line not matched", matcher.isMatched()); //$NON-NLS-1$
+		assertEquals("Wrong line", "Server started on port 8080", matcher.getMatchedLine()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that lines of different stream monitors are not joined.
+	 */
+	@Test
+	public void testSeparateMonitors() {
+		TestStreamMonitor out = new TestStreamMonitor();
+		TestStreamMonitor err = new TestStreamMonitor();
+		StreamLineMatcher matcher = createMatcher("ready\\.$"); //$NON-NLS-1$
+		matcher.connect(out);
+		matcher.connect(err);
+		out.write("server is re"); //$NON-NLS-1$
+		err.write("warning\n"); //$NON-NLS-1$
+		err.write("ady.\n"); //$NON-NLS-1$
+		assertFalse("Lines of different monitors joined", matcher.isMatched()); //$NON-NLS-1$
+		out.write("ady.\n"); //$NON-NLS-1$
+		assertEquals("Wrong line", "server is ready.", matcher.getMatchedLine()); //$NON-NLS-1$ //$NON-NLS-2$
+		matcher.disconnect(out);
+		matcher.disconnect(err);
+	}
+
+	/**
+	 * Tests that output written before the matcher is connected is matched.
+	 */
+	@Test
+	public void testExistingContents() {
+		TestStreamMonitor monitor = new TestStreamMonitor();
+		monitor.write("Listening\n"); //$NON-NLS-1$
+		StreamLineMatcher matcher = createMatcher("Listen"); //$NON-NLS-1$
+		matcher.connect(monitor);
+		assertTrue("Existing contents not matched", matcher.isMatched()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that lines not containing the literal are not matched.
+	 */
+	@Test
+	public void testLiteral() {
+		StreamLineMatcher matcher = new StreamLineMatcher(Pattern.compile("\\d+"), "port"); //$NON-NLS-1$ //$NON-NLS-2$
+		matcher.streamAppended("pid 42\nfree 17\n", null); //$NON-NLS-1$
+		assertFalse("Line without literal matched", matcher.isMatched()); //$NON-NLS-1$
+		matcher.streamAppended("po", null); //$NON-NLS-1$
+		matcher.streamAppended("rt 8080\n", null); //$NON-NLS-1$
+		assertEquals("Wrong line", "port 8080", matcher.getMatchedLine()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests the literals derived from regular expressions.
+	 */
+	@Test
+	public void testRequiredLiteral() {
+		assertEquals("Server started", StreamLineMatcher.getRequiredLiteral("Server started")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Started ", StreamLineMatcher.getRequiredLiteral("^Started .* in [0-9.]+ seconds")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("port 80.", StreamLineMatcher.getRequiredLiteral("port 80\\.\\d?")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("abc", StreamLineMatcher.getRequiredLiteral("xy?abcd*")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(StreamLineMatcher.getRequiredLiteral("(foo)?bar")); //$NON-NLS-1$
+		assertNull(StreamLineMatcher.getRequiredLiteral("foo|bar")); //$NON-NLS-1$
+		assertNull(StreamLineMatcher.getRequiredLiteral("\\d+.*")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that escape sequences of several characters are not taken as
+	 * literal text.
+	 */
+	@Test
+	public void testRequiredLiteralEscapes() {
+		assertEquals("BC", StreamLineMatcher.getRequiredLiteral("\\x41BC")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("abc", StreamLineMatcher.getRequiredLiteral("\\x{41}abc")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("xyz", StreamLineMatcher.getRequiredLiteral("\\u0041xyz")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("cde", StreamLineMatcher.getRequiredLiteral("a\\0101cde")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("ready", StreamLineMatcher.getRequiredLiteral("\\cMready")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("done", StreamLineMatcher.getRequiredLiteral("\\p{Alpha}done")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("done", StreamLineMatcher.getRequiredLiteral("[\\p{Alpha}\\]]done")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		StreamLineMatcher matcher = createMatcher("\\x41BC"); //$NON-NLS-1$
+		matcher.streamAppended("ABC\n", null); //$NON-NLS-1$
+		assertTrue("Line not matched", matcher.isMatched()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that nested and intersected character classes and a closing
+	 * bracket at the start of a class are not taken as literal text.
+	 */
+	@Test
+	public void testRequiredLiteralNestedClasses() {
+		assertEquals("foo", StreamLineMatcher.getRequiredLiteral("[a[b]]foo")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("foo", StreamLineMatcher.getRequiredLiteral("[a-z&&[^x]]foo")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("foo", StreamLineMatcher.getRequiredLiteral("[]a]foo")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("foo", StreamLineMatcher.getRequiredLiteral("[^]a]foo")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		StreamLineMatcher matcher = createMatcher("[a-z&&[^x]]foo"); //$NON-NLS-1$
+		matcher.streamAppended("afoo\n", null); //$NON-NLS-1$
+		assertTrue("Line not matched", matcher.isMatched()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that an unterminated line is matched by an expression surrounded by
+	 * wild cards, but not by an expression depending on the line end.
+	 */
+	@Test
+	public void testIncompleteLine() {
+		StreamLineMatcher matcher = createMatcher(".*started.*"); //$NON-NLS-1$
+		matcher.streamAppended("Server started> ", null); //$NON-NLS-1$
+		assertEquals("Wrong line", "Server started> ", matcher.getMatchedLine()); //$NON-NLS-1$ //$NON-NLS-2$
+
+		matcher = createMatcher("started \\d+$"); //$NON-NLS-1$
+		matcher.streamAppended("started 80", null); //$NON-NLS-1$
+		assertFalse("Line matched before its end", matcher.isMatched()); //$NON-NLS-1$
+		matcher.streamAppended("80\n", null); //$NON-NLS-1$
+		assertEquals("Wrong line", "started 8080", matcher.getMatchedLine()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests waiting for a match with a timeout.
+	 */
+	@Test
+	public void testAwait() throws Exception {
+		TestStreamMonitor monitor = new TestStreamMonitor();
+		StreamLineMatcher matcher = createMatcher("done"); //$NON-NLS-1$
+		matcher.connect(monitor);
+		long start = System.currentTimeMillis();
+		assertFalse("No line should match", matcher.await(200, null)); //$NON-NLS-1$
+		assertTrue("Timeout not awaited", System.currentTimeMillis() - start >= 200); //$NON-NLS-1$
+
+		Thread writer = new Thread(() -> monitor.write("done\n"), "Output Producer"); //$NON-NLS-1$ //$NON-NLS-2$
+		writer.start();
+		assertTrue("Match not awaited", matcher.await(10_000, null)); //$NON-NLS-1$
+		writer.join();
+	}
+}
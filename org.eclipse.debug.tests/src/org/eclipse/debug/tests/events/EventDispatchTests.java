@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.events;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.internal.core.EventDispatchStatistics;
+import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the coalescing of debug events by the event dispatch job.
+ */
+public class EventDispatchTests extends AbstractDebugTest {
+
+	private static final long TIMEOUT = 10_000;
+
+	private final Object fSource = new Object();
+	private final Object fSentinel = new Object();
+	private final List<DebugEvent> fReceived = new CopyOnWriteArrayList<>();
+	private final CountDownLatch fDone = new CountDownLatch(1);
+
+	private final IDebugEventSetListener fListener = events -> {
+		for (DebugEvent event : events) {
+			if (event.getSource() == fSource) {
+				fReceived.add(event);
+			} else if (event.getSource() == fSentinel) {
+				fDone.countDown();
+			}
+		}
+	};
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		DebugPlugin.getDefault().addDebugEventListener(fListener);
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		DebugPlugin.getDefault().removeDebugEventListener(fListener);
+		setCoalesceEvents(null);
+		super.tearDown();
+	}
+
+	private static void setCoalesceEvents(Boolean coalesce) {
+		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(DebugPlugin.getUniqueIdentifier());
+		if (coalesce == null) {
+			node.remove(IInternalDebugCoreConstants.PREF_COALESCE_DEBUG_EVENTS);
+		} else {
+			node.putBoolean(IInternalDebugCoreConstants.PREF_COALESCE_DEBUG_EVENTS, coalesce.booleanValue());
+		}
+	}
+
+	/**
+	 * Fires the given events while the event dispatch job is blocked, so that
+	 * they are dispatched in one batch, and waits until they are dispatched.
+	 */
+	private void fireInOneBatch(DebugEvent... events) throws InterruptedException {
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		DebugPlugin plugin = DebugPlugin.getDefault();
+		plugin.asyncExec(() -> {
+			blocked.countDown();
+			try {
+				release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertTrue("Event dispatch not blocked", blocked.await(TIMEOUT, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+		for (DebugEvent event : events) {
+			plugin.fireDebugEventSet(new DebugEvent[] { event });
+		}
+		plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(fSentinel, DebugEvent.CHANGE) });
+		release.countDown();
+		assertTrue("Events not dispatched", fDone.await(TIMEOUT, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+	}
+
+	private DebugEvent change() {
+		return new DebugEvent(fSource, DebugEvent.CHANGE, DebugEvent.CONTENT);
+	}
+
+	/**
+	 * Tests that repeated change events for the same source are coalesced into
+	 * the last one.
+	 */
+	@Test
+	public void testCoalesceChanges() throws Exception {
+		setCoalesceEvents(Boolean.TRUE);
+		long coalesced = EventDispatchStatistics.getDefault().getCoalescedCount();
+		DebugEvent last = change();
+		fireInOneBatch(change(), change(), change(), last);
+		assertEquals("Change events not coalesced", 1, fReceived.size()); //$NON-NLS-1$
+		assertTrue("Last change event not delivered", fReceived.get(0) == last); //$NON-NLS-1$
+		assertEquals("Coalesced events not counted", coalesced + 3, EventDispatchStatistics.getDefault().getCoalescedCount()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that change events are not coalesced across another event for the
+	 * same source.
+	 */
+	@Test
+	public void testOtherEventIsBarrier() throws Exception {
+		setCoalesceEvents(Boolean.TRUE);
+		fireInOneBatch(change(), change(), new DebugEvent(fSource, DebugEvent.SUSPEND, DebugEvent.STEP_END), change());
+		assertEquals("Wrong events delivered", 3, fReceived.size()); //$NON-NLS-1$
+		assertEquals("Wrong event order", DebugEvent.SUSPEND, fReceived.get(1).getKind()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that all change events are delivered if coalescing is disabled.
+	 */
+	@Test
+	public void testNoCoalescing() throws Exception {
+		setCoalesceEvents(Boolean.FALSE);
+		fireInOneBatch(change(), change(), change());
+		assertEquals("Change events coalesced", 3, fReceived.size()); //$NON-NLS-1$
+	}
+}
@@ -14,21 +14,38 @@
 package org.eclipse.debug.tests.expressions;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.IExpressionListener;
 import org.eclipse.debug.core.IExpressionManager;
 import org.eclipse.debug.core.IExpressionsListener;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IExpression;
 import org.eclipse.debug.core.model.IWatchExpression;
 import org.eclipse.debug.internal.core.ExpressionManager;
 import org.eclipse.debug.internal.core.IExpressionsListener2;
 import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.debug.tests.TestsPlugin;
+import org.eclipse.debug.ui.contexts.DebugContextEvent;
+import org.eclipse.debug.ui.contexts.IDebugContextListener;
+import org.eclipse.debug.ui.contexts.IDebugContextProvider;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.ui.IWorkbenchPart;
 import org.junit.After;
 import org.junit.Test;
 
@@ -552,4 +569,158 @@ public class ExpressionManagerTests extends AbstractDebugTest {
 		assertNull(ex[0]);
 	}
 
+	/**
+	 * Tests that all enabled watch expressions are evaluated with one request
+	 * for a context change and their changes are fired in one event set.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBatchEvaluation() throws Exception {
+		ExpressionManager manager = (ExpressionManager) getManager();
+		IWatchExpression exp1 = manager.newWatchExpression("exp1"); //$NON-NLS-1$
+		IWatchExpression exp2 = manager.newWatchExpression("exp2"); //$NON-NLS-1$
+		IWatchExpression exp3 = manager.newWatchExpression("exp3"); //$NON-NLS-1$
+		exp3.setEnabled(false);
+		manager.addExpressions(new IExpression[] { exp1, exp2, exp3 });
+		List<DebugEvent[]> eventSets = Collections.synchronizedList(new ArrayList<>());
+		IDebugEventSetListener listener = events -> {
+			if (ExpressionManager.BATCH_EVALUATION.equals(events[0].getData())) {
+				eventSets.add(events);
+			}
+		};
+		DebugPlugin.getDefault().addDebugEventListener(listener);
+		TestWatchExpressionDelegate.requests.clear();
+		try {
+			IDebugElement context = new TestDebugElement();
+			Object trigger = new Object();
+			manager.setWatchExpressionContext(exp1, context, trigger);
+			manager.setWatchExpressionContext(exp2, context, trigger);
+			manager.setWatchExpressionContext(exp3, context, trigger);
+			assertEquals(1, TestWatchExpressionDelegate.requests.size());
+			assertEquals(new HashSet<>(Arrays.asList("exp1", "exp2")), new HashSet<>(TestWatchExpressionDelegate.requests.get(0))); //$NON-NLS-1$ //$NON-NLS-2$
+			assertFalse(exp1.isPending());
+			assertFalse(exp2.isPending());
+			assertFalse(exp3.isPending());
+
+			// pending state and results are fired in one event set each
+			TestUtil.waitWhile(() -> eventSets.size() < 2, 5000);
+			assertEquals(2, eventSets.size());
+			DebugEvent[] results = eventSets.get(1);
+			Set<Object> sources = new HashSet<>();
+			for (DebugEvent event : results) {
+				assertEquals(DebugEvent.CHANGE, event.getKind());
+				assertEquals(DebugEvent.STATE | DebugEvent.CONTENT, event.getDetail());
+				sources.add(event.getSource());
+			}
+			assertEquals(new HashSet<>(Arrays.asList(exp1, exp2)), sources);
+
+			// an expression added later is evaluated on its own
+			IWatchExpression exp4 = manager.newWatchExpression("exp4"); //$NON-NLS-1$
+			manager.addExpression(exp4);
+			manager.setWatchExpressionContext(exp4, context, trigger);
+			manager.setWatchExpressionContext(exp1, context, trigger);
+			assertEquals(2, TestWatchExpressionDelegate.requests.size());
+			assertEquals(Collections.singletonList("exp4"), TestWatchExpressionDelegate.requests.get(1)); //$NON-NLS-1$
+
+			// a new trigger evaluates all enabled expressions again
+			manager.setWatchExpressionContext(exp2, context, new Object());
+			assertEquals(3, TestWatchExpressionDelegate.requests.size());
+			assertEquals(Arrays.asList("exp1", "exp2", "exp4"), sortedTexts(TestWatchExpressionDelegate.requests.get(2))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+			// clearing the context clears all results in one event set
+			manager.setWatchExpressionContext(exp1, null, new Object());
+			assertFalse(TestUtil.waitWhile(() -> eventSets.get(eventSets.size() - 1).length != 4, 5000));
+			assertNull(exp1.getValue());
+			assertEquals(3, TestWatchExpressionDelegate.requests.size());
+		} finally {
+			DebugPlugin.getDefault().removeDebugEventListener(listener);
+		}
+	}
+
+	/**
+	 * Tests that watch expressions are evaluated again when the same
+	 * selection is activated by a new debug context event, as after a step.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testReevaluateSameSelection() throws Exception {
+		ExpressionManager manager = (ExpressionManager) getManager();
+		IWatchExpression exp1 = manager.newWatchExpression("exp1"); //$NON-NLS-1$
+		IWatchExpression exp2 = manager.newWatchExpression("exp2"); //$NON-NLS-1$
+		manager.addExpressions(new IExpression[] { exp1, exp2 });
+		TestWatchExpressionDelegate.requests.clear();
+		IDebugElement context = new TestDebugElement();
+		IDebugContextProvider provider = new TestDebugContextProvider();
+		ISelection selection = new StructuredSelection(context);
+
+		DebugContextEvent activated = new DebugContextEvent(provider, selection, DebugContextEvent.ACTIVATED);
+		manager.setWatchExpressionContext(exp1, context, activated);
+		manager.setWatchExpressionContext(exp2, context, activated);
+		assertEquals(1, TestWatchExpressionDelegate.requests.size());
+
+		// after a step the same selection is activated again
+		DebugContextEvent stepped = new DebugContextEvent(provider, selection, DebugContextEvent.ACTIVATED);
+		manager.setWatchExpressionContext(exp1, context, stepped);
+		manager.setWatchExpressionContext(exp2, context, stepped);
+		assertEquals(2, TestWatchExpressionDelegate.requests.size());
+		assertEquals(Arrays.asList("exp1", "exp2"), sortedTexts(TestWatchExpressionDelegate.requests.get(1))); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Debug context provider without a part, only used as event source.
+	 */
+	private static class TestDebugContextProvider implements IDebugContextProvider {
+
+		@Override
+		public IWorkbenchPart getPart() {
+			return null;
+		}
+
+		@Override
+		public void addDebugContextListener(IDebugContextListener listener) {
+		}
+
+		@Override
+		public void removeDebugContextListener(IDebugContextListener listener) {
+		}
+
+		@Override
+		public ISelection getActiveContext() {
+			return null;
+		}
+	}
+
+	private static List<String> sortedTexts(List<String> texts) {
+		List<String> sorted = new ArrayList<>(texts);
+		Collections.sort(sorted);
+		return sorted;
+	}
+
+	/**
+	 * Debug element of the test debug model.
+	 */
+	private static class TestDebugElement implements IDebugElement {
+
+		@Override
+		public String getModelIdentifier() {
+			return TestsPlugin.PLUGIN_ID;
+		}
+
+		@Override
+		public IDebugTarget getDebugTarget() {
+			return null;
+		}
+
+		@Override
+		public ILaunch getLaunch() {
+			return null;
+		}
+
+		@Override
+		public <T> T getAdapter(Class<T> adapter) {
+			return null;
+		}
+	}
 }
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.expressions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IValue;
+import org.eclipse.debug.core.model.IWatchExpressionDelegate2;
+import org.eclipse.debug.core.model.IWatchExpressionListener;
+import org.eclipse.debug.core.model.IWatchExpressionResult;
+
+/**
+ * Watch expression delegate for the test debug model which records its
+ * requests and reports results without a value immediately.
+ */
+public class TestWatchExpressionDelegate implements IWatchExpressionDelegate2 {
+
+	/** Expression texts of each request, single evaluations have one text. */
+	static final List<List<String>> requests = Collections.synchronizedList(new ArrayList<>());
+
+	@Override
+	public void evaluateExpression(String expression, IDebugElement context, IWatchExpressionListener listener) {
+		evaluateExpressions(new String[] { expression }, context, listener);
+	}
+
+	@Override
+	public void evaluateExpressions(String[] expressions, IDebugElement context, IWatchExpressionListener listener) {
+		List<String> request = new ArrayList<>();
+		Collections.addAll(request, expressions);
+		requests.add(request);
+		for (String expression : expressions) {
+			listener.watchEvaluationFinished(new IWatchExpressionResult() {
+				@Override
+				public IValue getValue() {
+					return null;
+				}
+
+				@Override
+				public boolean hasErrors() {
+					return false;
+				}
+
+				@Override
+				public String[] getErrorMessages() {
+					return new String[0];
+				}
+
+				@Override
+				public String getExpressionText() {
+					return expression;
+				}
+
+				@Override
+				public DebugException getException() {
+					return null;
+				}
+			});
+		}
+	}
+
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.core.filesystem.EFS;
+import org.eclipse.core.filesystem.IFileStore;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.debug.internal.core.LaunchConfiguration;
+import org.eclipse.debug.internal.core.LaunchConfigurationInfoCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link LaunchConfigurationInfoCache}.
+ */
+public class LaunchConfigurationInfoCacheTests extends AbstractLaunchTest {
+
+	/**
+	 * Cache counting the launch configuration files it parses.
+	 */
+	static class CountingCache extends LaunchConfigurationInfoCache {
+
+		final AtomicInteger fParsed = new AtomicInteger();
+
+		CountingCache(File file) {
+			super(file);
+		}
+
+		@Override
+		protected CacheEntry parse(byte[] contents, byte[] digest) throws CoreException, XMLStreamException {
+			fParsed.incrementAndGet();
+			return super.parse(contents, digest);
+		}
+	}
+
+	private File fDirectory;
+	private File fCacheFile;
+	private File fConfigFile;
+	private IFileStore fConfigStore;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		fDirectory = Files.createTempDirectory("launchConfigurationCache").toFile(); //$NON-NLS-1$
+		fCacheFile = new File(fDirectory, ".launchConfigurationCache"); //$NON-NLS-1$
+		fConfigFile = new File(fDirectory, "config.launch"); //$NON-NLS-1$
+		fConfigStore = EFS.getLocalFileSystem().fromLocalFile(fConfigFile);
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		File[] files = fDirectory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		fDirectory.delete();
+		super.tearDown();
+	}
+
+	private void writeConfig(String value) throws IOException {
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" //$NON-NLS-1$
+				+ "<launchConfiguration type=\"" + LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE + "\">\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "<stringAttribute key=\"value\" value=\"" + value + "\"/>\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "<intAttribute key=\"count\" value=\"42\"/>\n" //$NON-NLS-1$
+				+ "<listAttribute key=\"list\">\n<listEntry value=\"a\"/>\n<listEntry value=\"b\"/>\n</listAttribute>\n" //$NON-NLS-1$
+				+ "</launchConfiguration>\n"; //$NON-NLS-1$
+		Files.write(fConfigFile.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Fills the cache file with the entry of the configuration file.
+	 */
+	private void saveCache() throws Exception {
+		LaunchConfigurationInfoCache cache = new LaunchConfigurationInfoCache(fCacheFile);
+		cache.getEntry(fConfigStore);
+		cache.save();
+	}
+
+	/**
+	 * Tests that unchanged configurations are restored from the persisted
+	 * cache without parsing them.
+	 */
+	@Test
+	public void testRoundTrip() throws Exception {
+		writeConfig("first"); //$NON-NLS-1$
+		saveCache();
+		CountingCache cache = new CountingCache(fCacheFile);
+		LaunchConfigurationInfoCache.CacheEntry entry = cache.getEntry(fConfigStore);
+		assertEquals("Unchanged configuration parsed", 0, cache.fParsed.get()); //$NON-NLS-1$
+		assertEquals("Wrong string attribute", "first", entry.getAttributes().get("value")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals("Wrong int attribute", Integer.valueOf(42), entry.getAttributes().get("count")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong list attribute", List.of("a", "b"), entry.getAttributes().get("list")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * Tests that a configuration changed without changing its size or
+	 * modification stamp is parsed again.
+	 */
+	@Test
+	public void testChangedContents() throws Exception {
+		writeConfig("first"); //$NON-NLS-1$
+		long modified = fConfigFile.lastModified();
+		saveCache();
+		writeConfig("other"); //$NON-NLS-1$
+		fConfigFile.setLastModified(modified);
+		CountingCache cache = new CountingCache(fCacheFile);
+		LaunchConfigurationInfoCache.CacheEntry entry = cache.getEntry(fConfigStore);
+		assertEquals("Changed configuration not parsed", 1, cache.fParsed.get()); //$NON-NLS-1$
+		assertEquals("Stale attribute", "other", entry.getAttributes().get("value")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Tests that a truncated cache file is discarded.
+	 */
+	@Test
+	public void testTruncatedCache() throws Exception {
+		writeConfig("first"); //$NON-NLS-1$
+		saveCache();
+		try (RandomAccessFile file = new RandomAccessFile(fCacheFile, "rw")) { //$NON-NLS-1$
+			file.setLength(file.length() / 2);
+		}
+		CountingCache cache = new CountingCache(fCacheFile);
+		LaunchConfigurationInfoCache.CacheEntry entry = cache.getEntry(fConfigStore);
+		assertEquals("Configuration not parsed", 1, cache.fParsed.get()); //$NON-NLS-1$
+		assertEquals("Wrong attribute", "first", entry.getAttributes().get("value")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Tests that a cache file with invalid contents is discarded.
+	 */
+	@Test
+	public void testCorruptCache() throws Exception {
+		writeConfig("first"); //$NON-NLS-1$
+		saveCache();
+		byte[] bytes = Files.readAllBytes(fCacheFile.toPath());
+		// keep the version, break the entry count
+		for (int i = 4; i < 8; i++) {
+			bytes[i] = (byte) 0xFF;
+		}
+		Files.write(fCacheFile.toPath(), bytes);
+		CountingCache cache = new CountingCache(fCacheFile);
+		cache.getEntry(fConfigStore);
+		assertEquals("Configuration not parsed", 1, cache.fParsed.get()); //$NON-NLS-1$
+
+		Files.write(fCacheFile.toPath(), "not a cache".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+		cache = new CountingCache(fCacheFile);
+		cache.getEntry(fConfigStore);
+		assertEquals("Configuration not parsed", 1, cache.fParsed.get()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that prefetched configurations are read once and provide the
+	 * attributes of the configurations.
+	 */
+	@Test
+	public void testPrefetch() throws Exception {
+		List<ILaunchConfiguration> configs = new ArrayList<>();
+		try {
+			for (int i = 0; i < 20; i++) {
+				ILaunchConfigurationWorkingCopy wc = getLaunchConfiguration("prefetch-" + i).getWorkingCopy(); //$NON-NLS-1$
+				wc.setAttribute("index", i); //$NON-NLS-1$
+				configs.add(wc.doSave());
+			}
+			CountingCache cache = new CountingCache(null);
+			cache.prefetch(configs);
+			assertEquals("Configurations not prefetched", configs.size(), cache.fParsed.get()); //$NON-NLS-1$
+			for (int i = 0; i < configs.size(); i++) {
+				IFileStore store = ((LaunchConfiguration) configs.get(i)).getFileStore();
+				assertEquals("Wrong attribute", Integer.valueOf(i), cache.getEntry(store).getAttributes().get("index")); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			assertEquals("Prefetched configurations parsed again", configs.size(), cache.fParsed.get()); //$NON-NLS-1$
+		} finally {
+			for (ILaunchConfiguration config : configs) {
+				config.delete();
+			}
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.junit.Test;
+
+/**
+ * Measures saving and reading launch configurations with large attributes.
+ */
+public class LaunchConfigurationPerformanceTests extends AbstractLaunchTest {
+
+	private static final int ENTRIES = 1000;
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Saves a configuration with a large environment map and a long list
+	 * attribute and reads it back from disk.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testSaveAndReadLargeConfiguration() throws Exception {
+		ILaunchConfigurationType type = getLaunchManager().getLaunchConfigurationType(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE);
+		ILaunchConfigurationWorkingCopy wc = type.newInstance(null, "largeConfiguration"); //$NON-NLS-1$
+		Map<String, String> env = new HashMap<>();
+		List<String> classpath = new ArrayList<>();
+		for (int i = 0; i < ENTRIES; i++) {
+			env.put("VARIABLE_" + i, "/some/path/with <special> & \"quoted\" characters/" + i); //$NON-NLS-1$ //$NON-NLS-2$
+			classpath.add("<?xml version=\"1.0\" encoding=\"UTF-8\"?><runtimeClasspathEntry path=\"/lib/library" + i + ".jar\"/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		wc.setAttribute("env", env); //$NON-NLS-1$
+		wc.setAttribute("classpath", classpath); //$NON-NLS-1$
+		ILaunchConfiguration config = wc.doSave();
+
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int i = 0; i < 20; i++) {
+				wc = config.getWorkingCopy();
+				wc.setAttribute("counter", i); //$NON-NLS-1$
+				meter.start();
+				config = wc.doSave();
+				// the info was discarded on save, this reads the file again
+				assertEquals(i, config.getAttribute("counter", -1)); //$NON-NLS-1$
+				meter.stop();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+			config.delete();
+		}
+	}
+}
@@ -32,14 +32,19 @@ import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.filesystem.EFS;
@@ -75,6 +80,8 @@ import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
 import org.junit.Test;
 import org.osgi.framework.Bundle;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 /**
  * Tests for launch configurations
@@ -1650,6 +1657,155 @@ public class LaunchConfigurationTests extends AbstractLaunchTest implements ILau
 		}
 	}
 
+	/**
+	 * Tests that the XML written for a launch configuration is identical to
+	 * serializing the equivalent document and that it is read back unchanged.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testSerializationMatchesDocument() throws Exception {
+		ILaunchConfigurationWorkingCopy wc = newConfiguration(null, "serialization"); //$NON-NLS-1$
+		Map<String, String> env = new HashMap<>();
+		env.put("PATH", "a&b<c>\"d\"\te'f"); //$NON-NLS-1$ //$NON-NLS-2$
+		env.put("EMPTY", ""); //$NON-NLS-1$ //$NON-NLS-2$
+		wc.setAttribute("Map1", env); //$NON-NLS-1$
+		wc.setAttribute("List1", Arrays.asList("line\nbreak", "\u20ac", "\ud83d\ude00")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		wc.setAttribute("Set1", new HashSet<>(Arrays.asList("b", "a"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		wc.setAttribute("String2", "<tag attr=\"v\">&amp;\r\n</tag>"); //$NON-NLS-1$ //$NON-NLS-2$
+		Map<String, Object> attributes = wc.getAttributes();
+		ILaunchConfiguration config = wc.doSave();
+		try {
+			// the saved configuration is read back from disk
+			assertEquals(attributes, config.getAttributes());
+			Document doc = DebugPlugin.newDocument();
+			Element root = doc.createElement("launchConfiguration"); //$NON-NLS-1$
+			root.setAttribute("type", ID_TEST_LAUNCH_TYPE); //$NON-NLS-1$
+			doc.appendChild(root);
+			for (Entry<String, Object> entry : new TreeMap<>(attributes).entrySet()) {
+				root.appendChild(createAttributeElement(doc, entry.getKey(), entry.getValue()));
+			}
+			byte[] expected = DebugPlugin.serializeDocument(doc).getBytes(StandardCharsets.UTF_8);
+			byte[] actual = Files.readAllBytes(config.getLocation().toFile().toPath());
+			assertEquals(new String(expected, StandardCharsets.UTF_8), new String(actual, StandardCharsets.UTF_8));
+			assertTrue("Should be byte identical", Arrays.equals(expected, actual)); //$NON-NLS-1$
+		} finally {
+			config.delete();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Element createAttributeElement(Document doc, String key, Object value) {
+		Element element;
+		if (value instanceof String) {
+			element = doc.createElement("stringAttribute"); //$NON-NLS-1$
+			element.setAttribute("value", (String) value); //$NON-NLS-1$
+		} else if (value instanceof Integer) {
+			element = doc.createElement("intAttribute"); //$NON-NLS-1$
+			element.setAttribute("value", value.toString()); //$NON-NLS-1$
+		} else if (value instanceof Boolean) {
+			element = doc.createElement("booleanAttribute"); //$NON-NLS-1$
+			element.setAttribute("value", value.toString()); //$NON-NLS-1$
+		} else if (value instanceof List) {
+			element = doc.createElement("listAttribute"); //$NON-NLS-1$
+			for (String entry : (List<String>) value) {
+				Element child = doc.createElement("listEntry"); //$NON-NLS-1$
+				child.setAttribute("value", entry); //$NON-NLS-1$
+				element.appendChild(child);
+			}
+		} else if (value instanceof Set) {
+			element = doc.createElement("setAttribute"); //$NON-NLS-1$
+			for (String entry : new TreeSet<>((Set<String>) value)) {
+				Element child = doc.createElement("setEntry"); //$NON-NLS-1$
+				child.setAttribute("value", entry); //$NON-NLS-1$
+				element.appendChild(child);
+			}
+		} else {
+			element = doc.createElement("mapAttribute"); //$NON-NLS-1$
+			for (Entry<String, String> entry : new TreeMap<>((Map<String, String>) value).entrySet()) {
+				Element child = doc.createElement("mapEntry"); //$NON-NLS-1$
+				child.setAttribute("key", entry.getKey()); //$NON-NLS-1$
+				child.setAttribute("value", entry.getValue()); //$NON-NLS-1$
+				element.appendChild(child);
+			}
+		}
+		element.setAttribute("key", key); //$NON-NLS-1$
+		return element;
+	}
+
+	/**
+	 * Tests that lookups by name, type and mapped resource follow changes of
+	 * the mapped resources and deletion of a configuration.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testIndexedLookups() throws Exception {
+		LaunchManager manager = (LaunchManager) getLaunchManager();
+		IProject project = getProject();
+		IFile file = project.getFile("indexed.txt"); //$NON-NLS-1$
+		ILaunchConfigurationWorkingCopy wc = newConfiguration(null, "indexedLookups"); //$NON-NLS-1$
+		wc.setMappedResources(new IResource[] { file });
+		ILaunchConfiguration config = wc.doSave();
+		try {
+			assertEquals(config, manager.findLaunchConfiguration("indexedLookups")); //$NON-NLS-1$
+			assertTrue(existsIn(manager.getLaunchConfigurations(config.getType()), config));
+			assertTrue("Should be mapped to file", existsIn(manager.getMappedConfigurations(file), config)); //$NON-NLS-1$
+			assertTrue("Should be mapped to project of file", existsIn(manager.getMappedConfigurations(project), config)); //$NON-NLS-1$
+
+			wc = config.getWorkingCopy();
+			wc.setMappedResources(new IResource[] { project });
+			config = wc.doSave();
+			assertFalse("Should no longer be mapped to file", existsIn(manager.getMappedConfigurations(file), config)); //$NON-NLS-1$
+			assertTrue("Should be mapped to project", existsIn(manager.getMappedConfigurations(project), config)); //$NON-NLS-1$
+		} finally {
+			config.delete();
+		}
+		assertNull(manager.findLaunchConfiguration("indexedLookups")); //$NON-NLS-1$
+		assertFalse(existsIn(manager.getMappedConfigurations(project), config));
+	}
+
+	/**
+	 * Tests that working copies and attribute maps sharing attributes with a
+	 * configuration are isolated from each other once modified.
+	 */
+	@Test
+	public void testSharedAttributesAreIsolated() throws Exception {
+		ILaunchConfigurationWorkingCopy wc = newConfiguration(null, "sharedAttributes"); //$NON-NLS-1$
+		ILaunchConfiguration config = wc.doSave();
+		try {
+			ILaunchConfigurationWorkingCopy copy1 = config.getWorkingCopy();
+			ILaunchConfigurationWorkingCopy copy2 = config.getWorkingCopy();
+			assertFalse("Unmodified working copy should not be dirty", copy1.isDirty()); //$NON-NLS-1$
+			Map<String, Object> attributes = config.getAttributes();
+
+			copy1.setAttribute("String1", "changed"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertTrue("Modified working copy should be dirty", copy1.isDirty()); //$NON-NLS-1$
+			assertEquals("String1", config.getAttribute("String1", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			assertEquals("String1", copy2.getAttribute("String1", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			assertEquals("String1", attributes.get("String1")); //$NON-NLS-1$ //$NON-NLS-2$
+
+			attributes.put("String1", "map"); //$NON-NLS-1$ //$NON-NLS-2$
+			attributes.remove("Int1"); //$NON-NLS-1$
+			for (Iterator<Entry<String, Object>> iterator = attributes.entrySet().iterator(); iterator.hasNext();) {
+				if (iterator.next().getKey().startsWith("Boolean")) { //$NON-NLS-1$
+					iterator.remove();
+				}
+			}
+			assertEquals("String1", config.getAttribute("String1", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			assertEquals(1, config.getAttribute("Int1", 0)); //$NON-NLS-1$
+			assertTrue(config.hasAttribute("Boolean1")); //$NON-NLS-1$
+			assertFalse(attributes.containsKey("Boolean1")); //$NON-NLS-1$
+
+			copy2.setAttributes(attributes);
+			attributes.put("String1", "after"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("map", copy2.getAttribute("String1", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			assertFalse(copy2.hasAttribute("Int1")); //$NON-NLS-1$
+		} finally {
+			config.delete();
+		}
+	}
+
 	/**
 	 * Tests that a launch created without a backing
 	 * {@link ILaunchConfiguration} does not cause {@link NullPointerException}s
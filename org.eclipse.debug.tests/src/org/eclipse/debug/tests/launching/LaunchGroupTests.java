@@ -21,7 +21,11 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -44,6 +48,7 @@ import org.eclipse.debug.core.model.IStreamMonitor;
 import org.eclipse.debug.core.model.IStreamsProxy;
 import org.eclipse.debug.core.model.LaunchConfigurationDelegate;
 import org.eclipse.debug.internal.core.LaunchManager;
+import org.eclipse.debug.internal.core.groups.GroupLaunch;
 import org.eclipse.debug.internal.core.groups.GroupLaunchConfigurationDelegate;
 import org.eclipse.debug.internal.core.groups.GroupLaunchElement;
 import org.eclipse.debug.internal.core.groups.GroupLaunchElement.GroupElementPostLaunchAction;
@@ -51,6 +56,11 @@ import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.internal.ui.launchConfigurations.LaunchHistory;
 import org.eclipse.debug.tests.TestUtil;
 import org.eclipse.debug.ui.IDebugUIConstants;
+import org.eclipse.jface.dialogs.Dialog;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -328,6 +338,162 @@ public class LaunchGroupTests extends AbstractLaunchTest {
 		assertTrue("history[2] should be Test1", history[2].contentsEqual(t1)); //$NON-NLS-1$
 	}
 
+	@Test
+	public void testParallel() throws Exception {
+		ILaunchConfiguration t1 = getLaunchConfiguration("Test1"); //$NON-NLS-1$
+		ILaunchConfiguration t2 = getLaunchConfiguration("Test2"); //$NON-NLS-1$
+		ILaunchConfiguration t3 = getLaunchConfiguration("Test3"); //$NON-NLS-1$
+		GroupLaunchElement e3 = createLaunchGroupElement(t3, GroupElementPostLaunchAction.NONE, null, false);
+		e3.dependencies.add(t1.getName());
+		ILaunchConfigurationWorkingCopy wc = createLaunchGroup(DEF_GRP_NAME, createLaunchGroupElement(t1, GroupElementPostLaunchAction.DELAY, 2, false), e3, createLaunchGroupElement(t2, GroupElementPostLaunchAction.NONE, null, false)).getWorkingCopy();
+		wc.setAttribute(GroupLaunchConfigurationDelegate.ATTR_PARALLEL, true);
+		ILaunchConfiguration grp = wc.doSave();
+		assertEquals("dependencies not stored", Arrays.asList(t1.getName()), GroupLaunchConfigurationDelegate.createLaunchElements(grp).get(1).dependencies); //$NON-NLS-1$
+
+		Map<String, Long> launched = new ConcurrentHashMap<>();
+		long start = System.currentTimeMillis();
+		GroupLaunch launch = launchRecording(grp, new NullProgressMonitor(), launched);
+
+		assertTrue("independent element waited for delay", launched.get(t2.getName()) - start < 2000); //$NON-NLS-1$
+		assertTrue("dependency was not awaited", launched.get(t3.getName()) - start >= 2000); //$NON-NLS-1$
+		Map<String, Long> startupTimes = launch.getStartupTimes();
+		assertEquals("startup times not reported", new HashSet<>(Arrays.asList(t1.getName(), t2.getName(), t3.getName())), startupTimes.keySet()); //$NON-NLS-1$
+		assertTrue("startup time does not include delay", startupTimes.get(t1.getName()) >= 2000); //$NON-NLS-1$
+	}
+
+	/**
+	 * Launches the given group and records the time each element of the group
+	 * was launched at.
+	 */
+	private GroupLaunch launchRecording(ILaunchConfiguration grp, IProgressMonitor monitor, Map<String, Long> launched) throws CoreException {
+		ILaunchListener listener = new ILaunchListener() {
+			@Override
+			public void launchRemoved(ILaunch launch) {
+			}
+
+			@Override
+			public void launchChanged(ILaunch launch) {
+			}
+
+			@Override
+			public void launchAdded(ILaunch launch) {
+				if (!(launch instanceof GroupLaunch)) {
+					launched.put(launch.getLaunchConfiguration().getName(), System.currentTimeMillis());
+				}
+			}
+		};
+		getLaunchManager().addLaunchListener(listener);
+		try {
+			return (GroupLaunch) grp.launch(ILaunchManager.RUN_MODE, monitor);
+		} finally {
+			getLaunchManager().removeLaunchListener(listener);
+		}
+	}
+
+	private ILaunchConfiguration createParallelLaunchGroup(GroupLaunchElement... children) throws CoreException {
+		ILaunchConfigurationWorkingCopy wc = createLaunchGroup(DEF_GRP_NAME, children).getWorkingCopy();
+		wc.setAttribute(GroupLaunchConfigurationDelegate.ATTR_PARALLEL, true);
+		return wc.doSave();
+	}
+
+	@Test
+	public void testParallelDependencyOrder() throws Exception {
+		ILaunchConfiguration t1 = getLaunchConfiguration("Test1"); //$NON-NLS-1$
+		ILaunchConfiguration t2 = getLaunchConfiguration("Test2"); //$NON-NLS-1$
+		ILaunchConfiguration t3 = getLaunchConfiguration("Test3"); //$NON-NLS-1$
+		// listed in reverse order of their dependencies
+		GroupLaunchElement e3 = createLaunchGroupElement(t3, GroupElementPostLaunchAction.NONE, null, false);
+		e3.dependencies.add(t2.getName());
+		GroupLaunchElement e2 = createLaunchGroupElement(t2, GroupElementPostLaunchAction.DELAY, 1, false);
+		e2.dependencies.add(t1.getName());
+		GroupLaunchElement e1 = createLaunchGroupElement(t1, GroupElementPostLaunchAction.DELAY, 1, false);
+		ILaunchConfiguration grp = createParallelLaunchGroup(e3, e2, e1);
+
+		Map<String, Long> launched = new ConcurrentHashMap<>();
+		GroupLaunch launch = launchRecording(grp, new NullProgressMonitor(), launched);
+
+		assertEquals("not all elements launched", 3, launched.size()); //$NON-NLS-1$
+		assertTrue("dependency of Test2 was not awaited", launched.get(t2.getName()) - launched.get(t1.getName()) >= 1000); //$NON-NLS-1$
+		assertTrue("dependency of Test3 was not awaited", launched.get(t3.getName()) - launched.get(t2.getName()) >= 1000); //$NON-NLS-1$
+		assertEquals("wrong order", Arrays.asList(t1.getName(), t2.getName(), t3.getName()), new ArrayList<>(launch.getStartupTimes().keySet())); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testParallelUnknownDependency() throws Exception {
+		ILaunchConfiguration t1 = getLaunchConfiguration("Test1"); //$NON-NLS-1$
+		ILaunchConfiguration t2 = getLaunchConfiguration("Test2"); //$NON-NLS-1$
+		GroupLaunchElement e1 = createLaunchGroupElement(t1, GroupElementPostLaunchAction.NONE, null, false);
+		e1.dependencies.add("Unknown"); //$NON-NLS-1$
+		GroupLaunchElement e2 = createLaunchGroupElement(t2, GroupElementPostLaunchAction.NONE, null, false);
+		e2.dependencies.add(t1.getName());
+		ILaunchConfiguration grp = createParallelLaunchGroup(e1, e2);
+
+		Map<String, Long> launched = new ConcurrentHashMap<>();
+		launchRecording(grp, new NullProgressMonitor(), launched);
+
+		assertEquals("unknown dependency not ignored", new HashSet<>(Arrays.asList(t1.getName(), t2.getName())), launched.keySet()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testParallelCycle() throws Exception {
+		ILaunchConfiguration t1 = getLaunchConfiguration("Test1"); //$NON-NLS-1$
+		ILaunchConfiguration t2 = getLaunchConfiguration("Test2"); //$NON-NLS-1$
+		ILaunchConfiguration t3 = getLaunchConfiguration("Test3"); //$NON-NLS-1$
+		GroupLaunchElement e1 = createLaunchGroupElement(t1, GroupElementPostLaunchAction.NONE, null, false);
+		e1.dependencies.add(t2.getName());
+		GroupLaunchElement e2 = createLaunchGroupElement(t2, GroupElementPostLaunchAction.NONE, null, false);
+		e2.dependencies.add(t1.getName());
+		GroupLaunchElement e3 = createLaunchGroupElement(t3, GroupElementPostLaunchAction.NONE, null, false);
+		ILaunchConfiguration grp = createParallelLaunchGroup(e1, e2, e3);
+
+		// the cycle is reported in an error dialog, close it
+		Display display = Display.getDefault();
+		Listener closeDialogs = event -> {
+			if (event.widget instanceof Shell && ((Shell) event.widget).getData() instanceof Dialog) {
+				Dialog dialog = (Dialog) ((Shell) event.widget).getData();
+				display.asyncExec(dialog::close);
+			}
+		};
+		display.addFilter(SWT.Show, closeDialogs);
+		Map<String, Long> launched = new ConcurrentHashMap<>();
+		try {
+			launchRecording(grp, new NullProgressMonitor(), launched);
+			TestUtil.processUIEvents(500);
+		} finally {
+			display.removeFilter(SWT.Show, closeDialogs);
+		}
+
+		assertEquals("elements of the cycle launched", Collections.singleton(t3.getName()), launched.keySet()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testParallelCancel() throws Exception {
+		ILaunchConfiguration t1 = getLaunchConfiguration("Test1"); //$NON-NLS-1$
+		ILaunchConfiguration t2 = getLaunchConfiguration("Test2"); //$NON-NLS-1$
+		GroupLaunchElement e1 = createLaunchGroupElement(t1, GroupElementPostLaunchAction.DELAY, 60, false);
+		GroupLaunchElement e2 = createLaunchGroupElement(t2, GroupElementPostLaunchAction.NONE, null, false);
+		e2.dependencies.add(t1.getName());
+		ILaunchConfiguration grp = createParallelLaunchGroup(e1, e2);
+
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		Thread canceler = new Thread(() -> {
+			try {
+				Thread.sleep(500);
+			} catch (InterruptedException e) {
+				// cancel now
+			}
+			monitor.setCanceled(true);
+		}, "Launch Group Canceler"); //$NON-NLS-1$
+		canceler.start();
+		Map<String, Long> launched = new ConcurrentHashMap<>();
+		long start = System.currentTimeMillis();
+		launchRecording(grp, monitor, launched);
+		canceler.join();
+
+		assertTrue("cancellation not noticed", System.currentTimeMillis() - start < 10_000); //$NON-NLS-1$
+		assertEquals("dependent element launched after cancellation", Collections.singleton(t1.getName()), launched.keySet()); //$NON-NLS-1$
+	}
+
 	@Test
 	public void testRename() throws Exception {
 		ILaunchConfiguration t1 = getLaunchConfiguration("Test1"); //$NON-NLS-1$
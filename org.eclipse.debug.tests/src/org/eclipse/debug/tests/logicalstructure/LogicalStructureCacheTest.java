@@ -14,8 +14,20 @@
 package org.eclipse.debug.tests.logicalstructure;
 
 import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILogicalStructureType;
+import org.eclipse.debug.core.model.ILogicalStructureTypeDelegate3;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.internal.ui.views.variables.LogicalStructureCache;
 import org.eclipse.debug.tests.AbstractDebugTest;
@@ -38,4 +50,149 @@ public class LogicalStructureCacheTest extends AbstractDebugTest {
 		assertFalse(logicalStructure.isAllocated());
 	}
 
+	@Test
+	public void testConcurrentComputation() throws Exception {
+		// both computations have to run at the same time to finish
+		CountDownLatch started = new CountDownLatch(2);
+		BlockingStructureType type = new BlockingStructureType(started);
+		LogicalStructureCache cache = new LogicalStructureCache();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<IValue> first = executor.submit(() -> cache.getLogicalStructure(type, new TestValue("first")));
+			Future<IValue> second = executor.submit(() -> cache.getLogicalStructure(type, new TestValue("second")));
+			assertEquals("first", first.get(10, TimeUnit.SECONDS).getValueString());
+			assertEquals("second", second.get(10, TimeUnit.SECONDS).getValueString());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testComputeOnce() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		BlockingStructureType type = new BlockingStructureType(started);
+		LogicalStructureCache cache = new LogicalStructureCache();
+		TestValue rawValue = new TestValue("raw");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<IValue>> results = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				results.add(executor.submit(() -> cache.getLogicalStructure(type, rawValue)));
+			}
+			IValue logicalStructure = results.get(0).get(10, TimeUnit.SECONDS);
+			for (Future<IValue> result : results) {
+				assertSame(logicalStructure, result.get(10, TimeUnit.SECONDS));
+			}
+			assertEquals(1, type.computations.get());
+
+			cache.clear();
+			assertNotSame(logicalStructure, cache.getLogicalStructure(type, rawValue));
+			assertEquals(2, type.computations.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testReleaseEvictedValues() throws Exception {
+		// 1000 cached and 1000 evicted values are kept
+		ReleasingStructureType type = new ReleasingStructureType();
+		LogicalStructureCache cache = new LogicalStructureCache();
+		List<IValue> logicalStructures = new ArrayList<>();
+		for (int i = 0; i < 2100; i++) {
+			logicalStructures.add(cache.getLogicalStructure(type, new TestValue("value" + i)));
+		}
+		for (int i = 0; i < logicalStructures.size(); i++) {
+			assertEquals("value" + i, i >= 100, logicalStructures.get(i).isAllocated());
+		}
+
+		cache.clear();
+		for (IValue logicalStructure : logicalStructures) {
+			assertFalse(logicalStructure.isAllocated());
+		}
+	}
+
+	/**
+	 * Logical structure type returning a copy of the raw value, which is
+	 * released with the structure.
+	 */
+	private static class ReleasingStructureType implements ILogicalStructureType, ILogicalStructureTypeDelegate3 {
+
+		@Override
+		public boolean providesLogicalStructure(IValue value) {
+			return true;
+		}
+
+		@Override
+		public IValue getLogicalStructure(IValue value) throws CoreException {
+			return new TestValue(value.getValueString());
+		}
+
+		@Override
+		public void releaseValue(IValue logicalStructure) {
+			((TestValue) logicalStructure).release();
+		}
+
+		@Override
+		public String getDescription(IValue value) {
+			return getDescription();
+		}
+
+		@Override
+		public String getDescription() {
+			return "Releasing structure";
+		}
+
+		@Override
+		public String getId() {
+			return "releasing";
+		}
+	}
+
+	/**
+	 * Logical structure type waiting for a number of computations to start
+	 * before returning a copy of the raw value.
+	 */
+	private static class BlockingStructureType implements ILogicalStructureType {
+		private final CountDownLatch started;
+		final AtomicInteger computations = new AtomicInteger();
+
+		BlockingStructureType(CountDownLatch started) {
+			this.started = started;
+		}
+
+		@Override
+		public boolean providesLogicalStructure(IValue value) {
+			return true;
+		}
+
+		@Override
+		public IValue getLogicalStructure(IValue value) throws CoreException {
+			computations.incrementAndGet();
+			started.countDown();
+			try {
+				if (!started.await(5, TimeUnit.SECONDS)) {
+					fail("Logical structures not computed concurrently");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new TestValue(value.getValueString());
+		}
+
+		@Override
+		public String getDescription(IValue value) {
+			return getDescription();
+		}
+
+		@Override
+		public String getDescription() {
+			return "Blocking structure";
+		}
+
+		@Override
+		public String getId() {
+			return "blocking";
+		}
+	}
 }
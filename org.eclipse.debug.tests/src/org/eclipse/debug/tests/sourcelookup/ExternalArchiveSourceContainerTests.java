@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.sourcelookup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.debug.core.sourcelookup.containers.ExternalArchiveSourceContainer;
+import org.eclipse.debug.core.sourcelookup.containers.ZipEntryStorage;
+import org.eclipse.debug.internal.core.sourcelookup.SourceLookupUtils;
+import org.eclipse.debug.internal.core.sourcelookup.SourceLookupUtils.ArchiveCacheStatistics;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ExternalArchiveSourceContainer} lookups
+ */
+public class ExternalArchiveSourceContainerTests extends AbstractDebugTest {
+
+	private File fArchive;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		fArchive = File.createTempFile("sources", ".zip"); //$NON-NLS-1$ //$NON-NLS-2$
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(fArchive))) {
+			for (String name : new String[] { "src/", "src/a/", "src/a/b/", "src/a/b/Test.java", "src/a/c/Test.java", "src/a/b/MyTest.java", "other/b/Test.java" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+				out.putNextEntry(new ZipEntry(name));
+				out.closeEntry();
+			}
+		}
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		SourceLookupUtils.closeArchives();
+		fArchive.delete();
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that unqualified names only match whole file names, returning the
+	 * first entry in archive order.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testUnqualifiedLookup() throws Exception {
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), false);
+		try {
+			assertEntries(container.findSourceElements("Test.java"), "src/a/b/Test.java"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEntries(container.findSourceElements("MyTest.java"), "src/a/b/MyTest.java"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEntries(container.findSourceElements("est.java")); //$NON-NLS-1$
+			assertEntries(container.findSourceElements("Missing.java")); //$NON-NLS-1$
+		} finally {
+			container.dispose();
+		}
+	}
+
+	/**
+	 * Tests that qualified names match entry name suffixes.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testQualifiedLookup() throws Exception {
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), false);
+		try {
+			assertEntries(container.findSourceElements("c/Test.java"), "src/a/c/Test.java"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEntries(container.findSourceElements("a\\b\\Test.java"), "src/a/b/Test.java"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEntries(container.findSourceElements("src/a/b/Test.java"), "src/a/b/Test.java"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEntries(container.findSourceElements("d/Test.java")); //$NON-NLS-1$
+		} finally {
+			container.dispose();
+		}
+	}
+
+	/**
+	 * Tests that qualified names are resolved relative to a detected root.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDetectRoots() throws Exception {
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), true);
+		try {
+			assertEntries(container.findSourceElements("a/c/Test.java"), "src/a/c/Test.java"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEntries(container.findSourceElements("a/b/Test.java"), "src/a/b/Test.java"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEntries(container.findSourceElements("b/Test.java"), "other/b/Test.java"); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			container.dispose();
+		}
+	}
+
+	/**
+	 * Tests that lookups share the open archive and that an archive in use is
+	 * only closed once released.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testArchiveCache() throws Exception {
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), false);
+		try {
+			ArchiveCacheStatistics before = SourceLookupUtils.getArchiveCacheStatistics();
+			container.findSourceElements("Test.java"); //$NON-NLS-1$
+			container.findSourceElements("MyTest.java"); //$NON-NLS-1$
+			ArchiveCacheStatistics after = SourceLookupUtils.getArchiveCacheStatistics();
+			assertEquals(before.getMisses() + 1, after.getMisses());
+			assertEquals(before.getHits() + 1, after.getHits());
+
+			ZipFile zip = SourceLookupUtils.acquireZipFile(fArchive.getAbsolutePath());
+			SourceLookupUtils.closeArchives();
+			assertNotNull("Archive in use should remain open", zip.getEntry("src/a/b/Test.java")); //$NON-NLS-1$ //$NON-NLS-2$
+			SourceLookupUtils.releaseZipFile(zip);
+			assertThrows(IllegalStateException.class, () -> zip.getEntry("src/a/b/Test.java")); //$NON-NLS-1$
+			assertEntries(container.findSourceElements("Test.java"), "src/a/b/Test.java"); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			container.dispose();
+		}
+	}
+
+	/**
+	 * Tests that a storage found by a lookup can be read after the archive
+	 * cache closed its zip file.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testStorageAfterArchiveClosed() throws Exception {
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), false);
+		try {
+			ZipEntryStorage storage = (ZipEntryStorage) container.findSourceElements("MyTest.java")[0]; //$NON-NLS-1$
+			ZipFile zip = storage.getArchive();
+			SourceLookupUtils.closeArchives();
+			assertThrows(IllegalStateException.class, () -> zip.getEntry("src/a/b/MyTest.java")); //$NON-NLS-1$
+			try (InputStream contents = storage.getContents()) {
+				assertEquals("Wrong contents", -1, contents.read()); //$NON-NLS-1$
+			}
+			assertEquals("Storage not equal after reopening its archive", storage, container.findSourceElements("MyTest.java")[0]); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			container.dispose();
+		}
+	}
+
+	/**
+	 * Tests that a stream of a storage keeps its archive open until the stream
+	 * is closed.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testStorageStreamKeepsArchiveOpen() throws Exception {
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), false);
+		try {
+			ZipEntryStorage storage = (ZipEntryStorage) container.findSourceElements("MyTest.java")[0]; //$NON-NLS-1$
+			ZipFile zip = storage.getArchive();
+			InputStream contents = storage.getContents();
+			SourceLookupUtils.closeArchives();
+			assertNotNull("Archive in use should remain open", zip.getEntry("src/a/b/MyTest.java")); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("Wrong contents", -1, contents.read()); //$NON-NLS-1$
+			contents.close();
+			assertThrows(IllegalStateException.class, () -> zip.getEntry("src/a/b/MyTest.java")); //$NON-NLS-1$
+		} finally {
+			container.dispose();
+		}
+	}
+
+	/**
+	 * Tests that zip files returned without acquiring them are not closed to
+	 * stay within the cache limits.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testUnacquiredArchiveNotEvicted() throws Exception {
+		ZipFile pinned = SourceLookupUtils.getZipFile(fArchive.getAbsolutePath());
+		List<File> archives = new ArrayList<>();
+		try {
+			long evictions = SourceLookupUtils.getArchiveCacheStatistics().getEvictions();
+			for (int i = 0; i < 100; i++) {
+				File archive = File.createTempFile("evict", ".zip"); //$NON-NLS-1$ //$NON-NLS-2$
+				archives.add(archive);
+				try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(archive))) {
+					out.putNextEntry(new ZipEntry("Test.java")); //$NON-NLS-1$
+					out.closeEntry();
+				}
+				SourceLookupUtils.releaseZipFile(SourceLookupUtils.acquireZipFile(archive.getAbsolutePath()));
+			}
+			assertTrue("No archive evicted", SourceLookupUtils.getArchiveCacheStatistics().getEvictions() > evictions); //$NON-NLS-1$
+			assertNotNull("Unacquired archive should remain open", pinned.getEntry("src/a/b/Test.java")); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			SourceLookupUtils.closeArchives();
+			for (File archive : archives) {
+				archive.delete();
+			}
+		}
+	}
+
+	private void assertEntries(Object[] elements, String... expected) {
+		assertEquals(expected.length, elements.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], ((ZipEntryStorage) elements[i]).getZipEntry().getName());
+		}
+	}
+}
@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.view.variables;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.PlatformObject;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.debug.core.model.IIndexedValue;
+import org.eclipse.debug.core.model.IValue;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.debug.internal.ui.model.elements.VariableContentProvider;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.PresentationContext;
+import org.eclipse.debug.internal.ui.views.variables.IndexedVariablePartition;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestsPlugin;
+import org.eclipse.debug.ui.IDebugUIConstants;
+import org.junit.Test;
+
+/**
+ * Tests that {@link VariableContentProvider} only creates the children of
+ * indexed values which are requested.
+ */
+public class VariableContentProviderTests extends AbstractDebugTest {
+
+	private final IPresentationContext fContext = new PresentationContext(IDebugUIConstants.ID_VARIABLE_VIEW);
+
+	private final TestContentProvider fProvider = new TestContentProvider();
+
+	/**
+	 * Tests a large array is partitioned without creating its elements.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testLargeArray() throws Exception {
+		TestArray array = new TestArray(1_000_000);
+		TestVariable variable = new TestVariable("array", array); //$NON-NLS-1$
+		assertEquals(100, fProvider.getChildCount(variable));
+		Object[] children = fProvider.getChildren(variable, 98, 5);
+		assertEquals(2, children.length);
+		assertEquals("[980000...989999]", ((IndexedVariablePartition) children[0]).getName()); //$NON-NLS-1$
+		assertEquals("[990000...999999]", ((IndexedVariablePartition) children[1]).getName()); //$NON-NLS-1$
+		assertEquals(0, array.fCreated.get());
+
+		IndexedVariablePartition partition = (IndexedVariablePartition) children[1];
+		assertEquals(100, fProvider.getChildCount(partition));
+		children = fProvider.getChildren(partition, 99, 1);
+		assertEquals("[999900...999999]", ((IndexedVariablePartition) children[0]).getName()); //$NON-NLS-1$
+
+		partition = (IndexedVariablePartition) children[0];
+		assertEquals(100, fProvider.getChildCount(partition));
+		children = fProvider.getChildren(partition, 10, 3);
+		assertEquals(3, children.length);
+		assertEquals("[999910]", ((IVariable) children[0]).getName()); //$NON-NLS-1$
+		assertEquals("[999912]", ((IVariable) children[2]).getName()); //$NON-NLS-1$
+		assertEquals(3, array.fCreated.get());
+	}
+
+	/**
+	 * Tests the last partition of an array holds the remaining elements.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testUnevenArray() throws Exception {
+		TestArray array = new TestArray(250);
+		TestVariable variable = new TestVariable("array", array); //$NON-NLS-1$
+		assertEquals(3, fProvider.getChildCount(variable));
+		Object[] children = fProvider.getChildren(variable, 0, 3);
+		assertEquals(3, children.length);
+		assertEquals("[200...249]", ((IndexedVariablePartition) children[2]).getName()); //$NON-NLS-1$
+		assertEquals(50, fProvider.getChildCount(children[2]));
+		children = fProvider.getChildren(children[2], 40, 20);
+		assertEquals(10, children.length);
+		assertEquals("[249]", ((IVariable) children[9]).getName()); //$NON-NLS-1$
+		assertEquals(10, array.fCreated.get());
+	}
+
+	/**
+	 * Content provider exposing the children computation.
+	 */
+	private class TestContentProvider extends VariableContentProvider {
+		@Override
+		protected boolean isWindowedChildrenSupported() {
+			return true;
+		}
+
+		int getChildCount(Object element) throws CoreException {
+			return getChildCount(element, fContext, null);
+		}
+
+		Object[] getChildren(Object parent, int index, int length) throws CoreException {
+			return getChildren(parent, index, length, fContext, null);
+		}
+	}
+
+	/**
+	 * Array creating its elements on request.
+	 */
+	private static class TestArray extends TestValue implements IIndexedValue {
+		private final int fSize;
+		final AtomicInteger fCreated = new AtomicInteger();
+
+		TestArray(int size) {
+			fSize = size;
+		}
+
+		@Override
+		public IVariable getVariable(int offset) throws DebugException {
+			fCreated.incrementAndGet();
+			return new TestVariable("[" + offset + "]", new TestValue()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		@Override
+		public IVariable[] getVariables(int offset, int length) throws DebugException {
+			IVariable[] variables = new IVariable[length];
+			for (int i = 0; i < length; i++) {
+				variables[i] = getVariable(offset + i);
+			}
+			return variables;
+		}
+
+		@Override
+		public IVariable[] getVariables() throws DebugException {
+			return getVariables(0, fSize);
+		}
+
+		@Override
+		public boolean hasVariables() throws DebugException {
+			return fSize > 0;
+		}
+
+		@Override
+		public int getSize() throws DebugException {
+			return fSize;
+		}
+
+		@Override
+		public int getInitialOffset() {
+			return 0;
+		}
+	}
+
+	private static class TestValue extends PlatformObject implements IValue {
+		@Override
+		public String getModelIdentifier() {
+			return TestsPlugin.PLUGIN_ID;
+		}
+
+		@Override
+		public IDebugTarget getDebugTarget() {
+			return null;
+		}
+
+		@Override
+		public ILaunch getLaunch() {
+			return null;
+		}
+
+		@Override
+		public String getReferenceTypeName() throws DebugException {
+			return null;
+		}
+
+		@Override
+		public String getValueString() throws DebugException {
+			return null;
+		}
+
+		@Override
+		public boolean isAllocated() throws DebugException {
+			return true;
+		}
+
+		@Override
+		public IVariable[] getVariables() throws DebugException {
+			return new IVariable[0];
+		}
+
+		@Override
+		public boolean hasVariables() throws DebugException {
+			return false;
+		}
+	}
+
+	private static class TestVariable extends PlatformObject implements IVariable {
+		private final String fName;
+		private final IValue fValue;
+
+		TestVariable(String name, IValue value) {
+			fName = name;
+			fValue = value;
+		}
+
+		@Override
+		public String getModelIdentifier() {
+			return TestsPlugin.PLUGIN_ID;
+		}
+
+		@Override
+		public IDebugTarget getDebugTarget() {
+			return null;
+		}
+
+		@Override
+		public ILaunch getLaunch() {
+			return null;
+		}
+
+		@Override
+		public void setValue(String expression) throws DebugException {
+		}
+
+		@Override
+		public void setValue(IValue value) throws DebugException {
+		}
+
+		@Override
+		public boolean supportsValueModification() {
+			return false;
+		}
+
+		@Override
+		public boolean verifyValue(String expression) throws DebugException {
+			return false;
+		}
+
+		@Override
+		public boolean verifyValue(IValue value) throws DebugException {
+			return false;
+		}
+
+		@Override
+		public IValue getValue() throws DebugException {
+			return fValue;
+		}
+
+		@Override
+		public String getName() throws DebugException {
+			return fName;
+		}
+
+		@Override
+		public String getReferenceTypeName() throws DebugException {
+			return null;
+		}
+
+		@Override
+		public boolean hasValueChanged() throws DebugException {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.viewer.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDelta;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.ModelDelta;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.PresentationContext;
+import org.eclipse.debug.internal.ui.viewers.update.DebugEventHandler;
+import org.eclipse.debug.internal.ui.viewers.update.EventHandlerModelProxy;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests merging of the deltas fired by the event handlers of an
+ * {@link EventHandlerModelProxy} while an event set is dispatched.
+ */
+public class EventHandlerModelProxyTests extends AbstractDebugTest {
+
+	/**
+	 * Handler firing a delta for the source of each event.
+	 */
+	static class TestEventHandler extends DebugEventHandler {
+
+		TestEventHandler(EventHandlerModelProxy proxy) {
+			super(proxy);
+		}
+
+		@Override
+		protected boolean handlesEvent(DebugEvent event) {
+			return true;
+		}
+
+		@Override
+		protected void handleCreate(DebugEvent event) {
+			fireDelta(event.getSource(), IModelDelta.ADDED);
+		}
+
+		@Override
+		protected void handleTerminate(DebugEvent event) {
+			fireDelta(event.getSource(), IModelDelta.REMOVED);
+		}
+
+		@Override
+		protected void handleChange(DebugEvent event) {
+			fireDelta(event.getSource(), event.getDetail() == DebugEvent.STATE ? IModelDelta.STATE : IModelDelta.CONTENT);
+		}
+
+		private void fireDelta(Object element, int flags) {
+			ModelDelta delta = new ModelDelta(DebugPlugin.getDefault().getLaunchManager(), IModelDelta.NO_CHANGE);
+			delta.addNode(element, flags);
+			fireDelta(delta);
+		}
+	}
+
+	static class TestModelProxy extends EventHandlerModelProxy {
+
+		@Override
+		protected DebugEventHandler[] createEventHandlers() {
+			return new DebugEventHandler[] { new TestEventHandler(this) };
+		}
+
+		void install() {
+			setInstalled(true);
+		}
+	}
+
+	private TestModelProxy fProxy;
+	private PresentationContext fContext;
+	private final List<IModelDelta> fDeltas = new ArrayList<>();
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		fContext = new PresentationContext("test"); //$NON-NLS-1$
+		fProxy = new TestModelProxy();
+		fProxy.init(fContext);
+		fProxy.install();
+		fProxy.addModelChangedListener((delta, proxy) -> fDeltas.add(delta));
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		fProxy.dispose();
+		fContext.dispose();
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that the deltas of all events of an event set are fired as one
+	 * delta.
+	 */
+	@Test
+	public void testMergeEventSet() {
+		fProxy.handleDebugEvents(new DebugEvent[] {
+				new DebugEvent("a", DebugEvent.CHANGE, DebugEvent.CONTENT), //$NON-NLS-1$
+				new DebugEvent("b", DebugEvent.CHANGE, DebugEvent.CONTENT), //$NON-NLS-1$
+				new DebugEvent("a", DebugEvent.CHANGE, DebugEvent.STATE) }); //$NON-NLS-1$
+		assertEquals("Wrong number of deltas", 1, fDeltas.size()); //$NON-NLS-1$
+		ModelDelta delta = (ModelDelta) fDeltas.get(0);
+		assertEquals("Wrong number of nodes", 2, delta.getChildDeltas().length); //$NON-NLS-1$
+		ModelDelta a = delta.getChildDelta("a"); //$NON-NLS-1$
+		assertNotNull("Missing node", a); //$NON-NLS-1$
+		assertEquals("Wrong flags", IModelDelta.CONTENT | IModelDelta.STATE, a.getFlags()); //$NON-NLS-1$
+		assertEquals("Wrong flags", IModelDelta.CONTENT, delta.getChildDelta("b").getFlags()); //$NON-NLS-1$ //$NON-NLS-2$
+
+		fProxy.handleDebugEvents(new DebugEvent[] { new DebugEvent("c", DebugEvent.CHANGE, DebugEvent.CONTENT) }); //$NON-NLS-1$
+		assertEquals("Each event set must fire a delta", 2, fDeltas.size()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that conflicting changes of the same element are fired in separate
+	 * deltas in the order of the events.
+	 */
+	@Test
+	public void testConflictingChanges() {
+		fProxy.handleDebugEvents(new DebugEvent[] {
+				new DebugEvent("a", DebugEvent.CREATE), //$NON-NLS-1$
+				new DebugEvent("b", DebugEvent.CREATE), //$NON-NLS-1$
+				new DebugEvent("a", DebugEvent.TERMINATE) }); //$NON-NLS-1$
+		assertEquals("Wrong number of deltas", 2, fDeltas.size()); //$NON-NLS-1$
+		ModelDelta first = (ModelDelta) fDeltas.get(0);
+		assertEquals("Wrong number of nodes", 2, first.getChildDeltas().length); //$NON-NLS-1$
+		assertEquals("Wrong flags", IModelDelta.ADDED, first.getChildDelta("a").getFlags()); //$NON-NLS-1$ //$NON-NLS-2$
+		ModelDelta second = (ModelDelta) fDeltas.get(1);
+		assertEquals("Wrong number of nodes", 1, second.getChildDeltas().length); //$NON-NLS-1$
+		assertEquals("Wrong flags", IModelDelta.REMOVED, second.getChildDelta("a").getFlags()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
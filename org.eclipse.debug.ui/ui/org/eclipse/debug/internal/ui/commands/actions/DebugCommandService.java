@@ -23,6 +23,7 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.commands.IDebugCommandHandler;
 import org.eclipse.debug.core.commands.IDebugCommandRequest;
+import org.eclipse.debug.internal.core.commands.EnabledStateScheduler;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.debug.ui.contexts.DebugContextEvent;
@@ -283,9 +284,10 @@ public class DebugCommandService implements IDebugContextListener {
 	}
 
 	/**
-	 * Cancel handler enablement update jobs created in
+	 * Cancel handler enablement updates created in
 	 * {@link org.eclipse.debug.core.commands.AbstractDebugCommand#canExecute(org.eclipse.debug.core.commands.IEnabledStateRequest)}.
-	 * for the specified handler type. The debug command handler defines its type in
+	 * for the specified handler type, whether they are queued in the shared
+	 * {@link EnabledStateScheduler} or run in jobs of their own. The debug command handler defines its type in
 	 * {@link org.eclipse.debug.core.commands.AbstractDebugCommand#getEnabledStateJobFamily(IDebugCommandRequest)}.
 	 *
 	 * Does not cancel jobs if there are more than 2 workbench windows, since 1
@@ -304,6 +306,7 @@ public class DebugCommandService implements IDebugContextListener {
 						DebugUIPlugin.trace("WOULD cancel " + job); //$NON-NLS-1$
 					}
 				}
+				EnabledStateScheduler.getDefault().cancel(handlerType);
 				Job.getJobManager().cancel(handlerType);
 			}
 		}
@@ -22,6 +22,8 @@ import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILogicalStructureType;
 import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IErrorReportingExpression;
+import org.eclipse.debug.core.model.IExpression;
 import org.eclipse.debug.core.model.IIndexedValue;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
@@ -45,14 +47,122 @@ public class VariableContentProvider extends ElementContentProvider {
 
 	@Override
 	protected int getChildCount(Object element, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
+		IIndexedValue indexedValue = getIndexedValue(element, context);
+		if (indexedValue != null) {
+			int size = indexedValue.getSize();
+			int partitionSize = computeParitionSize(indexedValue);
+			if (partitionSize > 1) {
+				return getPartitionCount(size, partitionSize);
+			}
+			return size;
+		}
 		return getAllChildren(element, context).length;
 	}
 
 	@Override
 	protected Object[] getChildren(Object parent, int index, int length, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
+		IIndexedValue indexedValue = getIndexedValue(parent, context);
+		if (indexedValue != null) {
+			return getIndexedChildren((IDebugElement) parent, indexedValue, index, length);
+		}
 		return getElements(getAllChildren(parent, context), index, length);
 	}
 
+	/**
+	 * Returns the children in the given range of an indexed value, creating
+	 * only the variables or partitions within the range.
+	 *
+	 * @param parent expression or variable containing the given value
+	 * @param indexedValue the value to retrieve children for
+	 * @param index index of the first child to return
+	 * @param length number of children to return
+	 * @return children in the given range, possibly fewer than requested
+	 * @throws CoreException
+	 */
+	private Object[] getIndexedChildren(IDebugElement parent, IIndexedValue indexedValue, int index, int length) throws CoreException {
+		int size = indexedValue.getSize();
+		int partitionSize = computeParitionSize(indexedValue);
+		if (partitionSize > 1) {
+			int numPartitions = getPartitionCount(size, partitionSize);
+			int end = Math.min(index + length, numPartitions);
+			if (index >= end) {
+				return EMPTY;
+			}
+			Object[] partitions = new Object[end - index];
+			for (int i = index; i < end; i++) {
+				partitions[i - index] = createPartition(parent, indexedValue, i, partitionSize, size);
+			}
+			return partitions;
+		}
+		int count = Math.min(length, size - index);
+		if (count <= 0) {
+			return EMPTY;
+		}
+		return indexedValue.getVariables(indexedValue.getInitialOffset() + index, count);
+	}
+
+	/**
+	 * Returns the value to show children of if it is an indexed value and
+	 * children can be computed for a range of indexes.
+	 *
+	 * @param element the variable or expression to get the value of
+	 * @param context the context the children will be presented in
+	 * @return the indexed value or <code>null</code> if children must be
+	 *         computed with {@link #getAllChildren(Object, IPresentationContext)}
+	 * @throws CoreException
+	 */
+	private IIndexedValue getIndexedValue(Object element, IPresentationContext context) throws CoreException {
+		if (!isWindowedChildrenSupported()) {
+			return null;
+		}
+		IValue value = getValue(element);
+		if (value != null) {
+			IValue logicalValue = getLogicalValue(value, context);
+			if (logicalValue instanceof IIndexedValue) {
+				return (IIndexedValue) logicalValue;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the value of the given element which is shown as children, or
+	 * <code>null</code> if the children are not based on the element's value.
+	 *
+	 * @param element the variable or expression
+	 * @return the value of the element or <code>null</code>
+	 * @throws CoreException
+	 */
+	private static IValue getValue(Object element) throws CoreException {
+		if (element instanceof IErrorReportingExpression && ((IErrorReportingExpression) element).hasErrors()) {
+			return null;
+		}
+		if (element instanceof IExpression) {
+			return ((IExpression) element).getValue();
+		}
+		if (element instanceof IVariable) {
+			return ((IVariable) element).getValue();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns whether children of indexed values are computed for the
+	 * requested range only, from the value's size and
+	 * {@link IIndexedValue#getVariables(int, int)}, without calling
+	 * {@link #getAllChildren(Object, IPresentationContext)}. Enabled for this
+	 * class and {@link ExpressionContentProvider}. Subclasses which compute
+	 * children of indexed values like this class does may override to enable
+	 * it.
+	 *
+	 * @return whether children of indexed values are computed for the
+	 *         requested range only
+	 */
+	protected boolean isWindowedChildrenSupported() {
+		Class<?> type = getClass();
+		return type == VariableContentProvider.class || type == ExpressionContentProvider.class;
+	}
+
 	@Override
 	protected boolean hasChildren(Object element, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
 		return ((IVariable)element).getValue().hasVariables();
@@ -134,22 +244,12 @@ public class VariableContentProvider extends ElementContentProvider {
 			IIndexedValue indexedValue = (IIndexedValue) logicalValue;
 			int partitionSize = computeParitionSize(indexedValue);
 			if (partitionSize > 1) {
-				int offset = indexedValue.getInitialOffset();
 				int length = indexedValue.getSize();
-				int numPartitions = length / partitionSize;
-				int remainder = length % partitionSize;
-				if (remainder > 0) {
-					numPartitions++;
-				}
+				int numPartitions = getPartitionCount(length, partitionSize);
 				IVariable[] partitions = new IVariable[numPartitions];
-				for (int i = 0; i < (numPartitions - 1); i++) {
-					partitions[i] = new IndexedVariablePartition(parent, indexedValue, offset, partitionSize);
-					offset = offset + partitionSize;
-				}
-				if (remainder == 0) {
-					remainder = partitionSize;
+				for (int i = 0; i < numPartitions; i++) {
+					partitions[i] = createPartition(parent, indexedValue, i, partitionSize, length);
 				}
-				partitions[numPartitions - 1] = new IndexedVariablePartition(parent, indexedValue, offset, remainder);
 				return partitions;
 			}
 		}
@@ -160,6 +260,37 @@ public class VariableContentProvider extends ElementContentProvider {
 		return logicalValue.getVariables();
 	}
 
+	/**
+	 * Returns the number of partitions an indexed value is subdivided into.
+	 *
+	 * @param size size of the indexed value
+	 * @param partitionSize size of the partitions
+	 * @return the number of partitions
+	 */
+	private static int getPartitionCount(int size, int partitionSize) {
+		int numPartitions = size / partitionSize;
+		if (size % partitionSize > 0) {
+			numPartitions++;
+		}
+		return numPartitions;
+	}
+
+	/**
+	 * Creates the partition with the given index of an indexed value.
+	 *
+	 * @param parent expression or variable containing the given value
+	 * @param indexedValue the partitioned value
+	 * @param index index of the partition
+	 * @param partitionSize size of all but the last partition
+	 * @param size size of the indexed value
+	 * @return the partition
+	 * @throws DebugException
+	 */
+	private IVariable createPartition(IDebugElement parent, IIndexedValue indexedValue, int index, int partitionSize, int size) throws DebugException {
+		int start = index * partitionSize;
+		return new IndexedVariablePartition(parent, indexedValue, indexedValue.getInitialOffset() + start, Math.min(partitionSize, size - start));
+	}
+
 	/**
 	 * Returns the partition size to use for the given indexed value. The
 	 * partition size is computed by determining the number of levels that an
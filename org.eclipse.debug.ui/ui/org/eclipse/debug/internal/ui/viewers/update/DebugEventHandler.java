@@ -62,6 +62,23 @@ public abstract class DebugEventHandler {
 	 */
 	protected abstract boolean handlesEvent(DebugEvent event);
 
+	/**
+	 * Notification that the events of an event set are about to be dispatched
+	 * to this handler. Information about the model read while handling the
+	 * events may be cached until the end of the event set. Subclasses may
+	 * override.
+	 */
+	protected void beginEventSet() {
+	}
+
+	/**
+	 * Notification that all events of an event set have been dispatched to
+	 * this handler. Subclasses may override to release information cached
+	 * while handling the events.
+	 */
+	protected void endEventSet() {
+	}
+
 	/**
 	 * Handles a create event.
 	 *
@@ -17,9 +17,12 @@ package org.eclipse.debug.internal.ui.viewers.update;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IWatchExpression;
+import org.eclipse.debug.internal.core.ExpressionManager;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.debug.ui.contexts.DebugContextEvent;
@@ -92,6 +95,16 @@ public class DefaultWatchExpressionModelProxy extends DefaultExpressionModelProx
 		}
 	}
 
+	@Override
+	protected boolean containsEvent(DebugEvent event) {
+		// changes of batch evaluations are reported in one delta by the
+		// expression manager proxy
+		if (ExpressionManager.BATCH_EVALUATION.equals(event.getData())) {
+			return false;
+		}
+		return super.containsEvent(event);
+	}
+
 	@Override
 	protected DebugEventHandler[] createEventHandlers() {
 		return new DebugEventHandler[]{new ExpressionEventHandler(this)};
@@ -102,6 +115,18 @@ public class DefaultWatchExpressionModelProxy extends DefaultExpressionModelProx
 	 * @param selection the specified context to 'activate'
 	 */
 	protected void contextActivated(ISelection selection) {
+		contextActivated(selection, null);
+	}
+
+	/**
+	 * Handles the activation of the specified debug context
+	 *
+	 * @param selection the specified context to 'activate'
+	 * @param trigger the debug context event notifying all watch expression
+	 *            proxies of the activation or <code>null</code> to only
+	 *            update this proxy's expression
+	 */
+	private void contextActivated(ISelection selection, DebugContextEvent trigger) {
 		if (fWindow != null) {
 			if (selection instanceof IStructuredSelection) {
 				IDebugElement context = null;
@@ -116,7 +141,11 @@ public class DefaultWatchExpressionModelProxy extends DefaultExpressionModelProx
 				}
 				IWatchExpression expression = (IWatchExpression)getExpression();
 				if (expression != null){
-					expression.setExpressionContext(context);
+					// the proxies of all expressions are notified with the same
+					// event, let the manager evaluate them in one batch. The
+					// selection is not used as trigger, the same selection is
+					// activated again after a step to refresh the expressions.
+					((ExpressionManager) DebugPlugin.getDefault().getExpressionManager()).setWatchExpressionContext(expression, context, trigger);
 				}
 			}
 		}
@@ -125,7 +154,7 @@ public class DefaultWatchExpressionModelProxy extends DefaultExpressionModelProx
 	@Override
 	public void debugContextChanged(DebugContextEvent event) {
 		if ((event.getFlags() & DebugContextEvent.ACTIVATED) > 0) {
-			contextActivated(event.getContext());
+			contextActivated(event.getContext(), event);
 		}
 	}
 
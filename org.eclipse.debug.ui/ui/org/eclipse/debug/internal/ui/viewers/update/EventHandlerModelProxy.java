@@ -15,13 +15,16 @@ package org.eclipse.debug.internal.ui.viewers.update;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Timer;
 import java.util.TimerTask;
 
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDelta;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.ModelDelta;
 import org.eclipse.debug.internal.ui.viewers.provisional.AbstractModelProxy;
 
 /**
@@ -50,6 +53,25 @@ public abstract class EventHandlerModelProxy extends AbstractModelProxy implemen
 	 */
 	private DebugEventHandler[] fHandlers = new DebugEventHandler[0];
 
+	/**
+	 * Flags of delta nodes that must not be merged with other changes of the
+	 * same element.
+	 */
+	private static final int UNMERGEABLE_FLAGS = IModelDelta.ADDED | IModelDelta.REMOVED | IModelDelta.REPLACED | IModelDelta.INSERTED | IModelDelta.COLLAPSE | IModelDelta.INSTALL | IModelDelta.UNINSTALL;
+
+	/**
+	 * Thread dispatching the current event set to the handlers, or
+	 * <code>null</code> if none. Deltas fired by the handlers on this thread
+	 * are merged into {@link #fEventSetDelta}.
+	 */
+	private Thread fEventSetThread;
+
+	/**
+	 * Deltas fired while dispatching the current event set merged into one
+	 * delta, or <code>null</code> if none.
+	 */
+	private ModelDelta fEventSetDelta;
+
 	/**
 	 * Task used to update an element that resumed for a step or evaluation that
 	 * took too long to suspend.
@@ -111,9 +133,19 @@ public abstract class EventHandlerModelProxy extends AbstractModelProxy implemen
 		if (isDisposed()) {
 			return;
 		}
+		DebugEventHandler[] handlers = fHandlers;
+		beginEventSet(handlers);
+		try {
+			dispatchEvents(handlers, events);
+		} finally {
+			endEventSet(handlers);
+		}
+	}
+
+	private void dispatchEvents(DebugEventHandler[] handlers, DebugEvent[] events) {
 		for (DebugEvent event : events) {
 			if (containsEvent(event)) {
-				for (DebugEventHandler handler : fHandlers) {
+				for (DebugEventHandler handler : handlers) {
 					if (isDisposed()) {
 						return;
 					}
@@ -144,6 +176,83 @@ public abstract class EventHandlerModelProxy extends AbstractModelProxy implemen
 		}
 	}
 
+	private void beginEventSet(DebugEventHandler[] handlers) {
+		fEventSetThread = Thread.currentThread();
+		for (DebugEventHandler handler : handlers) {
+			handler.beginEventSet();
+		}
+	}
+
+	private void endEventSet(DebugEventHandler[] handlers) {
+		for (DebugEventHandler handler : handlers) {
+			handler.endEventSet();
+		}
+		fEventSetThread = null;
+		fireEventSetDelta();
+	}
+
+	/**
+	 * Fires the given delta. Deltas fired by the event handlers while an event
+	 * set is dispatched are merged and fired as one delta once all events of
+	 * the set are handled, unless they contain conflicting changes of the same
+	 * element.
+	 */
+	@Override
+	public void fireModelChanged(IModelDelta delta) {
+		if (fEventSetThread != Thread.currentThread()) {
+			super.fireModelChanged(delta);
+			return;
+		}
+		IModelDelta root = getRootDelta(delta);
+		if (fEventSetDelta != null && !canMerge(fEventSetDelta, root)) {
+			fireEventSetDelta();
+		}
+		if (fEventSetDelta == null) {
+			fEventSetDelta = new ModelDelta(root.getElement(), root.getReplacementElement(), root.getFlags());
+		}
+		merge(fEventSetDelta, root);
+	}
+
+	private void fireEventSetDelta() {
+		ModelDelta delta = fEventSetDelta;
+		fEventSetDelta = null;
+		if (delta != null) {
+			super.fireModelChanged(delta);
+		}
+	}
+
+	private static boolean canMerge(ModelDelta target, IModelDelta delta) {
+		if (!Objects.equals(target.getElement(), delta.getElement()) || ((target.getFlags() | delta.getFlags()) & UNMERGEABLE_FLAGS) != 0) {
+			return false;
+		}
+		for (IModelDelta child : delta.getChildDeltas()) {
+			ModelDelta node = target.getChildDelta(child.getElement());
+			// selecting an element again must not move its selection before
+			// the selections merged after the first one
+			if (node != null && ((child.getFlags() & IModelDelta.SELECT) != 0 || !canMerge(node, child))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void merge(ModelDelta target, IModelDelta delta) {
+		target.setFlags(target.getFlags() | delta.getFlags());
+		if (delta.getIndex() != -1) {
+			target.setIndex(delta.getIndex());
+		}
+		if (delta.getChildCount() != -1) {
+			target.setChildCount(delta.getChildCount());
+		}
+		for (IModelDelta child : delta.getChildDeltas()) {
+			ModelDelta node = target.getChildDelta(child.getElement());
+			if (node == null) {
+				node = target.addNode(child.getElement(), child.getReplacementElement(), child.getFlags());
+			}
+			merge(node, child);
+		}
+	}
+
 	/**
 	 * Returns whether this event handler should process the event.
 	 *
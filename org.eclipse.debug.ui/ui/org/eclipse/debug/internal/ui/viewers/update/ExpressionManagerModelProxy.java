@@ -15,9 +15,12 @@
 
 package org.eclipse.debug.internal.ui.viewers.update;
 
+import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.IExpressionManager;
 import org.eclipse.debug.core.model.IExpression;
+import org.eclipse.debug.internal.core.ExpressionManager;
 import org.eclipse.debug.internal.core.IExpressionsListener2;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDelta;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
@@ -33,13 +36,14 @@ import org.eclipse.jface.viewers.Viewer;
  *
  * @see org.eclipse.debug.internal.core.ExpressionManager
  */
-public class ExpressionManagerModelProxy extends AbstractModelProxy implements IExpressionsListener2, IPropertyChangeListener {
+public class ExpressionManagerModelProxy extends AbstractModelProxy implements IExpressionsListener2, IPropertyChangeListener, IDebugEventSetListener {
 
 	@Override
 	public void init(IPresentationContext context) {
 		super.init(context);
 		getExpressionManager().addExpressionListener(this);
 		context.addPropertyChangeListener(this);
+		DebugPlugin.getDefault().addDebugEventListener(this);
 	}
 
 	@Override
@@ -59,6 +63,39 @@ public class ExpressionManagerModelProxy extends AbstractModelProxy implements I
 		getPresentationContext().removePropertyChangeListener(this);
 		super.dispose();
 		getExpressionManager().removeExpressionListener(this);
+		DebugPlugin.getDefault().removeDebugEventListener(this);
+	}
+
+	/**
+	 * Updates all watch expressions changed by a batch evaluation with one
+	 * delta.
+	 *
+	 * @see ExpressionManager#BATCH_EVALUATION
+	 */
+	@Override
+	public void handleDebugEvents(DebugEvent[] events) {
+		if (isDisposed()) {
+			return;
+		}
+		ModelDelta delta = null;
+		for (DebugEvent event : events) {
+			if (event.getKind() == DebugEvent.CHANGE && event.getSource() instanceof IExpression && ExpressionManager.BATCH_EVALUATION.equals(event.getData())) {
+				int flags = IModelDelta.NO_CHANGE;
+				if ((event.getDetail() & DebugEvent.STATE) != 0) {
+					flags = flags | IModelDelta.STATE;
+				}
+				if ((event.getDetail() & DebugEvent.CONTENT) != 0) {
+					flags = flags | IModelDelta.CONTENT;
+				}
+				if (delta == null) {
+					delta = new ModelDelta(getExpressionManager(), IModelDelta.NO_CHANGE);
+				}
+				delta.addNode(event.getSource(), flags);
+			}
+		}
+		if (delta != null) {
+			fireModelChanged(delta);
+		}
 	}
 
 	@Override
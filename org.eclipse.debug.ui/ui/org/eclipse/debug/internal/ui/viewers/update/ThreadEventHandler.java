@@ -47,6 +47,23 @@ public class ThreadEventHandler extends DebugEventHandler {
 	 * Map of previous TOS per thread
 	 */
 	private Map<IThread, IStackFrame> fLastTopFrame = new HashMap<>();
+
+	/**
+	 * Thread handling the current event set, or <code>null</code> if none. The
+	 * indexes below are only used on this thread.
+	 */
+	private Thread fEventSetThread;
+
+	/**
+	 * Index of each launch, read once per event set
+	 */
+	private Map<ILaunch, Integer> fLaunchIndexes;
+
+	/**
+	 * Index of the threads of each debug target, read once per event set
+	 */
+	private Map<IDebugTarget, Map<IThread, Integer>> fThreadIndexes = new HashMap<>();
+
 	/**
 	 * Constructs and event handler for a threads in the given viewer.
 	 *
@@ -63,6 +80,18 @@ public class ThreadEventHandler extends DebugEventHandler {
 		super.dispose();
 	}
 
+	@Override
+	protected void beginEventSet() {
+		fEventSetThread = Thread.currentThread();
+	}
+
+	@Override
+	protected void endEventSet() {
+		fEventSetThread = null;
+		fLaunchIndexes = null;
+		fThreadIndexes.clear();
+	}
+
 	@Override
 	protected void handleSuspend(DebugEvent event) {
 		IThread thread = (IThread) event.getSource();
@@ -221,12 +250,17 @@ public class ThreadEventHandler extends DebugEventHandler {
 	protected ModelDelta addPathToThread(ModelDelta delta, IThread thread) {
 		ILaunch launch = thread.getLaunch();
 		Object[] children = launch.getChildren();
-		delta = delta.addNode(launch, indexOf(getLaunchManager().getLaunches(), launch), IModelDelta.NO_CHANGE, children.length);
+		delta = delta.addNode(launch, indexOf(launch), IModelDelta.NO_CHANGE, children.length);
 		IDebugTarget debugTarget = thread.getDebugTarget();
 		int numThreads = -1;
-		try {
-			numThreads = debugTarget.getThreads().length;
-		} catch (DebugException e) {
+		Map<IThread, Integer> threadIndexes = getThreadIndexes(debugTarget);
+		if (threadIndexes != null) {
+			numThreads = threadIndexes.size();
+		} else {
+			try {
+				numThreads = debugTarget.getThreads().length;
+			} catch (DebugException e) {
+			}
 		}
 		return delta.addNode(debugTarget, indexOf(children, debugTarget), IModelDelta.NO_CHANGE, numThreads);
 	}
@@ -309,6 +343,10 @@ public class ThreadEventHandler extends DebugEventHandler {
 	 * @return index of the thread, relative to its parent
 	 */
 	protected int indexOf(IThread thread) {
+		Map<IThread, Integer> threadIndexes = getThreadIndexes(thread.getDebugTarget());
+		if (threadIndexes != null) {
+			return threadIndexes.getOrDefault(thread, -1);
+		}
 		try {
 			return indexOf(thread.getDebugTarget().getThreads(), thread);
 		} catch (DebugException e) {
@@ -316,6 +354,55 @@ public class ThreadEventHandler extends DebugEventHandler {
 		return -1;
 	}
 
+	/**
+	 * Returns the index of the given launch in the launch manager.
+	 *
+	 * @param launch launch
+	 * @return index of the launch
+	 */
+	private int indexOf(ILaunch launch) {
+		if (fEventSetThread != Thread.currentThread()) {
+			return indexOf(getLaunchManager().getLaunches(), launch);
+		}
+		if (fLaunchIndexes == null) {
+			fLaunchIndexes = indexes(getLaunchManager().getLaunches());
+		}
+		return fLaunchIndexes.getOrDefault(launch, -1);
+	}
+
+	/**
+	 * Returns the index of each thread of the given debug target while an event
+	 * set is handled on the calling thread. The threads are read once per event
+	 * set, so all deltas of an event set are built from the same threads.
+	 *
+	 * @param target debug target
+	 * @return index of each thread, or <code>null</code> if not handling an
+	 *         event set or the threads could not be retrieved
+	 */
+	private Map<IThread, Integer> getThreadIndexes(IDebugTarget target) {
+		if (fEventSetThread != Thread.currentThread()) {
+			return null;
+		}
+		Map<IThread, Integer> threadIndexes = fThreadIndexes.get(target);
+		if (threadIndexes == null) {
+			try {
+				threadIndexes = indexes(target.getThreads());
+			} catch (DebugException e) {
+				return null;
+			}
+			fThreadIndexes.put(target, threadIndexes);
+		}
+		return threadIndexes;
+	}
+
+	private static <T> Map<T, Integer> indexes(T[] elements) {
+		Map<T, Integer> indexes = new HashMap<>(elements.length * 4 / 3 + 1);
+		for (int i = 0; i < elements.length; i++) {
+			indexes.putIfAbsent(elements[i], i);
+		}
+		return indexes;
+	}
+
 	/**
 	 * Returns the index of the given frame, relative to its parent in the view.
 	 *
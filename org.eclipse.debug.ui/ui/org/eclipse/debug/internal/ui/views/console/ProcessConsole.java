@@ -25,6 +25,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.text.DateFormat;
 import java.text.MessageFormat;
@@ -54,7 +55,7 @@ import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
-import org.eclipse.debug.core.IBinaryStreamListener;
+import org.eclipse.debug.core.IBinaryStreamListener2;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationType;
@@ -722,7 +723,7 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 	 * Received output will be redirected to given {@link IOConsoleOutputStream} to
 	 * get it shown in console and to {@link #fFileOutputStream} if set.
 	 */
-	private class StreamListener implements IStreamListener, IBinaryStreamListener {
+	private class StreamListener implements IStreamListener, IBinaryStreamListener2 {
 
 		private IOConsoleOutputStream fStream;
 
@@ -787,11 +788,13 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 		}
 
 		@Override
-		public void streamAppended(byte[] data, IBinaryStreamMonitor monitor) {
+		public void streamAppended(ByteBuffer data, IBinaryStreamMonitor monitor) {
 			if (fFileOutputStream != null) {
 				synchronized (fFileOutputStream) {
 					try {
-						fFileOutputStream.write(data);
+						while (data.hasRemaining()) {
+							fFileOutputStream.getChannel().write(data);
+						}
 					} catch (IOException e) {
 						DebugUIPlugin.log(e);
 					}
@@ -13,12 +13,16 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.ui.views.variables;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -32,6 +36,11 @@ import org.eclipse.debug.internal.ui.DebugUIPlugin;
  * Cache that stores evaluated logical structure values to replace raw values.  Cache
  * should be cleared when a RESUME or TERMINATE event is fired so the structure can be
  * reevaluated for new values.
+ * <p>
+ * Logical structures of different values are computed concurrently. Threads
+ * requesting the structure of a value which is currently computed wait for
+ * that computation instead of starting another one.
+ * </p>
  *
  * @since 3.3
  *
@@ -39,9 +48,40 @@ import org.eclipse.debug.internal.ui.DebugUIPlugin;
 public class LogicalStructureCache {
 
 	/**
-	 * Maps a ILogicalStructureType to the cache for that type
+	 * Maximum number of logical structures kept in the cache. Evicted
+	 * structures may still be displayed, so they are released when the cache
+	 * is cleared or when more than {@link #MAX_EVICTED} structures have been
+	 * evicted since.
 	 */
-	private Map<ILogicalStructureType, LogicalStructureTypeCache> fCacheForType = new HashMap<>();
+	private static final int MAX_ENTRIES = 1000;
+
+	/**
+	 * Maximum number of evicted logical structures waiting to be released.
+	 * The oldest are released first.
+	 */
+	private static final int MAX_EVICTED = 1000;
+
+	/**
+	 * Maps a logical structure type and raw value to the logical value, which
+	 * may still be computed
+	 */
+	private final Map<Key, CompletableFuture<IValue>> fCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Lock guarding {@link #fComputed} and {@link #fEvicted}
+	 */
+	private final Object fLock = new Object();
+
+	/**
+	 * Computed logical values in the cache in the order they were added
+	 */
+	private final Deque<ComputedValue> fComputed = new ArrayDeque<>();
+
+	/**
+	 * Logical values evicted from the cache which have to be released on
+	 * {@link #clear()}, oldest first
+	 */
+	private final Deque<CachedValue> fEvicted = new ArrayDeque<>();
 
 	/**
 	 * Returns the logical value to replace the given value using the specified logical structure.
@@ -52,117 +92,157 @@ public class LogicalStructureCache {
 	 * @return the logical value replacing the raw value or <code>null</code> if there is a problem
 	 */
 	public IValue getLogicalStructure(ILogicalStructureType type, IValue value) throws CoreException {
-		synchronized (fCacheForType) {
-			LogicalStructureTypeCache cache = getCacheForType(type);
-			return cache.getLogicalStructure(value);
+		Key key = new Key(type, value);
+		CompletableFuture<IValue> future = new CompletableFuture<>();
+		CompletableFuture<IValue> pending = fCache.putIfAbsent(key, future);
+		if (pending != null) {
+			return waitFor(pending);
 		}
+		// Start the evaluation to get the logical structure
+		IValue result;
+		try {
+			result = type.getLogicalStructure(value);
+		} catch (CoreException | RuntimeException | Error e) {
+			fCache.remove(key, future);
+			future.completeExceptionally(e);
+			throw e;
+		}
+		future.complete(result);
+		List<CachedValue> released = Collections.emptyList();
+		synchronized (fLock) {
+			// not tracked if the cache was cleared during the computation
+			if (fCache.get(key) == future) {
+				fComputed.add(new ComputedValue(key, future));
+				if (fComputed.size() > MAX_ENTRIES) {
+					released = evict();
+				}
+			}
+		}
+		released.forEach(CachedValue::release);
+		return result;
 	}
 
 	/**
-	 * Clears the cache of all evaluated values.
+	 * Waits for a logical value computed by another thread.
+	 *
+	 * @param future the pending logical value
+	 * @return the logical value
+	 * @throws CoreException if the computation failed or waiting was
+	 *             interrupted
 	 */
-	public void clear(){
-		Collection<LogicalStructureTypeCache> caches;
-		synchronized (fCacheForType) {
-			caches = new ArrayList<>(fCacheForType.values());
-			fCacheForType.clear();
+	private IValue waitFor(CompletableFuture<IValue> future) throws CoreException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(new Status(IStatus.CANCEL, DebugUIPlugin.getUniqueIdentifier(), VariablesViewMessages.LogicalStructureCache_0, e));
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof CoreException) {
+				throw (CoreException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw (Error) cause;
 		}
-
-		caches.forEach(LogicalStructureTypeCache::dispose);
 	}
 
 	/**
-	 * Helper method that returns the cache associated with the given logical structure type.
-	 * If there is not cache associated, one is created.
+	 * Removes the oldest logical value from the cache. Must be called while
+	 * holding {@link #fLock}.
 	 *
-	 * @param type the logical structure type to get the cache for
-	 * @return the cache associated with the logical structure type
+	 * @return evicted values to release
 	 */
-	protected LogicalStructureTypeCache getCacheForType(ILogicalStructureType type){
-		LogicalStructureTypeCache cache = fCacheForType.get(type);
-		if (cache == null){
-			cache = new LogicalStructureTypeCache(type);
-			fCacheForType.put(type, cache);
+	private List<CachedValue> evict() {
+		ComputedValue oldest = fComputed.poll();
+		if (oldest != null && fCache.remove(oldest.fKey, oldest.fFuture)) {
+			fEvicted.add(new CachedValue(oldest.fKey.fType, oldest.fFuture.getNow(null)));
 		}
-		return cache;
+		List<CachedValue> released = new ArrayList<>();
+		while (fEvicted.size() > MAX_EVICTED) {
+			released.add(fEvicted.poll());
+		}
+		return released;
 	}
 
 	/**
-	 * Inner class that caches the known and pending values for a given logical
-	 * structure type.
+	 * Clears the cache of all evaluated values.
 	 */
-	class LogicalStructureTypeCache{
-
-		private ILogicalStructureType fType;
-
-		/**
-		 * Maps a raw IValue to its calculated logical IValue
-		 */
-		private Map<IValue, IValue> fKnownValues = new HashMap<>();
+	public void clear(){
+		List<CachedValue> released = new ArrayList<>();
+		synchronized (fLock) {
+			for (Map.Entry<Key, CompletableFuture<IValue>> entry : fCache.entrySet()) {
+				// pending computations are not released, like computations
+				// finishing after the cache was cleared
+				CompletableFuture<IValue> future = entry.getValue();
+				if (fCache.remove(entry.getKey(), future) && future.isDone() && !future.isCompletedExceptionally()) {
+					released.add(new CachedValue(entry.getKey().fType, future.getNow(null)));
+				}
+			}
+			fComputed.clear();
+			released.addAll(fEvicted);
+			fEvicted.clear();
+		}
+		released.forEach(CachedValue::release);
+	}
 
-		/**
-		 * Set of raw IValues that logical values are currently being evaluated for.
-		 */
-		private Set<IValue> fPendingValues = new HashSet<>();
+	/**
+	 * Key of a logical structure in the cache
+	 */
+	private static final class Key {
+		final ILogicalStructureType fType;
+		final IValue fValue;
 
-		public LogicalStructureTypeCache(ILogicalStructureType type){
+		Key(ILogicalStructureType type, IValue value) {
 			fType = type;
+			fValue = value;
 		}
 
-		/**
-		 * Returns the logical structure value for the given raw value.  If the value has been evaluated
-		 * the cached value is returned, otherwise the thread waits until the value is evaluated.
-		 *
-		 * @param value the raw value
-		 * @return the logical value
-		 * @exception CoreException if an error occurs computing the value
-		 */
-		public IValue getLogicalStructure(IValue value) throws CoreException {
-			// Check if the value has already been evaluated
-			synchronized (fKnownValues) {
-				IValue logical = fKnownValues.get(value);
-				if (logical != null){
-					return logical;
-				}
-			}
-			// Check if the logical structure is currently being evaluated
-			synchronized (fPendingValues) {
-				if (fPendingValues.contains(value)){
-					try {
-						fPendingValues.wait();
-						return getLogicalStructure(value);
-					} catch (InterruptedException e) {
-						throw new CoreException(new Status(IStatus.CANCEL, DebugUIPlugin.getUniqueIdentifier(),
-								VariablesViewMessages.LogicalStructureCache_0, e));
-					}
-				} else {
-					fPendingValues.add(value);
-				}
-			}
-			// Start the evaluation to get the logical structure
-			try {
-				IValue result = fType.getLogicalStructure(value);
-				synchronized (fKnownValues) {
-					fKnownValues.put(value, result);
-				}
-				return result;
-			} finally {
-				synchronized (fPendingValues) {
-					fPendingValues.remove(value);
-					fPendingValues.notifyAll();
-				}
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
 			}
+			Key other = (Key) obj;
+			return fType.equals(other.fType) && Objects.equals(fValue, other.fValue);
 		}
 
-		public void dispose() {
-			if (!(fType instanceof ILogicalStructureTypeDelegate3)) {
-				return;
-			}
-			ILogicalStructureTypeDelegate3 typeDelegate = (ILogicalStructureTypeDelegate3) fType;
-			synchronized (fKnownValues) {
-				fKnownValues.values().forEach(typeDelegate::releaseValue);
-			}
+		@Override
+		public int hashCode() {
+			return 31 * fType.hashCode() + Objects.hashCode(fValue);
 		}
+	}
 
+	/**
+	 * A computed logical value in the cache
+	 */
+	private static final class ComputedValue {
+		final Key fKey;
+		final CompletableFuture<IValue> fFuture;
+
+		ComputedValue(Key key, CompletableFuture<IValue> future) {
+			fKey = key;
+			fFuture = future;
+		}
+	}
+
+	/**
+	 * A logical value which has to be released
+	 */
+	private static final class CachedValue {
+		final ILogicalStructureType fType;
+		final IValue fLogicalValue;
+
+		CachedValue(ILogicalStructureType type, IValue logicalValue) {
+			fType = type;
+			fLogicalValue = logicalValue;
+		}
+
+		void release() {
+			if (fType instanceof ILogicalStructureTypeDelegate3 && fLogicalValue != null) {
+				((ILogicalStructureTypeDelegate3) fType).releaseValue(fLogicalValue);
+			}
+		}
 	}
 }
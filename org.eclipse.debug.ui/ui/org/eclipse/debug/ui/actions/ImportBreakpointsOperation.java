@@ -40,6 +40,7 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.model.Breakpoint;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IBreakpointImportParticipant;
 import org.eclipse.debug.internal.core.BreakpointManager;
@@ -337,6 +338,10 @@ public class ImportBreakpointsOperation implements IRunnableWithProgress {
 		try {
 			// create the breakpoint
 			breakpoint = fManager.createBreakpoint(marker);
+			if (breakpoint instanceof Breakpoint) {
+				// the attributes of an existing marker were written directly
+				((Breakpoint) breakpoint).clearAttributeCache();
+			}
 			breakpoint.setEnabled(((Boolean)attributes.get(IImportExportConstants.IE_BP_ENABLED)).booleanValue());
 			breakpoint.setPersisted(((Boolean)attributes.get(IImportExportConstants.IE_BP_PERSISTANT)).booleanValue());
 			breakpoint.setRegistered(((Boolean)attributes.get(IImportExportConstants.IE_BP_REGISTERED)).booleanValue());
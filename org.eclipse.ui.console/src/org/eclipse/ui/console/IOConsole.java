@@ -401,6 +401,34 @@ public class IOConsole extends TextConsole {
 		partitioner.setCarriageReturnAsControlCharacter(carriageReturnAsControlCharacter);
 	}
 
+	/**
+	 * Check if output is discarded when it is written faster than the console
+	 * can append it.
+	 *
+	 * @return <code>true</code> if output exceeding the console's output queue
+	 *         is discarded, <code>false</code> if writers block until the
+	 *         queue can take their output
+	 * @see #setDiscardOutputOnOverflow(boolean)
+	 * @since 3.12
+	 */
+	public boolean isDiscardOutputOnOverflow() {
+		return partitioner.isDiscardOutputOnOverflow();
+	}
+
+	/**
+	 * Set what happens to output written faster than the console can append it.
+	 * By default writers block until the console caught up. If set to
+	 * <code>true</code> output which does not fit into the console's output
+	 * queue is discarded instead, so writers never block.
+	 *
+	 * @param discard <code>true</code> to discard output exceeding the console's
+	 *                output queue, <code>false</code> to block writers
+	 * @since 3.12
+	 */
+	public void setDiscardOutputOnOverflow(boolean discard) {
+		partitioner.setDiscardOutputOnOverflow(discard);
+	}
+
 	/**
 	 * Registers a stream that will be managed by this console.
 	 *
@@ -14,7 +14,12 @@
 
 package org.eclipse.ui.console;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
@@ -31,6 +36,7 @@ import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.ui.internal.console.ConsoleDocument;
+import org.eclipse.ui.internal.console.ConsoleHyperlinkIndex;
 import org.eclipse.ui.internal.console.ConsoleHyperlinkPosition;
 import org.eclipse.ui.internal.console.ConsolePatternMatcher;
 import org.eclipse.ui.part.IPageBookViewPage;
@@ -80,6 +86,12 @@ public abstract class TextConsole extends AbstractConsole {
 	 */
 	private ConsoleDocument fDocument;
 
+	/**
+	 * The hyperlinks added to the console. Positions clients added to the
+	 * hyperlink position category of the document directly are still honored.
+	 */
+	private ConsoleHyperlinkIndex fHyperlinks;
+
 	/**
 	 * indication that the console's partitioner is not expecting more input
 	 */
@@ -132,6 +144,8 @@ public abstract class TextConsole extends AbstractConsole {
 		super(name, consoleType, imageDescriptor, autoLifecycle);
 		fDocument = new ConsoleDocument();
 		fDocument.addPositionCategory(ConsoleHyperlinkPosition.HYPER_LINK_CATEGORY);
+		fHyperlinks = new ConsoleHyperlinkIndex();
+		fDocument.addPositionUpdater(fHyperlinks);
 		fPatternMatcher = new ConsolePatternMatcher(this);
 		fDocument.addDocumentListener(fPatternMatcher);
 		fTabWidth = IConsoleConstants.DEFAULT_TAB_SIZE;
@@ -362,17 +376,17 @@ public abstract class TextConsole extends AbstractConsole {
 	 * @return all hyperlinks in this console
 	 */
 	public IHyperlink[] getHyperlinks() {
-		try {
-			Position[] positions = getDocument().getPositions(ConsoleHyperlinkPosition.HYPER_LINK_CATEGORY);
-			IHyperlink[] hyperlinks = new IHyperlink[positions.length];
-			for (int i = 0; i < positions.length; i++) {
-				ConsoleHyperlinkPosition position = (ConsoleHyperlinkPosition) positions[i];
-				hyperlinks[i] = position.getHyperLink();
+		Position[] added = getCategoryPositions();
+		if (added.length == 0) {
+			return fHyperlinks.getHyperlinks();
+		}
+		List<IHyperlink> hyperlinks = new ArrayList<>(Arrays.asList(fHyperlinks.getHyperlinks()));
+		for (Position position : added) {
+			if (position instanceof ConsoleHyperlinkPosition) {
+				hyperlinks.add(((ConsoleHyperlinkPosition) position).getHyperLink());
 			}
-			return hyperlinks;
-		} catch (BadPositionCategoryException e) {
-			return new IHyperlink[0];
 		}
+		return hyperlinks.toArray(new IHyperlink[hyperlinks.size()]);
 	}
 
 	/**
@@ -382,18 +396,59 @@ public abstract class TextConsole extends AbstractConsole {
 	 * @return the hyperlink at the given offset or <code>null</code> if none
 	 */
 	public IHyperlink getHyperlink(int offset) {
-		try {
-			IDocument document = getDocument();
-			if (document != null) {
-				Position[] positions = document.getPositions(ConsoleHyperlinkPosition.HYPER_LINK_CATEGORY);
-				Position position = findPosition(offset, positions);
-				if (position instanceof ConsoleHyperlinkPosition) {
-					return ((ConsoleHyperlinkPosition) position).getHyperLink();
-				}
+		IHyperlink hyperlink = fHyperlinks.getHyperlink(offset);
+		if (hyperlink == null) {
+			Position position = findPosition(offset, getCategoryPositions());
+			if (position instanceof ConsoleHyperlinkPosition) {
+				hyperlink = ((ConsoleHyperlinkPosition) position).getHyperLink();
 			}
+		}
+		return hyperlink;
+	}
+
+	/**
+	 * Returns the hyperlink positions overlapping the given range.
+	 *
+	 * @param offset offset of the range
+	 * @param length length of the range
+	 * @return the positions sorted by offset, or <code>null</code> if none
+	 */
+	Position[] getHyperlinkPositions(int offset, int length) {
+		Position[] positions = fHyperlinks.getPositions(offset, length);
+		Position[] added = getCategoryPositions();
+		if (added.length == 0) {
+			return positions;
+		}
+		List<Position> overlap = new ArrayList<>();
+		if (positions != null) {
+			Collections.addAll(overlap, positions);
+		}
+		for (Position position : added) {
+			if (position instanceof ConsoleHyperlinkPosition && position.overlapsWith(offset, length)) {
+				overlap.add(position);
+			}
+		}
+		if (overlap.isEmpty()) {
+			return null;
+		}
+		overlap.sort(Comparator.comparingInt(Position::getOffset));
+		return overlap.toArray(new Position[overlap.size()]);
+	}
+
+	/**
+	 * Returns the positions clients added to the hyperlink position category
+	 * of the document directly. Hyperlinks added by
+	 * {@link #addHyperlink(IHyperlink, int, int)} are not part of the
+	 * category.
+	 *
+	 * @return the positions of the hyperlink category sorted by offset
+	 */
+	private Position[] getCategoryPositions() {
+		try {
+			return getDocument().getPositions(ConsoleHyperlinkPosition.HYPER_LINK_CATEGORY);
 		} catch (BadPositionCategoryException e) {
+			return new Position[0];
 		}
-		return null;
 	}
 
 	/**
@@ -543,6 +598,10 @@ public abstract class TextConsole extends AbstractConsole {
 
 	/**
 	 * Adds a hyperlink to this console.
+	 * <p>
+	 * The hyperlink is kept by the console itself and not added as position
+	 * to the console's document.
+	 * </p>
 	 *
 	 * @param hyperlink the hyperlink to add
 	 * @param offset the offset in the console document at which the hyperlink should be added
@@ -551,13 +610,13 @@ public abstract class TextConsole extends AbstractConsole {
 	 */
 	public void addHyperlink(IHyperlink hyperlink, int offset, int length) throws BadLocationException {
 		IDocument document = getDocument();
-		ConsoleHyperlinkPosition hyperlinkPosition = new ConsoleHyperlinkPosition(hyperlink, offset, length);
-		try {
-			document.addPosition(ConsoleHyperlinkPosition.HYPER_LINK_CATEGORY, hyperlinkPosition);
-			fConsoleManager.refresh(this);
-		} catch (BadPositionCategoryException e) {
-			ConsolePlugin.log(e);
+		synchronized (document) {
+			if (offset < 0 || length < 0 || offset + length > document.getLength()) {
+				throw new BadLocationException();
+			}
+			fHyperlinks.add(hyperlink, offset, length);
 		}
+		fConsoleManager.refresh(this);
 	}
 
 	/**
@@ -567,20 +626,15 @@ public abstract class TextConsole extends AbstractConsole {
 	 * @return the region associated with the hyperlink or null if the hyperlink is not found.
 	 */
 	public IRegion getRegion(IHyperlink link) {
-		try {
-			IDocument doc = getDocument();
-			if (doc != null) {
-				Position[] positions = doc.getPositions(ConsoleHyperlinkPosition.HYPER_LINK_CATEGORY);
-				for (Position p : positions) {
-					ConsoleHyperlinkPosition position = (ConsoleHyperlinkPosition) p;
-					if (position.getHyperLink().equals(link)) {
-						return new Region(position.getOffset(), position.getLength());
-					}
+		IRegion region = fHyperlinks.getRegion(link);
+		if (region == null) {
+			for (Position position : getCategoryPositions()) {
+				if (position instanceof ConsoleHyperlinkPosition && ((ConsoleHyperlinkPosition) position).getHyperLink().equals(link)) {
+					return new Region(position.getOffset(), position.getLength());
 				}
 			}
-		} catch (BadPositionCategoryException e) {
 		}
-		return null;
+		return region;
 	}
 
 	/**
@@ -27,13 +27,11 @@ import org.eclipse.jface.preference.JFacePreferences;
 import org.eclipse.jface.resource.ColorRegistry;
 import org.eclipse.jface.resource.JFaceColors;
 import org.eclipse.jface.resource.JFaceResources;
-import org.eclipse.jface.text.BadPositionCategoryException;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentAdapter;
 import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.IDocumentPartitioner;
-import org.eclipse.jface.text.IPositionUpdater;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.JFaceTextUtil;
 import org.eclipse.jface.text.Position;
@@ -64,7 +62,6 @@ import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.ui.internal.console.ConsoleDocumentAdapter;
-import org.eclipse.ui.internal.console.ConsoleHyperlinkPosition;
 import org.eclipse.ui.progress.WorkbenchJob;
 
 /**
@@ -196,23 +193,6 @@ public class TextConsoleViewer extends SourceViewer implements LineStyleListener
 		return false;
 	}
 
-	private IPositionUpdater positionUpdater = event -> {
-		try {
-			IDocument document = getDocument();
-			if (document != null) {
-				for (Position position : document.getPositions(ConsoleHyperlinkPosition.HYPER_LINK_CATEGORY)) {
-					if (position.offset == event.fOffset && position.length <= event.fLength) {
-						position.delete();
-					}
-					if (position.isDeleted) {
-						document.removePosition(ConsoleHyperlinkPosition.HYPER_LINK_CATEGORY, position);
-					}
-				}
-			}
-		} catch (BadPositionCategoryException e) {
-		}
-	};
-
 	/**
 	 * Constructs a new viewer in the given parent for the specified console.
 	 *
@@ -328,7 +308,6 @@ public class TextConsoleViewer extends SourceViewer implements LineStyleListener
 
 		revealJob.setSystem(true);
 		document.addDocumentListener(documentListener);
-		document.addPositionUpdater(positionUpdater);
 	}
 
 	/**
@@ -386,18 +365,14 @@ public class TextConsoleViewer extends SourceViewer implements LineStyleListener
 				}
 			}
 
-			try {
-				Position[] positions = getDocument().getPositions(ConsoleHyperlinkPosition.HYPER_LINK_CATEGORY);
-				Position[] overlap = findPosition(offset, length, positions);
+			Position[] overlap = console != null ? console.getHyperlinkPositions(offset, length) : null;
+			if (overlap != null) {
 				Color color = JFaceColors.getHyperlinkText(Display.getCurrent());
-				if (overlap != null) {
-					for (Position position : overlap) {
-						StyleRange linkRange = new StyleRange(position.offset, position.length, color, null);
-						linkRange.underline = true;
-						overrideStyleRange(ranges, linkRange);
-					}
+				for (Position position : overlap) {
+					StyleRange linkRange = new StyleRange(position.offset, position.length, color, null);
+					linkRange.underline = true;
+					overrideStyleRange(ranges, linkRange);
 				}
-			} catch (BadPositionCategoryException e) {
 			}
 
 			if (ranges.size() > 0) {
@@ -486,75 +461,6 @@ public class TextConsoleViewer extends SourceViewer implements LineStyleListener
 		ranges.add(insertIndex, newRange);
 	}
 
-	/**
-	 * Binary search for the positions overlapping the given range
-	 *
-	 * @param offset    the offset of the range
-	 * @param length    the length of the range
-	 * @param positions the positions to search
-	 * @return the positions overlapping the given range, or <code>null</code>
-	 */
-	private Position[] findPosition(int offset, int length, Position[] positions) {
-
-		if (positions.length == 0) {
-			return null;
-		}
-
-		int rangeEnd = offset + length;
-		int left = 0;
-		int right = positions.length - 1;
-		int mid = 0;
-		Position position = null;
-
-		while (left < right) {
-
-			mid = (left + right) / 2;
-
-			position = positions[mid];
-			if (rangeEnd < position.getOffset()) {
-				if (left == mid) {
-					right = left;
-				} else {
-					right = mid - 1;
-				}
-			} else if (offset > (position.getOffset() + position.getLength() - 1)) {
-				if (right == mid) {
-					left = right;
-				} else {
-					left = mid + 1;
-				}
-			} else {
-				left = right = mid;
-			}
-		}
-
-		List<Position> list = new ArrayList<>();
-		int index = left - 1;
-		if (index >= 0) {
-			position = positions[index];
-			while (index >= 0 && (position.getOffset() + position.getLength()) > offset) {
-				index--;
-				if (index > 0) {
-					position = positions[index];
-				}
-			}
-		}
-		index++;
-		position = positions[index];
-		while (index < positions.length && (position.getOffset() < rangeEnd)) {
-			list.add(position);
-			index++;
-			if (index < positions.length) {
-				position = positions[index];
-			}
-		}
-
-		if (list.isEmpty()) {
-			return null;
-		}
-		return list.toArray(new Position[list.size()]);
-	}
-
 	@Override
 	public void lineGetBackground(LineBackgroundEvent event) {
 		event.lineBackground = null;
@@ -741,7 +647,6 @@ public class TextConsoleViewer extends SourceViewer implements LineStyleListener
 		IDocument document = getDocument();
 		if (document != null) {
 			document.removeDocumentListener(documentListener);
-			document.removePositionUpdater(positionUpdater);
 		}
 
 		StyledText styledText = getTextWidget();
@@ -24,6 +24,14 @@ import org.eclipse.jface.text.Position;
  */
 public class ConsoleDocument extends Document {
 
+	/**
+	 * Creates an empty console document. The text is stored in chunks so
+	 * trimming the start of a large console is cheap.
+	 */
+	public ConsoleDocument() {
+		setTextStore(new ConsoleTextStore());
+	}
+
 	@Override
 	public synchronized String get(int pos, int length) throws BadLocationException {
 		return super.get(pos, length);
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.console;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IPositionUpdater;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.Region;
+import org.eclipse.ui.console.IHyperlink;
+
+/**
+ * Index of the hyperlinks in a console document.
+ * <p>
+ * The links are kept sorted by offset in an array window. Their offsets are
+ * stored relative to a common origin, so removing text from the start of the
+ * document removes the leading links from the window and moves the origin
+ * instead of updating every remaining link. Lookups use binary search, bounded
+ * by the length of the longest link to find links overlapping a range.
+ * </p>
+ * <p>
+ * Must be registered as position updater of the document. A link is removed
+ * when any part of it is replaced, like {@link HyperlinkUpdater} does for
+ * positions.
+ * </p>
+ * <p>
+ * Thread safe.
+ * </p>
+ */
+public class ConsoleHyperlinkIndex implements IPositionUpdater {
+
+	private static final Link[] NO_LINKS = new Link[0];
+
+	/**
+	 * A link and its offset relative to the origin.
+	 */
+	private static final class Link {
+		final IHyperlink hyperlink;
+		final int length;
+		long start;
+
+		Link(IHyperlink hyperlink, long start, int length) {
+			this.hyperlink = hyperlink;
+			this.start = start;
+			this.length = length;
+		}
+	}
+
+	/** Links sorted by start, the valid links are in [first, first + size) */
+	private Link[] links = NO_LINKS;
+	private int first;
+	private int size;
+
+	/** Document offset of stored start 0. */
+	private long origin;
+
+	/**
+	 * Upper bound for the length of the links in this index, reset when the
+	 * index becomes empty.
+	 */
+	private int maxLength;
+
+	/**
+	 * Adds a hyperlink to this index.
+	 *
+	 * @param hyperlink the hyperlink
+	 * @param offset document offset of the hyperlink
+	 * @param length length of the hyperlink
+	 */
+	public synchronized void add(IHyperlink hyperlink, int offset, int length) {
+		long start = offset - origin;
+		int index = upperBound(start);
+		int end = first + size;
+		if (end == links.length) {
+			if (first > links.length / 2) {
+				System.arraycopy(links, first, links, 0, size);
+				Arrays.fill(links, size, end, null);
+			} else {
+				Link[] grown = new Link[Math.max(16, links.length * 2)];
+				System.arraycopy(links, first, grown, 0, size);
+				links = grown;
+			}
+			index -= first;
+			first = 0;
+			end = size;
+		}
+		System.arraycopy(links, index, links, index + 1, end - index);
+		links[index] = new Link(hyperlink, start, length);
+		size++;
+		maxLength = Math.max(maxLength, length);
+	}
+
+	/**
+	 * Returns all hyperlinks in this index sorted by offset.
+	 *
+	 * @return all hyperlinks
+	 */
+	public synchronized IHyperlink[] getHyperlinks() {
+		IHyperlink[] hyperlinks = new IHyperlink[size];
+		for (int i = 0; i < size; i++) {
+			hyperlinks[i] = links[first + i].hyperlink;
+		}
+		return hyperlinks;
+	}
+
+	/**
+	 * Returns the hyperlink at the given offset.
+	 *
+	 * @param offset document offset
+	 * @return the hyperlink containing the offset or <code>null</code> if none
+	 */
+	public synchronized IHyperlink getHyperlink(int offset) {
+		long start = offset - origin;
+		for (int i = upperBound(start) - 1; i >= first && links[i].start > start - maxLength; i--) {
+			if (start < links[i].start + links[i].length) {
+				return links[i].hyperlink;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the positions of the hyperlinks overlapping the given range.
+	 *
+	 * @param offset document offset of the range
+	 * @param length length of the range
+	 * @return the positions sorted by offset, or <code>null</code> if no
+	 *         hyperlink overlaps the range
+	 */
+	public synchronized Position[] getPositions(int offset, int length) {
+		long start = offset - origin;
+		long end = start + length;
+		List<Position> positions = null;
+		int last = first + size;
+		for (int i = lowerBound(start - maxLength + 1); i < last && links[i].start < end; i++) {
+			Link link = links[i];
+			if (link.start + link.length > start) {
+				if (positions == null) {
+					positions = new ArrayList<>();
+				}
+				positions.add(new ConsoleHyperlinkPosition(link.hyperlink, (int) (link.start + origin), link.length));
+			}
+		}
+		return positions != null ? positions.toArray(new Position[positions.size()]) : null;
+	}
+
+	/**
+	 * Returns the region of the given hyperlink.
+	 *
+	 * @param hyperlink the hyperlink
+	 * @return the region of the first matching hyperlink or <code>null</code>
+	 *         if not found
+	 */
+	public synchronized IRegion getRegion(IHyperlink hyperlink) {
+		for (int i = first; i < first + size; i++) {
+			Link link = links[i];
+			if (link.hyperlink.equals(hyperlink)) {
+				return new Region((int) (link.start + origin), link.length);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public synchronized void update(DocumentEvent event) {
+		if (size == 0) {
+			return;
+		}
+		long editStart = event.getOffset() - origin;
+		long editEnd = editStart + event.getLength() - 1;
+		int delta = (event.getText() != null ? event.getText().length() : 0) - event.getLength();
+
+		// links starting before this index end before the edit and links
+		// starting after the edit are not replaced
+		int low = lowerBound(editStart - maxLength);
+		int high = upperBound(Math.max(editStart, editEnd));
+		int kept = high;
+		for (int i = high - 1; i >= low; i--) {
+			Link link = links[i];
+			if (!isReplaced(link, editStart, editEnd, event.getLength())) {
+				links[--kept] = link;
+			}
+		}
+		int removed = kept - low;
+		if (removed > 0) {
+			int last = first + size;
+			if (low - first < last - high) {
+				System.arraycopy(links, first, links, first + removed, low - first);
+				Arrays.fill(links, first, first + removed, null);
+				first += removed;
+			} else {
+				System.arraycopy(links, kept, links, low, last - kept);
+				Arrays.fill(links, last - removed, last, null);
+			}
+			size -= removed;
+			if (size == 0) {
+				first = 0;
+				maxLength = 0;
+				return;
+			}
+		}
+		if (delta != 0) {
+			int following = upperBound(editStart);
+			if (following == first) {
+				// all links follow the edit, just move the origin
+				origin += delta;
+			} else {
+				for (int i = following; i < first + size; i++) {
+					links[i].start += delta;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given edit replaces any part of the given link.
+	 *
+	 * @see HyperlinkUpdater#notDeleted()
+	 */
+	private static boolean isReplaced(Link link, long editStart, long editEnd, int editLength) {
+		long linkEnd = link.start + link.length - 1;
+		return (editStart <= link.start && editEnd > link.start) || (editStart < linkEnd && editEnd > linkEnd) || (editStart >= link.start && editStart <= linkEnd) || (editEnd >= link.start && editEnd <= linkEnd) || (editStart == link.start && link.length <= editLength);
+	}
+
+	/**
+	 * @return index of the first link starting at or after the given start
+	 */
+	private int lowerBound(long start) {
+		int low = first;
+		int high = first + size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (links[mid].start < start) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * @return index of the first link starting after the given start
+	 */
+	private int upperBound(long start) {
+		int low = first;
+		int high = first + size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (links[mid].start <= start) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
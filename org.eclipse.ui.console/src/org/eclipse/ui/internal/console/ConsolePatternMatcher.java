@@ -15,7 +15,13 @@
 package org.eclipse.ui.internal.console;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -27,6 +33,7 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.MultiStringMatcher;
 import org.eclipse.ui.console.ConsolePlugin;
 import org.eclipse.ui.console.IPatternMatchListener;
 import org.eclipse.ui.console.PatternMatchEvent;
@@ -41,6 +48,12 @@ public class ConsolePatternMatcher implements IDocumentListener {
 	 */
 	private ArrayList<CompiledPatternMatchListener> fPatterns = new ArrayList<>();
 
+	/**
+	 * Matcher for the literal line qualifiers of all listeners, used to scan
+	 * new text for all of them at once. Reset when listeners change.
+	 */
+	private MultiStringMatcher fQualifierMatcher;
+
 	private TextConsole fConsole;
 
 	private boolean fFinalMatch;
@@ -62,101 +75,46 @@ public class ConsolePatternMatcher implements IDocumentListener {
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
 			IDocument doc = fConsole.getDocument();
-			String text = null;
-			int prevBaseOffset = -1;
 			if (doc != null && !monitor.isCanceled()) {
 				int endOfSearch = doc.getLength();
 				int indexOfLastChar = endOfSearch;
 				if (indexOfLastChar > 0) {
 					indexOfLastChar--;
 				}
-				int lastLineToSearch = 0;
 				int offsetOfLastLineToSearch = 0;
 				try {
-					lastLineToSearch = doc.getLineOfOffset(indexOfLastChar);
-					offsetOfLastLineToSearch = doc.getLineOffset(lastLineToSearch);
+					offsetOfLastLineToSearch = doc.getLineOffset(doc.getLineOfOffset(indexOfLastChar));
 				} catch (BadLocationException e) {
 					// perhaps the buffer was re-set
 					return Status.OK_STATUS;
 				}
-				Object[] patterns = null;
+				CompiledPatternMatchListener[] notifiers;
+				MultiStringMatcher qualifierMatcher;
 				synchronized (fPatterns) {
-					patterns = fPatterns.toArray();
+					notifiers = fPatterns.toArray(new CompiledPatternMatchListener[fPatterns.size()]);
+					qualifierMatcher = getQualifierMatcher();
 				}
-				for (Object pattern : patterns) {
-					if (monitor.isCanceled()) {
-						break;
-					}
-					CompiledPatternMatchListener notifier = (CompiledPatternMatchListener) pattern;
-					int baseOffset = notifier.end;
-					int lengthToSearch = endOfSearch - baseOffset;
-					if (lengthToSearch > 0) {
-						try {
-							if (prevBaseOffset != baseOffset) {
-								// reuse the text string if possible
-								text = doc.get(baseOffset, lengthToSearch);
-							}
-							if(text == null) {
-								continue;
-							}
-							Matcher reg = notifier.pattern.matcher(text);
-							Matcher quick = null;
-							if (notifier.qualifier != null) {
-								quick = notifier.qualifier.matcher(text);
-							}
-							int startOfNextSearch = 0;
-							int endOfLastMatch = -1;
-							int lineOfLastMatch = -1;
-							while ((startOfNextSearch < lengthToSearch) && !monitor.isCanceled()) {
-								if (quick != null) {
-									if (quick.find(startOfNextSearch)) {
-										// start searching on the beginning
-										// of the line where the potential
-										// match was found, or after the
-										// last match on the same line
-										int matchLine = doc.getLineOfOffset(baseOffset + quick.start());
-										if (lineOfLastMatch == matchLine) {
-											startOfNextSearch = endOfLastMatch;
-										} else {
-											startOfNextSearch = doc.getLineOffset(matchLine) - baseOffset;
-										}
-									} else {
-										startOfNextSearch = lengthToSearch;
-									}
-								}
-								if (startOfNextSearch < 0) {
-									startOfNextSearch = 0;
-								}
-								if (startOfNextSearch < lengthToSearch) {
-									if (reg.find(startOfNextSearch)) {
-										endOfLastMatch = reg.end();
-										lineOfLastMatch = doc.getLineOfOffset(baseOffset + endOfLastMatch - 1);
-										int regStart = reg.start();
-										IPatternMatchListener listener = notifier.listener;
-										if (listener != null && !monitor.isCanceled()) {
-											listener.matchFound(new PatternMatchEvent(fConsole, baseOffset + regStart, endOfLastMatch - regStart));
-										}
-										startOfNextSearch = endOfLastMatch;
-									} else {
-										startOfNextSearch = lengthToSearch;
-									}
-								}
+				// all listeners share one copy of the text not yet searched by
+				// any of them
+				int baseOffset = endOfSearch;
+				for (CompiledPatternMatchListener notifier : notifiers) {
+					baseOffset = Math.max(Math.min(baseOffset, notifier.end), 0);
+				}
+				if (baseOffset < endOfSearch) {
+					try {
+						SearchText search = new SearchText(doc.get(baseOffset, endOfSearch - baseOffset), qualifierMatcher);
+						for (CompiledPatternMatchListener notifier : notifiers) {
+							if (monitor.isCanceled()) {
+								break;
 							}
-							// update start of next search to the last line
-							// searched
-							// or the end of the last match if it was on the
-							// line that
-							// was last searched
-							if (lastLineToSearch == lineOfLastMatch) {
-								notifier.end = baseOffset + endOfLastMatch;
-							} else {
-								notifier.end = offsetOfLastLineToSearch;
+							int notifierOffset = notifier.end - baseOffset;
+							if (notifierOffset >= 0 && notifierOffset < search.text.length()) {
+								notifier.end = baseOffset + search(notifier, search, notifierOffset, monitor, offsetOfLastLineToSearch - baseOffset, baseOffset);
 							}
-						} catch (BadLocationException e) {
-							ConsolePlugin.log(e);
 						}
+					} catch (BadLocationException e) {
+						ConsolePlugin.log(e);
 					}
-					prevBaseOffset = baseOffset;
 				}
 			}
 
@@ -171,6 +129,106 @@ public class ConsolePatternMatcher implements IDocumentListener {
 			return Status.OK_STATUS;
 		}
 
+		/**
+		 * Searches the text following the given offset for matches of the
+		 * given listener's pattern and notifies the listener.
+		 *
+		 * @param notifier the listener to search for
+		 * @param search the text to search in
+		 * @param notifierOffset offset in the text where the listener's search
+		 *            starts
+		 * @param monitor progress monitor
+		 * @param offsetOfLastLine offset of the last line in the text
+		 * @param documentOffset offset of the text in the document
+		 * @return offset in the text where the next search for the listener
+		 *         starts
+		 */
+		private int search(CompiledPatternMatchListener notifier, SearchText search, int notifierOffset, IProgressMonitor monitor, int offsetOfLastLine, int documentOffset) {
+			// search the shared text in regions instead of a copy of the text
+			// following the offset
+			String text = search.text;
+			int lengthToSearch = text.length();
+			Matcher reg = notifier.pattern.matcher(text);
+			// literal qualifiers were already located by the shared scan
+			String[] literals = notifier.qualifierLiterals;
+			Matcher quick = null;
+			if (notifier.qualifier != null && literals == null) {
+				quick = notifier.qualifier.matcher(text);
+			}
+			int startOfNextSearch = notifierOffset;
+			int endOfLastMatch = -1;
+			int lineOfLastMatch = -1;
+			while ((startOfNextSearch < lengthToSearch) && !monitor.isCanceled()) {
+				if (quick != null || literals != null) {
+					int qualifierOffset = -1;
+					if (quick != null) {
+						if (find(quick, startOfNextSearch, notifierOffset)) {
+							qualifierOffset = quick.start();
+						}
+					} else {
+						qualifierOffset = search.nextQualifier(literals, startOfNextSearch);
+					}
+					if (qualifierOffset >= 0) {
+						// start searching on the beginning of the line where
+						// the potential match was found, or after the last
+						// match on the same line
+						int matchLine = search.getLineOfOffset(qualifierOffset);
+						if (lineOfLastMatch == matchLine) {
+							startOfNextSearch = endOfLastMatch;
+						} else {
+							startOfNextSearch = search.getLineOffset(matchLine);
+						}
+					} else {
+						startOfNextSearch = lengthToSearch;
+					}
+				}
+				if (startOfNextSearch < notifierOffset) {
+					startOfNextSearch = notifierOffset;
+				}
+				if (startOfNextSearch < lengthToSearch) {
+					if (find(reg, startOfNextSearch, notifierOffset)) {
+						endOfLastMatch = reg.end();
+						lineOfLastMatch = search.getLineOfOffset(endOfLastMatch - 1);
+						int regStart = reg.start();
+						IPatternMatchListener listener = notifier.listener;
+						if (listener != null && !monitor.isCanceled()) {
+							listener.matchFound(new PatternMatchEvent(fConsole, documentOffset + regStart, endOfLastMatch - regStart));
+						}
+						startOfNextSearch = endOfLastMatch;
+					} else {
+						startOfNextSearch = lengthToSearch;
+					}
+				}
+			}
+			// update start of next search to the last line searched or the
+			// end of the last match if it was on the line that was last
+			// searched
+			if (search.getLastLine() == lineOfLastMatch) {
+				return endOfLastMatch;
+			}
+			return offsetOfLastLine;
+		}
+
+		/**
+		 * Finds the next match starting at the given offset. The first search
+		 * of a listener treats its start offset like the start of the input,
+		 * later searches see the text before the offset like
+		 * {@link Matcher#find(int)} does. Unlike {@link Matcher#find(int)}
+		 * the text is not copied to achieve this.
+		 *
+		 * @param matcher matcher of the whole text
+		 * @param offset offset to start the search at
+		 * @param start offset where the listener's search starts
+		 * @return whether a match was found
+		 */
+		private boolean find(Matcher matcher, int offset, int start) {
+			boolean first = offset == start;
+			matcher.region(offset, matcher.regionEnd());
+			matcher.useAnchoringBounds(first);
+			matcher.useTransparentBounds(!first);
+			return matcher.find();
+		}
+
 		@Override
 		public boolean belongsTo(Object family) {
 			return family == fConsole;
@@ -179,11 +237,135 @@ public class ConsolePatternMatcher implements IDocumentListener {
 
 	}
 
+	/**
+	 * Text searched by all pattern match listeners in one run of the match
+	 * job. Line information and the occurrences of literal line qualifiers
+	 * are computed once and shared by all listeners.
+	 */
+	private static class SearchText {
+		final String text;
+
+		/**
+		 * Offsets of the lines in the text, the first line starts at 0
+		 */
+		private int[] lineOffsets = new int[16];
+		private int lineCount;
+
+		/**
+		 * Offsets of the occurrences of each literal line qualifier
+		 */
+		private final Map<String, Occurrences> qualifiers = new HashMap<>();
+
+		SearchText(String text, MultiStringMatcher qualifierMatcher) {
+			this.text = text;
+			addLine(0);
+			int length = text.length();
+			for (int i = 0; i < length; i++) {
+				char c = text.charAt(i);
+				if (c == '\n' || (c == '\r' && (i + 1 == length || text.charAt(i + 1) != '\n'))) {
+					if (i + 1 < length) {
+						addLine(i + 1);
+					}
+				}
+			}
+			if (qualifierMatcher != null) {
+				qualifierMatcher.find(text, 0, match -> qualifiers.computeIfAbsent(match.getText(), q -> new Occurrences()).add(match.getOffset()));
+			}
+		}
+
+		private void addLine(int offset) {
+			if (lineCount == lineOffsets.length) {
+				lineOffsets = Arrays.copyOf(lineOffsets, lineCount * 2);
+			}
+			lineOffsets[lineCount++] = offset;
+		}
+
+		/**
+		 * @param offset offset in the text
+		 * @return index of the line containing the offset
+		 */
+		int getLineOfOffset(int offset) {
+			int index = Arrays.binarySearch(lineOffsets, 0, lineCount, offset);
+			return index >= 0 ? index : -index - 2;
+		}
+
+		/**
+		 * @param line line index
+		 * @return offset of the line in the text
+		 */
+		int getLineOffset(int line) {
+			return lineOffsets[line];
+		}
+
+		/**
+		 * @return index of the last line
+		 */
+		int getLastLine() {
+			return lineCount - 1;
+		}
+
+		/**
+		 * Returns the offset of the first occurrence of any of the given
+		 * literals at or after the given offset.
+		 *
+		 * @param literals literal line qualifiers
+		 * @param offset offset in the text to start at
+		 * @return offset of the next occurrence or <code>-1</code> if none
+		 */
+		int nextQualifier(String[] literals, int offset) {
+			int next = -1;
+			for (String literal : literals) {
+				Occurrences occurrences = qualifiers.get(literal);
+				if (occurrences != null) {
+					int occurrence = occurrences.next(offset);
+					if (occurrence >= 0 && (next < 0 || occurrence < next)) {
+						next = occurrence;
+					}
+				}
+			}
+			return next;
+		}
+	}
+
+	/**
+	 * Ascending offsets of the occurrences of a literal.
+	 */
+	private static class Occurrences {
+		private int[] offsets = new int[16];
+		private int size;
+
+		void add(int offset) {
+			if (size == offsets.length) {
+				offsets = Arrays.copyOf(offsets, size * 2);
+			}
+			offsets[size++] = offset;
+		}
+
+		/**
+		 * @param offset offset to start at
+		 * @return the first occurrence at or after the offset or
+		 *         <code>-1</code> if none
+		 */
+		int next(int offset) {
+			int index = Arrays.binarySearch(offsets, 0, size, offset);
+			if (index < 0) {
+				index = -index - 1;
+			}
+			return index < size ? offsets[index] : -1;
+		}
+	}
+
 	private static class CompiledPatternMatchListener {
 		Pattern pattern;
 
 		Pattern qualifier;
 
+		/**
+		 * The strings matched by the qualifier if it only matches literals,
+		 * otherwise <code>null</code>
+		 */
+		String[] qualifierLiterals;
+
 		IPatternMatchListener listener;
 
 		int end = 0;
@@ -192,16 +374,120 @@ public class ConsolePatternMatcher implements IDocumentListener {
 			this.pattern = pattern;
 			this.listener = matchListener;
 			this.qualifier = qualifier;
+			if (qualifier != null) {
+				this.qualifierLiterals = getLiterals(qualifier.pattern(), qualifier.flags());
+			}
 		}
 
 		public void dispose() {
 			listener.disconnect();
 			pattern = null;
 			qualifier = null;
+			qualifierLiterals = null;
 			listener = null;
 		}
 	}
 
+	/**
+	 * Returns the combined matcher for the literal qualifiers of all
+	 * listeners, creating it if required. Must be called while holding the
+	 * lock on {@link #fPatterns}.
+	 *
+	 * @return the matcher or <code>null</code> if no listener has a literal
+	 *         qualifier
+	 */
+	private MultiStringMatcher getQualifierMatcher() {
+		if (fQualifierMatcher == null) {
+			Set<String> literals = new LinkedHashSet<>();
+			for (CompiledPatternMatchListener notifier : fPatterns) {
+				if (notifier.qualifierLiterals != null) {
+					literals.addAll(Arrays.asList(notifier.qualifierLiterals));
+				}
+			}
+			if (!literals.isEmpty()) {
+				fQualifierMatcher = MultiStringMatcher.create(literals.toArray(new String[literals.size()]));
+			}
+		}
+		return fQualifierMatcher;
+	}
+
+	/**
+	 * Returns the strings matched by the given regular expression if it only
+	 * consists of literal characters, escaped characters and top level
+	 * alternatives.
+	 *
+	 * @param regex a regular expression
+	 * @param flags the compiler flags of the expression
+	 * @return the matched strings or <code>null</code> if the expression is
+	 *         not a plain literal
+	 */
+	static String[] getLiterals(String regex, int flags) {
+		if ((flags & Pattern.LITERAL) != 0) {
+			return regex.isEmpty() || (flags & (Pattern.CASE_INSENSITIVE | Pattern.CANON_EQ)) != 0 ? null : new String[] { regex };
+		}
+		if ((flags & ~(Pattern.MULTILINE | Pattern.DOTALL | Pattern.UNIX_LINES)) != 0) {
+			return null;
+		}
+		List<String> literals = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		int length = regex.length();
+		for (int i = 0; i < length; i++) {
+			char c = regex.charAt(i);
+			switch (c) {
+				case '\\':
+					if (++i == length) {
+						return null;
+					}
+					c = regex.charAt(i);
+					if (c == 'Q') {
+						int end = regex.indexOf("\\E", i + 1); //$NON-NLS-1$
+						if (end < 0) {
+							end = length;
+						}
+						literal.append(regex, i + 1, end);
+						i = end + 1;
+					} else if (Character.isLetterOrDigit(c)) {
+						int index = "tnrfae".indexOf(c); //$NON-NLS-1$
+						if (index < 0) {
+							return null;
+						}
+						literal.append("\t\n\r\f\u0007\u001B".charAt(index)); //$NON-NLS-1$
+					} else {
+						literal.append(c);
+					}
+					break;
+				case '|':
+					if (literal.length() == 0) {
+						return null;
+					}
+					literals.add(literal.toString());
+					literal.setLength(0);
+					break;
+				case '^':
+				case '$':
+				case '.':
+				case '?':
+				case '*':
+				case '+':
+				case '(':
+				case ')':
+				case '[':
+				case ']':
+				case '{':
+				case '}':
+					return null;
+				default:
+					literal.append(c);
+					break;
+			}
+		}
+		if (literal.length() == 0) {
+			return null;
+		}
+		literals.add(literal.toString());
+		return literals.toArray(new String[literals.size()]);
+	}
+
 	/**
 	 * Adds the given pattern match listener to this console. The listener will
 	 * be connected and receive match notifications.
@@ -229,6 +515,7 @@ public class ConsolePatternMatcher implements IDocumentListener {
 			}
 			CompiledPatternMatchListener notifier = new CompiledPatternMatchListener(pattern, qPattern, matchListener);
 			fPatterns.add(notifier);
+			fQualifierMatcher = null;
 			matchListener.connect(fConsole);
 			fMatchJob.schedule();
 		}
@@ -247,6 +534,7 @@ public class ConsolePatternMatcher implements IDocumentListener {
 				CompiledPatternMatchListener element = iter.next();
 				if (element.listener == matchListener) {
 					iter.remove();
+					fQualifierMatcher = null;
 					matchListener.disconnect();
 				}
 			}
@@ -260,6 +548,7 @@ public class ConsolePatternMatcher implements IDocumentListener {
 				listener.dispose();
 			}
 			fPatterns.clear();
+			fQualifierMatcher = null;
 		}
 	}
 
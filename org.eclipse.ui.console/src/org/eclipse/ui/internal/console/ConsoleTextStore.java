@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.console;
+
+import java.util.ArrayList;
+
+import org.eclipse.jface.text.ITextStore;
+
+/**
+ * Text store for console documents. The text is stored in fixed size chunks,
+ * so appending text never copies existing text and removing text from the
+ * start of the document only drops the chunks which became empty.
+ * <p>
+ * Other modifications copy the text following the modified region, which is
+ * cheap for the usual console edits near the end of the document.
+ * </p>
+ * <p>
+ * Not thread safe, {@link ConsoleDocument} synchronizes access.
+ * </p>
+ */
+class ConsoleTextStore implements ITextStore {
+
+	private static final int CHUNK_BITS = 13;
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	/**
+	 * Chunks holding the text. All chunks have the same size, the text starts
+	 * at {@link #start} in the first chunk.
+	 */
+	private final ArrayList<char[]> chunks = new ArrayList<>();
+
+	/** Index of the first character in the first chunk. */
+	private int start;
+
+	/** Length of the text. */
+	private int length;
+
+	@Override
+	public char get(int offset) {
+		final int position = start + offset;
+		return chunks.get(position >>> CHUNK_BITS)[position & CHUNK_MASK];
+	}
+
+	@Override
+	public String get(int offset, int len) {
+		final char[] text = new char[len];
+		int position = start + offset;
+		int copied = 0;
+		while (copied < len) {
+			final int index = position & CHUNK_MASK;
+			final int count = Math.min(CHUNK_SIZE - index, len - copied);
+			System.arraycopy(chunks.get(position >>> CHUNK_BITS), index, text, copied, count);
+			copied += count;
+			position += count;
+		}
+		return new String(text);
+	}
+
+	@Override
+	public int getLength() {
+		return length;
+	}
+
+	@Override
+	public void replace(int offset, int len, String text) {
+		final int textLength = text != null ? text.length() : 0;
+		if (offset == 0 && textLength == 0) {
+			removeHead(len);
+			return;
+		}
+		final int tailOffset = offset + len;
+		final String tail = tailOffset < length ? get(tailOffset, length - tailOffset) : null;
+		truncate(offset);
+		append(text);
+		append(tail);
+	}
+
+	@Override
+	public void set(String text) {
+		chunks.clear();
+		start = 0;
+		length = 0;
+		append(text);
+	}
+
+	/**
+	 * Removes text from the start of this store, dropping the chunks which
+	 * became empty.
+	 *
+	 * @param len number of characters to remove
+	 */
+	private void removeHead(int len) {
+		length -= len;
+		if (length == 0) {
+			chunks.clear();
+			start = 0;
+			return;
+		}
+		start += len;
+		final int emptyChunks = start >>> CHUNK_BITS;
+		if (emptyChunks > 0) {
+			chunks.subList(0, emptyChunks).clear();
+			start &= CHUNK_MASK;
+		}
+	}
+
+	/**
+	 * Removes all text following the given offset.
+	 *
+	 * @param offset the new length of the text
+	 */
+	private void truncate(int offset) {
+		length = offset;
+		if (length == 0) {
+			chunks.clear();
+			start = 0;
+			return;
+		}
+		final int usedChunks = (start + length + CHUNK_MASK) >>> CHUNK_BITS;
+		if (usedChunks < chunks.size()) {
+			chunks.subList(usedChunks, chunks.size()).clear();
+		}
+	}
+
+	/**
+	 * Appends text to this store.
+	 *
+	 * @param text the text to append, may be <code>null</code>
+	 */
+	private void append(String text) {
+		if (text == null) {
+			return;
+		}
+		final int textLength = text.length();
+		int position = start + length;
+		int copied = 0;
+		while (copied < textLength) {
+			final int chunk = position >>> CHUNK_BITS;
+			if (chunk == chunks.size()) {
+				chunks.add(new char[CHUNK_SIZE]);
+			}
+			final int index = position & CHUNK_MASK;
+			final int count = Math.min(CHUNK_SIZE - index, textLength - copied);
+			text.getChars(copied, copied + count, chunks.get(chunk), index);
+			copied += count;
+			position += count;
+		}
+		length += textLength;
+	}
+}
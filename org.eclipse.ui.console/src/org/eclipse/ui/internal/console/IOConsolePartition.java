@@ -32,10 +32,19 @@ public class IOConsolePartition implements ITypedRegion {
 	/** Type for output partitions. */
 	public static final String INPUT_PARTITION_TYPE = ConsolePlugin.getUniqueIdentifier() + ".io_console_input_partition_type"; //$NON-NLS-1$
 
-	private int offset;
+	/**
+	 * Offset of this partition relative to {@link #origin}.
+	 */
+	private long offset;
 	private int length;
 	private String type;
 
+	/**
+	 * Origin of this partition's offset or <code>null</code> if the offset is
+	 * the offset in the document.
+	 */
+	private Origin origin;
+
 	/**
 	 * Output partitions are all read only. Input partitions are read only once they
 	 * have been appended to the console's input stream.
@@ -49,6 +58,25 @@ public class IOConsolePartition implements ITypedRegion {
 	private IOConsoleOutputStream outputStream;
 	private IOConsoleInputStream inputStream;
 
+	/**
+	 * Common origin of the offsets of a document's partitions. Removing text
+	 * from the start of the document moves the origin instead of updating the
+	 * offset of every partition.
+	 */
+	static final class Origin {
+		private long position;
+
+		/**
+		 * Decreases the offsets of all partitions using this origin.
+		 *
+		 * @param delta number of characters removed from the start of the
+		 *            document
+		 */
+		void shift(int delta) {
+			position += delta;
+		}
+	}
+
 	/**
 	 * Partition of console output.
 	 *
@@ -118,7 +146,7 @@ public class IOConsolePartition implements ITypedRegion {
 
 	@Override
 	public int getOffset() {
-		return offset;
+		return (int) (origin == null ? offset : offset - origin.position);
 	}
 
 	/**
@@ -127,7 +155,19 @@ public class IOConsolePartition implements ITypedRegion {
 	 * @param offset This partitions offset in the document.
 	 */
 	public void setOffset(int offset) {
-		this.offset = offset;
+		this.offset = origin == null ? offset : offset + origin.position;
+	}
+
+	/**
+	 * Sets the origin this partition's offset is relative to. The offset in
+	 * the document is not changed.
+	 *
+	 * @param origin the new origin
+	 */
+	void setOrigin(Origin origin) {
+		int documentOffset = getOffset();
+		this.origin = origin;
+		setOffset(documentOffset);
 	}
 
 	/**
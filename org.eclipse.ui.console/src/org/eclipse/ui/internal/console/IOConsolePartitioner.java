@@ -22,15 +22,14 @@
 package org.eclipse.ui.internal.console;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -116,6 +115,11 @@ public class IOConsolePartitioner
 	 * elements. (see also {@link #checkPartitions()})
 	 */
 	private final ArrayList<IOConsolePartition> partitions = new ArrayList<>();
+	/**
+	 * Common origin of the offsets of all {@link #partitions}. Trimming the
+	 * document moves the origin instead of updating every partition.
+	 */
+	private final IOConsolePartition.Origin partitionOrigin = new IOConsolePartition.Origin();
 	/**
 	 * max ~ 16MB when debugged application outputs faster then we can handle. Seems
 	 * to be a could compromise between memory and speed we can handle. Eclipse IDE
@@ -123,12 +127,24 @@ public class IOConsolePartitioner
 	 */
 	private static final int MAX_BUFFER_BYTES = 16_000_000;
 	/**
-	 * Queue of buffers that have not yet been appended to the document. Every
-	 * buffer will hold up to 8192 byte - but typically a single line output if
-	 * handled fast. The debugged application will block if the limit is exceeded.
+	 * Maximum number of characters merged into a single pending partition.
+	 */
+	private static final int MAX_PENDING_PARTITION_LENGTH = 64 * 1024;
+	/**
+	 * Queue of buffers that have not yet been appended to the document.
+	 * Consecutive output of the same stream is merged into one buffer of up to
+	 * {@link #MAX_PENDING_PARTITION_LENGTH} characters. If more than
+	 * {@link #MAX_BUFFER_BYTES} are queued the debugged application will block or
+	 * its output is discarded, see {@link #setDiscardOutputOnOverflow(boolean)}.
+	 * Access must be synchronized on the queue.
 	 */
-	private final BlockingQueue<PendingPartition> pendingPartitions = new LinkedBlockingQueue<>(
-			MAX_BUFFER_BYTES / 8192);
+	private final ArrayDeque<PendingPartition> pendingPartitions = new ArrayDeque<>();
+	/** Number of characters in {@link #pendingPartitions}. */
+	private int pendingLength;
+	/** Discard output instead of blocking the writer if the queue is full. */
+	private volatile boolean discardOutputOnOverflow;
+	/** Statistics about the output appended to the document. */
+	private final OutputStatistics statistics = new OutputStatistics();
 	/** Job that appends pending partitions to the document. */
 	private final QueueProcessingJob queueJob = new QueueProcessingJob();
 	/** Job that trims console content if it exceeds {@link #highWaterMark}. */
@@ -225,7 +241,7 @@ public class IOConsolePartitioner
 
 	@Override
 	public void disconnect() {
-		pendingPartitions.clear();
+		clearPendingPartitions();
 		synchronized (partitions) {
 			trimJob.cancel();
 			queueJob.cancel();
@@ -290,7 +306,7 @@ public class IOConsolePartitioner
 		if (streamsClosed) {
 			// do not expect new data since all streams are closed
 			// check if pending data is queued
-			final boolean morePending = !pendingPartitions.isEmpty();
+			final boolean morePending = hasPendingPartitions();
 			if (morePending) {
 				queueJob.schedule();
 			} else {
@@ -444,7 +460,7 @@ public class IOConsolePartitioner
 	 * Clears the console content.
 	 */
 	public void clearBuffer() {
-		pendingPartitions.clear();
+		clearPendingPartitions();
 		synchronized (partitions) {
 			if (document != null) {
 				trimJob.setTrimOffset(document.getLength());
@@ -572,7 +588,7 @@ public class IOConsolePartitioner
 						// input is inside an existing read-only partition
 						splitPartition(inputOffset);
 					}
-					inputPartition = new IOConsolePartition(inputOffset, inputStream);
+					inputPartition = createPartition(inputOffset, inputStream);
 					inputPartitionIndex++;
 					partitions.add(inputPartitionIndex, inputPartition);
 					inputPartitions.add(inputPartition);
@@ -658,7 +674,7 @@ public class IOConsolePartitioner
 		final IOConsolePartition existingPartition = partitions.get(partitionIndex);
 		final IOConsolePartition newPartition;
 		if (isInputPartition(existingPartition)) {
-			newPartition = new IOConsolePartition(offset, existingPartition.getInputStream());
+			newPartition = createPartition(offset, existingPartition.getInputStream());
 			if (existingPartition.isReadOnly()) {
 				newPartition.setReadOnly();
 			}
@@ -666,7 +682,7 @@ public class IOConsolePartitioner
 				inputPartitions.add(newPartition);
 			}
 		} else {
-			newPartition = new IOConsolePartition(offset, existingPartition.getOutputStream());
+			newPartition = createPartition(offset, existingPartition.getOutputStream());
 		}
 		newPartition.setLength((existingPartition.getOffset() + existingPartition.getLength()) - offset);
 		existingPartition.setLength(offset - existingPartition.getOffset());
@@ -691,8 +707,11 @@ public class IOConsolePartitioner
 		if (s == null) {
 			return;
 		}
-		PendingPartition partition = new PendingPartition(stream, s);
-		while (!offer(partition)) {
+		while (!offer(stream, s)) {
+			if (discardOutputOnOverflow) {
+				statistics.discarded(s.length());
+				break;
+			}
 			helpProgress();
 		}
 		queueJob.schedule();
@@ -707,11 +726,67 @@ public class IOConsolePartitioner
 		}
 	}
 
-	private boolean offer(PendingPartition p) {
-		try {
-			return pendingPartitions.offer(p, 10, TimeUnit.MILLISECONDS);
-		} catch (InterruptedException e) {
-			return false;
+	/**
+	 * Queues output, merging it into the last pending partition if that holds
+	 * output of the same stream.
+	 *
+	 * @param stream the stream the output was written to
+	 * @param s      the output
+	 * @return <code>false</code> if the queue is still full after waiting a
+	 *         moment
+	 */
+	private boolean offer(IOConsoleOutputStream stream, String s) {
+		synchronized (pendingPartitions) {
+			// always accept output if nothing is queued to not block on
+			// oversized writes
+			if (pendingLength > 0 && pendingLength + s.length() > MAX_BUFFER_BYTES / Character.BYTES) {
+				if (discardOutputOnOverflow || Display.getCurrent() != null) {
+					return false;
+				}
+				try {
+					pendingPartitions.wait(10);
+				} catch (InterruptedException e) {
+					return false;
+				}
+				if (pendingLength > 0 && pendingLength + s.length() > MAX_BUFFER_BYTES / Character.BYTES) {
+					return false;
+				}
+			}
+			final PendingPartition last = pendingPartitions.peekLast();
+			if (last != null && last.stream == stream && last.text.length() + s.length() <= MAX_PENDING_PARTITION_LENGTH) {
+				last.append(s);
+			} else {
+				pendingPartitions.add(new PendingPartition(stream, s));
+			}
+			pendingLength += s.length();
+			statistics.queued(pendingLength);
+			return true;
+		}
+	}
+
+	/**
+	 * Moves all pending partitions to the given list and wakes up writers
+	 * waiting for free space.
+	 *
+	 * @param pendingCopy the list to add the pending partitions to
+	 */
+	private void drainPendingPartitions(List<PendingPartition> pendingCopy) {
+		synchronized (pendingPartitions) {
+			pendingCopy.addAll(pendingPartitions);
+			pendingPartitions.clear();
+			pendingLength = 0;
+			statistics.queued(0);
+			pendingPartitions.notifyAll();
+		}
+	}
+
+	private void clearPendingPartitions() {
+		drainPendingPartitions(new ArrayList<>());
+	}
+
+	private boolean hasPendingPartitions() {
+		synchronized (pendingPartitions) {
+			return !pendingPartitions.isEmpty();
 		}
 	}
 
@@ -719,7 +794,7 @@ public class IOConsolePartitioner
 	 * Holds data until updateJob can be run and the document can be updated.
 	 */
 	private class PendingPartition {
-		private final CharSequence text;
+		private CharSequence text;
 		private final IOConsoleOutputStream stream;
 
 		PendingPartition(IOConsoleOutputStream stream, CharSequence text) {
@@ -727,12 +802,138 @@ public class IOConsolePartitioner
 			this.text = text;
 		}
 
+		/**
+		 * Appends more output of the same stream.
+		 *
+		 * @param s the output to append
+		 */
+		void append(String s) {
+			if (!(text instanceof StringBuilder)) {
+				text = new StringBuilder(Math.min(MAX_PENDING_PARTITION_LENGTH, 4 * (text.length() + s.length()))).append(text);
+			}
+			((StringBuilder) text).append(s);
+		}
+
 		@Override
 		public String toString() {
 			return text.toString();
 		}
 	}
 
+	/**
+	 * Statistics about the output appended to the document by a partitioner.
+	 * Lengths are counted in characters.
+	 */
+	public static final class OutputStatistics {
+		private volatile int queuedLength;
+		private volatile int maxQueuedLength;
+		private final AtomicLong discardedLength = new AtomicLong();
+		private volatile long batchCount;
+		private volatile long totalBatchTime;
+		private volatile long lastBatchTime;
+
+		OutputStatistics() {
+		}
+
+		void queued(int length) {
+			queuedLength = length;
+			if (length > maxQueuedLength) {
+				maxQueuedLength = length;
+			}
+		}
+
+		void discarded(int length) {
+			discardedLength.addAndGet(length);
+		}
+
+		/** Called from the UI thread only. */
+		void batchApplied(long nanos) {
+			lastBatchTime = nanos;
+			totalBatchTime += nanos;
+			batchCount++;
+		}
+
+		/**
+		 * @return the number of characters currently queued
+		 */
+		public int getQueuedLength() {
+			return queuedLength;
+		}
+
+		/**
+		 * @return the maximum number of characters queued at once
+		 */
+		public int getMaxQueuedLength() {
+			return maxQueuedLength;
+		}
+
+		/**
+		 * @return the number of characters discarded because the queue was full
+		 */
+		public long getDiscardedLength() {
+			return discardedLength.get();
+		}
+
+		/**
+		 * @return the number of batches appended to the document
+		 */
+		public long getBatchCount() {
+			return batchCount;
+		}
+
+		/**
+		 * @return the total time spent in the UI thread to append batches, in
+		 *         nanoseconds
+		 */
+		public long getTotalBatchTime() {
+			return totalBatchTime;
+		}
+
+		/**
+		 * @return the time spent in the UI thread to append the last batch, in
+		 *         nanoseconds
+		 */
+		public long getLastBatchTime() {
+			return lastBatchTime;
+		}
+	}
+
+	/**
+	 * Returns statistics about the output appended to the document.
+	 *
+	 * @return the output statistics of this partitioner
+	 */
+	public OutputStatistics getOutputStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Check if output is discarded instead of blocking the writing thread if
+	 * more output is queued than the console can append.
+	 *
+	 * @return <code>true</code> if output is discarded on overflow
+	 * @see IOConsole#isDiscardOutputOnOverflow()
+	 */
+	public boolean isDiscardOutputOnOverflow() {
+		return discardOutputOnOverflow;
+	}
+
+	/**
+	 * Set whether output is discarded instead of blocking the writing thread if
+	 * more output is queued than the console can append.
+	 *
+	 * @param discard <code>true</code> to discard output on overflow
+	 * @see IOConsole#setDiscardOutputOnOverflow(boolean)
+	 */
+	public void setDiscardOutputOnOverflow(boolean discard) {
+		discardOutputOnOverflow = discard;
+		if (!discard) {
+			synchronized (pendingPartitions) {
+				pendingPartitions.notifyAll();
+			}
+		}
+	}
+
 	/**
 	 * Updates the document and partitioning structure. Will append everything
 	 * received from output streams that is available before finishing.
@@ -771,7 +972,7 @@ public class IOConsolePartitioner
 		 */
 		@Override
 		public boolean shouldRun() {
-			return !pendingPartitions.isEmpty();
+			return hasPendingPartitions();
 		}
 
 		/**
@@ -783,7 +984,7 @@ public class IOConsolePartitioner
 			// draining the whole buffer here is important - this way we get as much data as
 			// available and may skip to draw text that exceeds the Console buffer size
 			// anyway (see checkBufferSize()).
-			pendingPartitions.drainTo(pendingCopy);
+			drainPendingPartitions(pendingCopy);
 			int sizeHint = 0;
 			if (pendingCopy.isEmpty()) {
 				return;
@@ -797,7 +998,9 @@ public class IOConsolePartitioner
 			}
 			synchronized (partitions) {
 				if (document != null) {
+					final long start = System.nanoTime();
 					applyStreamOutput(pendingCopy, sizeHint);
+					statistics.batchApplied(System.nanoTime() - start);
 				}
 				checkFinished();
 				checkBufferSize(); // needs partitions synchronized
@@ -1000,7 +1203,7 @@ public class IOConsolePartitioner
 					}
 					if (atOutputPartition == null || !atOutputPartition.belongsTo(stream)) {
 						// no partitions yet or last partition is incompatible to reuse -> add new one
-						atOutputPartition = new IOConsolePartition(outputOffset, stream);
+						atOutputPartition = createPartition(outputOffset, stream);
 						partitions.add(atOutputPartition);
 						atOutputPartitionIndex = partitions.size() - 1;
 					}
@@ -1016,7 +1219,7 @@ public class IOConsolePartitioner
 						atOutputPartitionIndex = findPartitionCandidate(outputOffset);
 						atOutputPartition = getPartitionByIndex(atOutputPartitionIndex);
 						if (atOutputPartition == null) {
-							atOutputPartition = new IOConsolePartition(outputOffset, stream);
+							atOutputPartition = createPartition(outputOffset, stream);
 							atOutputPartitionIndex++;
 							partitions.add(atOutputPartitionIndex, atOutputPartition);
 						}
@@ -1063,7 +1266,7 @@ public class IOConsolePartitioner
 							atOutputPartitionIndex++;
 						}
 						if (outputPartition == null || !outputPartition.belongsTo(stream)) {
-							outputPartition = new IOConsolePartition(outputOffset, stream);
+							outputPartition = createPartition(outputOffset, stream);
 							partitions.add(atOutputPartitionIndex, outputPartition);
 							atOutputPartitionIndex++;
 						}
@@ -1204,23 +1407,17 @@ public class IOConsolePartitioner
 						document.set(""); //$NON-NLS-1$
 					} else {
 						// set the new length of the first partition
-						IOConsolePartition partition = getIOPartition(cutOffset);
+						int index = findPartitionCandidate(cutOffset);
+						IOConsolePartition partition = partitions.get(index);
 						partition.setLength(partition.getOffset() + partition.getLength() - cutOffset);
 
 						updateType = DocUpdateType.TRIM;
 						document.replace(0, cutOffset, ""); //$NON-NLS-1$
 
-						// remove partitions and reset Partition offsets
-						int index = partitions.indexOf(partition);
-						for (int i = 0; i < index; i++) {
-							partitions.remove(0);
-						}
-
-						int offset = 0;
-						for (IOConsolePartition p : partitions) {
-							p.setOffset(offset);
-							offset += p.getLength();
-						}
+						// remove partitions and shift the offsets of the remaining ones
+						partitions.subList(0, index).clear();
+						partitionOrigin.shift(cutOffset);
+						partition.setOffset(0);
 
 						// fix output offset
 						int removedLength = cutOffset;
@@ -1408,6 +1605,34 @@ public class IOConsolePartitioner
 		setHandleControlCharacters(isHandleControlCharacters());
 	}
 
+	/**
+	 * Creates an output partition whose offset is relative to the partition
+	 * origin.
+	 *
+	 * @param offset       offset where the partition starts
+	 * @param outputStream source stream for the partition
+	 * @return the new partition
+	 */
+	private IOConsolePartition createPartition(int offset, IOConsoleOutputStream outputStream) {
+		final IOConsolePartition partition = new IOConsolePartition(offset, outputStream);
+		partition.setOrigin(partitionOrigin);
+		return partition;
+	}
+
+	/**
+	 * Creates an input partition whose offset is relative to the partition
+	 * origin.
+	 *
+	 * @param offset      offset where the partition starts
+	 * @param inputStream source stream for the partition
+	 * @return the new partition
+	 */
+	private IOConsolePartition createPartition(int offset, IOConsoleInputStream inputStream) {
+		final IOConsolePartition partition = new IOConsolePartition(offset, inputStream);
+		partition.setOrigin(partitionOrigin);
+		return partition;
+	}
+
 	/**
 	 * Get a partition by its index. Safe from out of bounds exceptions.
 	 *
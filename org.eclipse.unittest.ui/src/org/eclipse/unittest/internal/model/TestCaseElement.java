@@ -48,8 +48,29 @@ public class TestCaseElement extends TestElement implements ITestCaseElement {
 		return isIgnored() ? Result.IGNORED : super.getTestResult(includeChildren);
 	}
 
+	@Override
+	public void setStatus(Status status) {
+		int started = countStartedTestCases();
+		int failures = getCurrentFailureCount();
+		int errors = getCurrentErrorCount();
+		super.setStatus(status);
+		getParent().addCounts(countStartedTestCases() - started, getCurrentFailureCount() - failures,
+				getCurrentErrorCount() - errors, 0, 0);
+	}
+
+	@Override
+	public void setAssumptionFailed(boolean assumptionFailed) {
+		if (isAssumptionFailure() != assumptionFailed) {
+			super.setAssumptionFailed(assumptionFailed);
+			getParent().addCounts(0, 0, 0, 0, assumptionFailed ? 1 : -1);
+		}
+	}
+
 	public void setIgnored(boolean ignored) {
-		fIgnored = ignored;
+		if (fIgnored != ignored) {
+			fIgnored = ignored;
+			getParent().addCounts(0, 0, 0, ignored ? 1 : -1, 0);
+		}
 	}
 
 	@Override
@@ -44,6 +44,12 @@ public abstract class TestElement implements ITestElement {
 
 	private boolean fAssumptionFailed;
 
+	/**
+	 * The status of this element as last counted by the parent, see
+	 * {@link TestSuiteElement#childChangedStatus(ITestElement, Status)}
+	 */
+	private Status fCountedStatus;
+
 	protected Instant testStartedInstant = null;
 	protected Duration fDuration = null;
 
@@ -199,6 +205,24 @@ public abstract class TestElement implements ITestElement {
 		setStatus(status);
 	}
 
+	/**
+	 * Returns the status of this element as last counted by the parent.
+	 *
+	 * @return the counted status or <code>null</code> if not counted
+	 */
+	Status getCountedStatus() {
+		return fCountedStatus;
+	}
+
+	/**
+	 * Sets the status of this element as counted by the parent.
+	 *
+	 * @param status the counted status or <code>null</code>
+	 */
+	void setCountedStatus(Status status) {
+		fCountedStatus = status;
+	}
+
 	/**
 	 * Returns the status of this test element
 	 * <ul>
@@ -228,26 +228,6 @@ public class TestRunSession extends TestSuiteElement implements ITestRunSession,
 		return fTestRunName;
 	}
 
-	@Override
-	public int getCurrentErrorCount() {
-		return getChildren().stream().mapToInt(TestElement::getCurrentErrorCount).sum();
-	}
-
-	@Override
-	public int getCurrentFailureCount() {
-		return getChildren().stream().mapToInt(TestElement::getCurrentFailureCount).sum();
-	}
-
-	@Override
-	public int getCurrentAssumptionFailureCount() {
-		return getChildren().stream().mapToInt(TestElement::getCurrentAssumptionFailureCount).sum();
-	}
-
-	@Override
-	public int getCurrentIgnoredCount() {
-		return getChildren().stream().mapToInt(TestElement::getCurrentIgnoredCount).sum();
-	}
-
 	/**
 	 * Returns start time for a run session
 	 *
@@ -33,6 +33,25 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	private Status fChildrenStatus;
 	private Integer expectedTestCount;
 
+	/*
+	 * Number of children by their status, kept up to date on every status change
+	 * of a child to compute the cumulated status without visiting all children.
+	 */
+	private int fNotRunChildren;
+	private int fRunningChildren;
+	private int fErrorChildren;
+	private int fFailureChildren;
+
+	/*
+	 * Counts of the test cases in this suite, including the test cases of nested
+	 * suites. Test cases report changes to all their ancestors.
+	 */
+	private int fStartedCount;
+	private int fFailureCount;
+	private int fErrorCount;
+	private int fIgnoredCount;
+	private int fAssumptionFailureCount;
+
 	/**
 	 * Constructs a test suite object
 	 *
@@ -71,6 +90,9 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	 */
 	public void addChild(TestElement child) {
 		fChildren.add(child);
+		countChildStatus(child);
+		addCounts(child.countStartedTestCases(), child.getCurrentFailureCount(), child.getCurrentErrorCount(),
+				child.getCurrentIgnoredCount(), child.getCurrentAssumptionFailureCount());
 	}
 
 	/**
@@ -79,7 +101,59 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	 * @param child a child {@link ITestElement}
 	 */
 	public void removeChild(TestElement child) {
-		fChildren.remove(child);
+		if (fChildren.remove(child)) {
+			if (child.getCountedStatus() != null) {
+				countStatus(child.getCountedStatus(), -1);
+				child.setCountedStatus(null);
+			}
+			addCounts(-child.countStartedTestCases(), -child.getCurrentFailureCount(), -child.getCurrentErrorCount(),
+					-child.getCurrentIgnoredCount(), -child.getCurrentAssumptionFailureCount());
+		}
+	}
+
+	/**
+	 * Adds the given changes of the test case counts to this suite and all its
+	 * ancestors.
+	 *
+	 * @param started            change of the number of started test cases
+	 * @param failures           change of the number of failed test cases
+	 * @param errors             change of the number of test cases with errors
+	 * @param ignored            change of the number of ignored test cases
+	 * @param assumptionFailures change of the number of assumption failures
+	 */
+	void addCounts(int started, int failures, int errors, int ignored, int assumptionFailures) {
+		for (TestSuiteElement suite = this; suite != null; suite = suite.getParent()) {
+			suite.fStartedCount += started;
+			suite.fFailureCount += failures;
+			suite.fErrorCount += errors;
+			suite.fIgnoredCount += ignored;
+			suite.fAssumptionFailureCount += assumptionFailures;
+		}
+	}
+
+	private void countChildStatus(TestElement child) {
+		Status status = child.getStatus();
+		Status counted = child.getCountedStatus();
+		if (counted != status) {
+			if (counted != null) {
+				countStatus(counted, -1);
+			}
+			countStatus(status, 1);
+			child.setCountedStatus(status);
+		}
+	}
+
+	private void countStatus(Status status, int delta) {
+		if (status.isNotRun()) {
+			fNotRunChildren += delta;
+		} else if (status.isRunning()) {
+			fRunningChildren += delta;
+		}
+		if (status.isError()) {
+			fErrorChildren += delta;
+		} else if (status.isFailure()) {
+			fFailureChildren += delta;
+		}
 	}
 
 	@Override
@@ -95,21 +169,31 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	}
 
 	private Status getCumulatedStatus() {
-		TestElement[] children = fChildren.toArray(new TestElement[fChildren.size()]); // copy list to avoid concurreny
-																						// problems
-		if (children.length == 0)
+		int childCount = fChildren.size();
+		if (childCount == 0)
 			return getSuiteStatus();
 
-		Status cumulated = children[0].getStatus();
-
-		for (int i = 1; i < children.length; i++) {
-			Status childStatus = children[i].getStatus();
-			cumulated = combineStatus(cumulated, childStatus);
+		// same as combining the status of all children with combineStatus()
+		Status progress;
+		if (fNotRunChildren == childCount) {
+			progress = Status.NOT_RUN;
+		} else if (fRunningChildren > 0) {
+			progress = Status.RUNNING;
+		} else {
+			progress = Status.OK;
+		}
+		Status error;
+		if (fErrorChildren > 0) {
+			error = Status.ERROR;
+		} else if (fFailureChildren > 0) {
+			error = Status.FAILURE;
+		} else {
+			error = Status.OK;
 		}
 		// not necessary, see special code in Status.combineProgress()
 //		if (suiteStatus.isErrorOrFailure() && cumulated.isNotRun())
 //			return suiteStatus; //progress is Done if error in Suite and no children run
-		return cumulated;
+		return combineProgressAndErrorStatus(progress, error);
 	}
 
 	/**
@@ -129,6 +213,7 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	 * @param childStatus a new status value
 	 */
 	public void childChangedStatus(ITestElement child, Status childStatus) {
+		countChildStatus((TestElement) child);
 		int childCount = fChildren.size();
 		if (child == fChildren.get(0) && childStatus.isRunning()) {
 			// is first child, and is running -> copy status
@@ -261,27 +346,27 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 
 	@Override
 	public int countStartedTestCases() {
-		return getChildren().stream().mapToInt(TestElement::countStartedTestCases).sum();
+		return fStartedCount;
 	}
 
 	@Override
-	int getCurrentFailureCount() {
-		return getChildren().stream().mapToInt(TestElement::getCurrentFailureCount).sum();
+	public int getCurrentFailureCount() {
+		return fFailureCount;
 	}
 
 	@Override
-	int getCurrentAssumptionFailureCount() {
-		return getChildren().stream().mapToInt(TestElement::getCurrentAssumptionFailureCount).sum();
+	public int getCurrentAssumptionFailureCount() {
+		return fAssumptionFailureCount;
 	}
 
 	@Override
-	int getCurrentIgnoredCount() {
-		return getChildren().stream().mapToInt(TestElement::getCurrentIgnoredCount).sum();
+	public int getCurrentIgnoredCount() {
+		return fIgnoredCount;
 	}
 
 	@Override
-	int getCurrentErrorCount() {
-		return getChildren().stream().mapToInt(TestElement::getCurrentErrorCount).sum();
+	public int getCurrentErrorCount() {
+		return fErrorCount;
 	}
 
 }